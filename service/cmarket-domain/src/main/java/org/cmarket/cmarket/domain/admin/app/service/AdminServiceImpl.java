@@ -2,6 +2,7 @@ package org.cmarket.cmarket.domain.admin.app.service;
 
 import org.cmarket.cmarket.domain.admin.app.dto.AdminUserDto;
 import org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.domain.auth.model.User;
 import org.cmarket.cmarket.domain.auth.model.UserRole;
 import org.cmarket.cmarket.domain.auth.repository.UserRepository;
@@ -15,9 +16,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminServiceImpl implements AdminService {
 
     private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
 
-    public AdminServiceImpl(UserRepository userRepository) {
+    public AdminServiceImpl(UserRepository userRepository, UserIdentityResolver userIdentityResolver) {
         this.userRepository = userRepository;
+        this.userIdentityResolver = userIdentityResolver;
     }
 
     @Override
@@ -27,6 +30,7 @@ public class AdminServiceImpl implements AdminService {
                 .orElseThrow(() -> new UserNotFoundException("대상 회원을 찾을 수 없습니다."));
 
         user.changeRole(UserRole.ADMIN);
+        userIdentityResolver.evictByUserId(userId);
 
         return toAdminUserDto(user);
     }
@@ -0,0 +1,32 @@
+package org.cmarket.cmarket.domain.auth.app.dto;
+
+import org.cmarket.cmarket.domain.auth.model.User;
+import org.cmarket.cmarket.domain.auth.model.UserRole;
+
+/**
+ * 사용자 식별 정보 스냅샷
+ *
+ * 요청마다 "이메일 → 사용자 ID" 를 알아내려고 users 를 읽지 않도록
+ * 서비스가 자주 쓰는 값만 담아 캐시에 둔다.
+ * 프로필 이미지 · 주소처럼 화면에 그대로 내보내는 값은 엔티티를 읽어 쓴다.
+ *
+ * @param userId 사용자 ID
+ * @param email 이메일
+ * @param role 역할
+ * @param nickname 닉네임
+ */
+public record UserIdentity(
+        Long userId,
+        String email,
+        UserRole role,
+        String nickname
+) {
+
+    public static UserIdentity from(User user) {
+        return new UserIdentity(user.getId(), user.getEmail(), user.getRole(), user.getNickname());
+    }
+
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+}
@@ -41,6 +41,7 @@ public class AuthServiceImpl implements AuthService {
     private final EmailVerificationService emailVerificationService;
     private final EmailVerificationRepository emailVerificationRepository;
     private final EmailService emailService;
+    private final UserIdentityResolver userIdentityResolver;
     
     public AuthServiceImpl(
             UserRepository userRepository,
@@ -49,7 +50,8 @@ public class AuthServiceImpl implements AuthService {
             TokenBlacklistCache tokenBlacklistCache,
             EmailVerificationService emailVerificationService,
             EmailVerificationRepository emailVerificationRepository,
-            EmailService emailService
+            EmailService emailService,
+            UserIdentityResolver userIdentityResolver
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
@@ -58,6 +60,7 @@ public class AuthServiceImpl implements AuthService {
         this.emailVerificationService = emailVerificationService;
         this.emailVerificationRepository = emailVerificationRepository;
         this.emailService = emailService;
+        this.userIdentityResolver = userIdentityResolver;
     }
     
     @Override
@@ -279,6 +282,8 @@ public class AuthServiceImpl implements AuthService {
         // }
         
         // 4. 탈퇴 사유 저장 및 소프트 삭제 처리
+        // softDelete 가 이메일을 바꾸므로 캐시는 바뀌기 전 이메일로 비운다.
+        userIdentityResolver.evict(user.getEmail());
         user.softDelete(command.getReason(), command.getDetailReason());
         userRepository.save(user);
         
@@ -0,0 +1,58 @@
+package org.cmarket.cmarket.domain.auth.app.service;
+
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+
+import java.util.Optional;
+
+/**
+ * 사용자 식별 정보 조회 인터페이스
+ *
+ * 인증된 요청의 이메일로 사용자 ID · 역할 · 닉네임을 찾습니다.
+ * 캐시에 있으면 DB를 읽지 않고, 없을 때만 users 를 조회해 채웁니다.
+ *
+ * 닉네임 · 역할 변경, 탈퇴, 복구처럼 스냅샷이 바뀌는 곳에서는 반드시 evict 를 불러야 합니다.
+ *
+ * 구현체는 web 모듈에서 제공됩니다.
+ */
+public interface UserIdentityResolver {
+
+    /**
+     * 이메일로 식별 정보 조회 (탈퇴 회원 제외)
+     *
+     * @param email 이메일
+     * @return 식별 정보 (없으면 empty)
+     */
+    Optional<UserIdentity> findByEmail(String email);
+
+    /**
+     * 이메일로 사용자 ID 조회 (탈퇴 회원 제외)
+     *
+     * @param email 이메일 (null 가능)
+     * @return 사용자 ID (email 이 null 이거나 사용자가 없으면 null)
+     */
+    default Long findUserIdOrNull(String email) {
+        if (email == null) {
+            return null;
+        }
+        return findByEmail(email).map(UserIdentity::userId).orElse(null);
+    }
+
+    /**
+     * 캐시에서 제거
+     *
+     * 트랜잭션 안에서 부르면 커밋된 뒤에 한 번 더 제거합니다.
+     * (커밋 전에 다른 요청이 옛 값을 다시 채워 넣는 것을 막기 위해)
+     *
+     * @param email 이메일
+     */
+    void evict(String email);
+
+    /**
+     * 사용자 ID로 캐시에서 제거
+     *
+     * 관리자 기능처럼 이메일 없이 사용자 ID만 아는 경우에 씁니다.
+     *
+     * @param userId 사용자 ID
+     */
+    void evictByUserId(Long userId);
+}
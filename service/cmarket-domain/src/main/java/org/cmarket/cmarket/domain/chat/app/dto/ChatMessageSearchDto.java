@@ -0,0 +1,22 @@
+package org.cmarket.cmarket.domain.chat.app.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅방 안 검색 결과 DTO
+ *
+ * 최신 메시지부터 size 개씩 돌려줍니다.
+ * 더 있으면 nextBeforeMessageId 를 다음 요청의 beforeMessageId 로 넘깁니다.
+ */
+@Getter
+@Builder
+public class ChatMessageSearchDto {
+
+    private List<ChatMessageSearchHitDto> hits;
+    private int size;
+    private boolean hasMore;
+    private Long nextBeforeMessageId;  // 다음 요청의 beforeMessageId 값 (더 없으면 null)
+}
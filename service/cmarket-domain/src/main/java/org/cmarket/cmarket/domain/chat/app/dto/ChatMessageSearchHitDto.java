@@ -0,0 +1,58 @@
+package org.cmarket.cmarket.domain.chat.app.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.cmarket.cmarket.domain.chat.repository.ChatMessageSearchDocument;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 채팅방 안 검색 결과 한 건 DTO
+ *
+ * 메시지 전체 대신 키워드 앞뒤 일부(snippet)만 담습니다.
+ * 화면은 messageId 로 커서 조회(beforeMessageId)를 불러 그 메시지 주변으로 이동합니다.
+ */
+@Getter
+@Builder
+public class ChatMessageSearchHitDto {
+
+    /** 키워드 앞뒤로 보여줄 글자 수 */
+    private static final int SNIPPET_RADIUS = 30;
+
+    private Long messageId;
+    private Long senderId;
+    private Boolean isMine;  // 내가 보낸 메시지 여부
+    private LocalDateTime createdAt;
+    private String snippet;  // 키워드 주변 내용 (잘렸으면 앞뒤에 … )
+
+    /**
+     * 색인 문서를 검색 결과로 변환
+     *
+     * @param document 맞은 메시지
+     * @param currentUserId 현재 사용자 ID (isMine 판단용)
+     * @param keyword 앞뒤를 잘라 보여줄 기준 키워드
+     */
+    public static ChatMessageSearchHitDto of(ChatMessageSearchDocument document, Long currentUserId, String keyword) {
+        return ChatMessageSearchHitDto.builder()
+                .messageId(document.id())
+                .senderId(document.senderId())
+                .isMine(document.senderId().equals(currentUserId))
+                .createdAt(document.createdAt())
+                .snippet(snippet(document.content(), keyword))
+                .build();
+    }
+
+    private static String snippet(String content, String keyword) {
+        if (content == null) {
+            return "";
+        }
+        int at = content.toLowerCase(Locale.ROOT).indexOf(keyword.toLowerCase(Locale.ROOT));
+        if (at < 0) {
+            at = 0;
+        }
+        int start = Math.max(0, at - SNIPPET_RADIUS);
+        int end = Math.min(content.length(), at + keyword.length() + SNIPPET_RADIUS);
+        return (start > 0 ? "…" : "") + content.substring(start, end) + (end < content.length() ? "…" : "");
+    }
+}
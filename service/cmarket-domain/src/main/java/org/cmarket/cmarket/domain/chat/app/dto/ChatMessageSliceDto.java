@@ -0,0 +1,36 @@
+package org.cmarket.cmarket.domain.chat.app.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 커서 조회 DTO
+ * 
+ * 「이 메시지보다 이전 메시지」를 이어 읽는 결과입니다 (오래된순).
+ * 전체 개수를 세지 않으므로 currentPage/totalPages/totalElements 가 없습니다.
+ * 
+ * 상대 · 상품 정보는 처음 열 때(beforeMessageId 없음)만 채우고, 이어 읽을 때는 null 입니다.
+ */
+@Getter
+@Builder
+public class ChatMessageSliceDto {
+    
+    private List<ChatMessageListItemDto> messages;
+    private int size;
+    private boolean hasMore;
+    private Long nextBeforeMessageId;  // 다음 요청의 beforeMessageId 값 (더 없으면 null)
+    
+    /** 내가 이 방의 상대를 차단했는가 (#877). ChatMessageListDto 와 같은 이유로 Boolean 이다. */
+    private Boolean isOpponentBlocked;
+    
+    private Long opponentId;
+    private String opponentNickname;
+    private String opponentProfileImageUrl;
+    
+    private Long productId;
+    private String productTitle;
+    private Long productPrice;
+    private String productImageUrl;
+}
@@ -0,0 +1,16 @@
+package org.cmarket.cmarket.domain.chat.app.dto;
+
+/**
+ * 채팅방 목록 갱신 한 건
+ * 
+ * 메시지가 오간 뒤 참여자 한 명에게 보낼 목록 한 줄입니다.
+ * WebSocket 개인 큐(/user/queue/chat-room-list)는 이메일로 보내므로 이메일을 같이 담습니다.
+ * 
+ * @param email 받는 사용자 이메일
+ * @param item 그 사용자 기준 목록 한 줄
+ */
+public record ChatRoomListItemUpdate(
+        String email,
+        ChatRoomListItemDto item
+) {
+}
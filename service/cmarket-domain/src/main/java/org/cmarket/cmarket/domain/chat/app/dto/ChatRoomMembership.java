@@ -0,0 +1,75 @@
+package org.cmarket.cmarket.domain.chat.app.dto;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 채팅방 참여 정보 스냅샷
+ *
+ * 메시지 전송 · 구독 권한 확인에 필요한 것만 담는다.
+ * 참여자(나간 사람 포함), 상품 제목(알림 문구용), 참여자끼리의 차단 관계.
+ *
+ * @param chatRoomId 채팅방 ID
+ * @param productTitle 상품 제목 (스냅샷)
+ * @param members 참여자 목록 (나간 사람 포함)
+ * @param blockerIds 방 안의 다른 참여자를 차단한 참여자 ID
+ */
+public record ChatRoomMembership(
+        Long chatRoomId,
+        String productTitle,
+        List<Member> members,
+        Set<Long> blockerIds
+) {
+
+    /**
+     * 참여자
+     *
+     * @param userId 사용자 ID
+     * @param active 활성 참여 여부 (나갔으면 false)
+     */
+    public record Member(Long userId, boolean active) {
+    }
+
+    /**
+     * 참여자 찾기
+     *
+     * @return 참여자 (참여한 적이 없으면 null)
+     */
+    public Member member(Long userId) {
+        for (Member member : members) {
+            if (member.userId().equals(userId)) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 1:1 채팅의 상대방 찾기
+     *
+     * @return 상대방 (탈퇴 등으로 참여 정보가 없으면 null)
+     */
+    public Member opponentOf(Long userId) {
+        for (Member member : members) {
+            if (!member.userId().equals(userId)) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 활성 참여자 여부
+     */
+    public boolean isActiveMember(Long userId) {
+        Member member = member(userId);
+        return member != null && member.active();
+    }
+
+    /**
+     * 이 참여자가 방 안의 상대를 차단했는가
+     */
+    public boolean hasBlocked(Long userId) {
+        return blockerIds.contains(userId);
+    }
+}
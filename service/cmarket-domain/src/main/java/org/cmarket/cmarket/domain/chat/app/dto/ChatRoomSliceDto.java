@@ -0,0 +1,22 @@
+package org.cmarket.cmarket.domain.chat.app.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅방 목록 커서 조회 DTO
+ * 
+ * 커서(keyset) 방식 채팅방 목록을 담는 앱 계층 DTO입니다.
+ * 전체 개수를 세지 않으므로 totalPages/totalElements 가 없습니다.
+ */
+@Getter
+@Builder
+public class ChatRoomSliceDto {
+    
+    private List<ChatRoomListItemDto> chatRooms;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;  // 다음 요청의 cursor 값 (마지막 페이지면 null)
+}
@@ -0,0 +1,75 @@
+package org.cmarket.cmarket.domain.chat.app.dto;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 개인정보 검사 결과
+ *
+ * 메시지 한 번 훑어서 찾은 개인정보 종류를 모두 담습니다.
+ *
+ * @param categories 찾은 개인정보 종류 (없으면 빈 집합)
+ */
+public record PrivacyScanResult(
+        Set<Category> categories
+) {
+
+    private static final PrivacyScanResult CLEAN = new PrivacyScanResult(Collections.emptySet());
+
+    public PrivacyScanResult {
+        categories = categories.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(categories));
+    }
+
+    /**
+     * 개인정보가 없는 결과
+     */
+    public static PrivacyScanResult clean() {
+        return CLEAN;
+    }
+
+    /**
+     * 개인정보 포함 여부
+     */
+    public boolean containsPrivateInfo() {
+        return !categories.isEmpty();
+    }
+
+    /**
+     * 차단 사유 (예: "전화번호, 계좌번호 포함")
+     *
+     * @return 차단 사유 (개인정보 없으면 null)
+     */
+    public String blockReason() {
+        if (categories.isEmpty()) {
+            return null;
+        }
+        // EnumSet 은 선언 순서로 돈다 → 전화번호, 이메일 주소, 주민등록번호, 계좌번호
+        return categories.stream()
+                .map(Category::getLabel)
+                .collect(Collectors.joining(", ")) + " 포함";
+    }
+
+    /**
+     * 개인정보 종류 (선언 순서가 차단 사유에 나오는 순서)
+     */
+    public enum Category {
+        PHONE("전화번호"),
+        EMAIL("이메일 주소"),
+        SSN("주민등록번호"),
+        ACCOUNT("계좌번호");
+
+        private final String label;
+
+        Category(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+}
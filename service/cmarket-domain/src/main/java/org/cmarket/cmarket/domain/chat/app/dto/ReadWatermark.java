@@ -0,0 +1,19 @@
+package org.cmarket.cmarket.domain.chat.app.dto;
+
+/**
+ * 읽음 기준점 (high-water mark)
+ * 
+ * 「이 사용자는 이 방에서 이 메시지까지 읽었다」를 나타냅니다.
+ * 메시지마다 읽음을 기록하는 대신 이 값 하나만 남기고,
+ * 개별 메시지의 is_read 는 백그라운드에서 이 값을 기준으로 나중에 맞춥니다.
+ * 
+ * @param chatRoomId 채팅방 ID
+ * @param userId 읽은 사용자 ID
+ * @param messageId 마지막으로 읽은 메시지 ID (이 ID 이하는 모두 읽음)
+ */
+public record ReadWatermark(
+        Long chatRoomId,
+        Long userId,
+        Long messageId
+) {
+}
@@ -0,0 +1,39 @@
+package org.cmarket.cmarket.domain.chat.app.service;
+
+import org.cmarket.cmarket.domain.chat.repository.ChatMessageSearchDocument;
+
+import java.util.List;
+
+/**
+ * 채팅방 안 메시지 검색 색인
+ *
+ * 방마다 따로 색인을 두고, 메시지 내용에 키워드가 들어 있는 메시지를 찾습니다.
+ * chat_messages.content 를 LIKE 로 훑지 않습니다.
+ *
+ * 구현체는 web 모듈에 있습니다 (메모리 색인).
+ */
+public interface ChatMessageSearchIndex {
+
+    /**
+     * 새 메시지 색인
+     *
+     * 트랜잭션 안에서 부르면 커밋된 뒤에 반영됩니다.
+     * 아직 한 번도 검색하지 않은 방은 색인이 없으므로 아무 일도 하지 않습니다 (처음 검색할 때 만든다).
+     *
+     * @param document 색인 문서
+     */
+    void index(ChatMessageSearchDocument document);
+
+    /**
+     * 채팅방 안에서 키워드 검색
+     *
+     * 모든 키워드가 (대소문자 구분 없이) 내용에 들어 있는 메시지를 돌려줍니다 (AND 조건).
+     * 보관된 메시지(chat_messages_archive)도 포함합니다.
+     * 보여줄지 말지(차단 등)는 거르지 않습니다. 호출하는 쪽이 거릅니다.
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param keywords 키워드 목록 (비어 있으면 빈 결과)
+     * @return 맞는 메시지 (최신순, 메시지 ID 내림차순)
+     */
+    List<ChatMessageSearchDocument> search(Long chatRoomId, List<String> keywords);
+}
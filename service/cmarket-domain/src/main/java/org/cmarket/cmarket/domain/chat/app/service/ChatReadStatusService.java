@@ -1,6 +1,10 @@
 package org.cmarket.cmarket.domain.chat.app.service;
 
+import org.cmarket.cmarket.domain.chat.app.dto.ReadWatermark;
+
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 채팅 읽음 상태 관리 서비스 인터페이스
@@ -9,11 +13,13 @@ import java.time.LocalDateTime;
  * 
  * 핵심 전략:
  * - 실시간 안 읽은 개수는 Redis에서 관리 (성능 최적화)
- * - 유저가 채팅방 진입 시 Redis 상태를 RDB에 일괄 동기화
+ * - 유저가 채팅방 진입 시 읽음 기준점(마지막으로 읽은 메시지 ID)만 Redis 대기열에 올리고,
+ *   RDB(chat_room_users.last_read_message_id, chat_messages.is_read)에는 백그라운드에서 반영
  * 
  * Redis Key 구조:
  * - 안 읽은 개수: chat:unread:{chatRoomId}:{userId}
  * - 마지막 읽은 시간: chat:lastread:{chatRoomId}:{userId}
+ * - RDB 반영 대기 중인 읽음 기준점: chat:read:pending (Hash, 필드 {chatRoomId}:{userId} → 메시지 ID)
  * 
  * TTL: 30일 (메모리 관리)
  */
@@ -24,11 +30,13 @@ public interface ChatReadStatusService {
      * 
      * 메시지 전송 시 수신자의 안 읽은 메시지 개수를 증가시킵니다.
      * 수신자가 해당 채팅방에 접속 중이면 증가하지 않습니다.
+     * 증가와 TTL 갱신은 한 번에(원자적으로) 처리됩니다.
      * 
      * @param chatRoomId 채팅방 ID
      * @param recipientId 수신자 ID
+     * @return 증가 후 안 읽은 메시지 개수 (접속 중이라 증가하지 않았으면 0)
      */
-    void incrementUnreadCount(Long chatRoomId, Long recipientId);
+    int incrementUnreadCount(Long chatRoomId, Long recipientId);
     
     /**
      * 안 읽은 메시지 개수 조회
@@ -41,6 +49,29 @@ public interface ChatReadStatusService {
      */
     int getUnreadCount(Long chatRoomId, Long userId);
     
+    /**
+     * 여러 채팅방의 안 읽은 메시지 개수 일괄 조회
+     * 
+     * 채팅방 목록처럼 방마다 개수가 필요할 때 씁니다.
+     * 방 개수와 상관없이 Redis 호출은 한 번입니다.
+     * 
+     * @param userId 사용자 ID
+     * @param chatRoomIds 채팅방 ID 목록
+     * @return 채팅방 ID → 안 읽은 메시지 개수 (없으면 0, 모든 채팅방 ID가 들어 있음)
+     */
+    Map<Long, Integer> getUnreadCounts(Long userId, List<Long> chatRoomIds);
+    
+    /**
+     * 한 채팅방의 참여자별 안 읽은 메시지 개수 일괄 조회
+     * 
+     * 채팅방 목록 갱신을 참여자 모두에게 보낼 때 씁니다. Redis 호출은 한 번입니다.
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID → 안 읽은 메시지 개수 (없으면 0, 모든 사용자 ID가 들어 있음)
+     */
+    Map<Long, Integer> getUnreadCountsByUser(Long chatRoomId, List<Long> userIds);
+    
     /**
      * 안 읽은 메시지 개수 초기화
      * 
@@ -71,16 +102,38 @@ public interface ChatReadStatusService {
     void updateLastReadTime(Long chatRoomId, Long userId);
     
     /**
-     * Redis → RDB 동기화
+     * 채팅방 읽음 처리 (채팅방 진입 시)
      * 
-     * 채팅방 진입 시 Redis 상태를 RDB에 일괄 반영합니다.
+     * Redis 만 건드리고 바로 돌아옵니다. 메시지 테이블은 이 요청에서 수정하지 않습니다.
      * - Redis의 unreadCount를 0으로 리셋
-     * - RDB의 해당 채팅방 메시지 중 본인이 받은 메시지를 isRead = true로 업데이트
+     * - 마지막 읽은 시간 업데이트
+     * - 읽음 기준점(lastMessageId)을 대기열에 올림 (같은 방 · 사용자는 큰 값만 남음)
+     * 
+     * 대기열의 기준점은 drainPendingWatermarks 로 꺼내 백그라운드에서 RDB에 반영합니다.
      * 
      * @param chatRoomId 채팅방 ID
      * @param userId 사용자 ID
+     * @param lastMessageId 화면에 보인 가장 최근 메시지 ID (메시지가 없으면 null)
+     */
+    void markRoomAsRead(Long chatRoomId, Long userId, Long lastMessageId);
+    
+    /**
+     * RDB에 아직 반영하지 않은 읽음 기준점을 모두 꺼냄
+     * 
+     * 꺼낸 기준점은 대기열에서 빠집니다. 반영에 실패하면 requeueWatermark 로 되돌립니다.
+     * 
+     * @return 읽음 기준점 목록 (없으면 빈 리스트)
+     */
+    List<ReadWatermark> drainPendingWatermarks();
+    
+    /**
+     * 읽음 기준점을 대기열에 되돌림
+     * 
+     * 그 사이에 더 큰 기준점이 들어왔으면 그 값을 유지합니다.
+     * 
+     * @param watermark 읽음 기준점
      */
-    void syncReadStatusToRdb(Long chatRoomId, Long userId);
+    void requeueWatermark(ReadWatermark watermark);
     
     /**
      * 읽음 상태 정보 삭제
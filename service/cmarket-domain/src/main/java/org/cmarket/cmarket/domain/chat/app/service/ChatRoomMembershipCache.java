@@ -0,0 +1,44 @@
+package org.cmarket.cmarket.domain.chat.app.service;
+
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomMembership;
+
+/**
+ * 채팅방 참여 정보 캐시 인터페이스
+ *
+ * 메시지를 보낼 때마다 채팅방 · 참여자 · 차단 관계를 DB에서 다시 읽지 않도록
+ * 채팅방별 참여 정보 스냅샷을 메모리에 둡니다.
+ *
+ * 나가기 · 차단 · 차단 해제처럼 스냅샷이 바뀌는 곳에서는 evict 를 불러야 합니다.
+ *
+ * 구현체는 web 모듈에서 제공됩니다.
+ */
+public interface ChatRoomMembershipCache {
+
+    /**
+     * 채팅방 참여 정보 조회
+     *
+     * 캐시에 없으면 DB에서 읽어 채웁니다.
+     *
+     * @param chatRoomId 채팅방 ID
+     * @return 참여 정보 (채팅방이 없으면 null)
+     */
+    ChatRoomMembership get(Long chatRoomId);
+
+    /**
+     * 채팅방 참여 정보 제거
+     *
+     * 트랜잭션 안에서 부르면 커밋된 뒤에 한 번 더 제거합니다.
+     *
+     * @param chatRoomId 채팅방 ID
+     */
+    void evict(Long chatRoomId);
+
+    /**
+     * 사용자가 참여한 채팅방의 참여 정보 모두 제거 (차단 · 차단 해제 시)
+     *
+     * 트랜잭션 안에서 부르면 커밋된 뒤에 한 번 더 제거합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    void evictByUserId(Long userId);
+}
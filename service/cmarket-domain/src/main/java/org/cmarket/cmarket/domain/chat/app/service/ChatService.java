@@ -3,11 +3,17 @@ package org.cmarket.cmarket.domain.chat.app.service;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageCommand;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageListDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageSearchDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageSliceDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomCreateCommand;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomListDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomListItemDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomListItemUpdate;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomSliceDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ReadWatermark;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -49,6 +55,32 @@ public interface ChatService {
      */
     ChatRoomListDto getChatRoomList(String email, int page, int size);
     
+    /**
+     * 채팅방 목록 커서 조회 (무한 스크롤용)
+     * 
+     * getChatRoomList 와 같은 목록을 OFFSET 대신 커서로 이어 읽습니다.
+     * - 전체 개수를 세지 않으므로 깊은 페이지도 첫 페이지와 같은 비용
+     * - 정렬은 최근 활동 시간(최근 메시지, 없으면 참여 시간) + 채팅방 ID 내림차순
+     * 
+     * @param email 현재 로그인한 사용자 이메일
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 채팅방 목록 (다음 페이지 커서 포함)
+     * @throws BusinessException 커서를 해석할 수 없을 때 (INVALID_CHAT_ROOM_CURSOR)
+     */
+    ChatRoomSliceDto getChatRoomListByCursor(String email, String cursor, int size);
+    
+    /**
+     * 채팅방 목록 정렬 키가 비어 있는 참여 정보 채우기
+     * 
+     * 정렬 키(lastActivityAt) 열이 생기기 전에 만들어진 참여 정보를 채웁니다.
+     * 비어 있으면 커서 조회에서 빠지므로 서버 시작 시 한 번 돌립니다.
+     * 
+     * @param limit 한 번에 채울 최대 행 수
+     * @return 채운 행 수
+     */
+    int fillMissingRoomListSortKeys(int limit);
+    
     /**
      * 채팅방 참여자 여부 확인
      * 
@@ -104,6 +136,42 @@ public interface ChatService {
      */
     ChatMessageListDto getChatMessages(String email, Long chatRoomId, int page, int size);
     
+    /**
+     * 채팅 내역 커서 조회 (이전 메시지 더 불러오기)
+     * 
+     * beforeMessageId 보다 이전 메시지를 최대 size 개 돌려줍니다 (오래된순).
+     * - (chat_room_id, created_at, id) 기준 keyset 조회라 COUNT 와 OFFSET 이 없다
+     * - size+1 개를 읽어 hasMore 를 정한다
+     * - beforeMessageId 가 없으면 최신 메시지부터 읽고, getChatMessages 첫 페이지처럼 읽음 상태를 맞춘다
+     * 
+     * @param email 현재 사용자 이메일
+     * @param chatRoomId 채팅방 ID
+     * @param beforeMessageId 이전 응답의 nextBeforeMessageId (처음이면 null)
+     * @param size 묶음 크기
+     * @return 메시지 목록 (다음 기준 메시지 ID 포함)
+     * @throws BusinessException 기준 메시지가 이 방에 없을 때 (CHAT_MESSAGE_NOT_FOUND)
+     */
+    ChatMessageSliceDto getChatMessagesBefore(String email, Long chatRoomId, Long beforeMessageId, int size);
+    
+    /**
+     * 채팅방 안 메시지 검색
+     * 
+     * 내용에 검색어가 들어 있는 메시지를 최신순으로 최대 size 개 돌려줍니다.
+     * - 검색어는 공백으로 나눠 모두 들어 있어야 맞는다 (AND, 대소문자 구분 없음)
+     * - 보관된 메시지도 찾는다
+     * - getChatMessages 와 같은 규칙으로 가린다 (남이 보낸 차단 메시지, 내가 상대를 차단한 뒤 온 메시지)
+     * - 메시지 테이블을 LIKE 로 훑지 않고 방 색인(ChatMessageSearchIndex)에서 찾는다
+     * 
+     * @param email 현재 사용자 이메일
+     * @param chatRoomId 채팅방 ID
+     * @param query 검색어
+     * @param beforeMessageId 이전 응답의 nextBeforeMessageId (처음이면 null)
+     * @param size 최대 결과 수
+     * @return 검색 결과 (키워드 주변 내용 포함)
+     * @throws BusinessException 검색어가 비었을 때 (INVALID_SEARCH_KEYWORD)
+     */
+    ChatMessageSearchDto searchChatMessages(String email, Long chatRoomId, String query, Long beforeMessageId, int size);
+    
     /**
      * 채팅방 나가기 (FR-027)
      * 
@@ -132,12 +200,44 @@ public interface ChatService {
     ChatRoomListItemDto getChatRoomListItem(String email, Long chatRoomId);
     
     /**
-     * 채팅방의 모든 활성 참여자 이메일 목록 조회
+     * 채팅방 목록 갱신 조회 (활성 참여자 전원)
      * 
-     * 채팅방 목록 실시간 업데이트를 위해 사용됩니다.
+     * 메시지가 오간 채팅방의 목록 한 줄을 참여자마다 만들어 돌려줍니다.
+     * 참여자 수와 상관없이 목록 조인 1번 + 이메일 조회 1번 + Redis MGET 1번입니다.
      * 
      * @param chatRoomId 채팅방 ID
-     * @return 활성 참여자 이메일 목록
+     * @return 참여자별 목록 한 줄 (이메일 포함)
+     */
+    List<ChatRoomListItemUpdate> getChatRoomListUpdates(Long chatRoomId);
+    
+    /**
+     * 읽음 기준점 RDB 반영 (백그라운드 작업용)
+     * 
+     * chat_room_users.last_read_message_id 를 올리고(더 클 때만),
+     * 기준점 이하의 안 읽은 메시지를 최대 limit 개 읽음 처리합니다.
+     * 반환값이 limit 과 같으면 남은 메시지가 있을 수 있으므로 다시 부릅니다.
+     * 
+     * @param watermark 읽음 기준점
+     * @param limit 한 번에 읽음 처리할 최대 메시지 수
+     * @return 읽음 처리한 메시지 수
+     */
+    int applyReadWatermark(ReadWatermark watermark, int limit);
+    
+    /**
+     * 대화가 끊긴 채팅방의 오래된 메시지 보관 (백그라운드 작업용)
+     * 
+     * 참여자 누구도 roomIdleCutoff 이후 활동이 없는 방에서 messageCutoff 보다 오래된 메시지를
+     * 방마다 오래된 순서로 최대 limit 개 chat_messages_archive 로 옮깁니다.
+     * 방을 먼저 고르고 그 방들의 메시지만 잠그므로 활동 중인 방의 메시지는 잠그지 않습니다.
+     * 복사와 삭제가 한 트랜잭션이라 중간에 멈춰도 메시지가 두 번 있거나 사라지지 않고,
+     * 다시 부르면 남은 것부터 이어서 옮깁니다.
+     * 
+     * 보관된 메시지는 메시지 조회(getChatMessages, getChatMessagesBefore)에서 그대로 이어서 보입니다.
+     * 
+     * @param messageCutoff 이보다 오래된 메시지만
+     * @param roomIdleCutoff 이 시각 이후 활동이 없는 방만
+     * @param limit 한 번에 옮길 최대 메시지 수
+     * @return 옮긴 메시지 수 (limit 과 같으면 남은 메시지가 있을 수 있음)
      */
-    List<String> getActiveParticipantEmails(Long chatRoomId);
+    int archiveColdMessages(LocalDateTime messageCutoff, LocalDateTime roomIdleCutoff, int limit);
 }
@@ -2,27 +2,43 @@ package org.cmarket.cmarket.domain.chat.app.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.domain.auth.model.User;
 import org.cmarket.cmarket.domain.auth.repository.UserRepository;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageCommand;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageListDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageListItemDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageSearchDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageSearchHitDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageSliceDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomCreateCommand;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomListDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomListItemDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomListItemUpdate;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomMembership;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomSliceDto;
+import org.cmarket.cmarket.domain.chat.app.dto.PrivacyScanResult;
+import org.cmarket.cmarket.domain.chat.app.dto.ReadWatermark;
 import org.cmarket.cmarket.domain.notification.app.dto.NotificationCreateCommand;
 import org.cmarket.cmarket.domain.notification.app.event.NotificationCreatedEvent;
 import org.cmarket.cmarket.domain.notification.model.NotificationType;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.cmarket.cmarket.domain.chat.model.ArchivedChatMessage;
 import org.cmarket.cmarket.domain.chat.model.ChatMessage;
 import org.cmarket.cmarket.domain.chat.model.ChatRoom;
 import org.cmarket.cmarket.domain.chat.model.ChatRoomUser;
 import org.cmarket.cmarket.domain.chat.model.MessageType;
+import org.cmarket.cmarket.domain.chat.repository.ArchivedChatMessageRepository;
 import org.cmarket.cmarket.domain.chat.repository.ChatMessageRepository;
+import org.cmarket.cmarket.domain.chat.repository.ChatMessageSearchDocument;
+import org.cmarket.cmarket.domain.chat.repository.ChatRoomListCursor;
+import org.cmarket.cmarket.domain.chat.repository.ChatRoomListRow;
 import org.cmarket.cmarket.domain.chat.repository.ChatRoomRepository;
 import org.cmarket.cmarket.domain.chat.repository.ChatRoomUserRepository;
 import org.cmarket.cmarket.domain.report.repository.UserBlockRepository;
@@ -52,11 +68,15 @@ public class ChatServiceImpl implements ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomUserRepository chatRoomUserRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ArchivedChatMessageRepository archivedChatMessageRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     private final ChatReadStatusService chatReadStatusService;
     private final ChatSessionService chatSessionService;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
     private final PrivacyFilterService privacyFilterService;
+    private final ChatMessageSearchIndex chatMessageSearchIndex;
     private final UserBlockRepository userBlockRepository;
     private final ApplicationEventPublisher eventPublisher;
     
@@ -140,173 +160,177 @@ public class ChatServiceImpl implements ChatService {
     @Override
     public ChatRoomListDto getChatRoomList(String email, int page, int size) {
         // 1. 현재 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
-        // 2. 사용자의 활성 채팅방 목록 조회 (페이지네이션 적용)
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Page<ChatRoomUser> chatRoomUserPage = chatRoomUserRepository
-                .findActiveByUserIdOrderByLastMessageAtDesc(userId, pageRequest);
+        // 2. 채팅방 목록 한 페이지 조회 (채팅방 · 상대방 · 차단 여부까지 조인 한 번)
+        List<ChatRoomListRow> rows = chatRoomUserRepository
+                .findRoomListByOffset(userId, (long) page * size, size);
+        long totalElements = chatRoomUserRepository.countByUserIdAndIsActiveTrue(userId);
+        
+        // 3. 안 읽은 메시지 개수를 붙여 목록 아이템으로 변환 (Redis 호출 1회)
+        List<ChatRoomListItemDto> chatRoomItems = toListItems(userId, rows);
+        
+        int totalPages = size > 0 ? (int) Math.ceil((double) totalElements / size) : 0;
+        return ChatRoomListDto.builder()
+                .chatRooms(chatRoomItems)
+                .currentPage(page)
+                .totalPages(totalPages)
+                .totalElements(totalElements)
+                .hasNext(page + 1 < totalPages)
+                .hasPrevious(page > 0)
+                .build();
+    }
+    
+    @Override
+    public ChatRoomSliceDto getChatRoomListByCursor(String email, String cursor, int size) {
+        // 1. 현재 사용자 조회
+        UserIdentity user = userIdentityResolver.findByEmail(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        
+        Long userId = user.userId();
         
-        List<ChatRoomUser> myChatRoomUsers = chatRoomUserPage.getContent();
+        // 2. 커서 해석
+        ChatRoomListCursor roomListCursor = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                roomListCursor = ChatRoomListCursor.decode(cursor);
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.INVALID_CHAT_ROOM_CURSOR);
+            }
+        }
         
-        if (myChatRoomUsers.isEmpty()) {
-            return ChatRoomListDto.builder()
-                    .chatRooms(List.of())
-                    .currentPage(chatRoomUserPage.getNumber())
-                    .totalPages(chatRoomUserPage.getTotalPages())
-                    .totalElements(chatRoomUserPage.getTotalElements())
-                    .hasNext(chatRoomUserPage.hasNext())
-                    .hasPrevious(chatRoomUserPage.hasPrevious())
-                    .build();
+        // 3. 한 개 더 읽어서 다음 페이지 여부 판단 (COUNT 없음)
+        List<ChatRoomListRow> rows = chatRoomUserRepository
+                .findRoomListByCursor(userId, roomListCursor, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
         }
         
-        // 3. 채팅방 ID 목록 추출
-        List<Long> chatRoomIds = myChatRoomUsers.stream()
-                .map(ChatRoomUser::getChatRoomId)
+        String nextCursor = hasNext && !rows.isEmpty()
+                ? ChatRoomListCursor.of(rows.get(rows.size() - 1)).encode()
+                : null;
+        
+        return ChatRoomSliceDto.builder()
+                .chatRooms(toListItems(userId, rows))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    @Override
+    @Transactional
+    public int fillMissingRoomListSortKeys(int limit) {
+        return chatRoomUserRepository.fillMissingLastActivityAt(limit);
+    }
+    
+    /**
+     * 목록 줄에 안 읽은 메시지 개수를 붙여 목록 아이템으로 변환
+     * 
+     * 정렬은 DB에서 이미 끝났으므로 순서를 그대로 유지합니다.
+     */
+    private List<ChatRoomListItemDto> toListItems(Long userId, List<ChatRoomListRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        
+        List<Long> chatRoomIds = rows.stream()
+                .map(ChatRoomListRow::chatRoomId)
                 .toList();
+        java.util.Map<Long, Integer> unreadCounts = chatReadStatusService.getUnreadCounts(userId, chatRoomIds);
         
-        // 4. 채팅방 정보 일괄 조회 (IN 절 - 쿼리 1회)
-        List<ChatRoom> chatRooms = chatRoomRepository.findAllById(chatRoomIds);
-        java.util.Map<Long, ChatRoom> chatRoomMap = chatRooms.stream()
-                .collect(java.util.stream.Collectors.toMap(ChatRoom::getId, cr -> cr));
-        
-        // 5. 상대방 정보 일괄 조회 (IN 절 - 쿼리 1회)
-        List<ChatRoomUser> opponents = chatRoomUserRepository
-                .findOpponentsByChatRoomIdsAndMyUserId(chatRoomIds, userId);
-        java.util.Map<Long, ChatRoomUser> opponentMap = opponents.stream()
-                .collect(java.util.stream.Collectors.toMap(ChatRoomUser::getChatRoomId, op -> op));
-        
-        // 6. 각 채팅방 정보 조합 (추가 쿼리 없음)
-        List<ChatRoomListItemDto> chatRoomItems = new ArrayList<>();
-        
-        for (ChatRoomUser myChatRoomUser : myChatRoomUsers) {
-            Long chatRoomId = myChatRoomUser.getChatRoomId();
-            
-            ChatRoom chatRoom = chatRoomMap.get(chatRoomId);
-            ChatRoomUser opponent = opponentMap.get(chatRoomId);
-            
-            // 채팅방이 없으면 skip (데이터 이상)
-            if (chatRoom == null) {
-                continue;
-            }
-            
-            // Redis에서 안 읽은 메시지 개수 조회 (Redis 호출은 빠름)
-            int unreadCount = chatReadStatusService.getUnreadCount(chatRoomId, userId);
-            
-            // 상대방이 탈퇴한 경우 "알 수 없는 사용자"로 표시
-            Long opponentId = opponent != null ? opponent.getUserId() : null;
-            String opponentNickname = opponent != null ? opponent.getUserNickname() : "알 수 없는 사용자";
-            String opponentProfileImageUrl = opponent != null ? opponent.getUserProfileImageUrl() : null;
-            
-            // 최근 메시지 정보는 ChatRoomUser에 비정규화되어 있음
-            // 내가 이 상대를 차단했는가. 화면이 입력창을 잠그는 데 쓴다(#877).
-            boolean isOpponentBlocked = opponentId != null
-                    && userBlockRepository.existsByBlockerIdAndBlockedUserId(userId, opponentId);
-
-            ChatRoomListItemDto item = ChatRoomListItemDto.builder()
-                    .chatRoomId(chatRoomId)
-                    .productId(chatRoom.getProductId())
-                    .productTitle(chatRoom.getProductTitle())
-                    .productPrice(chatRoom.getProductPrice())
-                    .productImageUrl(chatRoom.getProductImageUrl())
-                    .opponentId(opponentId)
-                    .opponentNickname(opponentNickname)
-                    .opponentProfileImageUrl(opponentProfileImageUrl)
-                    .lastMessage(myChatRoomUser.getLastMessageContent())
-                    .lastMessageTime(myChatRoomUser.getLastMessageAt())
-                    .hasUnread(unreadCount > 0)
-                    .unreadCount(unreadCount)
-                    .isOpponentBlocked(isOpponentBlocked)
-                    .build();
-            
-            chatRoomItems.add(item);
-        }
-        
-        // 정렬은 DB에서 이미 완료됨 (추가 Java 정렬 불필요)
+        List<ChatRoomListItemDto> chatRoomItems = new ArrayList<>(rows.size());
+        for (ChatRoomListRow row : rows) {
+            chatRoomItems.add(toListItem(row, unreadCounts.getOrDefault(row.chatRoomId(), 0)));
+        }
+        return chatRoomItems;
+    }
+    
+    private ChatRoomListItemDto toListItem(ChatRoomListRow row, int unreadCount) {
+        // 상대방이 탈퇴한 경우 "알 수 없는 사용자"로 표시
+        String opponentNickname = row.opponentId() != null ? row.opponentNickname() : "알 수 없는 사용자";
         
-        return ChatRoomListDto.builder()
-                .chatRooms(chatRoomItems)
-                .currentPage(chatRoomUserPage.getNumber())
-                .totalPages(chatRoomUserPage.getTotalPages())
-                .totalElements(chatRoomUserPage.getTotalElements())
-                .hasNext(chatRoomUserPage.hasNext())
-                .hasPrevious(chatRoomUserPage.hasPrevious())
+        // 최근 메시지 정보는 ChatRoomUser에 비정규화되어 있음
+        // 내가 이 상대를 차단했는가. 화면이 입력창을 잠그는 데 쓴다(#877).
+        return ChatRoomListItemDto.builder()
+                .chatRoomId(row.chatRoomId())
+                .productId(row.productId())
+                .productTitle(row.productTitle())
+                .productPrice(row.productPrice())
+                .productImageUrl(row.productImageUrl())
+                .opponentId(row.opponentId())
+                .opponentNickname(opponentNickname)
+                .opponentProfileImageUrl(row.opponentProfileImageUrl())
+                .lastMessage(row.lastMessage())
+                .lastMessageTime(row.lastMessageTime())
+                .hasUnread(unreadCount > 0)
+                .unreadCount(unreadCount)
+                .isOpponentBlocked(Boolean.TRUE.equals(row.opponentBlocked()))
                 .build();
     }
     
     @Override
     public boolean isParticipant(Long chatRoomId, String email) {
         // 사용자 조회
-        Optional<User> userOptional = userRepository.findByEmailAndDeletedAtIsNull(email);
-        if (userOptional.isEmpty()) {
+        Long userId = userIdentityResolver.findUserIdOrNull(email);
+        if (userId == null) {
             return false;
         }
         
-        Long userId = userOptional.get().getId();
-        
-        // 채팅방 참여 여부 확인 (활성 상태만)
-        return chatRoomUserRepository.existsByChatRoomIdAndUserIdAndIsActiveTrue(chatRoomId, userId);
+        return isParticipantByUserId(chatRoomId, userId);
     }
     
     @Override
     @Transactional
     public ChatMessageDto sendMessage(String email, ChatMessageCommand command) {
         // 1. 발신자 조회
-        User sender = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity sender = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
         Long chatRoomId = command.getChatRoomId();
-        Long senderId = sender.getId();
+        Long senderId = sender.userId();
         
-        // 2. 채팅방 존재 확인
-        chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+        // 2. 채팅방 참여 정보 조회 (캐시 - 방이 열려 있는 동안은 DB를 읽지 않음)
+        ChatRoomMembership membership = chatRoomMembershipCache.get(chatRoomId);
+        if (membership == null) {
+            throw new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+        }
         
-        // 3. 발신자 참여 정보 조회
-        ChatRoomUser senderChatRoomUser = chatRoomUserRepository
-                .findByChatRoomIdAndUserId(chatRoomId, senderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_ACCESS_DENIED));
+        // 3. 발신자 참여 여부 확인
+        ChatRoomMembership.Member senderMember = membership.member(senderId);
+        if (senderMember == null) {
+            throw new BusinessException(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
+        }
         
         // 4. 발신자가 채팅방을 나갔는지 확인
-        if (senderChatRoomUser.isLeft()) {
+        if (!senderMember.active()) {
             throw new BusinessException(ErrorCode.CHAT_ROOM_USER_LEFT);
         }
         
         // 5. 상대방 조회
-        ChatRoomUser opponent = chatRoomUserRepository
-                .findOpponentByChatRoomIdAndMyUserId(chatRoomId, senderId)
-                .orElse(null);
+        ChatRoomMembership.Member opponent = membership.opponentOf(senderId);
         
         // 6. 상대방이 나갔는지 확인
-        if (opponent != null && opponent.isLeft()) {
+        if (opponent != null && !opponent.active()) {
             throw new BusinessException(ErrorCode.CHAT_ROOM_USER_LEFT);
         }
         
         // 7. 개인정보 필터링
-        boolean isBlocked = false;
-        String blockReason = null;
         String content = command.getContent();
-        
-        // 디버깅: 메시지 내용 로그
-        log.info("=== ChatServiceImpl.sendMessage 처리 시작 === chatRoomId={}, senderId={}, content=[{}], contentLength={}, contentBytes={}", 
-                chatRoomId, senderId, content, 
-                content != null ? content.length() : 0,
-                content != null ? java.util.Arrays.toString(content.getBytes(java.nio.charset.StandardCharsets.UTF_8)) : "null");
-        
-        if (content != null && privacyFilterService.containsPrivateInfo(content)) {
-            isBlocked = true;
-            blockReason = privacyFilterService.getBlockReason(content);
-        }
+        PrivacyScanResult privacyScan = privacyFilterService.scan(content);
+        boolean isBlocked = privacyScan.containsPrivateInfo();
+        String blockReason = privacyScan.blockReason();
         
         // 8. 메시지 저장
         LocalDateTime now = LocalDateTime.now();
         ChatMessage message = ChatMessage.builder()
                 .chatRoomId(chatRoomId)
                 .senderId(senderId)
-                .senderNickname(sender.getNickname())
+                .senderNickname(sender.nickname())
                 .messageType(command.getMessageType())
                 .content(content)
                 .imageUrl(command.getImageUrl())
@@ -314,14 +338,11 @@ public class ChatServiceImpl implements ChatService {
                 .blockReason(blockReason)
                 .build();
         
-        log.info("=== 메시지 저장 전 === message.content=[{}], message.contentLength={}", 
-                message.getContent(), message.getContent() != null ? message.getContent().length() : 0);
-        
         ChatMessage savedMessage = chatMessageRepository.save(message);
+        chatMessageSearchIndex.index(ChatMessageSearchDocument.from(savedMessage));
         
-        log.info("=== 메시지 저장 후 === savedMessage.id={}, savedMessage.content=[{}], savedMessage.contentLength={}", 
-                savedMessage.getId(), savedMessage.getContent(), 
-                savedMessage.getContent() != null ? savedMessage.getContent().length() : 0);
+        log.debug("메시지 저장: chatRoomId={}, senderId={}, messageId={}, contentLength={}", 
+                chatRoomId, senderId, savedMessage.getId(), content != null ? content.length() : 0);
         
         // 상대가 나를 차단했는가. (#877)
         //
@@ -335,16 +356,23 @@ public class ChatServiceImpl implements ChatService {
         // ⚠️ 차단당한 쪽에는 **알리지 않는다.** 자기 화면에는 보낸 글이 그대로 보이고
         //    상대에게만 안 간다(카카오톡·당근이 같다). 차단 사실이 드러나면 보복을 부른다.
         //    그래서 예외를 던지지 않고 조용히 건너뛴다.
-        boolean blockedByOpponent = opponent != null
-                && userBlockRepository.existsByBlockerIdAndBlockedUserId(opponent.getUserId(), senderId);
+        boolean blockedByOpponent = opponent != null && membership.hasBlocked(opponent.userId());
 
-        // 9. ChatRoomUser의 lastMessage 정보 업데이트
-        senderChatRoomUser.updateLastMessage(content, now, isBlocked);
+        // 9. ChatRoomUser의 lastMessage 정보 업데이트 (UPDATE 한 번)
         // ⚠️ 상대가 나를 차단했으면 **상대 쪽은 안 건드린다.** 안 그러면 채팅 목록의
         //    「마지막 메시지」에 막은 메시지 내용이 그대로 보인다. 개인정보 차단은
         //    「[차단된 메시지]」로 가려지지만 이쪽은 isBlocked 가 거짓이라 안 가려진다.
-        if (opponent != null && !blockedByOpponent) {
-            opponent.updateLastMessage(content, now, isBlocked);
+        List<Long> lastMessageTargets = opponent != null && !blockedByOpponent
+                ? List.of(senderId, opponent.userId())
+                : List.of(senderId);
+        int updatedCount = chatRoomUserRepository.updateLastMessage(
+                chatRoomId, lastMessageTargets, ChatRoomUser.previewOf(content, isBlocked), now);
+        
+        // 캐시가 늦어 그사이 누가 나간 것을 몰랐다면 (다른 서버에서 나간 경우 등)
+        // 활성 참여자 수가 모자란다. 캐시를 비우고 나간 것으로 처리한다 (메시지 저장도 롤백).
+        if (updatedCount < lastMessageTargets.size()) {
+            chatRoomMembershipCache.evict(chatRoomId);
+            throw new BusinessException(ErrorCode.CHAT_ROOM_USER_LEFT);
         }
         
         // 10. Redis에 상대방의 안 읽은 메시지 개수 증가
@@ -352,19 +380,16 @@ public class ChatServiceImpl implements ChatService {
         // ⚠️ **상대가 나를 차단했으면 여기도 건너뛴다** (#877) — 안 읽은 수도 안 올리고
         //    알림도 안 만든다. 알림이 오면 가장 직접적인 통로가 안 막힌 셈이다.
         if (!isBlocked && !blockedByOpponent && opponent != null) {
-            Long opponentId = opponent.getUserId();
-            // 상대방이 해당 채팅방에 접속 중이면 증가하지 않음
-            Long currentChatRoom = chatSessionService.getUserCurrentChatRoom(opponentId);
-            if (currentChatRoom == null || !currentChatRoom.equals(chatRoomId)) {
-                chatReadStatusService.incrementUnreadCount(chatRoomId, opponentId);
+            Long opponentId = opponent.userId();
+            // 상대방이 해당 채팅방에 접속 중이면 증가하지 않음 (0이 돌아온다)
+            int unreadCount = chatReadStatusService.incrementUnreadCount(chatRoomId, opponentId);
+            if (unreadCount > 0) {
                 
                 // 11. 알림 이벤트 발행 (상대방에게 새 메시지 알림)
-                ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                        .orElse(null);
-                String productTitle = chatRoom != null ? chatRoom.getProductTitle() : "상품";
+                String productTitle = membership.productTitle() != null ? membership.productTitle() : "상품";
 
                 // 한 방은 알림 하나로 묶인다(#873). 그래서 **몇 개가 밀렸는지를 문구에 적어야**
-                // 한 줄만 보고도 알 수 있다. 바로 위에서 올린 안 읽은 메시지 수를 그대로 쓴다.
+                // 한 줄만 보고도 알 수 있다. 바로 위에서 올리고 돌려받은 안 읽은 메시지 수를 그대로 쓴다.
                 //
                 // 개수를 뱃지로 안 하는 이유: 알림 한 줄은 이미 「안 읽음」을 점과 바탕색으로
                 // 말하고 있어, 뱃지를 더 붙이면 같은 말을 셋이 하게 된다. 그리고 채팅 알림만
@@ -373,12 +398,11 @@ public class ChatServiceImpl implements ChatService {
                 // ⚠️ 메시지 **내용은 넣지 않는다.** 개인정보가 든 메시지를 서버가 막는 기능이
                 //    있는데, 내용을 알림에 복사해 두면 그 막음을 우회하게 된다.
                 //    잠금화면 푸시로 나갈 때는 더 그렇다.
-                int unreadCount = chatReadStatusService.getUnreadCount(chatRoomId, opponentId);
                 String notificationContent = unreadCount > 1
                         ? String.format("%s님이 '%s' 상품 채팅에서 메시지 %d개를 보냈습니다.",
-                                sender.getNickname(), productTitle, unreadCount)
+                                sender.nickname(), productTitle, unreadCount)
                         : String.format("%s님이 '%s' 상품 채팅에서 메시지를 보냈습니다.",
-                                sender.getNickname(), productTitle);
+                                sender.nickname(), productTitle);
 
                 NotificationCreateCommand notificationCommand = NotificationCreateCommand.builder()
                         .userId(opponentId)  // 수신자: 상대방
@@ -402,35 +426,37 @@ public class ChatServiceImpl implements ChatService {
     
     @Override
     public boolean isParticipantByUserId(Long chatRoomId, Long userId) {
-        return chatRoomUserRepository.existsByChatRoomIdAndUserIdAndIsActiveTrue(chatRoomId, userId);
+        // 채팅방 참여 여부 확인 (활성 상태만, 캐시)
+        ChatRoomMembership membership = chatRoomMembershipCache.get(chatRoomId);
+        return membership != null && membership.isActiveMember(userId);
     }
     
     @Override
-    @Transactional
     public ChatMessageListDto getChatMessages(String email, Long chatRoomId, int page, int size) {
         // 1. 현재 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 2. 채팅방 존재 및 참여 여부 확인 (단일 쿼리)
         if (!chatRoomUserRepository.existsByChatRoomIdAndUserIdAndIsActiveTrue(chatRoomId, userId)) {
             throw new BusinessException(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
         
-        // 4. 첫 페이지 조회 시 Redis → RDB 읽음 상태 동기화
+        // 4. 메시지 목록 조회 (최신순, chat_messages 를 넘어서면 보관된 메시지로 이어짐)
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Page<ChatMessage> messagePage = findMessagePage(chatRoomId, pageRequest);
+        
+        // 5. 첫 페이지 조회 시 읽음 처리
+        // 이 요청은 메시지 테이블을 수정하지 않는다. 가장 최근 메시지 ID 를 읽음 기준점으로
+        // Redis 에 올려 두면 is_read 는 백그라운드 작업이 나눠서 반영한다.
         if (page == 0) {
-            chatReadStatusService.syncReadStatusToRdb(chatRoomId, userId);
+            chatReadStatusService.markRoomAsRead(chatRoomId, userId, newestMessageId(messagePage.getContent()));
             // 현재 채팅방 설정 (실시간 읽음 처리용)
             chatSessionService.setUserCurrentChatRoom(userId, chatRoomId);
         }
         
-        // 5. 메시지 목록 조회 (최신순)
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Page<ChatMessage> messagePage = chatMessageRepository
-                .findByChatRoomIdOrderByCreatedAtDesc(chatRoomId, pageRequest);
-        
         // 내가 이 방의 상대를 차단했다면, **차단한 뒤에 온 메시지**만 걸러낸다. (#877)
         //
         // ⚠️ **실시간만 막으면 반쪽이다.** 보내는 쪽에서 안 넘겨도 방을 다시 열면 REST 로
@@ -463,27 +489,8 @@ public class ChatServiceImpl implements ChatService {
 
         ChatRoom chatRoomInfo = chatRoomRepository.findById(chatRoomId).orElse(null);
 
-        // 6. DTO 변환 (차단된 메시지 필터링 포함)
-        List<ChatMessageListItemDto> messages = messagePage.getContent().stream()
-                .map(msg -> {
-                    // 차단된 메시지는 발신자 본인에게만 표시
-                    if (Boolean.TRUE.equals(msg.getIsBlocked()) && !msg.getSenderId().equals(userId)) {
-                        return null;  // 다른 사람이 보낸 차단된 메시지는 제외
-                    }
-                    // 차단한 뒤에 상대가 보낸 메시지는 안 보여준다
-                    if (blockedAt != null
-                            && !msg.getSenderId().equals(userId)
-                            && msg.getCreatedAt().isAfter(blockedAt)) {
-                        return null;
-                    }
-                    return ChatMessageListItemDto.fromEntity(msg, userId);
-                })
-                .filter(dto -> dto != null)
-                .toList();
-        
-        // 7. 오래된순으로 정렬 (프론트엔드에서 위에서 아래로 읽기 위함)
-        List<ChatMessageListItemDto> reversedMessages = new ArrayList<>(messages);
-        java.util.Collections.reverse(reversedMessages);
+        // 6. DTO 변환 (차단된 메시지 필터링 포함) + 7. 오래된순으로 정렬
+        List<ChatMessageListItemDto> reversedMessages = toVisibleMessages(messagePage.getContent(), userId, blockedAt);
         
         // 8. Redis에 마지막 읽은 시간 업데이트
         chatReadStatusService.updateLastReadTime(chatRoomId, userId);
@@ -509,14 +516,293 @@ public class ChatServiceImpl implements ChatService {
                 .build();
     }
     
+    @Override
+    public ChatMessageSliceDto getChatMessagesBefore(String email, Long chatRoomId, Long beforeMessageId, int size) {
+        UserIdentity user = userIdentityResolver.findByEmail(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        
+        Long userId = user.userId();
+        
+        if (!chatRoomUserRepository.existsByChatRoomIdAndUserIdAndIsActiveTrue(chatRoomId, userId)) {
+            throw new BusinessException(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
+        }
+        
+        boolean firstSlice = beforeMessageId == null;
+        
+        // size+1 개를 읽어 다음 묶음이 있는지 안다 (COUNT 쿼리 없음)
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<ChatMessage> fetched;
+        if (firstSlice) {
+            fetched = fillFromArchive(chatRoomId,
+                    chatMessageRepository.findLatestByChatRoomId(chatRoomId, limit), size + 1, null, null);
+        } else {
+            // 기준 메시지의 (created_at, id) 를 키로 그보다 앞선 것만 읽는다.
+            // 기준 메시지가 이미 보관됐으면 보관 테이블에서 찾는다. 다른 방 메시지 ID 를 넘기면 없는 것으로 본다.
+            LocalDateTime beforeCreatedAt = chatMessageRepository
+                    .findCreatedAtByIdAndChatRoomId(beforeMessageId, chatRoomId)
+                    .or(() -> archivedChatMessageRepository.findCreatedAtByIdAndChatRoomId(beforeMessageId, chatRoomId))
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
+            fetched = fillFromArchive(chatRoomId,
+                    chatMessageRepository.findOlderThan(chatRoomId, beforeCreatedAt, beforeMessageId, limit),
+                    size + 1, beforeCreatedAt, beforeMessageId);
+        }
+        
+        boolean hasMore = fetched.size() > size;
+        List<ChatMessage> page = hasMore ? fetched.subList(0, size) : fetched;
+        
+        if (firstSlice) {
+            // 방에 들어온 것이므로 page=0 조회와 똑같이 읽음 처리한다
+            chatReadStatusService.markRoomAsRead(chatRoomId, userId, newestMessageId(page));
+            chatSessionService.setUserCurrentChatRoom(userId, chatRoomId);
+        }
+        
+        // 다음 요청 기준은 걸러내기 전 가장 오래된 메시지다.
+        // 걸러진 메시지를 기준으로 삼지 않으면 같은 메시지를 다시 읽거나 건너뛰게 된다.
+        Long nextBeforeMessageId = hasMore ? page.get(page.size() - 1).getId() : null;
+        
+        Optional<ChatRoomUser> opponentOpt = chatRoomUserRepository
+                .findOpponentByChatRoomIdAndMyUserId(chatRoomId, userId);
+        LocalDateTime blockedAt = opponentOpt
+                .flatMap(op -> userBlockRepository.findByBlockerIdAndBlockedUserId(userId, op.getUserId()))
+                .map(block -> block.getCreatedAt())
+                .orElse(null);
+        
+        ChatMessageSliceDto.ChatMessageSliceDtoBuilder builder = ChatMessageSliceDto.builder()
+                .messages(toVisibleMessages(page, userId, blockedAt))
+                .size(size)
+                .hasMore(hasMore)
+                .nextBeforeMessageId(nextBeforeMessageId)
+                .isOpponentBlocked(blockedAt != null);
+        
+        // 방 머리말(상대 · 상품)은 처음 열 때만 싣는다. 위로 스크롤할 때마다 방을 다시 읽지 않는다.
+        if (firstSlice) {
+            ChatRoom chatRoomInfo = chatRoomRepository.findById(chatRoomId).orElse(null);
+            builder.opponentId(opponentOpt.map(ChatRoomUser::getUserId).orElse(null))
+                    .opponentNickname(opponentOpt.map(ChatRoomUser::getUserNickname).orElse("알 수 없는 사용자"))
+                    .opponentProfileImageUrl(opponentOpt.map(ChatRoomUser::getUserProfileImageUrl).orElse(null))
+                    .productId(chatRoomInfo != null ? chatRoomInfo.getProductId() : null)
+                    .productTitle(chatRoomInfo != null ? chatRoomInfo.getProductTitle() : null)
+                    .productPrice(chatRoomInfo != null ? chatRoomInfo.getProductPrice() : null)
+                    .productImageUrl(chatRoomInfo != null ? chatRoomInfo.getProductImageUrl() : null);
+        }
+        
+        return builder.build();
+    }
+    
+    @Override
+    public ChatMessageSearchDto searchChatMessages(
+            String email,
+            Long chatRoomId,
+            String query,
+            Long beforeMessageId,
+            int size
+    ) {
+        UserIdentity user = userIdentityResolver.findByEmail(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        
+        Long userId = user.userId();
+        
+        if (!chatRoomUserRepository.existsByChatRoomIdAndUserIdAndIsActiveTrue(chatRoomId, userId)) {
+            throw new BusinessException(ErrorCode.CHAT_ROOM_ACCESS_DENIED);
+        }
+        
+        List<String> keywords = query == null ? List.of() : List.of(query.trim().split("\\s+"));
+        if (keywords.isEmpty() || keywords.get(0).isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+        
+        // 메시지 조회와 같은 규칙으로 가린다 (#877). 차단 이후 메시지가 검색으로 새어 나가면 안 된다.
+        LocalDateTime blockedAt = chatRoomUserRepository
+                .findOpponentByChatRoomIdAndMyUserId(chatRoomId, userId)
+                .flatMap(op -> userBlockRepository.findByBlockerIdAndBlockedUserId(userId, op.getUserId()))
+                .map(block -> block.getCreatedAt())
+                .orElse(null);
+        
+        List<ChatMessageSearchHitDto> hits = new ArrayList<>();
+        boolean hasMore = false;
+        for (ChatMessageSearchDocument document : chatMessageSearchIndex.search(chatRoomId, keywords)) {
+            if (beforeMessageId != null && document.id() >= beforeMessageId) {
+                continue;
+            }
+            if (!isVisibleTo(document.senderId(), document.isBlocked(), document.createdAt(), userId, blockedAt)) {
+                continue;
+            }
+            if (hits.size() >= size) {
+                hasMore = true;
+                break;
+            }
+            hits.add(ChatMessageSearchHitDto.of(document, userId, keywords.get(0)));
+        }
+        
+        return ChatMessageSearchDto.builder()
+                .hits(hits)
+                .size(size)
+                .hasMore(hasMore)
+                .nextBeforeMessageId(hasMore && !hits.isEmpty() ? hits.get(hits.size() - 1).getMessageId() : null)
+                .build();
+    }
+    
+    @Override
+    @Transactional
+    public int applyReadWatermark(ReadWatermark watermark, int limit) {
+        chatRoomUserRepository.advanceLastReadMessageId(
+                watermark.chatRoomId(), watermark.userId(), watermark.messageId());
+        return chatMessageRepository.markMessagesAsReadUpTo(
+                watermark.chatRoomId(), watermark.userId(), watermark.messageId(), limit);
+    }
+    
+    @Override
+    @Transactional
+    public int archiveColdMessages(LocalDateTime messageCutoff, LocalDateTime roomIdleCutoff, int limit) {
+        // 방을 먼저 고르고(잠그지 않음) 그 방들의 메시지만 잠근다.
+        // 방마다 남은 메시지가 하나 이상이므로 limit 개 방이면 limit 개를 채우거나 남은 것을 다 옮긴다.
+        List<Long> chatRoomIds = chatRoomUserRepository.findArchivableChatRoomIds(messageCutoff, roomIdleCutoff, limit);
+        if (chatRoomIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = chatMessageRepository.findArchivableIds(chatRoomIds, messageCutoff, roomIdleCutoff, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int copied = archivedChatMessageRepository.copyFromHot(ids);
+        if (copied != ids.size()) {
+            // 고른 행은 잠겨 있으므로 여기 오면 안 된다. 지우지 않고 되돌린다.
+            throw new IllegalStateException("보관 복사 개수 불일치: selected=" + ids.size() + ", copied=" + copied);
+        }
+        chatMessageRepository.deleteAllByIdIn(ids);
+        return ids.size();
+    }
+    
+    /**
+     * 페이지 번호로 메시지 조회 (chat_messages → 보관 테이블 순으로 이어 읽기)
+     * 
+     * 보관된 메시지는 항상 그 방의 남은 메시지보다 오래됐으므로, 두 테이블을 최신순으로 이어 붙이면
+     * 한 테이블일 때와 같은 순서가 된다. 전체 개수도 둘을 더한다.
+     * 보관된 메시지가 없는 방은 COUNT 한 번만 더 나간다.
+     */
+    private Page<ChatMessage> findMessagePage(Long chatRoomId, PageRequest pageRequest) {
+        Page<ChatMessage> hotPage = chatMessageRepository.findByChatRoomIdOrderByCreatedAtDesc(chatRoomId, pageRequest);
+        long archivedCount = archivedChatMessageRepository.countByChatRoomId(chatRoomId);
+        if (archivedCount == 0) {
+            return hotPage;
+        }
+        
+        long hotCount = hotPage.getTotalElements();
+        List<ChatMessage> content = new ArrayList<>(hotPage.getContent());
+        int remaining = pageRequest.getPageSize() - content.size();
+        if (remaining > 0) {
+            long archiveOffset = Math.max(0, pageRequest.getOffset() - hotCount);
+            for (ArchivedChatMessage archived : archivedChatMessageRepository
+                    .findByChatRoomIdWithOffset(chatRoomId, archiveOffset, remaining)) {
+                content.add(archived.toChatMessage());
+            }
+        }
+        return new PageImpl<>(content, pageRequest, hotCount + archivedCount);
+    }
+    
+    /**
+     * 커서 조회에서 chat_messages 가 limit 개보다 적으면 보관 테이블에서 이어 읽기
+     * 
+     * chat_messages 에서 읽은 것 중 가장 오래된 메시지(없으면 요청 기준점) 다음부터 읽는다.
+     * 
+     * @param hot chat_messages 에서 읽은 메시지 (최신순)
+     * @param limit 필요한 개수
+     * @param beforeCreatedAt 요청 기준 메시지 작성 시간 (첫 묶음이면 null)
+     * @param beforeMessageId 요청 기준 메시지 ID (첫 묶음이면 null)
+     * @return 메시지 목록 (최신순)
+     */
+    private List<ChatMessage> fillFromArchive(
+            Long chatRoomId,
+            List<ChatMessage> hot,
+            int limit,
+            LocalDateTime beforeCreatedAt,
+            Long beforeMessageId
+    ) {
+        if (hot.size() >= limit) {
+            return hot;
+        }
+        
+        PageRequest archiveLimit = PageRequest.of(0, limit - hot.size());
+        List<ArchivedChatMessage> archived;
+        if (!hot.isEmpty()) {
+            ChatMessage oldest = hot.get(hot.size() - 1);
+            archived = archivedChatMessageRepository.findOlderThan(
+                    chatRoomId, oldest.getCreatedAt(), oldest.getId(), archiveLimit);
+        } else if (beforeCreatedAt != null) {
+            archived = archivedChatMessageRepository.findOlderThan(
+                    chatRoomId, beforeCreatedAt, beforeMessageId, archiveLimit);
+        } else {
+            archived = archivedChatMessageRepository.findLatestByChatRoomId(chatRoomId, archiveLimit);
+        }
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        
+        List<ChatMessage> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(hot);
+        for (ArchivedChatMessage message : archived) {
+            merged.add(message.toChatMessage());
+        }
+        return merged;
+    }
+    
+    /**
+     * 최신순 메시지 목록의 가장 최근 메시지 ID (비어 있으면 null)
+     */
+    private Long newestMessageId(List<ChatMessage> newestFirst) {
+        return newestFirst.isEmpty() ? null : newestFirst.get(0).getId();
+    }
+    
+    /**
+     * 최신순 메시지를 화면에 보여줄 목록으로 변환
+     * 
+     * - 다른 사람이 보낸 차단된 메시지(개인정보)는 발신자 본인에게만 보인다
+     * - 내가 상대를 차단했다면 차단한 뒤에 상대가 보낸 메시지는 뺀다 (#877)
+     * - 오래된순으로 뒤집는다 (프론트엔드에서 위에서 아래로 읽기 위함)
+     * 
+     * @param newestFirst 최신순 메시지
+     * @param userId 현재 사용자 ID
+     * @param blockedAt 내가 상대를 차단한 시각 (차단하지 않았으면 null)
+     */
+    private List<ChatMessageListItemDto> toVisibleMessages(List<ChatMessage> newestFirst, Long userId, LocalDateTime blockedAt) {
+        List<ChatMessageListItemDto> messages = new ArrayList<>(newestFirst.size());
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            ChatMessage msg = newestFirst.get(i);
+            if (isVisibleTo(msg.getSenderId(), msg.getIsBlocked(), msg.getCreatedAt(), userId, blockedAt)) {
+                messages.add(ChatMessageListItemDto.fromEntity(msg, userId));
+            }
+        }
+        return messages;
+    }
+    
+    /**
+     * 메시지를 현재 사용자에게 보여줄지 (메시지 조회 · 검색 공통)
+     * 
+     * - 다른 사람이 보낸 차단된 메시지(개인정보)는 발신자 본인에게만 보인다
+     * - 내가 상대를 차단했다면 차단한 뒤에 상대가 보낸 메시지는 뺀다 (#877)
+     */
+    private static boolean isVisibleTo(
+            Long senderId,
+            Boolean isBlocked,
+            LocalDateTime createdAt,
+            Long userId,
+            LocalDateTime blockedAt
+    ) {
+        boolean fromOther = !senderId.equals(userId);
+        if (fromOther && Boolean.TRUE.equals(isBlocked)) {
+            return false;
+        }
+        return !(fromOther && blockedAt != null && createdAt.isAfter(blockedAt));
+    }
+    
     @Override
     @Transactional
     public ChatMessageDto leaveChatRoom(String email, Long chatRoomId) {
         // 1. 현재 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 2. 채팅방 참여 정보 조회
         ChatRoomUser chatRoomUser = chatRoomUserRepository
@@ -530,18 +816,20 @@ public class ChatServiceImpl implements ChatService {
         
         // 4. 채팅방 나가기 (소프트 삭제)
         chatRoomUser.leave();
+        chatRoomMembershipCache.evict(chatRoomId);
         
         // 5. 시스템 메시지 생성
-        String systemMessageContent = user.getNickname() + "님이 채팅방을 나가셨습니다.";
+        String systemMessageContent = user.nickname() + "님이 채팅방을 나가셨습니다.";
         ChatMessage systemMessage = ChatMessage.builder()
                 .chatRoomId(chatRoomId)
                 .senderId(userId)
-                .senderNickname(user.getNickname())
+                .senderNickname(user.nickname())
                 .messageType(MessageType.SYSTEM)
                 .content(systemMessageContent)
                 .build();
         
         ChatMessage savedSystemMessage = chatMessageRepository.save(systemMessage);
+        chatMessageSearchIndex.index(ChatMessageSearchDocument.from(savedSystemMessage));
         
         // 6. 상대방의 lastMessage 업데이트
         chatRoomUserRepository.findOpponentByChatRoomIdAndMyUserId(chatRoomId, userId)
@@ -561,81 +849,57 @@ public class ChatServiceImpl implements ChatService {
     @Override
     public ChatRoomListItemDto getChatRoomListItem(String email, Long chatRoomId) {
         // 1. 현재 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
-        // 2. 사용자의 채팅방 참여 정보 조회
-        ChatRoomUser myChatRoomUser = chatRoomUserRepository
-                .findByChatRoomIdAndUserId(chatRoomId, userId)
+        // 2. 목록 한 줄 조회 (채팅방 · 상대방 · 차단 여부까지 조인 한 번)
+        //    참여하지 않은 채팅방이거나 비활성 상태면 null 반환
+        ChatRoomListRow row = chatRoomUserRepository.findRoomListRow(userId, chatRoomId)
                 .orElse(null);
-        
-        // 참여하지 않은 채팅방이거나 비활성 상태면 null 반환
-        if (myChatRoomUser == null || !Boolean.TRUE.equals(myChatRoomUser.getIsActive())) {
+        if (row == null) {
             return null;
         }
         
-        // 3. 채팅방 정보 조회
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElse(null);
-        
-        if (chatRoom == null) {
-            return null;
-        }
-        
-        // 4. 상대방 정보 조회
-        ChatRoomUser opponent = chatRoomUserRepository
-                .findOpponentByChatRoomIdAndMyUserId(chatRoomId, userId)
-                .orElse(null);
-        
-        // 5. Redis에서 안 읽은 메시지 개수 조회
+        // 3. Redis에서 안 읽은 메시지 개수 조회
         int unreadCount = chatReadStatusService.getUnreadCount(chatRoomId, userId);
         
-        // 6. 상대방이 탈퇴한 경우 "알 수 없는 사용자"로 표시
-        Long opponentId = opponent != null ? opponent.getUserId() : null;
-        String opponentNickname = opponent != null ? opponent.getUserNickname() : "알 수 없는 사용자";
-        String opponentProfileImageUrl = opponent != null ? opponent.getUserProfileImageUrl() : null;
-        
-        // 7. 채팅방 목록 아이템 생성
-        return ChatRoomListItemDto.builder()
-                .chatRoomId(chatRoomId)
-                .productId(chatRoom.getProductId())
-                .productTitle(chatRoom.getProductTitle())
-                .productPrice(chatRoom.getProductPrice())
-                .productImageUrl(chatRoom.getProductImageUrl())
-                .opponentId(opponentId)
-                .opponentNickname(opponentNickname)
-                .opponentProfileImageUrl(opponentProfileImageUrl)
-                .lastMessage(myChatRoomUser.getLastMessageContent())
-                .lastMessageTime(myChatRoomUser.getLastMessageAt())
-                .hasUnread(unreadCount > 0)
-                .unreadCount(unreadCount)
-                .build();
+        return toListItem(row, unreadCount);
     }
     
     @Override
-    public List<String> getActiveParticipantEmails(Long chatRoomId) {
-        // 1. 채팅방의 모든 활성 참여자 조회
-        List<ChatRoomUser> participants = chatRoomUserRepository.findByChatRoomId(chatRoomId)
-                .stream()
-                .filter(participant -> Boolean.TRUE.equals(participant.getIsActive()))
-                .toList();
+    public List<ChatRoomListItemUpdate> getChatRoomListUpdates(Long chatRoomId) {
+        // 1. 활성 참여자 각각의 목록 한 줄 (조인 한 번)
+        List<ChatRoomListRow> rows = chatRoomUserRepository.findRoomListRowsByChatRoomId(chatRoomId);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
         
-        // 2. 참여자 ID 목록 추출
-        List<Long> userIds = participants.stream()
-                .map(ChatRoomUser::getUserId)
+        List<Long> userIds = rows.stream()
+                .map(ChatRoomListRow::userId)
                 .toList();
         
-        if (userIds.isEmpty()) {
-            return List.of();
+        // 2. 개인 큐는 이메일로 보내므로 이메일 조회 (탈퇴 등으로 없으면 보내지 않는다)
+        java.util.Map<Long, String> emails = new java.util.HashMap<>();
+        for (User participant : userRepository.findAllById(userIds)) {
+            if (participant.getEmail() != null && !participant.getEmail().isBlank()) {
+                emails.put(participant.getId(), participant.getEmail());
+            }
         }
         
-        // 3. 사용자 이메일 조회
-        return userRepository.findAllById(userIds).stream()
-                .map(User::getEmail)
-                .filter(email -> email != null && !email.isBlank())
-                .toList();
+        // 3. 참여자별 안 읽은 개수 (MGET 한 번)
+        java.util.Map<Long, Integer> unreadCounts = chatReadStatusService.getUnreadCountsByUser(chatRoomId, userIds);
+        
+        List<ChatRoomListItemUpdate> updates = new ArrayList<>(rows.size());
+        for (ChatRoomListRow row : rows) {
+            String email = emails.get(row.userId());
+            if (email != null) {
+                updates.add(new ChatRoomListItemUpdate(
+                        email, toListItem(row, unreadCounts.getOrDefault(row.userId(), 0))));
+            }
+        }
+        return updates;
     }
     
     /**
@@ -13,6 +13,9 @@ package org.cmarket.cmarket.domain.chat.app.service;
  * Redis Key 구조:
  * - 세션: chat:session:{userId}
  * - 현재 채팅방: chat:current:{userId}
+ * 
+ * 구현체는 이 서버에 WebSocket 으로 붙어 있는 사용자의 세션 · 현재 채팅방을 메모리에 두고,
+ * 그런 사용자는 Redis 를 보지 않고 답합니다. Redis 는 다른 서버에 붙은 사용자용입니다.
  */
 public interface ChatSessionService {
     
@@ -31,6 +34,7 @@ public interface ChatSessionService {
      * 
      * WebSocket 연결 해제 시 사용자 세션 정보를 Redis에서 제거합니다.
      * 현재 채팅방 정보도 함께 제거됩니다.
+     * 같은 사용자의 다른 세션이 이 서버에 남아 있으면 세션 정보는 남은 세션으로 바꾸고 현재 채팅방은 그대로 둡니다.
      * 
      * @param userId 사용자 ID
      * @param sessionId WebSocket 세션 ID
@@ -72,4 +76,14 @@ public interface ChatSessionService {
      * @param userId 사용자 ID
      */
     void clearUserCurrentChatRoom(Long userId);
+    
+    /**
+     * 현재 채팅방 초기화 (지정한 채팅방일 때만)
+     * 
+     * 채팅방 구독을 끊을 때 호출합니다. 그 사이 다른 채팅방으로 옮겨 갔으면 건드리지 않습니다.
+     * 
+     * @param userId 사용자 ID
+     * @param chatRoomId 빠져나온 채팅방 ID
+     */
+    void clearUserCurrentChatRoom(Long userId, Long chatRoomId);
 }
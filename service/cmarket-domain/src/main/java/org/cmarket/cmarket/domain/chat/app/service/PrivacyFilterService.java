@@ -1,5 +1,7 @@
 package org.cmarket.cmarket.domain.chat.app.service;
 
+import org.cmarket.cmarket.domain.chat.app.dto.PrivacyScanResult;
+
 /**
  * 개인정보 필터링 서비스 인터페이스
  * 
@@ -12,6 +14,17 @@ package org.cmarket.cmarket.domain.chat.app.service;
  */
 public interface PrivacyFilterService {
     
+    /**
+     * 개인정보 검사
+     * 
+     * 메시지를 한 번 훑어 찾은 개인정보 종류를 모두 돌려줍니다.
+     * 포함 여부와 차단 사유가 모두 필요하면 이 메서드 하나로 처리합니다.
+     * 
+     * @param content 검사할 메시지 내용
+     * @return 검사 결과 (null 이나 빈 문자열이면 개인정보 없음)
+     */
+    PrivacyScanResult scan(String content);
+    
     /**
      * 개인정보 포함 여부 확인
      * 
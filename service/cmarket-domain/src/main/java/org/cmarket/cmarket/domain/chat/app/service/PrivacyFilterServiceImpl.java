@@ -1,108 +1,227 @@
 package org.cmarket.cmarket.domain.chat.app.service;
 
+import org.cmarket.cmarket.domain.chat.app.dto.PrivacyScanResult;
+import org.cmarket.cmarket.domain.chat.app.dto.PrivacyScanResult.Category;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.EnumSet;
 
 /**
  * 개인정보 필터링 서비스 구현체
- * 
- * 정규표현식을 사용하여 개인정보를 탐지합니다.
+ *
+ * 메시지를 앞에서부터 한 번만 훑으면서 네 가지 개인정보를 함께 찾습니다.
+ *
+ * 예전에는 정규표현식 네 개를 따로 돌리고, 걸리면 차단 사유를 만들려고 네 개를 또 돌렸습니다.
+ * 계좌번호 패턴은 긴 숫자열에서 되추적이 많았습니다.
+ * 지금은 글자마다 그 자리에서 시작하는 패턴만 정해진 길이 안에서 확인하므로,
+ * 메시지 길이에 비례하는 시간 안에 끝납니다.
+ *
+ * 탐지 기준은 예전 정규표현식과 같습니다 (\d 는 ASCII 숫자):
+ * - 전화번호: 01[0-9][- ]?[0-9]{3,4}[- ]?[0-9]{4}
+ * - 이메일: [a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}
+ * - 주민등록번호: \d{6}[- ]?[1-4]\d{6}
+ * - 계좌번호: \d{2,6}[- ]?\d{2,6}[- ]?\d{2,6}[- ]?\d{0,6} 에 맞는 부분 중
+ *   숫자가 10~16자리이고 하이픈이나 공백이 들어간 것 (찾는 순서 · 범위도 Matcher.find 와 같음)
  */
 @Service
 public class PrivacyFilterServiceImpl implements PrivacyFilterService {
-    
-    // 전화번호 패턴 (010-1234-5678, 01012345678, 010 1234 5678 등)
-    private static final Pattern PHONE_PATTERN = Pattern.compile(
-            "01[0-9][- ]?[0-9]{3,4}[- ]?[0-9]{4}"
-    );
-    
-    // 이메일 패턴
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}"
-    );
-    
-    // 계좌번호 패턴 (10~16자리 숫자, 하이픈 포함 가능)
-    private static final Pattern ACCOUNT_PATTERN = Pattern.compile(
-            "\\d{2,6}[- ]?\\d{2,6}[- ]?\\d{2,6}[- ]?\\d{0,6}"
-    );
-    
-    // 주민등록번호 패턴 (000000-0000000)
-    private static final Pattern SSN_PATTERN = Pattern.compile(
-            "\\d{6}[- ]?[1-4]\\d{6}"
-    );
-    
+
+    private static final int CATEGORY_COUNT = Category.values().length;
+
     @Override
     public boolean containsPrivateInfo(String content) {
-        if (content == null || content.isBlank()) {
-            return false;
-        }
-        
-        return PHONE_PATTERN.matcher(content).find()
-                || EMAIL_PATTERN.matcher(content).find()
-                || SSN_PATTERN.matcher(content).find()
-                || isLikelyAccountNumber(content);
+        return scan(content).containsPrivateInfo();
     }
-    
+
     @Override
     public String getBlockReason(String content) {
+        return scan(content).blockReason();
+    }
+
+    @Override
+    public PrivacyScanResult scan(String content) {
         if (content == null || content.isBlank()) {
-            return null;
+            return PrivacyScanResult.clean();
         }
-        
-        List<String> reasons = new ArrayList<>();
-        
-        if (PHONE_PATTERN.matcher(content).find()) {
-            reasons.add("전화번호");
+
+        EnumSet<Category> found = EnumSet.noneOf(Category.class);
+        int length = content.length();
+        // 계좌번호는 정규식 find() 처럼 앞에서 맞은 부분이 끝난 뒤부터 다시 찾는다
+        int accountSearchFrom = 0;
+
+        for (int i = 0; i < length && found.size() < CATEGORY_COUNT; i++) {
+            char c = content.charAt(i);
+
+            if (isDigit(c)) {
+                if (!found.contains(Category.PHONE) && matchesPhoneAt(content, i)) {
+                    found.add(Category.PHONE);
+                }
+                if (!found.contains(Category.SSN) && matchesSsnAt(content, i)) {
+                    found.add(Category.SSN);
+                }
+                if (!found.contains(Category.ACCOUNT) && i >= accountSearchFrom) {
+                    int end = matchAccountAt(content, i);
+                    if (end >= 0) {
+                        if (isLikelyAccountNumber(content, i, end)) {
+                            found.add(Category.ACCOUNT);
+                        }
+                        accountSearchFrom = end;
+                    }
+                }
+            } else if (c == '@') {
+                if (!found.contains(Category.EMAIL) && matchesEmailAt(content, i)) {
+                    found.add(Category.EMAIL);
+                }
+            }
         }
-        
-        if (EMAIL_PATTERN.matcher(content).find()) {
-            reasons.add("이메일 주소");
+
+        return found.isEmpty() ? PrivacyScanResult.clean() : new PrivacyScanResult(found);
+    }
+
+    /**
+     * 전화번호: 01X, (구분자), 3~4자리, (구분자), 4자리
+     *
+     * 구분자가 있으면 항상 건너뛴다. 건너뛰지 않으면 다음 자리가 숫자여야 해서 맞을 수 없다.
+     */
+    private boolean matchesPhoneAt(String s, int i) {
+        if (s.charAt(i) != '0' || !isCharAt(s, i + 1, '1') || !isDigitAt(s, i + 2)) {
+            return false;
         }
-        
-        if (SSN_PATTERN.matcher(content).find()) {
-            reasons.add("주민등록번호");
+        int middle = skipSeparator(s, i + 3);
+        for (int middleLength = 3; middleLength <= 4; middleLength++) {
+            if (countDigits(s, middle, middleLength) == middleLength
+                    && countDigits(s, skipSeparator(s, middle + middleLength), 4) == 4) {
+                return true;
+            }
         }
-        
-        if (isLikelyAccountNumber(content)) {
-            reasons.add("계좌번호");
+        return false;
+    }
+
+    /**
+     * 주민등록번호: 6자리, (구분자), 1~4 중 하나, 6자리
+     */
+    private boolean matchesSsnAt(String s, int i) {
+        if (countDigits(s, i, 6) != 6) {
+            return false;
         }
-        
-        if (reasons.isEmpty()) {
-            return null;
+        int back = skipSeparator(s, i + 6);
+        if (back >= s.length() || s.charAt(back) < '1' || s.charAt(back) > '4') {
+            return false;
         }
-        
-        return String.join(", ", reasons) + " 포함";
+        return countDigits(s, back + 1, 6) == 6;
     }
-    
+
+    /**
+     * 이메일: '@' 바로 앞에 아이디 글자가 있고,
+     * 뒤쪽 도메인 글자 사이에 '.' + 영문 두 글자가 있으면 이메일로 본다.
+     *
+     * 도메인 글자에는 '@' 가 없으므로 '@' 마다 훑는 범위는 서로 겹치지 않는다.
+     */
+    private boolean matchesEmailAt(String s, int at) {
+        if (at == 0 || !isLocalPartChar(s.charAt(at - 1))) {
+            return false;
+        }
+        // '.' 앞에 도메인 글자가 한 개 이상 있어야 한다
+        for (int j = at + 1; j < s.length() && isDomainChar(s.charAt(j)); j++) {
+            if (s.charAt(j) == '.' && j > at + 1 && isAsciiLetterAt(s, j + 1) && isAsciiLetterAt(s, j + 2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 계좌번호 정규식이 i 에서 맞는 부분의 끝 위치
+     *
+     * 정규식과 같은 우선순위로 찾는다: 숫자 묶음은 긴 것부터, 구분자는 있으면 먹는다.
+     * 한 자리에서 시도하는 경우는 묶음 길이 조합(최대 5 × 5 × 5)으로 정해져 있다.
+     *
+     * @return 끝 위치 (맞지 않으면 -1)
+     */
+    private int matchAccountAt(String s, int i) {
+        return matchAccountGroup(s, i, 0);
+    }
+
+    private int matchAccountGroup(String s, int pos, int group) {
+        if (group == 3) {
+            // 마지막 [- ]?\d{0,6} 은 항상 맞는다
+            int start = skipSeparator(s, pos);
+            return start + countDigits(s, start, 6);
+        }
+        int start = group == 0 ? pos : skipSeparator(s, pos);
+        for (int length = countDigits(s, start, 6); length >= 2; length--) {
+            int end = matchAccountGroup(s, start + length, group + 1);
+            if (end >= 0) {
+                return end;
+            }
+        }
+        return -1;
+    }
+
     /**
      * 계좌번호 가능성 판단
-     * 
+     *
      * 단순 숫자 나열과 구분하기 위해 추가 조건 검사:
      * - 10~16자리 숫자 (하이픈 제외)
      * - 하이픈이나 공백으로 구분된 형태
      */
-    private boolean isLikelyAccountNumber(String content) {
-        if (!ACCOUNT_PATTERN.matcher(content).find()) {
-            return false;
-        }
-        
-        // 계좌번호로 의심되는 문자열 추출
-        java.util.regex.Matcher matcher = ACCOUNT_PATTERN.matcher(content);
-        while (matcher.find()) {
-            String matched = matcher.group();
-            String digitsOnly = matched.replaceAll("[- ]", "");
-            
-            // 10~16자리 숫자이고, 하이픈이나 공백이 포함된 경우 계좌번호로 판단
-            if (digitsOnly.length() >= 10 && digitsOnly.length() <= 16) {
-                if (matched.contains("-") || matched.contains(" ")) {
-                    return true;
-                }
+    private boolean isLikelyAccountNumber(String s, int start, int end) {
+        int digits = 0;
+        boolean separated = false;
+        for (int i = start; i < end; i++) {
+            if (isSeparator(s.charAt(i))) {
+                separated = true;
+            } else {
+                digits++;
             }
         }
-        
-        return false;
+        return separated && digits >= 10 && digits <= 16;
+    }
+
+    /**
+     * pos 부터 연속된 숫자 개수 (최대 max 개)
+     */
+    private static int countDigits(String s, int pos, int max) {
+        int count = 0;
+        while (count < max && isDigitAt(s, pos + count)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static int skipSeparator(String s, int pos) {
+        return pos < s.length() && isSeparator(s.charAt(pos)) ? pos + 1 : pos;
+    }
+
+    private static boolean isCharAt(String s, int pos, char expected) {
+        return pos < s.length() && s.charAt(pos) == expected;
+    }
+
+    private static boolean isDigitAt(String s, int pos) {
+        return pos < s.length() && isDigit(s.charAt(pos));
+    }
+
+    private static boolean isAsciiLetterAt(String s, int pos) {
+        return pos < s.length() && isAsciiLetter(s.charAt(pos));
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == ' ';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '-';
     }
 }
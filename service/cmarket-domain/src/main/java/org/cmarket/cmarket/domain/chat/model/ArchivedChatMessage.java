@@ -0,0 +1,87 @@
+package org.cmarket.cmarket.domain.chat.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 채팅 메시지 엔티티
+ *
+ * 오래 대화가 없는 채팅방의 오래된 메시지를 chat_messages 에서 옮겨 둔 것입니다.
+ * - ID 는 원래 메시지 ID 를 그대로 쓴다 (커서 · 읽음 기준점이 그대로 통한다)
+ * - is_read 는 없다. 보관된 메시지는 모두 읽은 것으로 본다.
+ * - 인덱스는 방 안에서 이어 읽는 (chat_room_id, created_at, id) 하나만 둔다
+ * - 옮기는 것은 ChatMessageRepository.findArchivableIds + ArchivedChatMessageRepository.copyFromHot 로만 한다.
+ *   방마다 가장 오래된 메시지부터 옮기므로, 보관된 메시지는 항상 그 방의 남은 메시지보다 앞선다.
+ */
+@Entity
+@Table(
+    name = "chat_messages_archive",
+    indexes = {
+        @Index(name = "idx_chat_message_archive_room_created_id", columnList = "chat_room_id, created_at, id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedChatMessage {
+
+    @Id
+    private Long id;  // 원래 chat_messages.id
+
+    @Column(nullable = false, name = "chat_room_id")
+    private Long chatRoomId;
+
+    @Column(nullable = false, name = "sender_id")
+    private Long senderId;
+
+    @Column(nullable = false, name = "sender_nickname", length = 10)
+    private String senderNickname;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "message_type", length = 20)
+    private MessageType messageType;
+
+    @Column(nullable = false, length = 1000)
+    private String content;
+
+    @Column(name = "image_url", length = 500)
+    private String imageUrl;
+
+    @Column(nullable = false, name = "is_blocked")
+    private Boolean isBlocked;
+
+    @Column(name = "block_reason", length = 200)
+    private String blockReason;
+
+    @Column(nullable = false, updatable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 조회용 ChatMessage 로 변환
+     *
+     * 메시지 조회 로직을 보관 여부와 상관없이 같게 쓰기 위한 읽기 전용 사본입니다. 저장하지 않습니다.
+     */
+    public ChatMessage toChatMessage() {
+        return new ChatMessage(
+                id,
+                chatRoomId,
+                senderId,
+                senderNickname,
+                messageType,
+                content,
+                imageUrl,
+                isBlocked,
+                blockReason,
+                createdAt
+        );
+    }
+}
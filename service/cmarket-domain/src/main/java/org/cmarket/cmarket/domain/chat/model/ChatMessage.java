@@ -23,6 +23,7 @@ import java.time.LocalDateTime;
  * - 발신자 정보는 전송 시점의 스냅샷으로 저장
  * - 개인정보 포함 메시지는 차단 처리 (isBlocked = true)
  * - 읽음 상태는 RDB에 영구 저장 (Redis와 동기화)
+ * - 대화가 끊긴 방의 오래된 메시지는 chat_messages_archive(ArchivedChatMessage)로 옮겨진다
  */
 @Entity
 @Table(
@@ -31,7 +32,9 @@ import java.time.LocalDateTime;
         @Index(name = "idx_chat_message_chat_room_id", columnList = "chat_room_id"),
         @Index(name = "idx_chat_message_sender_id", columnList = "sender_id"),
         @Index(name = "idx_chat_message_created_at", columnList = "created_at"),
-        @Index(name = "idx_chat_message_is_read", columnList = "is_read")
+        @Index(name = "idx_chat_message_is_read", columnList = "is_read"),
+        // 메시지 커서 조회 (방 안에서 created_at, id 순으로 이어 읽기)
+        @Index(name = "idx_chat_message_room_created_id", columnList = "chat_room_id, created_at, id")
     }
 )
 @Getter
@@ -96,6 +99,37 @@ public class ChatMessage {
         this.createdAt = LocalDateTime.now();
     }
     
+    /**
+     * 보관된 메시지 복원 (ArchivedChatMessage.toChatMessage 전용)
+     * 
+     * 조회 결과를 만드는 데만 쓰는 사본이라 영속 상태가 아닙니다. 저장하지 않습니다.
+     * 보관된 메시지는 읽은 것으로 봅니다.
+     */
+    ChatMessage(
+            Long id,
+            Long chatRoomId,
+            Long senderId,
+            String senderNickname,
+            MessageType messageType,
+            String content,
+            String imageUrl,
+            Boolean isBlocked,
+            String blockReason,
+            LocalDateTime createdAt
+    ) {
+        this.id = id;
+        this.chatRoomId = chatRoomId;
+        this.senderId = senderId;
+        this.senderNickname = senderNickname;
+        this.messageType = messageType;
+        this.content = content;
+        this.imageUrl = imageUrl;
+        this.isRead = true;
+        this.isBlocked = isBlocked;
+        this.blockReason = blockReason;
+        this.createdAt = createdAt;
+    }
+    
     /**
      * 읽음 처리
      * 
@@ -23,6 +23,8 @@ import java.time.LocalDateTime;
  * - 채팅방 나가기는 소프트 삭제 (isActive = false)
  * - 나간 사용자의 채팅방 목록에서는 제외됨
  * - 최근 메시지 정보 비정규화 저장 (목록 조회 성능 최적화)
+ * - 목록 정렬 · 커서는 lastActivityAt(최근 메시지 시간, 없으면 참여 시간) + chatRoomId 기준
+ * - 읽음 상태는 lastReadMessageId(읽음 기준점) 하나로 기록
  */
 @Entity
 @Table(
@@ -36,7 +38,9 @@ import java.time.LocalDateTime;
     indexes = {
         @Index(name = "idx_chat_room_user_chat_room_id", columnList = "chat_room_id"),
         @Index(name = "idx_chat_room_user_user_id", columnList = "user_id"),
-        @Index(name = "idx_chat_room_user_last_message_at", columnList = "last_message_at")
+        @Index(name = "idx_chat_room_user_last_message_at", columnList = "last_message_at"),
+        // 채팅방 목록 keyset 조회용: WHERE user_id = ? AND is_active = true ORDER BY last_activity_at DESC, chat_room_id DESC
+        @Index(name = "idx_chat_room_user_room_list", columnList = "user_id, is_active, last_activity_at, chat_room_id")
     }
 )
 @Getter
@@ -72,6 +76,17 @@ public class ChatRoomUser {
     @Column(name = "last_message_at")
     private LocalDateTime lastMessageAt;  // 최근 메시지 시간
     
+    // 목록 정렬 키. COALESCE(lastMessageAt, createdAt) 와 같은 값을 미리 담아 두어
+    // 정렬 · 커서 조건이 함수 없이 인덱스를 그대로 탈 수 있게 한다.
+    // (이 열이 생기기 전의 행은 비어 있을 수 있어 nullable 로 둔다 → 시작 시 채움)
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+    
+    // 읽음 기준점. 이 ID 이하의 메시지는 모두 읽은 것으로 본다.
+    // 채팅방 진입 때마다 쓰지 않고 백그라운드에서 모아 반영하므로 몇 초 늦을 수 있다.
+    @Column(name = "last_read_message_id")
+    private Long lastReadMessageId;
+    
     @Column(nullable = false, updatable = false, name = "created_at")
     private LocalDateTime createdAt;
     
@@ -92,6 +107,7 @@ public class ChatRoomUser {
         this.isActive = true;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        this.lastActivityAt = this.createdAt;
     }
     
     /**
@@ -133,15 +149,28 @@ public class ChatRoomUser {
      * @param isBlocked 차단 여부
      */
     public void updateLastMessage(String content, LocalDateTime messageTime, boolean isBlocked) {
-        if (isBlocked) {
-            this.lastMessageContent = "[차단된 메시지]";
-        } else {
-            // 100자 초과 시 절삭
-            this.lastMessageContent = content != null && content.length() > 100 
-                    ? content.substring(0, 100) 
-                    : content;
-        }
+        this.lastMessageContent = previewOf(content, isBlocked);
         this.lastMessageAt = messageTime;
+        this.lastActivityAt = messageTime;
         this.updatedAt = LocalDateTime.now();
     }
+    
+    /**
+     * 목록에 보일 최근 메시지 미리보기
+     * 
+     * 엔티티를 읽지 않고 UPDATE 로 바로 갱신할 때도 같은 규칙을 쓰도록 따로 둡니다.
+     * 
+     * @param content 메시지 내용 (100자 초과 시 절삭)
+     * @param isBlocked 차단 여부 (차단이면 "[차단된 메시지]")
+     * @return 미리보기 문자열
+     */
+    public static String previewOf(String content, boolean isBlocked) {
+        if (isBlocked) {
+            return "[차단된 메시지]";
+        }
+        // 100자 초과 시 절삭
+        return content != null && content.length() > 100 
+                ? content.substring(0, 100) 
+                : content;
+    }
 }
@@ -0,0 +1,126 @@
+package org.cmarket.cmarket.domain.chat.repository;
+
+import org.cmarket.cmarket.domain.chat.model.ArchivedChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ArchivedChatMessage 엔티티 레포지토리 인터페이스
+ * 
+ * 주요 기능:
+ * - chat_messages 에서 보관 테이블로 복사 (보관 작업용)
+ * - 보관된 메시지 이어 읽기 (메시지 조회가 chat_messages 끝에 닿았을 때)
+ * - 방 안 검색 색인용 조회
+ * 
+ * 조회 쿼리는 ChatMessageRepository 의 같은 이름 쿼리와 정렬 · 조건이 같다.
+ */
+public interface ArchivedChatMessageRepository extends JpaRepository<ArchivedChatMessage, Long> {
+    
+    /**
+     * chat_messages 의 메시지를 보관 테이블로 복사
+     * 
+     * 원래 행을 지우는 것은 같은 트랜잭션에서 ChatMessageRepository.deleteAllByIdIn 으로 한다.
+     * 
+     * @param ids 메시지 ID 목록
+     * @return 복사된 개수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO chat_messages_archive " +
+                   "(id, chat_room_id, sender_id, sender_nickname, message_type, content, image_url, " +
+                   "is_blocked, block_reason, created_at) " +
+                   "SELECT id, chat_room_id, sender_id, sender_nickname, message_type, content, image_url, " +
+                   "is_blocked, block_reason, created_at " +
+                   "FROM chat_messages WHERE id IN (:ids)",
+           nativeQuery = true)
+    int copyFromHot(@Param("ids") List<Long> ids);
+    
+    /**
+     * 채팅방의 보관된 메시지 중 최근 것 조회
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param pageable 개수 제한 (PageRequest.of(0, n))
+     * @return 메시지 목록 (최신순)
+     */
+    @Query("SELECT m FROM ArchivedChatMessage m " +
+           "WHERE m.chatRoomId = :chatRoomId " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ArchivedChatMessage> findLatestByChatRoomId(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+    
+    /**
+     * 기준 메시지보다 이전에 보관된 메시지 조회 (keyset)
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param createdAt 기준 메시지 작성 시간
+     * @param id 기준 메시지 ID
+     * @param pageable 개수 제한 (PageRequest.of(0, n))
+     * @return 메시지 목록 (최신순)
+     */
+    @Query("SELECT m FROM ArchivedChatMessage m " +
+           "WHERE m.chatRoomId = :chatRoomId " +
+           "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ArchivedChatMessage> findOlderThan(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+    
+    /**
+     * 채팅방의 보관된 메시지를 건너뛸 개수만큼 건너뛰고 조회 (페이지 번호 조회용)
+     * 
+     * chat_messages 쪽 개수를 뺀 나머지 위치부터 읽으므로 페이지 경계와 맞지 않는다.
+     * 그래서 Pageable 대신 offset 을 직접 받는다.
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param offset 건너뛸 개수
+     * @param limit 최대 개수
+     * @return 메시지 목록 (최신순)
+     */
+    @Query(value = "SELECT * FROM chat_messages_archive " +
+                   "WHERE chat_room_id = :chatRoomId " +
+                   "ORDER BY created_at DESC, id DESC " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<ArchivedChatMessage> findByChatRoomIdWithOffset(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("offset") long offset,
+            @Param("limit") int limit
+    );
+    
+    /**
+     * 보관된 메시지 작성 시간 조회 (커서 기준점)
+     * 
+     * @param id 메시지 ID
+     * @param chatRoomId 채팅방 ID
+     * @return 작성 시간
+     */
+    @Query("SELECT m.createdAt FROM ArchivedChatMessage m WHERE m.id = :id AND m.chatRoomId = :chatRoomId")
+    Optional<LocalDateTime> findCreatedAtByIdAndChatRoomId(@Param("id") Long id, @Param("chatRoomId") Long chatRoomId);
+    
+    /**
+     * 채팅방의 보관된 메시지 검색 색인 문서 전체 조회 (방 색인을 처음 만들 때)
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @return 색인 문서 목록
+     */
+    @Query("SELECT new org.cmarket.cmarket.domain.chat.repository.ChatMessageSearchDocument(" +
+           "m.id, m.chatRoomId, m.senderId, m.isBlocked, m.content, m.createdAt) " +
+           "FROM ArchivedChatMessage m WHERE m.chatRoomId = :chatRoomId")
+    List<ChatMessageSearchDocument> findSearchDocuments(@Param("chatRoomId") Long chatRoomId);
+    
+    /**
+     * 채팅방의 보관된 메시지 개수
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @return 개수
+     */
+    long countByChatRoomId(Long chatRoomId);
+}
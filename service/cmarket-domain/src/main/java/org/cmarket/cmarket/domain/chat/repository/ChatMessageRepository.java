@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,9 +18,11 @@ import java.util.Optional;
  * Spring Data JPA가 자동으로 구현체를 생성합니다.
  * 
  * 주요 기능:
- * - 채팅방의 메시지 목록 조회 (페이지네이션)
+ * - 채팅방의 메시지 목록 조회 (페이지네이션, 커서)
  * - 채팅방의 최근 메시지 조회
- * - 읽음 상태 일괄 업데이트 (Redis → RDB Sync용)
+ * - 읽음 상태 일괄 업데이트 (읽음 기준점 백그라운드 반영용)
+ * - 보관 대상 조회 · 삭제 (chat_messages_archive 로 옮기기)
+ * - 방 안 검색 색인용 조회
  */
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     
@@ -32,6 +35,54 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
      */
     Page<ChatMessage> findByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId, Pageable pageable);
     
+    /**
+     * 채팅방의 최근 메시지 조회 (커서 조회 첫 묶음)
+     * 
+     * List 로 받으므로 COUNT 쿼리가 나가지 않는다. pageable 은 개수 제한(LIMIT)에만 쓴다.
+     * idx_chat_message_room_created_id (chat_room_id, created_at, id) 를 거꾸로 읽는다.
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param pageable 개수 제한 (PageRequest.of(0, n))
+     * @return 메시지 목록 (최신순)
+     */
+    @Query("SELECT m FROM ChatMessage m " +
+           "WHERE m.chatRoomId = :chatRoomId " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessage> findLatestByChatRoomId(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+    
+    /**
+     * 기준 메시지보다 이전 메시지 조회 (keyset)
+     * 
+     * (created_at, id) 가 기준보다 작은 것만 읽으므로 OFFSET 처럼 앞 묶음을 다시 세지 않는다.
+     * 방이 아무리 길어도 한 묶음 비용이 같다.
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param createdAt 기준 메시지 작성 시간
+     * @param id 기준 메시지 ID
+     * @param pageable 개수 제한 (PageRequest.of(0, n))
+     * @return 메시지 목록 (최신순)
+     */
+    @Query("SELECT m FROM ChatMessage m " +
+           "WHERE m.chatRoomId = :chatRoomId " +
+           "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessage> findOlderThan(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+    
+    /**
+     * 메시지 작성 시간 조회 (커서 기준점)
+     * 
+     * @param id 메시지 ID
+     * @param chatRoomId 채팅방 ID (다른 방 메시지면 빈 값)
+     * @return 작성 시간
+     */
+    @Query("SELECT m.createdAt FROM ChatMessage m WHERE m.id = :id AND m.chatRoomId = :chatRoomId")
+    Optional<LocalDateTime> findCreatedAtByIdAndChatRoomId(@Param("id") Long id, @Param("chatRoomId") Long chatRoomId);
+    
     /**
      * 채팅방의 최근 메시지 조회
      * 
@@ -41,28 +92,109 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     Optional<ChatMessage> findTopByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId);
     
     /**
-     * 안 읽은 메시지 일괄 읽음 처리 (Redis → RDB Sync용)
+     * 읽음 기준점까지 안 읽은 메시지 읽음 처리 (백그라운드 반영용)
      * 
-     * 특정 시점 이전의 안 읽은 메시지 중 본인이 받은 메시지를 일괄 읽음 처리합니다.
-     * 채팅방 진입 시 Redis 상태를 RDB에 동기화할 때 사용합니다.
+     * 본인이 받은 메시지 중 messageId 이하이면서 아직 안 읽은 것을 최대 limit 개 읽음 처리합니다.
+     * 오래 안 읽은 방도 한 번에 잠그는 행 수가 limit 을 넘지 않도록 나눠서 부릅니다 (반환값 < limit 이면 끝).
      * 
      * @param chatRoomId 채팅방 ID
-     * @param userId 현재 사용자 ID (본인이 보낸 메시지 제외를 위해)
-     * @param beforeTime 기준 시점 (이 시점 이전의 메시지 대상)
+     * @param userId 읽은 사용자 ID (본인이 보낸 메시지 제외를 위해)
+     * @param messageId 읽음 기준점 (이 ID 이하가 대상)
+     * @param limit 한 번에 바꿀 최대 개수
      * @return 업데이트된 메시지 개수
      */
     @Modifying
-    @Query("UPDATE ChatMessage m SET m.isRead = true " +
-           "WHERE m.chatRoomId = :chatRoomId " +
-           "AND m.senderId != :userId " +
-           "AND m.isRead = false " +
-           "AND m.createdAt <= :beforeTime")
-    int markMessagesAsRead(
+    @Query(value = "UPDATE chat_messages SET is_read = true " +
+                   "WHERE chat_room_id = :chatRoomId " +
+                   "AND sender_id <> :userId " +
+                   "AND is_read = false " +
+                   "AND id <= :messageId " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    int markMessagesAsReadUpTo(
             @Param("chatRoomId") Long chatRoomId,
             @Param("userId") Long userId,
-            @Param("beforeTime") LocalDateTime beforeTime
+            @Param("messageId") Long messageId,
+            @Param("limit") int limit
     );
     
+    /**
+     * 채팅방의 검색 색인 문서 전체 조회 (방 색인을 처음 만들 때)
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @return 색인 문서 목록
+     */
+    @Query("SELECT new org.cmarket.cmarket.domain.chat.repository.ChatMessageSearchDocument(" +
+           "m.id, m.chatRoomId, m.senderId, m.isBlocked, m.content, m.createdAt) " +
+           "FROM ChatMessage m WHERE m.chatRoomId = :chatRoomId")
+    List<ChatMessageSearchDocument> findSearchDocuments(@Param("chatRoomId") Long chatRoomId);
+    
+    /**
+     * 채팅방의 검색 색인 문서 중 since 이후 것 조회 (다른 서버에서 저장된 메시지 따라잡기)
+     * 
+     * idx_chat_message_room_created_id 범위 조회라 새 메시지가 없으면 바로 끝난다.
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param since 이 시각 이후 (포함)
+     * @return 색인 문서 목록
+     */
+    @Query("SELECT new org.cmarket.cmarket.domain.chat.repository.ChatMessageSearchDocument(" +
+           "m.id, m.chatRoomId, m.senderId, m.isBlocked, m.content, m.createdAt) " +
+           "FROM ChatMessage m WHERE m.chatRoomId = :chatRoomId AND m.createdAt >= :since")
+    List<ChatMessageSearchDocument> findSearchDocumentsSince(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("since") LocalDateTime since
+    );
+    
+    /**
+     * 보관할 메시지 ID 조회 (메시지 보관 2단계)
+     * 
+     * ChatRoomUserRepository.findArchivableChatRoomIds 로 고른 방 안에서만
+     * messageCutoff 보다 오래된 메시지를 방마다 오래된 순서로 최대 limit 개 고릅니다.
+     * (chat_room_id, created_at, id) 인덱스 순서 그대로 읽으므로 방마다 항상 가장 오래된 메시지부터 빠지고,
+     * 읽는 행도 고른 방의 것뿐입니다.
+     * 방을 고른 뒤 활동이 생긴 방은 여기서 다시 걸러 냅니다.
+     * 
+     * 같은 트랜잭션에서 옮기고 지울 때까지 고른 행을 잠급니다 (FOR UPDATE).
+     * 잠기는 행은 대화가 끊긴 방의 오래된 메시지뿐이라, 활발한 방의 읽음 처리(markMessagesAsReadUpTo)와
+     * 부딪히지 않습니다. SKIP LOCKED 는 쓰지 않습니다: 잠긴 행을 건너뛰면 그보다 새 메시지가 먼저 옮겨져
+     * 「보관된 메시지는 남은 메시지보다 오래됐다」는 조회 전제가 깨집니다.
+     * 
+     * @param chatRoomIds 대상 채팅방 ID 목록
+     * @param messageCutoff 이보다 오래된 메시지만
+     * @param roomIdleCutoff 이 시각 이후 활동이 없는 방만
+     * @param limit 최대 개수
+     * @return 메시지 ID 목록 (방 순, 방 안에서는 오래된 순)
+     */
+    @Query(value = "SELECT m.id FROM chat_messages m " +
+                   "WHERE m.chat_room_id IN (:chatRoomIds) " +
+                   "AND m.created_at < :messageCutoff " +
+                   "AND NOT EXISTS (" +
+                   "    SELECT 1 FROM chat_room_users u " +
+                   "    WHERE u.chat_room_id = m.chat_room_id " +
+                   "    AND (u.last_activity_at IS NULL OR u.last_activity_at >= :roomIdleCutoff)" +
+                   ") " +
+                   "ORDER BY m.chat_room_id, m.created_at, m.id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE",
+           nativeQuery = true)
+    List<Long> findArchivableIds(
+            @Param("chatRoomIds") List<Long> chatRoomIds,
+            @Param("messageCutoff") LocalDateTime messageCutoff,
+            @Param("roomIdleCutoff") LocalDateTime roomIdleCutoff,
+            @Param("limit") int limit
+    );
+    
+    /**
+     * 메시지 삭제 (보관 테이블로 옮긴 뒤)
+     * 
+     * @param ids 메시지 ID 목록
+     * @return 삭제된 개수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM chat_messages WHERE id IN (:ids)", nativeQuery = true)
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+    
     /**
      * 안 읽은 메시지 개수 조회 (RDB 기준)
      * 
@@ -0,0 +1,43 @@
+package org.cmarket.cmarket.domain.chat.repository;
+
+import org.cmarket.cmarket.domain.chat.model.ChatMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 검색 색인용 프로젝션
+ *
+ * 방 안 검색 색인(ChatMessageSearchIndex)을 만들 때 필요한 열만 담는다.
+ * 보여줄지 말지(차단된 메시지, 차단 이후 메시지)를 검색 결과에서 다시 가려야 하므로
+ * 발신자 · 차단 여부 · 작성 시간도 같이 둔다.
+ *
+ * @param id 메시지 ID
+ * @param chatRoomId 채팅방 ID
+ * @param senderId 발신자 ID
+ * @param isBlocked 개인정보 차단 여부
+ * @param content 메시지 내용
+ * @param createdAt 작성 시간
+ */
+public record ChatMessageSearchDocument(
+        Long id,
+        Long chatRoomId,
+        Long senderId,
+        Boolean isBlocked,
+        String content,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * 저장된 메시지에서 색인 문서 생성
+     */
+    public static ChatMessageSearchDocument from(ChatMessage message) {
+        return new ChatMessageSearchDocument(
+                message.getId(),
+                message.getChatRoomId(),
+                message.getSenderId(),
+                message.getIsBlocked(),
+                message.getContent(),
+                message.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package org.cmarket.cmarket.domain.chat.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 채팅방 목록 커서(keyset) 위치
+ *
+ * 「마지막으로 받은 채팅방의 정렬 키(lastActivityAt)와 chatRoomId」를 담는다.
+ * 다음 페이지는 (lastActivityAt, chatRoomId) 가 이 값보다 작은 것만 읽으므로
+ * OFFSET 처럼 앞 페이지를 다시 세지 않는다.
+ *
+ * 바깥에는 "lastActivityAt,chatRoomId" 를 Base64(URL-safe)로 감싼 문자열로 내보낸다.
+ */
+public record ChatRoomListCursor(
+        LocalDateTime lastActivityAt,
+        Long chatRoomId
+) {
+
+    /**
+     * 페이지의 마지막 줄로 커서 생성
+     */
+    public static ChatRoomListCursor of(ChatRoomListRow row) {
+        return new ChatRoomListCursor(row.lastActivityAt(), row.chatRoomId());
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor encode() 로 만든 문자열
+     * @return 커서
+     * @throws IllegalArgumentException 형식이 맞지 않을 때
+     */
+    public static ChatRoomListCursor decode(String cursor) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = decoded.lastIndexOf(',');
+        if (separator <= 0 || separator == decoded.length() - 1) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + cursor);
+        }
+        LocalDateTime lastActivityAt = LocalDateTime.parse(decoded.substring(0, separator));
+        Long chatRoomId = Long.parseLong(decoded.substring(separator + 1));
+        return new ChatRoomListCursor(lastActivityAt, chatRoomId);
+    }
+
+    /**
+     * 커서 문자열 생성
+     */
+    public String encode() {
+        String raw = lastActivityAt + "," + chatRoomId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,40 @@
+package org.cmarket.cmarket.domain.chat.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 한 줄 프로젝션
+ *
+ * 내 참여 정보 · 채팅방 스냅샷 · 상대방 참여 정보 · 차단 여부를 한 번의 조인으로 읽은 결과다.
+ * 안 읽은 메시지 개수는 Redis 에 있으므로 여기에는 없다.
+ *
+ * @param userId 목록 주인(나) ID
+ * @param chatRoomId 채팅방 ID
+ * @param productId 상품 ID
+ * @param productTitle 상품 제목 (스냅샷)
+ * @param productPrice 상품 가격 (스냅샷)
+ * @param productImageUrl 상품 대표 이미지 (스냅샷)
+ * @param opponentId 상대방 ID (상대방 참여 정보가 없으면 null)
+ * @param opponentNickname 상대방 닉네임 (스냅샷, 없으면 null)
+ * @param opponentProfileImageUrl 상대방 프로필 이미지 (스냅샷, 없으면 null)
+ * @param lastMessage 최근 메시지 미리보기
+ * @param lastMessageTime 최근 메시지 시간
+ * @param lastActivityAt 목록 정렬 키 (다음 페이지 커서에 쓴다)
+ * @param opponentBlocked 내가 상대방을 차단했는지
+ */
+public record ChatRoomListRow(
+        Long userId,
+        Long chatRoomId,
+        Long productId,
+        String productTitle,
+        Long productPrice,
+        String productImageUrl,
+        Long opponentId,
+        String opponentNickname,
+        String opponentProfileImageUrl,
+        String lastMessage,
+        LocalDateTime lastMessageTime,
+        LocalDateTime lastActivityAt,
+        Boolean opponentBlocked
+) {
+}
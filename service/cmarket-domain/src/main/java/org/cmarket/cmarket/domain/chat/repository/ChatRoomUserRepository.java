@@ -1,12 +1,13 @@
 package org.cmarket.cmarket.domain.chat.repository;
 
 import org.cmarket.cmarket.domain.chat.model.ChatRoomUser;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,7 +21,7 @@ import java.util.Optional;
  * - 채팅방의 참여자 조회
  * - 채팅방 참여 여부 확인
  */
-public interface ChatRoomUserRepository extends JpaRepository<ChatRoomUser, Long> {
+public interface ChatRoomUserRepository extends JpaRepository<ChatRoomUser, Long>, ChatRoomUserRepositoryCustom {
     
     /**
      * 사용자의 활성 채팅방 목록 조회 (최근 메시지 시간 기준 내림차순)
@@ -36,22 +37,53 @@ public interface ChatRoomUserRepository extends JpaRepository<ChatRoomUser, Long
     List<ChatRoomUser> findActiveByUserIdOrderByLastMessageAtDesc(@Param("userId") Long userId);
     
     /**
-     * 사용자의 활성 채팅방 목록 조회 (페이지네이션 지원)
+     * 사용자의 활성 채팅방 개수 조회
      * 
-     * lastMessageAt이 null인 경우 createdAt 기준으로 정렬합니다.
+     * 페이지 번호 방식 목록의 totalElements 에만 씁니다 (커서 방식은 세지 않음).
      * 
      * @param userId 사용자 ID
-     * @param pageable 페이지 정보
-     * @return 활성 채팅방 참여 정보 페이지 (최근 메시지 시간 순)
+     * @return 활성 채팅방 개수
      */
-    @Query("SELECT cru FROM ChatRoomUser cru " +
-           "WHERE cru.userId = :userId AND cru.isActive = true " +
-           "ORDER BY COALESCE(cru.lastMessageAt, cru.createdAt) DESC")
-    Page<ChatRoomUser> findActiveByUserIdOrderByLastMessageAtDesc(
-            @Param("userId") Long userId,
-            Pageable pageable
+    long countByUserIdAndIsActiveTrue(Long userId);
+    
+    /**
+     * 최근 메시지 정보 일괄 갱신 (활성 참여자만)
+     * 
+     * 메시지 전송 때 참여 정보를 엔티티로 읽지 않고 UPDATE 한 번으로 갱신합니다.
+     * is_active 조건이 있으므로 그사이 나간 참여자는 갱신되지 않고, 반환값으로 알 수 있습니다.
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param userIds 갱신할 참여자 ID
+     * @param content 최근 메시지 미리보기 (ChatRoomUser.previewOf)
+     * @param messageTime 메시지 시간
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ChatRoomUser cru " +
+           "SET cru.lastMessageContent = :content, cru.lastMessageAt = :messageTime, " +
+           "cru.lastActivityAt = :messageTime, cru.updatedAt = :messageTime " +
+           "WHERE cru.chatRoomId = :chatRoomId AND cru.userId IN :userIds AND cru.isActive = true")
+    int updateLastMessage(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("userIds") Collection<Long> userIds,
+            @Param("content") String content,
+            @Param("messageTime") LocalDateTime messageTime
     );
     
+    /**
+     * 목록 정렬 키(last_activity_at)가 비어 있는 행 채우기
+     * 
+     * 열이 추가되기 전에 만들어진 참여 정보에 COALESCE(last_message_at, created_at) 를 넣습니다.
+     * 한 번에 limit 건씩 나눠 잠금을 짧게 유지합니다.
+     * 
+     * @param limit 한 번에 채울 최대 행 수
+     * @return 채운 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE chat_room_users SET last_activity_at = COALESCE(last_message_at, created_at) " +
+                   "WHERE last_activity_at IS NULL LIMIT :limit", nativeQuery = true)
+    int fillMissingLastActivityAt(@Param("limit") int limit);
+    
     /**
      * 채팅방의 모든 참여자 조회
      * 
@@ -108,18 +140,53 @@ public interface ChatRoomUserRepository extends JpaRepository<ChatRoomUser, Long
     );
     
     /**
-     * 여러 채팅방의 상대방 목록 일괄 조회
+     * 읽음 기준점 올리기
      * 
-     * N+1 문제 방지를 위해 IN 절로 한 번에 조회합니다.
+     * 지금 값보다 클 때만 바꾼다. 늦게 도착한 작은 기준점이 더 최근 기준점을 덮지 않는다.
      * 
-     * @param chatRoomIds 채팅방 ID 목록
-     * @param myUserId 나의 사용자 ID
-     * @return 상대방 참여 정보 목록
+     * @param chatRoomId 채팅방 ID
+     * @param userId 사용자 ID
+     * @param messageId 마지막으로 읽은 메시지 ID
+     * @return 업데이트된 행 수 (이미 같거나 크면 0)
      */
-    @Query("SELECT cru FROM ChatRoomUser cru " +
-           "WHERE cru.chatRoomId IN :chatRoomIds AND cru.userId != :myUserId")
-    List<ChatRoomUser> findOpponentsByChatRoomIdsAndMyUserId(
-            @Param("chatRoomIds") List<Long> chatRoomIds,
-            @Param("myUserId") Long myUserId
+    @Modifying
+    @Query("UPDATE ChatRoomUser cru SET cru.lastReadMessageId = :messageId " +
+           "WHERE cru.chatRoomId = :chatRoomId " +
+           "AND cru.userId = :userId " +
+           "AND (cru.lastReadMessageId IS NULL OR cru.lastReadMessageId < :messageId)")
+    int advanceLastReadMessageId(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("userId") Long userId,
+            @Param("messageId") Long messageId
+    );
+    
+    /**
+     * 보관할 메시지가 남은 조용한 채팅방 ID 조회 (메시지 보관 1단계)
+     * 
+     * 참여자 모두 roomIdleCutoff 이후 활동이 없고(활동 시간이 비어 있는 참여자가 있으면 제외),
+     * messageCutoff 보다 오래된 메시지가 남아 있는 방을 chat_room_id 순으로 최대 limit 개 고릅니다.
+     * 잠그지 않는 읽기이고, 메시지는 방마다 idx_chat_message_room_created_id 로 한 행만 확인합니다.
+     * 다 옮긴 방은 빠지므로 다시 부르면 다음 방들이 나옵니다.
+     * 
+     * @param messageCutoff 이보다 오래된 메시지가 있는 방만
+     * @param roomIdleCutoff 이 시각 이후 활동이 없는 방만
+     * @param limit 최대 방 수
+     * @return 채팅방 ID 목록 (오름차순)
+     */
+    @Query(value = "SELECT u.chat_room_id FROM chat_room_users u " +
+                   "GROUP BY u.chat_room_id " +
+                   "HAVING MAX(u.last_activity_at) < :roomIdleCutoff " +
+                   "AND COUNT(u.last_activity_at) = COUNT(*) " +
+                   "AND EXISTS (" +
+                   "    SELECT 1 FROM chat_messages m " +
+                   "    WHERE m.chat_room_id = u.chat_room_id AND m.created_at < :messageCutoff" +
+                   ") " +
+                   "ORDER BY u.chat_room_id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findArchivableChatRoomIds(
+            @Param("messageCutoff") LocalDateTime messageCutoff,
+            @Param("roomIdleCutoff") LocalDateTime roomIdleCutoff,
+            @Param("limit") int limit
     );
 }
@@ -0,0 +1,61 @@
+package org.cmarket.cmarket.domain.chat.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ChatRoomUser 엔티티 커스텀 레포지토리 인터페이스
+ * 
+ * QueryDSL을 사용한 채팅방 목록 조회 쿼리를 정의합니다.
+ * 
+ * 목록 한 페이지는 SQL 한 문장으로 읽습니다.
+ * chat_room_users(나) ⨝ chat_rooms ⨝ chat_room_users(상대방) ⟕ user_blocks
+ */
+public interface ChatRoomUserRepositoryCustom {
+    
+    /**
+     * 채팅방 목록 커서 조회 (최근 활동 시간 내림차순)
+     * 
+     * 전체 개수를 세지 않습니다. 다음 페이지가 있는지는 limit 을 하나 크게 주고 판단합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param limit 최대 조회 개수
+     * @return 채팅방 목록 줄
+     */
+    List<ChatRoomListRow> findRoomListByCursor(Long userId, ChatRoomListCursor cursor, int limit);
+    
+    /**
+     * 채팅방 목록 페이지 조회 (최근 활동 시간 내림차순, OFFSET)
+     * 
+     * 페이지 번호 화면용입니다. 내용은 커서 조회와 같은 한 문장으로 읽습니다.
+     * 
+     * @param userId 사용자 ID
+     * @param offset 건너뛸 개수
+     * @param limit 최대 조회 개수
+     * @return 채팅방 목록 줄
+     */
+    List<ChatRoomListRow> findRoomListByOffset(Long userId, long offset, int limit);
+    
+    /**
+     * 채팅방 목록 한 줄 조회
+     * 
+     * 메시지가 오갈 때 목록의 해당 줄만 다시 그릴 때 씁니다.
+     * 
+     * @param userId 사용자 ID
+     * @param chatRoomId 채팅방 ID
+     * @return 활성 참여 중인 채팅방이면 해당 줄, 아니면 Optional.empty()
+     */
+    Optional<ChatRoomListRow> findRoomListRow(Long userId, Long chatRoomId);
+    
+    /**
+     * 채팅방 하나를 활성 참여자 각각의 목록 한 줄로 조회
+     * 
+     * 메시지가 오가면 참여자마다 목록 한 줄을 다시 보내야 한다.
+     * 참여자별로 findRoomListRow 를 부르지 않고 한 번에 읽는다 (row.userId 가 목록 주인).
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @return 활성 참여자별 목록 한 줄
+     */
+    List<ChatRoomListRow> findRoomListRowsByChatRoomId(Long chatRoomId);
+}
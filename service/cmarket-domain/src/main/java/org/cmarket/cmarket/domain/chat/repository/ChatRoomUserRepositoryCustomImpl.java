@@ -0,0 +1,111 @@
+package org.cmarket.cmarket.domain.chat.repository;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.cmarket.cmarket.domain.chat.model.QChatRoom;
+import org.cmarket.cmarket.domain.chat.model.QChatRoomUser;
+import org.cmarket.cmarket.domain.report.model.QUserBlock;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ChatRoomUser 엔티티 커스텀 레포지토리 구현체
+ * 
+ * 채팅방 목록을 조인 한 번으로 읽어 ChatRoomListRow 로 바로 담습니다.
+ * 정렬은 (last_activity_at, chat_room_id) 내림차순이며
+ * idx_chat_room_user_room_list (user_id, is_active, last_activity_at, chat_room_id) 를 그대로 탑니다.
+ */
+public class ChatRoomUserRepositoryCustomImpl implements ChatRoomUserRepositoryCustom {
+    
+    private final JPAQueryFactory queryFactory;
+    private final QChatRoomUser me = new QChatRoomUser("me");
+    private final QChatRoomUser opponent = new QChatRoomUser("opponent");
+    private final QChatRoom chatRoom = QChatRoom.chatRoom;
+    private final QUserBlock userBlock = QUserBlock.userBlock;
+    
+    public ChatRoomUserRepositoryCustomImpl(EntityManager entityManager) {
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+    
+    @Override
+    public List<ChatRoomListRow> findRoomListByCursor(Long userId, ChatRoomListCursor cursor, int limit) {
+        return selectRoomList(me.userId.eq(userId), cursorCondition(cursor))
+                .orderBy(me.lastActivityAt.desc(), me.chatRoomId.desc())
+                .limit(limit)
+                .fetch();
+    }
+    
+    @Override
+    public List<ChatRoomListRow> findRoomListByOffset(Long userId, long offset, int limit) {
+        return selectRoomList(me.userId.eq(userId), null)
+                .orderBy(me.lastActivityAt.desc(), me.chatRoomId.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+    
+    @Override
+    public Optional<ChatRoomListRow> findRoomListRow(Long userId, Long chatRoomId) {
+        return Optional.ofNullable(
+                selectRoomList(me.userId.eq(userId), me.chatRoomId.eq(chatRoomId)).fetchFirst()
+        );
+    }
+    
+    @Override
+    public List<ChatRoomListRow> findRoomListRowsByChatRoomId(Long chatRoomId) {
+        return selectRoomList(me.chatRoomId.eq(chatRoomId), null).fetch();
+    }
+    
+    /**
+     * 목록 한 줄을 만드는 공통 조인
+     * 
+     * - 상대방은 나간 사람도 포함한다 (목록에 「나간 상대」도 보여야 한다). 탈퇴 등으로 없으면 null.
+     * - 차단은 「내가 상대를 차단했는가」만 본다.
+     * 
+     * @param ownerCondition 목록 주인 조건 (보통 me.userId = ?, 방 하나의 모든 참여자면 me.chatRoomId = ?)
+     */
+    private JPAQuery<ChatRoomListRow> selectRoomList(Predicate ownerCondition, Predicate extraCondition) {
+        return queryFactory
+                .select(Projections.constructor(ChatRoomListRow.class,
+                        me.userId,
+                        me.chatRoomId,
+                        chatRoom.productId,
+                        chatRoom.productTitle,
+                        chatRoom.productPrice,
+                        chatRoom.productImageUrl,
+                        opponent.userId,
+                        opponent.userNickname,
+                        opponent.userProfileImageUrl,
+                        me.lastMessageContent,
+                        me.lastMessageAt,
+                        me.lastActivityAt,
+                        new CaseBuilder()
+                                .when(userBlock.id.isNotNull()).then(true)
+                                .otherwise(false)
+                ))
+                .from(me)
+                .join(chatRoom).on(chatRoom.id.eq(me.chatRoomId))
+                .leftJoin(opponent).on(opponent.chatRoomId.eq(me.chatRoomId), opponent.userId.ne(me.userId))
+                .leftJoin(userBlock).on(userBlock.blockerId.eq(me.userId), userBlock.blockedUserId.eq(opponent.userId))
+                .where(ownerCondition, me.isActive.isTrue(), extraCondition);
+    }
+    
+    /**
+     * 커서보다 뒤(더 오래된) 채팅방 조건
+     * 
+     * last_activity_at < v OR (last_activity_at = v AND chat_room_id < cursorId)
+     */
+    private BooleanExpression cursorCondition(ChatRoomListCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return me.lastActivityAt.lt(cursor.lastActivityAt())
+                .or(me.lastActivityAt.eq(cursor.lastActivityAt()).and(me.chatRoomId.lt(cursor.chatRoomId())));
+    }
+}
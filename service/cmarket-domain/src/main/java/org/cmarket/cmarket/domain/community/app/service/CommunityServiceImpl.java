@@ -1,6 +1,8 @@
 package org.cmarket.cmarket.domain.community.app.service;
 
 import lombok.RequiredArgsConstructor;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.domain.auth.model.User;
 import org.cmarket.cmarket.domain.auth.repository.UserRepository;
 import org.cmarket.cmarket.domain.community.app.dto.PostCreateCommand;
@@ -25,7 +27,7 @@ import org.cmarket.cmarket.domain.notification.app.event.NotificationCreatedEven
 import org.cmarket.cmarket.domain.notification.model.NotificationType;
 import org.cmarket.cmarket.domain.profile.app.dto.PageResult;
 import org.cmarket.cmarket.domain.report.repository.UserBlockRepository;
-import org.cmarket.cmarket.domain.view.app.service.ViewLogService;
+import org.cmarket.cmarket.domain.view.app.service.ViewCounter;
 import org.cmarket.cmarket.domain.view.model.ViewTargetType;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
@@ -48,9 +50,10 @@ public class CommunityServiceImpl implements CommunityService {
     
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     private final CommentRepository commentRepository;
     private final UserBlockRepository userBlockRepository;
-    private final ViewLogService viewLogService;
+    private final ViewCounter viewCounter;
     private final ApplicationEventPublisher eventPublisher;
     
     @Override
@@ -106,9 +109,7 @@ public class CommunityServiceImpl implements CommunityService {
 
         // 내가 차단한 사람의 글은 목록에서 뺀다.
         // 비회원이면 차단이 있을 수 없으므로 빈 목록이다.
-        final Long viewerId = email != null
-                ? userRepository.findByEmailAndDeletedAtIsNull(email).map(User::getId).orElse(null)
-                : null;
+        final Long viewerId = userIdentityResolver.findUserIdOrNull(email);
         final List<Long> blockedAuthorIds = viewerId != null
                 ? userBlockRepository.findBlockedUserIdsByBlockerId(viewerId)
                 : List.of();
@@ -137,10 +138,10 @@ public class CommunityServiceImpl implements CommunityService {
                 .orElseThrow(() -> new PostNotFoundException());
         
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 권한 확인: 작성자 본인만 수정 가능
         if (!post.getAuthorId().equals(userId)) {
@@ -166,14 +167,14 @@ public class CommunityServiceImpl implements CommunityService {
                 .orElseThrow(() -> new PostNotFoundException());
         
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 권한 확인: 작성자 본인 또는 관리자만 삭제 가능
         boolean isAuthor = post.getAuthorId().equals(userId);
-        boolean isAdmin = user.getRole() == org.cmarket.cmarket.domain.auth.model.UserRole.ADMIN;
+        boolean isAdmin = user.isAdmin();
         if (!isAuthor && !isAdmin) {
             throw new PostAccessDeniedException();
         }
@@ -370,10 +371,10 @@ public class CommunityServiceImpl implements CommunityService {
         }
         
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 권한 확인: 작성자 본인만 삭제 가능
         // TODO: 향후 Admin 도메인 연동 시 어드민 계정도 삭제 가능하도록 권한 확인 로직 추가
@@ -396,6 +397,7 @@ public class CommunityServiceImpl implements CommunityService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PostDetailDto getPostDetail(Long postId, String email) {
         // 게시글 조회 (소프트 삭제된 게시글 제외)
         Post post = postRepository.findByIdAndDeletedAtIsNull(postId)
@@ -418,6 +420,8 @@ public class CommunityServiceImpl implements CommunityService {
      * 로그인한 사용자가 게시글을 조회했을 때, 작성자가 아니고
      * 오늘 처음 보는 글이라면 조회수를 증가시킵니다.
      *
+     * 실제 UPDATE 는 ViewCounter 가 모아서 주기적으로 한꺼번에 보낸다.
+     *
      * @param post 게시글 엔티티
      * @param email 현재 로그인한 사용자 이메일 (비로그인 시 null)
      */
@@ -426,9 +430,7 @@ public class CommunityServiceImpl implements CommunityService {
             return;
         }
 
-        Long viewerId = userRepository.findByEmailAndDeletedAtIsNull(email)
-                .map(User::getId)
-                .orElse(null);
+        Long viewerId = userIdentityResolver.findUserIdOrNull(email);
 
         if (viewerId == null) {
             return;
@@ -439,12 +441,7 @@ public class CommunityServiceImpl implements CommunityService {
         }
 
         // 같은 사람이 같은 글을 같은 날(한국 시간) 다시 봐도 한 번만 센다.
-        // 기록 남기기와 조회수 올리기가 같은 트랜잭션이라 둘이 어긋나지 않는다.
-        if (!viewLogService.markViewedToday(viewerId, ViewTargetType.COMMUNITY_POST, post.getId())) {
-            return;
-        }
-
-        post.increaseViewCount();
+        viewCounter.recordView(viewerId, ViewTargetType.COMMUNITY_POST, post.getId());
     }
 }
 
@@ -117,14 +117,6 @@ public class Post {
         this.updatedAt = LocalDateTime.now();
     }
     
-    /**
-     * 조회수 증가
-     */
-    public void increaseViewCount() {
-        this.viewCount++;
-        this.updatedAt = LocalDateTime.now();
-    }
-    
     /**
      * 댓글 개수 증가
      */
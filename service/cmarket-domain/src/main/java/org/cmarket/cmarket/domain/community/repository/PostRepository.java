@@ -4,7 +4,11 @@ import org.cmarket.cmarket.domain.community.model.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -44,5 +48,19 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
      * @return 존재하면 true, 없으면 false
      */
     boolean existsByIdAndDeletedAtIsNull(Long id);
+    
+    /**
+     * 조회수 일괄 증가
+     * 
+     * 모아 둔 조회를 반영할 때 씁니다 (ViewLogServiceImpl).
+     * 조회는 글 수정이 아니므로 updatedAt 은 건드리지 않습니다.
+     * 
+     * @param delta 올릴 조회수
+     * @param postIds 게시글 ID 목록
+     * @return 업데이트된 게시글 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id IN :postIds")
+    int increaseViewCount(@Param("delta") Long delta, @Param("postIds") Collection<Long> postIds);
 }
 
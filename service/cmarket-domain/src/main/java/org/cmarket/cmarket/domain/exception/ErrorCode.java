@@ -61,6 +61,7 @@ public enum ErrorCode {
     INVALID_SEARCH_KEYWORD(400, "검색어가 유효하지 않습니다."),
     INVALID_SORT_CRITERIA(400, "정렬 기준이 유효하지 않습니다."),
     INVALID_FILTER_CRITERIA(400, "필터 기준이 유효하지 않습니다."),
+    INVALID_SEARCH_CURSOR(400, "검색 커서가 유효하지 않습니다."),
 
     // 지도 관련 (400)
     INVALID_PLACE_FILTER(400, "장소 필터 조건이 유효하지 않습니다."),
@@ -86,6 +87,7 @@ public enum ErrorCode {
     // 채팅 관련 (400)
     SELF_CHAT_NOT_ALLOWED(400, "본인과의 채팅은 불가능합니다."),
     CHAT_ROOM_USER_LEFT(400, "상대방이 채팅방을 나갔습니다."),
+    INVALID_CHAT_ROOM_CURSOR(400, "채팅방 목록 커서가 유효하지 않습니다."),
     MESSAGE_TOO_LONG(400, "메시지는 1000자를 초과할 수 없습니다."),
     PRIVACY_VIOLATION(400, "개인정보가 포함된 메시지는 전송할 수 없습니다."),
     
@@ -94,6 +96,7 @@ public enum ErrorCode {
     
     // 채팅 관련 (404)
     CHAT_ROOM_NOT_FOUND(404, "채팅방을 찾을 수 없습니다."),
+    CHAT_MESSAGE_NOT_FOUND(404, "채팅 메시지를 찾을 수 없습니다."),
     
     // 알림 관련 (403)
     NOTIFICATION_ACCESS_DENIED(403, "알림에 대한 접근 권한이 없습니다."),
@@ -1,8 +1,8 @@
 package org.cmarket.cmarket.domain.map.app.service;
 
 import org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException;
-import org.cmarket.cmarket.domain.auth.model.User;
-import org.cmarket.cmarket.domain.auth.repository.UserRepository;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.domain.map.app.dto.PlaceReviewCreateCommand;
 import org.cmarket.cmarket.domain.map.app.dto.PlaceReviewDto;
 import org.cmarket.cmarket.domain.map.app.dto.PlaceReviewListDto;
@@ -27,16 +27,16 @@ public class MapReviewServiceImpl implements MapReviewService {
 
     private final PlaceRepository placeRepository;
     private final PlaceReviewRepository placeReviewRepository;
-    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
 
     public MapReviewServiceImpl(
             PlaceRepository placeRepository,
             PlaceReviewRepository placeReviewRepository,
-            UserRepository userRepository
+            UserIdentityResolver userIdentityResolver
     ) {
         this.placeRepository = placeRepository;
         this.placeReviewRepository = placeReviewRepository;
-        this.userRepository = userRepository;
+        this.userIdentityResolver = userIdentityResolver;
     }
 
     @Override
@@ -58,13 +58,13 @@ public class MapReviewServiceImpl implements MapReviewService {
     public PlaceReviewDto createPlaceReview(Long placeId, String email, PlaceReviewCreateCommand command) {
         ensurePlaceExists(placeId);
 
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(UserNotFoundException::new);
 
         PlaceReview placeReview = PlaceReview.builder()
                 .placeId(placeId)
-                .userId(user.getId())
-                .nickname(user.getNickname())
+                .userId(user.userId())
+                .nickname(user.nickname())
                 .rating(command.getRating())
                 .content(command.getContent())
                 .imageUrls(command.getImageUrls())
@@ -10,7 +10,7 @@ import org.cmarket.cmarket.domain.notification.model.NotificationType;
  * 앱 서비스에서 사용하는 알림 생성 명령 DTO입니다.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class NotificationCreateCommand {
     private Long userId;  // 수신자 ID
     private NotificationType notificationType;  // 알림 타입
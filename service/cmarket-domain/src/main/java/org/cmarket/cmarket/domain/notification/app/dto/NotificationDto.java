@@ -33,8 +33,21 @@ public class NotificationDto {
      * @return NotificationDto
      */
     public static NotificationDto fromEntity(Notification notification) {
+        return fromEntity(notification, notification.getId());
+    }
+    
+    /**
+     * ID 를 따로 받은 Notification 엔티티를 NotificationDto로 변환
+     * 
+     * JDBC 로 한꺼번에 저장하면 엔티티에 ID 가 채워지지 않는다 (NotificationRepository.insertAll).
+     * 
+     * @param notification Notification 엔티티
+     * @param notificationId 저장하며 받은 알림 ID
+     * @return NotificationDto
+     */
+    public static NotificationDto fromEntity(Notification notification, Long notificationId) {
         return NotificationDto.builder()
-                .notificationId(notification.getId())
+                .notificationId(notificationId)
                 .notificationType(notification.getNotificationType())
                 .title(notification.getTitle())
                 .content(notification.getContent())
@@ -0,0 +1,20 @@
+package org.cmarket.cmarket.domain.notification.app.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 릴레이 한 번의 결과
+ *
+ * @param notifications 만든 알림 수
+ * @param deferred 같은 사용자의 앞선 행이 남아 있어 다음으로 미룬 행 수 (찜한 사용자 알림은 다른 서버가 잡고 있어 건너뛰면 1)
+ * @param completedCreatedAts 다 보내서 지운 행의 생성 시각 (지연 지표용)
+ * @param hasMore 찜한 사용자 알림에 보낼 페이지가 더 남았으면 true
+ */
+public record NotificationOutboxRelayResult(
+        int notifications,
+        int deferred,
+        List<LocalDateTime> completedCreatedAts,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,17 @@
+package org.cmarket.cmarket.domain.notification.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스 현황 (지표용)
+ *
+ * @param pending 아직 안 보낸 행 수 (재시도 대기 포함)
+ * @param failed 재시도를 포기한 행 수
+ * @param oldestPendingCreatedAt 아직 안 보낸 행 중 가장 오래된 생성 시각 (없으면 null)
+ */
+public record NotificationOutboxStats(
+        long pending,
+        long failed,
+        LocalDateTime oldestPendingCreatedAt
+) {
+}
@@ -0,0 +1,25 @@
+package org.cmarket.cmarket.domain.notification.app.event;
+
+import lombok.Getter;
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationCreateCommand;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 찜한 사용자 전원에게 알림 보내기 요청 이벤트
+ * 
+ * 상품 가격 · 거래 상태가 바뀌었을 때 발행합니다.
+ * 받는 사람마다 NotificationCreatedEvent 를 하나씩 발행하면 찜이 많은 상품 하나로 알림 쓰레드 풀이 넘치므로,
+ * 상품 하나에 이벤트 하나만 발행하고 받는 쪽이 찜한 사용자를 페이지로 나눠 읽으며 한꺼번에 만듭니다.
+ */
+@Getter
+public class FavoriteNotificationFanOutEvent extends ApplicationEvent {
+    
+    private final Long productId;  // 찜 대상 상품 ID
+    private final NotificationCreateCommand template;  // 알림 내용 (userId 는 받는 사람마다 채운다)
+    
+    public FavoriteNotificationFanOutEvent(Object source, Long productId, NotificationCreateCommand template) {
+        super(source);
+        this.productId = productId;
+        this.template = template;
+    }
+}
@@ -4,6 +4,8 @@ import org.cmarket.cmarket.domain.notification.app.dto.NotificationDto;
 import org.cmarket.cmarket.domain.profile.app.dto.PageResult;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+
 /**
  * 알림 캐시 서비스 인터페이스
  * 
@@ -52,4 +54,11 @@ public interface NotificationCache {
      * @param userId 사용자 ID
      */
     void evictAll(Long userId);
+    
+    /**
+     * 여러 사용자의 모든 알림 캐시 무효화
+     * 
+     * @param userIds 사용자 ID 목록
+     */
+    void evictAll(Collection<Long> userIds);
 }
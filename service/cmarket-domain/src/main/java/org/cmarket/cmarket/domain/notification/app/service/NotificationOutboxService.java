@@ -0,0 +1,92 @@
+package org.cmarket.cmarket.domain.notification.app.service;
+
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationCreateCommand;
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationOutboxRelayResult;
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationOutboxStats;
+import org.cmarket.cmarket.domain.notification.model.NotificationOutboxType;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 서비스 인터페이스
+ * 
+ * 알림 요청을 요청한 쪽의 트랜잭션 안에서 notification_outbox 에 저장하고,
+ * 릴레이가 나중에 읽어 NotificationService.createNotifications 로 알림을 만듭니다.
+ * 요청한 쪽이 롤백되면 알림도 나가지 않고, 커밋된 요청은 서버가 재시작되어도 남습니다.
+ */
+public interface NotificationOutboxService {
+    
+    /**
+     * 알림 하나 요청
+     * 
+     * 진행 중인 트랜잭션이 있으면 거기에 함께 저장됩니다.
+     * 
+     * @param command 알림 생성 명령
+     */
+    void enqueue(NotificationCreateCommand command);
+    
+    /**
+     * 찜한 사용자 전원에게 알림 요청
+     * 
+     * @param productId 상품 ID
+     * @param template 알림 내용 (userId 는 비워 둔다)
+     */
+    void enqueueFavoriteFanOut(Long productId, NotificationCreateCommand template);
+    
+    /**
+     * 보낼 차례가 된 행 ID 조회
+     * 
+     * @param outboxType 행 종류
+     * @param limit 최대 개수
+     * @return 행 ID 목록 (ID 오름차순)
+     */
+    List<Long> findRelayableIds(NotificationOutboxType outboxType, int limit);
+    
+    /**
+     * 알림 행 보내기 (NOTIFICATION)
+     * 
+     * 한 트랜잭션에서 행을 잠그고, 알림을 한꺼번에 만들고, 행을 지웁니다.
+     * 사용자마다 ID 순서대로만 보냅니다. 같은 사용자의 앞선 행이 아직 남아 있으면
+     * (재시도 대기, 다른 서버가 처리 중) 뒤 행은 보내지 않고 다음으로 미룹니다.
+     * 알림 생성이 실패하면 예외를 던지고 아무 행도 지우지 않습니다.
+     * 
+     * @param ids 행 ID 목록
+     * @return 결과
+     */
+    NotificationOutboxRelayResult relayNotifications(List<Long> ids);
+    
+    /**
+     * 찜한 사용자 알림 한 페이지 보내기 (FAVORITE_FAN_OUT)
+     * 
+     * 한 트랜잭션에서 행을 잠그고, 진행 위치 다음 찜 pageSize 개에 알림을 만들고, 진행 위치를 옮깁니다.
+     * 마지막 페이지면 행을 지웁니다. 실패하면 진행 위치는 그대로라 그 페이지부터 다시 보냅니다.
+     * 
+     * @param id 행 ID
+     * @param pageSize 한 페이지 사용자 수
+     * @return 결과
+     */
+    NotificationOutboxRelayResult relayFavoriteFanOutPage(Long id, int pageSize);
+    
+    /**
+     * 실패 기록
+     * 
+     * attempts 를 올리고 backoff * 2^(attempts-1) (최대 maxBackoff) 뒤로 미룹니다.
+     * maxAttempts 번 실패하면 재시도를 포기합니다 (행은 지우지 않고 failedAt 을 남긴다).
+     * 
+     * @param id 행 ID
+     * @param error 오류 메시지
+     * @param maxAttempts 최대 시도 횟수
+     * @param backoff 첫 재시도 간격
+     * @param maxBackoff 최대 재시도 간격
+     * @return 재시도를 포기했으면 true
+     */
+    boolean recordFailure(Long id, String error, int maxAttempts, Duration backoff, Duration maxBackoff);
+    
+    /**
+     * 현황 조회 (지표용)
+     * 
+     * @return 현황
+     */
+    NotificationOutboxStats getStats();
+}
@@ -0,0 +1,210 @@
+package org.cmarket.cmarket.domain.notification.app.service;
+
+import lombok.RequiredArgsConstructor;
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationCreateCommand;
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationOutboxRelayResult;
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationOutboxStats;
+import org.cmarket.cmarket.domain.notification.model.NotificationOutbox;
+import org.cmarket.cmarket.domain.notification.model.NotificationOutboxType;
+import org.cmarket.cmarket.domain.notification.repository.NotificationOutboxRepository;
+import org.cmarket.cmarket.domain.product.model.Favorite;
+import org.cmarket.cmarket.domain.product.repository.FavoriteRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 알림 아웃박스 서비스 구현체
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationService notificationService;
+    private final FavoriteRepository favoriteRepository;
+
+    @Override
+    @Transactional
+    public void enqueue(NotificationCreateCommand command) {
+        notificationOutboxRepository.save(toOutbox(NotificationOutboxType.NOTIFICATION, command.getUserId(), null, command));
+    }
+
+    @Override
+    @Transactional
+    public void enqueueFavoriteFanOut(Long productId, NotificationCreateCommand template) {
+        notificationOutboxRepository.save(toOutbox(NotificationOutboxType.FAVORITE_FAN_OUT, null, productId, template));
+    }
+
+    @Override
+    public List<Long> findRelayableIds(NotificationOutboxType outboxType, int limit) {
+        return notificationOutboxRepository.findRelayableIds(outboxType, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public NotificationOutboxRelayResult relayNotifications(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new NotificationOutboxRelayResult(0, 0, List.of(), false);
+        }
+
+        // 1. 행 잠금 (다른 서버가 잡은 행은 건너뜀)
+        List<NotificationOutbox> locked = notificationOutboxRepository.lockRelayable(ids, LocalDateTime.now());
+        if (locked.isEmpty()) {
+            return new NotificationOutboxRelayResult(0, 0, List.of(), false);
+        }
+
+        // 2. 사용자별로 앞선 행이 모두 여기 있는 것만
+        List<NotificationOutbox> relayable = inUserOrder(locked);
+        int deferred = locked.size() - relayable.size();
+        if (relayable.isEmpty()) {
+            return new NotificationOutboxRelayResult(0, deferred, List.of(), false);
+        }
+
+        // 3. 알림 생성 (JDBC 배치 저장, 캐시 무효화 · 실시간 전송은 이 트랜잭션이 커밋된 뒤)
+        List<NotificationCreateCommand> commands = relayable.stream()
+                .map(outbox -> toCommand(outbox, outbox.getUserId()))
+                .toList();
+        notificationService.createNotifications(commands);
+
+        // 4. 보낸 행 삭제
+        notificationOutboxRepository.deleteAllByIdIn(relayable.stream().map(NotificationOutbox::getId).toList());
+
+        List<LocalDateTime> createdAts = relayable.stream().map(NotificationOutbox::getCreatedAt).toList();
+        return new NotificationOutboxRelayResult(commands.size(), deferred, createdAts, false);
+    }
+
+    @Override
+    @Transactional
+    public NotificationOutboxRelayResult relayFavoriteFanOutPage(Long id, int pageSize) {
+        // 1. 행 잠금
+        Optional<NotificationOutbox> found = notificationOutboxRepository.lockRelayable(id, LocalDateTime.now());
+        if (found.isEmpty()) {
+            return new NotificationOutboxRelayResult(0, 1, List.of(), false);
+        }
+        NotificationOutbox outbox = found.get();
+
+        // 2. 진행 위치 다음 찜한 사용자 한 페이지에 알림 생성 (전송은 커밋 뒤라 행 잠금을 쥔 채 보내지 않는다)
+        List<Favorite> favorites = favoriteRepository.findByProductIdAndIdGreaterThanOrderByIdAsc(
+                outbox.getProductId(), outbox.getFanOutCursor(), PageRequest.of(0, pageSize));
+        if (!favorites.isEmpty()) {
+            List<NotificationCreateCommand> commands = favorites.stream()
+                    .map(favorite -> toCommand(outbox, favorite.getUserId()))
+                    .toList();
+            notificationService.createNotifications(commands);
+        }
+
+        // 3. 마지막 페이지면 행 삭제, 아니면 진행 위치 이동
+        if (favorites.size() < pageSize) {
+            notificationOutboxRepository.deleteAllByIdIn(List.of(outbox.getId()));
+            return new NotificationOutboxRelayResult(favorites.size(), 0, List.of(outbox.getCreatedAt()), false);
+        }
+        outbox.advanceFanOutCursor(favorites.get(favorites.size() - 1).getId());
+        return new NotificationOutboxRelayResult(favorites.size(), 0, List.of(), true);
+    }
+
+    @Override
+    @Transactional
+    public boolean recordFailure(Long id, String error, int maxAttempts, Duration backoff, Duration maxBackoff) {
+        Optional<NotificationOutbox> found = notificationOutboxRepository.findById(id);
+        if (found.isEmpty()) {
+            return false;
+        }
+        NotificationOutbox outbox = found.get();
+
+        int attempts = outbox.getAttempts();
+        if (attempts + 1 >= maxAttempts) {
+            outbox.recordFailure(error, null);
+            return true;
+        }
+
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts, 20));
+        if (delay.compareTo(maxBackoff) > 0) {
+            delay = maxBackoff;
+        }
+        outbox.recordFailure(error, LocalDateTime.now().plus(delay));
+        return false;
+    }
+
+    @Override
+    public NotificationOutboxStats getStats() {
+        return new NotificationOutboxStats(
+                notificationOutboxRepository.countByFailedAtIsNull(),
+                notificationOutboxRepository.countByFailedAtIsNotNull(),
+                notificationOutboxRepository.findOldestPendingCreatedAt()
+        );
+    }
+
+    /**
+     * 사용자마다 ID 순서를 지키기
+     *
+     * 잠근 행의 사용자들이 가진 안 보낸 행을 ID 순서로 훑어, 사용자마다 잠그지 못한 행
+     * (재시도 대기, 다른 서버가 처리 중, 이번 묶음 밖)을 만나기 전까지만 보냅니다.
+     * 앞선 알림이 아직 안 나간 사용자에게 뒤 알림이 먼저 나가지 않습니다.
+     */
+    private List<NotificationOutbox> inUserOrder(List<NotificationOutbox> locked) {
+        Set<Long> lockedIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (NotificationOutbox outbox : locked) {
+            lockedIds.add(outbox.getId());
+            userIds.add(outbox.getUserId());
+        }
+        Long maxId = locked.get(locked.size() - 1).getId();
+
+        Set<Long> blockedUserIds = new HashSet<>();
+        Set<Long> relayableIds = new HashSet<>();
+        for (NotificationOutbox pending : notificationOutboxRepository.findPendingByUserIds(userIds, maxId)) {
+            if (blockedUserIds.contains(pending.getUserId())) {
+                continue;
+            }
+            if (lockedIds.contains(pending.getId())) {
+                relayableIds.add(pending.getId());
+            } else {
+                blockedUserIds.add(pending.getUserId());
+            }
+        }
+
+        return locked.stream()
+                .filter(outbox -> relayableIds.contains(outbox.getId()))
+                .toList();
+    }
+
+    private NotificationOutbox toOutbox(
+            NotificationOutboxType outboxType,
+            Long userId,
+            Long productId,
+            NotificationCreateCommand command
+    ) {
+        return NotificationOutbox.builder()
+                .outboxType(outboxType)
+                .userId(userId)
+                .productId(productId)
+                .notificationType(command.getNotificationType())
+                .title(command.getTitle())
+                .content(command.getContent())
+                .relatedEntityType(command.getRelatedEntityType())
+                .relatedEntityId(command.getRelatedEntityId())
+                .groupCount(command.getGroupCount())
+                .build();
+    }
+
+    private NotificationCreateCommand toCommand(NotificationOutbox outbox, Long userId) {
+        return NotificationCreateCommand.builder()
+                .userId(userId)
+                .notificationType(outbox.getNotificationType())
+                .title(outbox.getTitle())
+                .content(outbox.getContent())
+                .relatedEntityType(outbox.getRelatedEntityType())
+                .relatedEntityId(outbox.getRelatedEntityId())
+                .groupCount(outbox.getGroupCount())
+                .build();
+    }
+}
@@ -2,6 +2,9 @@ package org.cmarket.cmarket.domain.notification.app.service;
 
 import org.cmarket.cmarket.domain.notification.app.dto.NotificationDto;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 알림 전송 서비스 인터페이스
  * 
@@ -17,4 +20,16 @@ public interface NotificationSender {
      * @param notificationDto 알림 DTO
      */
     void sendNotification(Long userId, NotificationDto notificationDto);
+    
+    /**
+     * 여러 사용자에게 알림 한꺼번에 전송
+     * 
+     * 기본은 한 건씩 보낸다. 구현체가 묶어서 보낼 수 있으면 바꾼다.
+     * 
+     * @param notificationsByUserId 사용자 ID → 그 사용자에게 보낼 알림 (만들어진 순서)
+     */
+    default void sendNotifications(Map<Long, List<NotificationDto>> notificationsByUserId) {
+        notificationsByUserId.forEach((userId, notifications) ->
+                notifications.forEach(notification -> sendNotification(userId, notification)));
+    }
 }
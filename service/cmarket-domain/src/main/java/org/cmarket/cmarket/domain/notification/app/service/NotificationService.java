@@ -5,6 +5,8 @@ import org.cmarket.cmarket.domain.notification.app.dto.NotificationDto;
 import org.cmarket.cmarket.domain.profile.app.dto.PageResult;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * 알림 서비스 인터페이스
  * 
@@ -17,11 +19,23 @@ public interface NotificationService {
      * 알림 생성
      * 
      * RDB에 알림을 저장하고 실시간으로 전송합니다.
+     * 캐시 무효화와 실시간 전송은 트랜잭션이 커밋된 뒤에 합니다 (되돌려진 알림은 보내지 않는다).
      * 
      * @param command 알림 생성 명령
      */
     void createNotification(NotificationCreateCommand command);
     
+    /**
+     * 알림 여러 개 생성
+     * 
+     * 찜한 사용자 전원에게 보내는 알림처럼 한 번에 많이 만들 때 씁니다.
+     * 한 트랜잭션에서 JDBC 배치로 저장하고, 커밋된 뒤에 캐시 무효화와 실시간 전송을 한꺼번에 합니다.
+     * 부르는 쪽 트랜잭션(아웃박스 릴레이 등) 안이면 그 트랜잭션의 커밋을 기다립니다.
+     * 
+     * @param commands 알림 생성 명령 목록
+     */
+    void createNotifications(List<NotificationCreateCommand> commands);
+    
     /**
      * 알림 목록 조회
      * 
@@ -59,4 +73,17 @@ public interface NotificationService {
      * @param email 현재 로그인한 사용자 이메일
      */
     void markAllAsRead(String email);
+    
+    /**
+     * 특정 알림 이후 알림 조회
+     * 
+     * 실시간 연결(SSE)이 끊긴 사이 만들어진 알림을 다시 보내기 위해 씁니다.
+     * 알림 ID 는 만들어진 순서대로 커지므로 이후 알림을 빠짐없이 찾을 수 있습니다.
+     * 
+     * @param userId 사용자 ID
+     * @param afterNotificationId 이 알림 ID 보다 큰 것만
+     * @param limit 최대 개수
+     * @return 알림 목록 (ID 오름차순)
+     */
+    List<NotificationDto> getNotificationsAfter(Long userId, Long afterNotificationId, int limit);
 }
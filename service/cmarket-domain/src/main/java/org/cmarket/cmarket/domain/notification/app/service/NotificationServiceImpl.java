@@ -2,8 +2,8 @@ package org.cmarket.cmarket.domain.notification.app.service;
 
 import lombok.RequiredArgsConstructor;
 import org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException;
-import org.cmarket.cmarket.domain.auth.model.User;
-import org.cmarket.cmarket.domain.auth.repository.UserRepository;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.domain.notification.app.dto.NotificationCreateCommand;
 import org.cmarket.cmarket.domain.notification.app.dto.NotificationDto;
 import org.cmarket.cmarket.domain.notification.app.exception.NotificationAccessDeniedException;
@@ -13,12 +13,19 @@ import org.cmarket.cmarket.domain.notification.model.NotificationType;
 import org.cmarket.cmarket.domain.notification.repository.NotificationRepository;
 import org.cmarket.cmarket.domain.profile.app.dto.PageResult;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 알림 서비스 구현체
@@ -33,24 +40,132 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationSender notificationSender;
     private final NotificationCache notificationCache;
-    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     
     @Override
-    @Async
     @Transactional
     public void createNotification(NotificationCreateCommand command) {
         // 0. 채팅은 한 방에 알림 하나로 묶는다 (#873)
-        //
-        // 자리를 비운 사이 메시지가 여러 개 오면 알림이 그만큼 쌓인다. 사용자에게는
-        // 「그 사람과의 대화 하나」인데 목록이 한 사람으로 도배되고, 안 읽은 알림 수도
-        // 그만큼 부풀어 오른다. 그래서 안 읽은 옛 알림을 지우고 새로 하나 만든다.
-        // 몇 개가 밀렸는지는 문구에 적는다(ChatServiceImpl 에서 만든다).
-        //
-        // ⚠️ **갱신이 아니라 지우고 새로 만드는 이유**: createdAt 이 updatable = false 라
-        //    갱신해도 목록에서 맨 위로 안 올라온다. 그 제약을 풀면 다른 알림도 생성 시각이
-        //    바뀔 수 있는 문이 열린다.
-        //
-        // ⚠️ **읽은 알림은 안 건드린다.** 사용자가 이미 본 기록을 지우면 안 된다.
+        deleteUnreadChatNotification(command);
+
+        // 1. 알림 엔티티 생성 및 저장
+        Notification savedNotification = notificationRepository.save(toEntity(command));
+        
+        // 2. NotificationDto로 변환
+        NotificationDto notificationDto = NotificationDto.fromEntity(savedNotification);
+        
+        // 3. 커밋 뒤에 캐시 무효화 (해당 사용자의 알림 목록, 안 읽은 개수)와 실시간 전송 (SSE 등)
+        runAfterCommit(() -> {
+            notificationCache.evictAll(command.getUserId());
+            notificationSender.sendNotification(command.getUserId(), notificationDto);
+        });
+    }
+    
+    @Override
+    @Transactional
+    public void createNotifications(List<NotificationCreateCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        
+        // 1. 알림 엔티티 생성 및 JDBC 배치 저장
+        //    같은 방 채팅 알림이 한 묶음에 여럿이면 마지막 것만 만든다 (#873, 아래 deleteUnreadChatNotification 참고)
+        List<NotificationCreateCommand> coalesced = coalesceChatNotifications(commands);
+        List<Notification> notifications = new ArrayList<>(coalesced.size());
+        for (NotificationCreateCommand command : coalesced) {
+            deleteUnreadChatNotification(command);
+            notifications.add(toEntity(command));
+        }
+        List<Long> notificationIds = notificationRepository.insertAll(notifications);
+        
+        // 2. 사용자별로 묶어 NotificationDto로 변환
+        Map<Long, List<NotificationDto>> notificationsByUserId = new LinkedHashMap<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            notificationsByUserId
+                    .computeIfAbsent(notification.getUserId(), userId -> new ArrayList<>())
+                    .add(NotificationDto.fromEntity(notification, notificationIds.get(i)));
+        }
+        
+        // 3. 커밋 뒤에 캐시 무효화 (받는 사용자 전원)와 실시간 전송 (사용자별로 묶어서)
+        runAfterCommit(() -> {
+            notificationCache.evictAll(notificationsByUserId.keySet());
+            notificationSender.sendNotifications(notificationsByUserId);
+        });
+    }
+    
+    /**
+     * 트랜잭션이 커밋된 뒤에 실행 (트랜잭션 밖이면 바로)
+     *
+     * 알림 행이 되돌려지면 보낸 알림도 없던 것이 되어야 한다. 커밋 전에 보내면
+     * 아웃박스 릴레이가 묶음을 되돌리고 한 행씩 다시 만들 때 같은 알림이 두 번 가고,
+     * 먼저 간 것은 DB 에 없는 알림 ID 를 SSE 이벤트 ID 로 달고 있다.
+     * 느린 SSE 클라이언트에 쓰는 동안 아웃박스 행 잠금을 쥐고 있지도 않는다.
+     */
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    /**
+     * 한 묶음 안의 같은 방 채팅 알림은 마지막 것만 남긴다
+     *
+     * deleteUnreadChatNotification 은 이미 저장된 알림만 지운다. 아웃박스 릴레이가 자리를 비운 사용자의
+     * 같은 방 채팅 알림 여러 개를 한 묶음으로 넘기면 모두 저장되어 알림 N 개 · SSE N 번이 된다.
+     * 마지막 것이 밀린 개수(groupCount)를 포함한 최신 문구다. 나머지 알림은 순서를 그대로 둔다.
+     */
+    private List<NotificationCreateCommand> coalesceChatNotifications(List<NotificationCreateCommand> commands) {
+        Map<List<Long>, Integer> lastIndexByRoom = new HashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            NotificationCreateCommand command = commands.get(i);
+            if (isCoalescedChat(command)) {
+                lastIndexByRoom.put(List.of(command.getUserId(), command.getRelatedEntityId()), i);
+            }
+        }
+        if (lastIndexByRoom.isEmpty()) {
+            return commands;
+        }
+        
+        List<NotificationCreateCommand> coalesced = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            NotificationCreateCommand command = commands.get(i);
+            if (!isCoalescedChat(command)
+                    || lastIndexByRoom.get(List.of(command.getUserId(), command.getRelatedEntityId())) == i) {
+                coalesced.add(command);
+            }
+        }
+        return coalesced;
+    }
+    
+    private static boolean isCoalescedChat(NotificationCreateCommand command) {
+        return command.getNotificationType() == NotificationType.CHAT_NEW_MESSAGE
+                && command.getUserId() != null
+                && command.getRelatedEntityId() != null;
+    }
+    
+    /**
+     * 채팅은 한 방에 알림 하나로 묶는다 (#873)
+     *
+     * 자리를 비운 사이 메시지가 여러 개 오면 알림이 그만큼 쌓인다. 사용자에게는
+     * 「그 사람과의 대화 하나」인데 목록이 한 사람으로 도배되고, 안 읽은 알림 수도
+     * 그만큼 부풀어 오른다. 그래서 안 읽은 옛 알림을 지우고 새로 하나 만든다.
+     * 몇 개가 밀렸는지는 문구에 적는다(ChatServiceImpl 에서 만든다).
+     *
+     * ⚠️ **갱신이 아니라 지우고 새로 만드는 이유**: createdAt 이 updatable = false 라
+     *    갱신해도 목록에서 맨 위로 안 올라온다. 그 제약을 풀면 다른 알림도 생성 시각이
+     *    바뀔 수 있는 문이 열린다.
+     *
+     * ⚠️ **읽은 알림은 안 건드린다.** 사용자가 이미 본 기록을 지우면 안 된다.
+     */
+    private void deleteUnreadChatNotification(NotificationCreateCommand command) {
         if (command.getNotificationType() == NotificationType.CHAT_NEW_MESSAGE
                 && command.getRelatedEntityId() != null) {
             notificationRepository.deleteUnreadByUserAndTypeAndEntity(
@@ -59,9 +174,10 @@ public class NotificationServiceImpl implements NotificationService {
                     command.getRelatedEntityId()
             );
         }
-
-        // 1. 알림 엔티티 생성 및 저장
-        Notification notification = Notification.builder()
+    }
+    
+    private Notification toEntity(NotificationCreateCommand command) {
+        return Notification.builder()
                 .userId(command.getUserId())
                 .notificationType(command.getNotificationType())
                 .title(command.getTitle())
@@ -70,25 +186,14 @@ public class NotificationServiceImpl implements NotificationService {
                 .relatedEntityId(command.getRelatedEntityId())
                 .groupCount(command.getGroupCount())
                 .build();
-        
-        Notification savedNotification = notificationRepository.save(notification);
-        
-        // 2. NotificationDto로 변환
-        NotificationDto notificationDto = NotificationDto.fromEntity(savedNotification);
-        
-        // 3. 캐시 무효화 (해당 사용자의 알림 목록, 안 읽은 개수)
-        notificationCache.evictAll(command.getUserId());
-        
-        // 4. 실시간 전송 (SSE 등)
-        notificationSender.sendNotification(command.getUserId(), notificationDto);
     }
     
     @Override
     public PageResult<NotificationDto> getNotificationList(String email, Pageable pageable) {
         // 1. 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException());
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 2. 캐시에서 조회 시도
         PageResult<NotificationDto> cachedResult = notificationCache.getNotificationList(userId, pageable);
@@ -112,9 +217,9 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public Long getUnreadCount(String email) {
         // 1. 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException());
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 2. 캐시에서 조회 시도
         Long cachedCount = notificationCache.getUnreadCount(userId);
@@ -135,9 +240,9 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional
     public void markAsRead(String email, Long notificationId) {
         // 1. 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException());
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 2. 알림 존재 여부 및 소유자 확인
         Notification notification = notificationRepository.findById(notificationId)
@@ -169,9 +274,9 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional
     public void markAllAsRead(String email) {
         // 1. 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException());
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 2. RDB에서 모든 알림 읽음 처리
         notificationRepository.markAllAsRead(userId, LocalDateTime.now());
@@ -179,4 +284,13 @@ public class NotificationServiceImpl implements NotificationService {
         // 3. 캐시 무효화 (데이터 정합성 보장)
         notificationCache.evictAll(userId);
     }
+    
+    @Override
+    public List<NotificationDto> getNotificationsAfter(Long userId, Long afterNotificationId, int limit) {
+        return notificationRepository
+                .findByUserIdAndIdGreaterThanOrderByIdAsc(userId, afterNotificationId, PageRequest.of(0, limit))
+                .stream()
+                .map(NotificationDto::fromEntity)
+                .toList();
+    }
 }
@@ -0,0 +1,146 @@
+package org.cmarket.cmarket.domain.notification.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스 엔티티
+ *
+ * 알림을 만들어야 하는 변경(채팅, 댓글, 상품 상태 변경 등)과 같은 트랜잭션에서 저장합니다.
+ * 변경이 롤백되면 이 행도 같이 사라지고, 커밋되면 서버가 재시작되어도 남아 있다가 릴레이가 알림으로 만듭니다.
+ * 알림으로 만든 행은 지웁니다.
+ *
+ * - NOTIFICATION: userId 에게 알림 하나
+ * - FAVORITE_FAN_OUT: productId 를 찜한 사용자 전원에게 같은 알림 (userId 는 비어 있다).
+ *   fanOutCursor 까지의 찜은 이미 보냈다.
+ *
+ * 실패하면 attempts 를 올리고 nextAttemptAt 까지 미룹니다. 정해진 횟수를 넘기면 failedAt 을 남기고 더 보내지 않습니다.
+ */
+@Entity
+@Table(
+    name = "notification_outbox",
+    indexes = {
+        @Index(name = "idx_notification_outbox_relayable", columnList = "failed_at, outbox_type, next_attempt_at, id"),
+        @Index(name = "idx_notification_outbox_user_id", columnList = "user_id, id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "outbox_type", length = 30)
+    private NotificationOutboxType outboxType;
+
+    @Column(name = "user_id")
+    private Long userId;  // 수신자 ID (FAVORITE_FAN_OUT 은 null)
+
+    @Column(name = "product_id")
+    private Long productId;  // 찜한 상품 ID (FAVORITE_FAN_OUT 만)
+
+    @Column(name = "fan_out_cursor")
+    private Long fanOutCursor;  // 마지막으로 보낸 찜 ID (FAVORITE_FAN_OUT 만, 처음은 0)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "notification_type", length = 50)
+    private NotificationType notificationType;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    @Column(name = "related_entity_type", length = 50)
+    private String relatedEntityType;
+
+    @Column(name = "related_entity_id")
+    private Long relatedEntityId;
+
+    @Column(name = "group_count")
+    private Integer groupCount;
+
+    @Column(nullable = false)
+    private Integer attempts;  // 실패한 횟수
+
+    @Column(nullable = false, name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;  // 이 시각 이후에 보낸다
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;  // 재시도를 포기한 시각 (nullable)
+
+    @Column(nullable = false, updatable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Builder
+    public NotificationOutbox(
+            NotificationOutboxType outboxType,
+            Long userId,
+            Long productId,
+            NotificationType notificationType,
+            String title,
+            String content,
+            String relatedEntityType,
+            Long relatedEntityId,
+            Integer groupCount
+    ) {
+        this.outboxType = outboxType;
+        this.userId = userId;
+        this.productId = productId;
+        this.fanOutCursor = outboxType == NotificationOutboxType.FAVORITE_FAN_OUT ? 0L : null;
+        this.notificationType = notificationType;
+        this.title = title;
+        this.content = content;
+        this.relatedEntityType = relatedEntityType;
+        this.relatedEntityId = relatedEntityId;
+        this.groupCount = groupCount;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    /**
+     * 찜한 사용자 한 페이지를 보낸 뒤 진행 위치 옮기기
+     *
+     * @param favoriteId 이번 페이지의 마지막 찜 ID
+     */
+    public void advanceFanOutCursor(Long favoriteId) {
+        this.fanOutCursor = favoriteId;
+    }
+
+    /**
+     * 실패 기록
+     *
+     * @param error 오류 메시지
+     * @param nextAttemptAt 다시 보낼 시각, null 이면 재시도를 포기한다
+     */
+    public void recordFailure(String error, LocalDateTime nextAttemptAt) {
+        this.attempts = attempts + 1;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (nextAttemptAt == null) {
+            this.failedAt = LocalDateTime.now();
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.cmarket.cmarket.domain.notification.model;
+
+/**
+ * 알림 아웃박스 행 종류
+ */
+public enum NotificationOutboxType {
+    NOTIFICATION,       // 사용자 한 명에게 알림 하나
+    FAVORITE_FAN_OUT    // 상품을 찜한 사용자 전원에게 같은 알림 (찜 ID 순서로 페이지씩 나간다)
+}
@@ -0,0 +1,131 @@
+package org.cmarket.cmarket.domain.notification.repository;
+
+import org.cmarket.cmarket.domain.notification.model.NotificationOutbox;
+import org.cmarket.cmarket.domain.notification.model.NotificationOutboxType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * NotificationOutbox 엔티티 레포지토리 인터페이스
+ *
+ * 주요 기능:
+ * - 보낼 차례가 된 행 조회 · 잠금 (서버 여러 대가 같은 행을 같이 보내지 않도록 SKIP LOCKED)
+ * - 사용자별 순서를 지키기 위한 앞선 행 조회
+ * - 보낸 행 삭제
+ * - 지표용 집계
+ */
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 보낼 차례가 된 행 ID 조회 (잠그지 않음)
+     *
+     * 같은 사용자의 앞선 행이 재시도를 기다리고 있으면 뒤 행도 고르지 않습니다.
+     * 그런 행이 앞자리를 채워 다른 사용자의 행이 밀리지 않게 하기 위해서입니다.
+     *
+     * @param outboxType 행 종류
+     * @param now 기준 시각 (nextAttemptAt 이 이 시각 이전인 행만)
+     * @param pageable 최대 개수 (페이지 번호는 0)
+     * @return 행 ID 목록 (ID 오름차순)
+     */
+    @Query("SELECT o.id FROM NotificationOutbox o " +
+           "WHERE o.failedAt IS NULL AND o.outboxType = :outboxType AND o.nextAttemptAt <= :now " +
+           "AND NOT EXISTS (" +
+           "    SELECT 1 FROM NotificationOutbox p " +
+           "    WHERE p.userId = o.userId AND p.id < o.id AND p.failedAt IS NULL AND p.nextAttemptAt > :now" +
+           ") " +
+           "ORDER BY o.id")
+    List<Long> findRelayableIds(
+            @Param("outboxType") NotificationOutboxType outboxType,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 보낼 행 잠그기
+     *
+     * 아직 보낼 차례인 행만 잠급니다. 다른 서버가 잠근 행은 기다리지 않고 건너뜁니다 (SKIP LOCKED).
+     * 같은 트랜잭션에서 알림을 만들고 행을 지울 때까지 잠금이 유지됩니다.
+     *
+     * @param ids 행 ID 목록
+     * @param now 기준 시각
+     * @return 잠근 행 (ID 오름차순)
+     */
+    @Query(value = "SELECT * FROM notification_outbox " +
+                   "WHERE id IN (:ids) AND failed_at IS NULL AND next_attempt_at <= :now " +
+                   "ORDER BY id " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<NotificationOutbox> lockRelayable(
+            @Param("ids") Collection<Long> ids,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 행 하나 잠그기 (찜한 사용자 알림)
+     *
+     * @param id 행 ID
+     * @param now 기준 시각
+     * @return 잠근 행 (없거나, 다른 서버가 잠갔거나, 아직 차례가 아니면 empty)
+     */
+    @Query(value = "SELECT * FROM notification_outbox " +
+                   "WHERE id = :id AND failed_at IS NULL AND next_attempt_at <= :now " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<NotificationOutbox> lockRelayable(
+            @Param("id") Long id,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 사용자별 아직 안 보낸 행 조회 (maxId 까지)
+     *
+     * 재시도를 기다리는 행도 포함합니다. 앞선 행이 남아 있는 사용자의 뒤 행은 보내지 않기 위해 씁니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @param maxId 이 ID 까지만
+     * @return 행 목록 (ID 오름차순)
+     */
+    @Query("SELECT o FROM NotificationOutbox o " +
+           "WHERE o.userId IN :userIds AND o.failedAt IS NULL AND o.id <= :maxId " +
+           "ORDER BY o.id")
+    List<NotificationOutbox> findPendingByUserIds(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("maxId") Long maxId
+    );
+
+    /**
+     * 행 삭제 (알림을 만든 뒤)
+     *
+     * @param ids 행 ID 목록
+     * @return 삭제된 개수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM notification_outbox WHERE id IN (:ids)", nativeQuery = true)
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 아직 안 보낸 행 개수 (재시도 대기 포함)
+     */
+    long countByFailedAtIsNull();
+
+    /**
+     * 재시도를 포기한 행 개수
+     */
+    long countByFailedAtIsNotNull();
+
+    /**
+     * 아직 안 보낸 행 중 가장 오래된 생성 시각
+     *
+     * @return 생성 시각 (없으면 null)
+     */
+    @Query("SELECT MIN(o.createdAt) FROM NotificationOutbox o WHERE o.failedAt IS NULL")
+    LocalDateTime findOldestPendingCreatedAt();
+}
@@ -24,8 +24,9 @@ import java.util.List;
  * - 사용자별 안 읽은 알림 목록 조회
  * - 알림 읽음 처리
  * - 사용자별 모든 알림 읽음 처리
+ * - 대량 저장 (NotificationRepositoryCustom)
  */
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
     
     /**
      * 사용자별 알림 목록 조회 (페이지네이션, 최신순 정렬)
@@ -52,6 +53,18 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
     
+    /**
+     * 사용자별 특정 알림 이후 알림 조회 (ID 오름차순)
+     * 
+     * SSE 재연결 시 Last-Event-ID 이후에 놓친 알림을 다시 보낼 때 씁니다.
+     * 
+     * @param userId 사용자 ID
+     * @param notificationId 이 알림 ID 보다 큰 것만
+     * @param pageable 최대 개수
+     * @return 알림 목록 (ID 오름차순)
+     */
+    List<Notification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long notificationId, Pageable pageable);
+    
     /**
      * 알림 읽음 처리
      * 
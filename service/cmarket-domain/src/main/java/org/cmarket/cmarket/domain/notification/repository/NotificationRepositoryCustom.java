@@ -0,0 +1,25 @@
+package org.cmarket.cmarket.domain.notification.repository;
+
+import org.cmarket.cmarket.domain.notification.model.Notification;
+
+import java.util.List;
+
+/**
+ * Notification 엔티티 커스텀 레포지토리 인터페이스
+ * 
+ * JPA 로는 느린 대량 저장을 정의합니다.
+ */
+public interface NotificationRepositoryCustom {
+    
+    /**
+     * 알림 여러 개 한꺼번에 저장 (JDBC 배치)
+     * 
+     * ID 가 IDENTITY 라 Hibernate 는 INSERT 를 묶지 못하고 한 건씩 보낸다.
+     * 찜한 사용자 수천 명에게 알림을 만들 때를 위해 JDBC 배치로 묶어 넣는다.
+     * 영속성 컨텍스트를 거치지 않으므로 넘긴 엔티티에는 ID 가 채워지지 않는다.
+     * 
+     * @param notifications 저장할 알림
+     * @return 만들어진 알림 ID (notifications 와 같은 순서)
+     */
+    List<Long> insertAll(List<Notification> notifications);
+}
@@ -0,0 +1,77 @@
+package org.cmarket.cmarket.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.cmarket.cmarket.domain.notification.model.Notification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Notification 엔티티 커스텀 레포지토리 구현체
+ * 
+ * JdbcTemplate 은 진행 중인 JPA 트랜잭션의 연결을 그대로 쓴다 (같은 트랜잭션으로 커밋 · 롤백).
+ * MySQL 에서 실제로 여러 행 INSERT 로 묶이려면 접속 URL 에 rewriteBatchedStatements=true 가 있어야 한다.
+ */
+@RequiredArgsConstructor
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+    
+    // 한 번에 보내는 행 수 (패킷 크기 · 잠금 시간을 적당히 자른다)
+    private static final int BATCH_SIZE = 500;
+    
+    private static final String INSERT_SQL = "INSERT INTO notifications "
+            + "(user_id, notification_type, title, content, related_entity_type, related_entity_id, "
+            + "group_count, is_read, read_at, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public List<Long> insertAll(List<Notification> notifications) {
+        List<Long> ids = new ArrayList<>(notifications.size());
+        for (int from = 0; from < notifications.size(); from += BATCH_SIZE) {
+            int to = Math.min(notifications.size(), from + BATCH_SIZE);
+            ids.addAll(insertBatch(notifications.subList(from, to)));
+        }
+        return ids;
+    }
+    
+    private List<Long> insertBatch(List<Notification> batch) {
+        return jdbcTemplate.execute(
+                (Connection connection) -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                (PreparedStatement statement) -> {
+                    for (Notification notification : batch) {
+                        statement.setLong(1, notification.getUserId());
+                        statement.setString(2, notification.getNotificationType().name());
+                        statement.setString(3, notification.getTitle());
+                        statement.setString(4, notification.getContent());
+                        statement.setString(5, notification.getRelatedEntityType());
+                        statement.setObject(6, notification.getRelatedEntityId(), Types.BIGINT);
+                        statement.setObject(7, notification.getGroupCount(), Types.INTEGER);
+                        statement.setBoolean(8, notification.getIsRead());
+                        statement.setObject(9, notification.getReadAt(), Types.TIMESTAMP);
+                        statement.setObject(10, notification.getCreatedAt());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    
+                    List<Long> ids = new ArrayList<>(batch.size());
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            ids.add(keys.getLong(1));
+                        }
+                    }
+                    if (ids.size() != batch.size()) {
+                        throw new IllegalStateException(
+                                "알림 ID 를 받지 못했습니다: expected=" + batch.size() + ", actual=" + ids.size());
+                    }
+                    return ids;
+                }
+        );
+    }
+}
@@ -1,10 +1,12 @@
 package org.cmarket.cmarket.domain.product.app.service;
 
 import lombok.RequiredArgsConstructor;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.domain.auth.model.User;
 import org.cmarket.cmarket.domain.auth.repository.UserRepository;
 import org.cmarket.cmarket.domain.notification.app.dto.NotificationCreateCommand;
-import org.cmarket.cmarket.domain.notification.app.event.NotificationCreatedEvent;
+import org.cmarket.cmarket.domain.notification.app.event.FavoriteNotificationFanOutEvent;
 import org.cmarket.cmarket.domain.notification.model.NotificationType;
 import org.cmarket.cmarket.domain.product.app.dto.FavoriteItemDto;
 import org.cmarket.cmarket.domain.product.app.dto.FavoriteListDto;
@@ -26,9 +28,11 @@ import org.cmarket.cmarket.domain.product.model.ProductType;
 import org.cmarket.cmarket.domain.product.model.TradeStatus;
 import org.cmarket.cmarket.domain.product.repository.FavoriteRepository;
 import org.cmarket.cmarket.domain.product.repository.ProductRepository;
+import org.cmarket.cmarket.domain.product.repository.ProductSearchDocument;
 import org.cmarket.cmarket.domain.profile.app.dto.PageResult;
 import org.cmarket.cmarket.domain.report.repository.UserBlockRepository;
-import org.cmarket.cmarket.domain.view.app.service.ViewLogService;
+import org.cmarket.cmarket.domain.search.app.service.ProductSearchIndex;
+import org.cmarket.cmarket.domain.view.app.service.ViewCounter;
 import org.cmarket.cmarket.domain.view.model.ViewTargetType;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
@@ -52,18 +56,20 @@ public class ProductServiceImpl implements ProductService {
     
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     private final FavoriteRepository favoriteRepository;
     private final UserBlockRepository userBlockRepository;
-    private final ViewLogService viewLogService;
+    private final ViewCounter viewCounter;
+    private final ProductSearchIndex productSearchIndex;
     private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public ProductDto createProduct(String email, ProductCreateCommand command) {
         // 사용자 조회 (판매자 확인)
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long sellerId = user.getId();
+        Long sellerId = user.userId();
         // Product 엔티티 생성
         Product product = Product.builder()
                 .sellerId(sellerId)
@@ -85,6 +91,9 @@ public class ProductServiceImpl implements ProductService {
         // 저장
         Product savedProduct = productRepository.save(product);
         
+        // 검색 색인 반영 (커밋 후)
+        productSearchIndex.index(ProductSearchDocument.from(savedProduct));
+        
         // DTO로 변환하여 반환
         return ProductDto.fromEntity(savedProduct);
     }
@@ -92,13 +101,14 @@ public class ProductServiceImpl implements ProductService {
     /**
      * 상품 상세 조회
      *
-     * ⚠️ 예전에는 @Transactional(readOnly = true) 였다. 되돌리지 말 것.
-     *    읽기 전용 트랜잭션에서는 하이버네이트가 플러시를 하지 않아 조회수 UPDATE가 나가지 않았다.
-     *    그래서 상품 조회수가 한 번도 오르지 않았다(운영 상품 60개가 전부 0이었다).
-     *    자세한 사연은 아래 increaseViewCount 주석에 적어 두었다.
+     * ⚠️ 한동안 쓰기 트랜잭션이었다. 조회수를 엔티티 더티체킹으로 올렸기 때문인데,
+     *    읽기 전용 트랜잭션에서는 하이버네이트가 플러시를 하지 않아 조회수 UPDATE가 나가지 않았다
+     *    (운영 상품 60개가 전부 0이었다). 대신 상세 조회마다 상품 행에 락을 잡았다.
+     *    지금은 조회수를 ViewCounter 에 모아 따로 반영하므로 여기서는 아무것도 쓰지 않는다.
+     *    이 메서드 안에서 엔티티를 고쳐 조회수를 올리는 방식으로 되돌리지 말 것.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ProductDetailDto getProductDetail(Long productId, String email) {
         // 상품 조회 (소프트 삭제된 상품 제외)
         Product product = productRepository.findByIdAndDeletedAtIsNull(productId)
@@ -109,11 +119,7 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("판매자를 찾을 수 없습니다."));
 
         // 현재 로그인한 사용자 ID 조회 (비로그인 시 null)
-        final Long userId = email != null
-                ? userRepository.findByEmailAndDeletedAtIsNull(email)
-                        .map(User::getId)
-                        .orElse(null)
-                : null;
+        final Long userId = userIdentityResolver.findUserIdOrNull(email);
 
         // 차단한 판매자의 상품은 상세도 못 본다.
         //
@@ -157,7 +163,8 @@ public class ProductServiceImpl implements ProductService {
                 .toList();
         
         // 조회수 증가 처리 (로그인한 사용자이고 판매자가 아닌 경우)
-        increaseViewCount(product, userId);
+        // DB 반영은 나중이므로, 이번 조회가 세졌으면 응답에만 미리 더해 보여 준다.
+        long viewCount = product.getViewCount() + (increaseViewCount(product, userId) ? 1 : 0);
         
         // ProductDetailDto 생성 및 반환
         return ProductDetailDto.builder()
@@ -176,7 +183,7 @@ public class ProductServiceImpl implements ProductService {
                 .addressSido(product.getAddressSido())
                 .addressGugun(product.getAddressGugun())
                 .createdAt(product.getCreatedAt())
-                .viewCount(product.getViewCount())
+                .viewCount(viewCount)
                 .favoriteCount(product.getFavoriteCount())
                 .isFavorite(isFavorite)
                 .sellerInfo(sellerInfo)
@@ -190,35 +197,24 @@ public class ProductServiceImpl implements ProductService {
      * 로그인한 사용자가 상품을 조회했을 때, 판매자 본인이 아니고
      * 오늘 처음 보는 상품이라면 조회수를 증가시킵니다.
      *
-     * ⚠️ 예전에는 여기가 increaseViewCountInSeparateTransaction 이라는 별도 트랜잭션이었다.
-     *    그런데 상세 조회 메서드가 같은 클래스 안에서 그것을 그냥 불렀다.
-     *    스프링의 @Transactional 은 프록시(대리인)를 거쳐야 먹는데,
-     *    같은 클래스 안의 호출은 대리인을 안 거치므로 REQUIRES_NEW 가 무시됐다.
-     *    결국 읽기 전용 트랜잭션 안에서 돌아 UPDATE 가 한 번도 나가지 않았다.
+     * 실제 UPDATE 는 ViewCounter 가 모아서 주기적으로 한꺼번에 보낸다.
+     * 커뮤니티 글(CommunityServiceImpl.increaseViewCount)과 같은 모양이다.
      *
-     *    지금은 커뮤니티 글(CommunityServiceImpl.increaseViewCount)과 같은 모양으로 맞췄다.
-     *    영속 상태 엔티티를 고치면 트랜잭션 커밋 때 더티체킹으로 UPDATE 가 나가므로
-     *    save() 를 부르지 않는다.
-     *
-     * @param product 상품 엔티티 (이 트랜잭션에서 조회한 영속 상태여야 한다)
+     * @param product 상품 엔티티
      * @param viewerId 현재 로그인한 사용자 ID (비로그인 시 null)
+     * @return 이번 조회가 세졌으면 true
      */
-    private void increaseViewCount(Product product, Long viewerId) {
+    private boolean increaseViewCount(Product product, Long viewerId) {
         if (viewerId == null) {
-            return;
+            return false;
         }
 
         if (product.getSellerId().equals(viewerId)) {
-            return;  // 판매자가 본인일 경우 조회수 증가 없음
+            return false;  // 판매자가 본인일 경우 조회수 증가 없음
         }
 
         // 같은 사람이 같은 상품을 같은 날(한국 시간) 다시 봐도 한 번만 센다.
-        // 기록 남기기와 조회수 올리기가 같은 트랜잭션이라 둘이 어긋나지 않는다.
-        if (!viewLogService.markViewedToday(viewerId, ViewTargetType.PRODUCT, product.getId())) {
-            return;
-        }
-
-        product.increaseViewCount();
+        return viewCounter.recordView(viewerId, ViewTargetType.PRODUCT, product.getId());
     }
 
     @Override
@@ -229,10 +225,10 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.product.app.exception.ProductNotFoundException("상품을 찾을 수 없습니다."));
         
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 권한 확인: 판매자 본인만 수정 가능
         if (!product.getSellerId().equals(userId)) {
@@ -261,22 +257,22 @@ public class ProductServiceImpl implements ProductService {
         // 저장
         Product updatedProduct = productRepository.save(product);
         
+        // 검색 색인 반영 (커밋 후)
+        productSearchIndex.index(ProductSearchDocument.from(updatedProduct));
+        
         // 가격이 변경되었을 때 찜한 사용자들에게 알림 발행
+        // (받는 사람마다 발행하지 않고 한 번만 발행한다 - 찜한 사용자는 받는 쪽이 나눠 읽는다)
         if (priceChanged) {
-            List<Long> favoriteUserIds = favoriteRepository.findUserIdsByProductId(productId);
-            for (Long favoriteUserId : favoriteUserIds) {
-                NotificationCreateCommand notificationCommand = NotificationCreateCommand.builder()
-                        .userId(favoriteUserId)
-                        .notificationType(NotificationType.PRODUCT_FAVORITE_PRICE_CHANGED)
-                        .title("찜한 상품의 가격이 변경되었습니다")
-                        .content(String.format("'%s' 상품의 가격이 변경되었습니다. (기존: %,d원 → 변경: %,d원)", 
-                                product.getTitle(), oldPrice, command.price()))
-                        .relatedEntityType("PRODUCT")
-                        .relatedEntityId(productId)
-                        .build();
-                
-                eventPublisher.publishEvent(new NotificationCreatedEvent(this, favoriteUserId, notificationCommand));
-            }
+            NotificationCreateCommand notificationTemplate = NotificationCreateCommand.builder()
+                    .notificationType(NotificationType.PRODUCT_FAVORITE_PRICE_CHANGED)
+                    .title("찜한 상품의 가격이 변경되었습니다")
+                    .content(String.format("'%s' 상품의 가격이 변경되었습니다. (기존: %,d원 → 변경: %,d원)", 
+                            product.getTitle(), oldPrice, command.price()))
+                    .relatedEntityType("PRODUCT")
+                    .relatedEntityId(productId)
+                    .build();
+            
+            eventPublisher.publishEvent(new FavoriteNotificationFanOutEvent(this, productId, notificationTemplate));
         }
         
         // DTO로 변환하여 반환
@@ -291,10 +287,10 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.product.app.exception.ProductNotFoundException("상품을 찾을 수 없습니다."));
         
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 권한 확인: 판매자 본인만 거래 상태 변경 가능
         if (!product.getSellerId().equals(userId)) {
@@ -314,22 +310,18 @@ public class ProductServiceImpl implements ProductService {
         
         // 거래 상태가 변경되었을 때 찜한 사용자들에게 알림 발행
         if (statusChanged) {
-            List<Long> favoriteUserIds = favoriteRepository.findUserIdsByProductId(productId);
-            for (Long favoriteUserId : favoriteUserIds) {
-                // oldTradeStatus가 null인 경우 null로 전달
-                String oldStatusName = oldTradeStatus != null ? oldTradeStatus.name() : null;
-                NotificationCreateCommand notificationCommand = NotificationCreateCommand.builder()
-                        .userId(favoriteUserId)
-                        .notificationType(NotificationType.PRODUCT_FAVORITE_STATUS_CHANGED)
-                        .title("찜한 상품의 거래 상태가 변경되었습니다")
-                        .content(String.format("'%s' 상품의 거래 상태가 '%s'에서 '%s'로 변경되었습니다.", 
-                                product.getTitle(), oldStatusName, command.tradeStatus().name()))
-                        .relatedEntityType("PRODUCT")
-                        .relatedEntityId(productId)
-                        .build();
-                
-                eventPublisher.publishEvent(new NotificationCreatedEvent(this, favoriteUserId, notificationCommand));
-            }
+            // oldTradeStatus가 null인 경우 null로 전달
+            String oldStatusName = oldTradeStatus != null ? oldTradeStatus.name() : null;
+            NotificationCreateCommand notificationTemplate = NotificationCreateCommand.builder()
+                    .notificationType(NotificationType.PRODUCT_FAVORITE_STATUS_CHANGED)
+                    .title("찜한 상품의 거래 상태가 변경되었습니다")
+                    .content(String.format("'%s' 상품의 거래 상태가 '%s'에서 '%s'로 변경되었습니다.", 
+                            product.getTitle(), oldStatusName, command.tradeStatus().name()))
+                    .relatedEntityType("PRODUCT")
+                    .relatedEntityId(productId)
+                    .build();
+            
+            eventPublisher.publishEvent(new FavoriteNotificationFanOutEvent(this, productId, notificationTemplate));
         }
         
         // DTO로 변환하여 반환
@@ -344,14 +336,14 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.product.app.exception.ProductNotFoundException("상품을 찾을 수 없습니다."));
         
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 권한 확인: 판매자 본인 또는 관리자만 삭제 가능
         boolean isOwner = product.getSellerId().equals(userId);
-        boolean isAdmin = user.getRole() == org.cmarket.cmarket.domain.auth.model.UserRole.ADMIN;
+        boolean isAdmin = user.isAdmin();
         if (!isOwner && !isAdmin) {
             throw new org.cmarket.cmarket.domain.auth.app.exception.AuthenticationFailedException("상품을 삭제할 권한이 없습니다.");
         }
@@ -359,6 +351,9 @@ public class ProductServiceImpl implements ProductService {
         // 소프트 삭제 처리
         product.softDelete();
         productRepository.save(product);
+        
+        // 검색 색인에서 제거 (커밋 후)
+        productSearchIndex.remove(productId);
     }
     
     @Override
@@ -369,10 +364,10 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.product.app.exception.ProductNotFoundException("상품을 찾을 수 없습니다."));
         
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 찜 여부 확인
         boolean isFavorite = favoriteRepository.existsByUserIdAndProductId(userId, productId);
@@ -405,10 +400,10 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public FavoriteListDto getFavoriteList(Pageable pageable, String email) {
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 찜 목록 조회 (페이지네이션, 최신순 정렬)
         Page<Favorite> favoritePage = favoriteRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
@@ -477,10 +472,10 @@ public class ProductServiceImpl implements ProductService {
     @Transactional
     public ProductDto createProductRequest(String email, ProductRequestCreateCommand command) {
         // 사용자 조회 (게시자 확인)
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long sellerId = user.getId();
+        Long sellerId = user.userId();
         
         // Product 엔티티 생성 (판매 요청)
         Product product = Product.builder()
@@ -503,6 +498,9 @@ public class ProductServiceImpl implements ProductService {
         // 저장
         Product savedProduct = productRepository.save(product);
         
+        // 검색 색인 반영 (커밋 후)
+        productSearchIndex.index(ProductSearchDocument.from(savedProduct));
+        
         // DTO로 변환하여 반환
         return ProductDto.fromEntity(savedProduct);
     }
@@ -565,10 +563,10 @@ public class ProductServiceImpl implements ProductService {
         }
         
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 권한 확인: 게시자 본인만 수정 가능
         if (!product.getSellerId().equals(userId)) {
@@ -598,6 +596,9 @@ public class ProductServiceImpl implements ProductService {
         // 저장
         Product updatedProduct = productRepository.save(product);
         
+        // 검색 색인 반영 (커밋 후)
+        productSearchIndex.index(ProductSearchDocument.from(updatedProduct));
+        
         // DTO로 변환하여 반환
         return ProductDto.fromEntity(updatedProduct);
     }
@@ -606,10 +607,10 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public MyProductListDto getMyProductList(Pageable pageable, String email) {
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
         
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // 내가 등록한 상품 목록 조회 (판매 상품 + 판매 요청 모두 포함, 최신순 정렬)
         Page<Product> productPage = productRepository.findBySellerIdAndDeletedAtIsNullOrderByCreatedAtDesc(
@@ -629,10 +630,10 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public MyProductListDto getMySellProductList(Pageable pageable, String email, TradeStatus tradeStatus) {
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
 
-        Long userId = user.getId();
+        Long userId = user.userId();
 
         // 내가 등록한 판매 상품 목록 조회 (판매 상품만, 최신순 정렬)
         // tradeStatus가 있으면 그 상태만. null이면 전체 — 예전 호출이 그대로 동작한다.
@@ -654,10 +655,10 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public MyProductListDto getMyPurchaseRequestList(Pageable pageable, String email, TradeStatus tradeStatus) {
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException("사용자를 찾을 수 없습니다."));
 
-        Long userId = user.getId();
+        Long userId = user.userId();
 
         // 내가 등록한 판매 요청 목록 조회 (판매 요청만, 최신순 정렬)
         // tradeStatus가 있으면 그 상태만. null이면 전체 — 예전 호출이 그대로 동작한다.
@@ -701,11 +702,7 @@ public class ProductServiceImpl implements ProductService {
         );
 
         // 현재 로그인한 사용자 ID 조회 (비로그인 시 null)
-        final Long currentUserId = email != null
-                ? userRepository.findByEmailAndDeletedAtIsNull(email)
-                        .map(User::getId)
-                        .orElse(null)
-                : null;
+        final Long currentUserId = userIdentityResolver.findUserIdOrNull(email);
 
         // N+1 문제 방지: 한 번의 쿼리로 찜한 상품 ID 목록 조회
         final java.util.Set<Long> favoriteProductIds = currentUserId != null && !productPage.getContent().isEmpty()
@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -31,7 +32,15 @@ import java.util.List;
  */
 @Entity
 @Table(
-    name = "products"
+    name = "products",
+    indexes = {
+        // 커서(keyset) 검색용: (정렬 키, id) 순서 그대로 읽어 OFFSET · 정렬 작업이 없게 한다
+        @Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_products_price_id", columnList = "price, id"),
+        @Index(name = "idx_products_favorite_count_id", columnList = "favorite_count, id"),
+        // 검색 색인 증분 갱신용: updated_at 이후 바뀐 상품을 (updated_at, id) 순서로 나눠 읽는다
+        @Index(name = "idx_products_updated_at_id", columnList = "updated_at, id")
+    }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -184,14 +193,6 @@ public class Product {
         this.updatedAt = LocalDateTime.now();
     }
     
-    /**
-     * 조회수 증가
-     */
-    public void increaseViewCount() {
-        this.viewCount++;
-        this.updatedAt = LocalDateTime.now();
-    }
-    
     /**
      * 찜 개수 증가
      */
@@ -71,15 +71,20 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     );
     
     /**
-     * 상품을 찜한 사용자 ID 목록 조회
+     * 상품을 찜한 목록을 찜 ID 순서로 나눠 조회
      * 
-     * 특정 상품을 찜한 모든 사용자의 ID를 조회합니다.
-     * 알림 발행 시 사용됩니다.
+     * 찜한 사람이 많은 상품도 한 번에 다 읽지 않도록, 마지막으로 읽은 찜 ID 다음부터 pageable 크기만큼 읽습니다.
+     * (product_id 인덱스를 따라 읽으므로 뒤 페이지도 느려지지 않습니다)
      * 
      * @param productId 상품 ID
-     * @return 찜한 사용자 ID 목록
+     * @param afterFavoriteId 마지막으로 읽은 찜 ID (처음이면 0)
+     * @param pageable 페이지 크기 (페이지 번호는 0)
+     * @return 찜 목록 (찜 ID 오름차순)
      */
-    @Query("SELECT f.userId FROM Favorite f WHERE f.productId = :productId")
-    java.util.List<Long> findUserIdsByProductId(@Param("productId") Long productId);
+    java.util.List<Favorite> findByProductIdAndIdGreaterThanOrderByIdAsc(
+            Long productId,
+            Long afterFavoriteId,
+            Pageable pageable
+    );
 }
 
@@ -6,7 +6,11 @@ import org.cmarket.cmarket.domain.product.model.TradeStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -100,5 +104,20 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
      * 삭제되지 않은 상품 수
      */
     long countByDeletedAtIsNull();
+    
+    /**
+     * 조회수 일괄 증가
+     * 
+     * 모아 둔 조회를 반영할 때 씁니다 (ViewLogServiceImpl).
+     * updatedAt 은 건드리지 않습니다. 조회는 상품 수정이 아니고,
+     * updatedAt 을 올리면 검색 색인이 바뀌지 않은 상품을 매번 다시 읽습니다.
+     * 
+     * @param delta 올릴 조회수
+     * @param productIds 상품 ID 목록
+     * @return 업데이트된 상품 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.viewCount = p.viewCount + :delta WHERE p.id IN :productIds")
+    int increaseViewCount(@Param("delta") Long delta, @Param("productIds") Collection<Long> productIds);
 }
 
@@ -10,7 +10,10 @@ import org.cmarket.cmarket.domain.product.model.TradeStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Product 엔티티 커스텀 레포지토리 인터페이스
@@ -57,5 +60,97 @@ public interface ProductRepositoryCustom {
             List<Long> excludedSellerIds,
             Pageable pageable
     );
-}
 
+    /**
+     * 색인 후보 기반 상품 검색 (필터링 + 관련도/사용자 정렬)
+     *
+     * 키워드 조건은 역색인(ProductSearchIndex)이 이미 걸렀다고 보고,
+     * 여기서는 후보 ID에 나머지 필터만 건다. LIKE 도, CASE 정렬식도 쓰지 않는다.
+     *
+     * 1. 후보 중 필터를 통과한 상품의 ID와 정렬 키(createdAt, price, favoriteCount)만 읽는다.
+     * 2. 관련도 점수 → 사용자 지정 정렬 순으로 메모리에서 정렬한다.
+     * 3. 요청한 페이지에 해당하는 상품만 엔티티로 읽는다.
+     *
+     * 전체 개수는 1번 결과의 크기이므로 카운트 쿼리를 따로 날리지 않는다.
+     *
+     * @param relevanceByProductId 후보 상품 ID → 관련도 점수 (클수록 앞)
+     * @return 검색된 상품 목록 (페이지네이션)
+     */
+    Page<Product> searchProductsByRelevance(
+            Map<Long, Integer> relevanceByProductId,
+            ProductType productType,
+            PetType petType,
+            PetDetailType petDetailType,
+            List<Category> categories,
+            List<ProductStatus> productStatuses,
+            List<TradeStatus> tradeStatuses,
+            Long minPrice,
+            Long maxPrice,
+            String addressSido,
+            String addressGugun,
+            String sortBy,
+            String sortOrder,
+            List<Long> excludedSellerIds,
+            Pageable pageable
+    );
+
+    /**
+     * 상품 커서(keyset) 검색 (검색 + 필터링 + 정렬)
+     *
+     * 무한 스크롤용이다. OFFSET 대신 「커서보다 뒤」 조건으로 읽고, 카운트 쿼리는 날리지 않는다.
+     * size + 1 개까지 돌려주므로 호출하는 쪽이 다음 페이지 여부를 판단한다.
+     *
+     * 정렬은 (정렬 키, id) 두 열만 쓴다. 키워드 관련도 정렬은 커서로 표현할 수 없어 넣지 않는다.
+     *
+     * @param keywords 다중 키워드 리스트 (AND 조건, LIKE 검색) - candidateIds 가 있으면 무시
+     * @param candidateIds 검색 색인이 구한 후보 상품 ID - null 이면 keywords 로 LIKE 검색
+     *                     (IN 목록은 1000개씩 나눠 묻고, 묶음마다 앞쪽 limit 개만 받아 메모리에서 합친다)
+     * @param cursor 이전 페이지 마지막 상품의 위치 - null 이면 첫 페이지
+     * @param limit 최대 개수 (페이지 크기 + 1)
+     * @return 상품 목록 (정렬 순서)
+     */
+    List<Product> searchProductsByCursor(
+            List<String> keywords,
+            Collection<Long> candidateIds,
+            ProductType productType,
+            PetType petType,
+            PetDetailType petDetailType,
+            List<Category> categories,
+            List<ProductStatus> productStatuses,
+            List<TradeStatus> tradeStatuses,
+            Long minPrice,
+            Long maxPrice,
+            String addressSido,
+            String addressGugun,
+            String sortBy,
+            String sortOrder,
+            List<Long> excludedSellerIds,
+            ProductSearchCursor cursor,
+            int limit
+    );
+
+    /**
+     * 색인용 문서 조회 (소프트 삭제 제외, ID 순)
+     *
+     * 전체 색인을 만들 때 ID 커서로 나눠 읽는다.
+     *
+     * @param afterId 이 ID보다 큰 상품부터 (처음이면 0)
+     * @param limit 최대 개수
+     * @return 색인 문서 목록 (ID 오름차순)
+     */
+    List<ProductSearchDocument> findSearchDocumentsAfterId(Long afterId, int limit);
+
+    /**
+     * 특정 위치 이후 수정된 상품의 색인용 문서 조회 (소프트 삭제 포함)
+     *
+     * 증분 색인에 쓴다. 삭제된 상품도 돌려주어 색인에서 뺄 수 있게 한다.
+     * (updated_at, id) 순서로 나눠 읽는다 (idx_products_updated_at_id).
+     * 한 번 많이 바뀌어도 한 번에 다 읽지 않고, 마지막으로 읽은 (수정 시각, ID) 다음부터 이어 읽는다.
+     *
+     * @param since 이 수정 시각 이후 (같은 시각이면 afterId 보다 큰 ID 만)
+     * @param afterId since 와 같은 시각에서 마지막으로 읽은 ID (처음이면 0)
+     * @param limit 최대 개수
+     * @return 색인 문서 목록 ((수정 시각, ID) 오름차순)
+     */
+    List<ProductSearchDocument> findSearchDocumentsUpdatedAfter(LocalDateTime since, Long afterId, int limit);
+}
@@ -1,8 +1,10 @@
 package org.cmarket.cmarket.domain.product.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
@@ -19,11 +21,18 @@ import org.cmarket.cmarket.domain.product.model.ProductType;
 import org.cmarket.cmarket.domain.product.model.QProduct;
 import org.cmarket.cmarket.domain.product.model.TradeStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Product 엔티티 커스텀 레포지토리 구현체
@@ -35,6 +44,9 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
     private final JPAQueryFactory queryFactory;
     private final QProduct product = QProduct.product;
     
+    // 색인 후보를 IN 으로 물을 때 한 번에 넣는 최대 개수
+    private static final int CANDIDATE_CHUNK_SIZE = 1000;
+    
     public ProductRepositoryCustomImpl(EntityManager entityManager) {
         this.queryFactory = new JPAQueryFactory(entityManager);
     }
@@ -57,6 +69,423 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
             String sortOrder,
             List<Long> excludedSellerIds,
             Pageable pageable
+    ) {
+        BooleanBuilder builder = buildFilterCondition(
+                productType,
+                petType,
+                petDetailType,
+                categories,
+                productStatuses,
+                tradeStatuses,
+                minPrice,
+                maxPrice,
+                addressSido,
+                addressGugun,
+                excludedSellerIds
+        );
+        
+        // 키워드 검색 조건
+        BooleanBuilder keywordBuilder = new BooleanBuilder();
+        String searchKeyword = null;
+        
+        if (keyword != null && !keyword.trim().isEmpty()) {
+            // 단일 키워드: 제목, 설명, 카테고리명 검색
+            searchKeyword = keyword.trim().toLowerCase();
+            // 카테고리 enum을 문자열로 변환하여 검색 (enum name 사용)
+            keywordBuilder.or(product.title.lower().contains(searchKeyword))
+                    .or(product.description.lower().contains(searchKeyword))
+                    .or(Expressions.stringTemplate("UPPER({0})", product.category).contains(searchKeyword.toUpperCase()));
+        } else if (keywords != null && !keywords.isEmpty()) {
+            // 다중 키워드: AND 조건 (모든 키워드가 포함된 상품만)
+            BooleanBuilder keywordsCondition = buildKeywordsCondition(keywords);
+            if (keywordsCondition.hasValue()) {
+                keywordBuilder.and(keywordsCondition);
+            }
+            // 우선순위 정렬을 위한 첫 번째 키워드 저장
+            if (!keywords.isEmpty() && keywords.get(0) != null && !keywords.get(0).trim().isEmpty()) {
+                searchKeyword = keywords.get(0).trim().toLowerCase();
+            }
+        }
+        
+        if (keywordBuilder.hasValue()) {
+            builder.and(keywordBuilder);
+        }
+        
+        // 정렬 조건 생성 (키워드 우선순위 + 사용자 지정 정렬)
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        
+        // 키워드 검색 시 우선순위 정렬 추가 (제목 일치 > 설명 일치 > 카테고리 일치)
+        if (searchKeyword != null) {
+            String likePattern = buildLikePattern(searchKeyword.toLowerCase());
+            String likePatternUpper = buildLikePattern(searchKeyword.toUpperCase());
+            
+            NumberExpression<Integer> titleMatchScore = new CaseBuilder()
+                    .when(product.title.lower().like(likePattern, '!')).then(1)
+                    .otherwise(0);
+            NumberExpression<Integer> descriptionMatchScore = new CaseBuilder()
+                    .when(product.description.lower().like(likePattern, '!')).then(1)
+                    .otherwise(0);
+            StringExpression categoryUpper = product.category.stringValue().upper();
+            NumberExpression<Integer> categoryMatchScore = new CaseBuilder()
+                    .when(categoryUpper.like(likePatternUpper, '!')).then(1)
+                    .otherwise(0);
+            
+            orderSpecifiers.add(new OrderSpecifier<>(Order.DESC, titleMatchScore));
+            orderSpecifiers.add(new OrderSpecifier<>(Order.DESC, descriptionMatchScore));
+            orderSpecifiers.add(new OrderSpecifier<>(Order.DESC, categoryMatchScore));
+        }
+        
+        // 사용자 지정 정렬 조건 추가
+        OrderSpecifier<?>[] userOrderSpecifiers = buildOrderSpecifiers(sortBy, sortOrder);
+        for (OrderSpecifier<?> spec : userOrderSpecifiers) {
+            orderSpecifiers.add(spec);
+        }
+        
+        // 쿼리 생성
+        JPAQuery<Product> query = queryFactory
+                .selectFrom(product)
+                .where(builder)
+                .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
+        
+        // 카운트 쿼리
+        JPAQuery<Long> countQuery = queryFactory
+                .select(product.count())
+                .from(product)
+                .where(builder);
+        
+        // 페이지네이션 결과 반환
+        List<Product> content = query.fetch();
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+    
+    @Override
+    public Page<Product> searchProductsByRelevance(
+            Map<Long, Integer> relevanceByProductId,
+            ProductType productType,
+            PetType petType,
+            PetDetailType petDetailType,
+            List<Category> categories,
+            List<ProductStatus> productStatuses,
+            List<TradeStatus> tradeStatuses,
+            Long minPrice,
+            Long maxPrice,
+            String addressSido,
+            String addressGugun,
+            String sortBy,
+            String sortOrder,
+            List<Long> excludedSellerIds,
+            Pageable pageable
+    ) {
+        if (relevanceByProductId == null || relevanceByProductId.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        
+        BooleanBuilder filter = buildFilterCondition(
+                productType,
+                petType,
+                petDetailType,
+                categories,
+                productStatuses,
+                tradeStatuses,
+                minPrice,
+                maxPrice,
+                addressSido,
+                addressGugun,
+                excludedSellerIds
+        );
+        
+        // 1. 필터를 통과한 후보의 정렬 키만 읽는다.
+        //    IN 목록이 너무 길어지지 않게 나눠서 묻는다.
+        List<Long> candidateIds = new ArrayList<>(relevanceByProductId.keySet());
+        List<SortKey> sortKeys = new ArrayList<>(candidateIds.size());
+        for (int from = 0; from < candidateIds.size(); from += CANDIDATE_CHUNK_SIZE) {
+            List<Long> chunk = candidateIds.subList(from, Math.min(from + CANDIDATE_CHUNK_SIZE, candidateIds.size()));
+            List<Tuple> rows = queryFactory
+                    .select(product.id, product.createdAt, product.price, product.favoriteCount)
+                    .from(product)
+                    .where(filter, product.id.in(chunk))
+                    .fetch();
+            for (Tuple row : rows) {
+                Long id = row.get(product.id);
+                sortKeys.add(new SortKey(
+                        id,
+                        row.get(product.createdAt),
+                        row.get(product.price),
+                        row.get(product.favoriteCount),
+                        relevanceByProductId.getOrDefault(id, 0)
+                ));
+            }
+        }
+        
+        // 2. 관련도 → 사용자 지정 정렬 순으로 정렬 (SQL 검색의 ORDER BY 와 같은 순서)
+        sortKeys.sort(buildSortKeyComparator(sortBy, sortOrder));
+        
+        int total = sortKeys.size();
+        int fromIndex = (int) Math.min(pageable.getOffset(), total);
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), total);
+        List<Long> pageIds = sortKeys.subList(fromIndex, toIndex).stream()
+                .map(SortKey::id)
+                .toList();
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        
+        // 3. 이번 페이지의 상품만 읽고, 정렬된 순서대로 되돌린다.
+        Map<Long, Product> productMap = queryFactory
+                .selectFrom(product)
+                .where(product.id.in(pageIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Product::getId, p -> p));
+        List<Product> content = pageIds.stream()
+                .map(productMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        
+        return new PageImpl<>(content, pageable, total);
+    }
+    
+    @Override
+    public List<Product> searchProductsByCursor(
+            List<String> keywords,
+            Collection<Long> candidateIds,
+            ProductType productType,
+            PetType petType,
+            PetDetailType petDetailType,
+            List<Category> categories,
+            List<ProductStatus> productStatuses,
+            List<TradeStatus> tradeStatuses,
+            Long minPrice,
+            Long maxPrice,
+            String addressSido,
+            String addressGugun,
+            String sortBy,
+            String sortOrder,
+            List<Long> excludedSellerIds,
+            ProductSearchCursor cursor,
+            int limit
+    ) {
+        BooleanBuilder builder = buildFilterCondition(
+                productType,
+                petType,
+                petDetailType,
+                categories,
+                productStatuses,
+                tradeStatuses,
+                minPrice,
+                maxPrice,
+                addressSido,
+                addressGugun,
+                excludedSellerIds
+        );
+        
+        // 키워드 조건: 색인 후보가 있으면 그것으로(아래에서 나눠 묻는다), 없으면 LIKE 로
+        if (candidateIds != null) {
+            if (candidateIds.isEmpty()) {
+                return List.of();
+            }
+        } else if (keywords != null && !keywords.isEmpty()) {
+            BooleanBuilder keywordsCondition = buildKeywordsCondition(keywords);
+            if (keywordsCondition.hasValue()) {
+                builder.and(keywordsCondition);
+            }
+        }
+        
+        Order order = "asc".equalsIgnoreCase(sortOrder) ? Order.ASC : Order.DESC;
+        String key = sortBy != null ? sortBy.toLowerCase() : "createdat";
+        
+        // 커서 조건: (정렬 키, id) 가 커서보다 뒤인 것만
+        // 내림차순이면 key < v OR (key = v AND id < cursorId), 오름차순이면 반대
+        if (cursor != null) {
+            builder.and(buildCursorCondition(key, order, cursor));
+        }
+        
+        OrderSpecifier<?> keyOrder = switch (key) {
+            case "price" -> new OrderSpecifier<>(order, product.price);
+            case "favoritecount" -> new OrderSpecifier<>(order, product.favoriteCount);
+            default -> new OrderSpecifier<>(order, product.createdAt);
+        };
+        
+        OrderSpecifier<Long> idOrder = new OrderSpecifier<>(order, product.id);
+        
+        if (candidateIds == null) {
+            return queryFactory
+                    .selectFrom(product)
+                    .where(builder)
+                    .orderBy(keyOrder, idOrder)
+                    .limit(limit)
+                    .fetch();
+        }
+        
+        // 색인 후보: IN 목록이 너무 길어지지 않게 나눠 묻고, 묶음마다 앞쪽 limit 개씩만 받아
+        // 메모리에서 (정렬 키, id) 순으로 합친다. 어느 묶음이든 최종 limit 개 밖의 행은 필요 없다.
+        List<Long> ids = new ArrayList<>(candidateIds);
+        List<Product> merged = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CANDIDATE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CANDIDATE_CHUNK_SIZE, ids.size()));
+            merged.addAll(queryFactory
+                    .selectFrom(product)
+                    .where(builder, product.id.in(chunk))
+                    .orderBy(keyOrder, idOrder)
+                    .limit(limit)
+                    .fetch());
+        }
+        if (ids.size() <= CANDIDATE_CHUNK_SIZE) {
+            return merged;
+        }
+        merged.sort(buildCursorComparator(key, order));
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+    
+    /**
+     * 커서 검색 결과를 메모리에서 합칠 때 쓰는 정렬 기준 (ORDER BY 정렬 키, id 와 같다)
+     */
+    private Comparator<Product> buildCursorComparator(String key, Order order) {
+        Comparator<Product> comparator = switch (key) {
+            case "price" -> Comparator.comparing(Product::getPrice);
+            case "favoritecount" -> Comparator.comparing(Product::getFavoriteCount);
+            default -> Comparator.comparing(Product::getCreatedAt);
+        };
+        comparator = comparator.thenComparing(Product::getId);
+        return order == Order.ASC ? comparator : comparator.reversed();
+    }
+    
+    /**
+     * 커서보다 뒤에 있는 상품 조건
+     */
+    private BooleanExpression buildCursorCondition(String key, Order order, ProductSearchCursor cursor) {
+        boolean ascending = order == Order.ASC;
+        BooleanExpression idAfter = ascending ? product.id.gt(cursor.id()) : product.id.lt(cursor.id());
+        
+        return switch (key) {
+            case "price" -> (ascending ? product.price.gt(cursor.price()) : product.price.lt(cursor.price()))
+                    .or(product.price.eq(cursor.price()).and(idAfter));
+            case "favoritecount" -> (ascending ? product.favoriteCount.gt(cursor.favoriteCount()) : product.favoriteCount.lt(cursor.favoriteCount()))
+                    .or(product.favoriteCount.eq(cursor.favoriteCount()).and(idAfter));
+            default -> (ascending ? product.createdAt.gt(cursor.createdAt()) : product.createdAt.lt(cursor.createdAt()))
+                    .or(product.createdAt.eq(cursor.createdAt()).and(idAfter));
+        };
+    }
+    
+    /**
+     * 다중 키워드 LIKE 조건 (모든 키워드가 제목 · 설명 · 카테고리명 중 하나에 포함)
+     */
+    private BooleanBuilder buildKeywordsCondition(List<String> keywords) {
+        BooleanBuilder keywordBuilder = new BooleanBuilder();
+        for (String kw : keywords) {
+            if (kw != null && !kw.trim().isEmpty()) {
+                String trimmedKw = kw.trim().toLowerCase();
+                BooleanBuilder kwBuilder = new BooleanBuilder();
+                kwBuilder.or(product.title.lower().contains(trimmedKw))
+                        .or(product.description.lower().contains(trimmedKw))
+                        .or(Expressions.stringTemplate("UPPER({0})", product.category).contains(trimmedKw.toUpperCase()));
+                keywordBuilder.and(kwBuilder);
+            }
+        }
+        return keywordBuilder;
+    }
+    
+    @Override
+    public List<ProductSearchDocument> findSearchDocumentsAfterId(Long afterId, int limit) {
+        return queryFactory
+                .select(product.id, product.title, product.description, product.category, product.updatedAt, product.deletedAt)
+                .from(product)
+                .where(product.deletedAt.isNull(), product.id.gt(afterId != null ? afterId : 0L))
+                .orderBy(product.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toSearchDocument)
+                .toList();
+    }
+    
+    @Override
+    public List<ProductSearchDocument> findSearchDocumentsUpdatedAfter(LocalDateTime since, Long afterId, int limit) {
+        return queryFactory
+                .select(product.id, product.title, product.description, product.category, product.updatedAt, product.deletedAt)
+                .from(product)
+                .where(product.updatedAt.gt(since)
+                        .or(product.updatedAt.eq(since).and(product.id.gt(afterId != null ? afterId : 0L))))
+                .orderBy(product.updatedAt.asc(), product.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toSearchDocument)
+                .toList();
+    }
+    
+    private ProductSearchDocument toSearchDocument(Tuple row) {
+        return new ProductSearchDocument(
+                row.get(product.id),
+                row.get(product.title),
+                row.get(product.description),
+                row.get(product.category),
+                row.get(product.updatedAt),
+                row.get(product.deletedAt) != null
+        );
+    }
+    
+    /**
+     * 색인 검색용 정렬 기준 생성
+     *
+     * buildOrderSpecifiers 와 같은 규칙을 메모리 정렬로 옮긴 것이다.
+     * 관련도가 먼저, 그다음 사용자 지정 정렬이다.
+     * 가격순 · 찜순은 SQL 쪽에 동점 처리가 없어 순서가 들쭉날쭉했는데,
+     * 여기서는 페이지가 넘어가도 순서가 같도록 id 로 한 번 더 정렬한다.
+     */
+    private Comparator<SortKey> buildSortKeyComparator(String sortBy, String sortOrder) {
+        boolean ascending = "asc".equalsIgnoreCase(sortOrder);
+        String key = sortBy != null ? sortBy.toLowerCase() : "";
+        
+        Comparator<SortKey> userOrder;
+        switch (key) {
+            case "createdat":
+                userOrder = Comparator.comparing(SortKey::createdAt).thenComparing(SortKey::id);
+                break;
+            case "price":
+                userOrder = Comparator.comparing(SortKey::price).thenComparing(SortKey::id);
+                break;
+            case "favoritecount":
+                userOrder = Comparator.comparing(SortKey::favoriteCount).thenComparing(SortKey::id);
+                break;
+            default:
+                // 기본 정렬: 최신순 (createdAt DESC, id DESC)
+                ascending = false;
+                userOrder = Comparator.comparing(SortKey::createdAt).thenComparing(SortKey::id);
+                break;
+        }
+        if (!ascending) {
+            userOrder = userOrder.reversed();
+        }
+        
+        return Comparator.comparingInt(SortKey::relevance).reversed().thenComparing(userOrder);
+    }
+    
+    /**
+     * 색인 검색에서 정렬에 쓰는 키
+     */
+    private record SortKey(Long id, LocalDateTime createdAt, Long price, Long favoriteCount, int relevance) {
+    }
+    
+    /**
+     * 키워드를 뺀 공통 필터 조건 생성
+     *
+     * SQL 검색과 색인 검색이 같은 필터를 쓰도록 한곳에 모았다.
+     */
+    private BooleanBuilder buildFilterCondition(
+            ProductType productType,
+            PetType petType,
+            PetDetailType petDetailType,
+            List<Category> categories,
+            List<ProductStatus> productStatuses,
+            List<TradeStatus> tradeStatuses,
+            Long minPrice,
+            Long maxPrice,
+            String addressSido,
+            String addressGugun,
+            List<Long> excludedSellerIds
     ) {
         // 기본 조건: 소프트 삭제되지 않은 상품만
         BooleanBuilder builder = new BooleanBuilder();
@@ -132,86 +561,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
             builder.and(product.addressGugun.eq(addressGugun));
         }
         
-        // 키워드 검색 조건
-        BooleanBuilder keywordBuilder = new BooleanBuilder();
-        String searchKeyword = null;
-        
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            // 단일 키워드: 제목, 설명, 카테고리명 검색
-            searchKeyword = keyword.trim().toLowerCase();
-            // 카테고리 enum을 문자열로 변환하여 검색 (enum name 사용)
-            keywordBuilder.or(product.title.lower().contains(searchKeyword))
-                    .or(product.description.lower().contains(searchKeyword))
-                    .or(Expressions.stringTemplate("UPPER({0})", product.category).contains(searchKeyword.toUpperCase()));
-        } else if (keywords != null && !keywords.isEmpty()) {
-            // 다중 키워드: AND 조건 (모든 키워드가 포함된 상품만)
-            for (String kw : keywords) {
-                if (kw != null && !kw.trim().isEmpty()) {
-                    String trimmedKw = kw.trim().toLowerCase();
-                    BooleanBuilder kwBuilder = new BooleanBuilder();
-                    kwBuilder.or(product.title.lower().contains(trimmedKw))
-                            .or(product.description.lower().contains(trimmedKw))
-                            .or(Expressions.stringTemplate("UPPER({0})", product.category).contains(trimmedKw.toUpperCase()));
-                    keywordBuilder.and(kwBuilder);
-                }
-            }
-            // 우선순위 정렬을 위한 첫 번째 키워드 저장
-            if (!keywords.isEmpty() && keywords.get(0) != null && !keywords.get(0).trim().isEmpty()) {
-                searchKeyword = keywords.get(0).trim().toLowerCase();
-            }
-        }
-        
-        if (keywordBuilder.hasValue()) {
-            builder.and(keywordBuilder);
-        }
-        
-        // 정렬 조건 생성 (키워드 우선순위 + 사용자 지정 정렬)
-        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
-        
-        // 키워드 검색 시 우선순위 정렬 추가 (제목 일치 > 설명 일치 > 카테고리 일치)
-        if (searchKeyword != null) {
-            String likePattern = buildLikePattern(searchKeyword.toLowerCase());
-            String likePatternUpper = buildLikePattern(searchKeyword.toUpperCase());
-            
-            NumberExpression<Integer> titleMatchScore = new CaseBuilder()
-                    .when(product.title.lower().like(likePattern, '!')).then(1)
-                    .otherwise(0);
-            NumberExpression<Integer> descriptionMatchScore = new CaseBuilder()
-                    .when(product.description.lower().like(likePattern, '!')).then(1)
-                    .otherwise(0);
-            StringExpression categoryUpper = product.category.stringValue().upper();
-            NumberExpression<Integer> categoryMatchScore = new CaseBuilder()
-                    .when(categoryUpper.like(likePatternUpper, '!')).then(1)
-                    .otherwise(0);
-            
-            orderSpecifiers.add(new OrderSpecifier<>(Order.DESC, titleMatchScore));
-            orderSpecifiers.add(new OrderSpecifier<>(Order.DESC, descriptionMatchScore));
-            orderSpecifiers.add(new OrderSpecifier<>(Order.DESC, categoryMatchScore));
-        }
-        
-        // 사용자 지정 정렬 조건 추가
-        OrderSpecifier<?>[] userOrderSpecifiers = buildOrderSpecifiers(sortBy, sortOrder);
-        for (OrderSpecifier<?> spec : userOrderSpecifiers) {
-            orderSpecifiers.add(spec);
-        }
-        
-        // 쿼리 생성
-        JPAQuery<Product> query = queryFactory
-                .selectFrom(product)
-                .where(builder)
-                .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-        
-        // 카운트 쿼리
-        JPAQuery<Long> countQuery = queryFactory
-                .select(product.count())
-                .from(product)
-                .where(builder);
-        
-        // 페이지네이션 결과 반환
-        List<Product> content = query.fetch();
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return builder;
     }
     
     /**
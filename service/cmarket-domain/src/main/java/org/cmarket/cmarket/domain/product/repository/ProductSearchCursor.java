@@ -0,0 +1,86 @@
+package org.cmarket.cmarket.domain.product.repository;
+
+import org.cmarket.cmarket.domain.product.model.Product;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 상품 커서(keyset) 페이지네이션 위치
+ *
+ * 「마지막으로 받은 상품의 정렬 키와 id」를 담는다. 다음 페이지는 이 값보다 뒤에 있는 것만 읽으므로
+ * OFFSET 처럼 앞 페이지를 다시 세지 않는다.
+ *
+ * 정렬 기준에 따라 쓰는 키가 다르다 (나머지는 null).
+ * - createdat: createdAt, id
+ * - price: price, id
+ * - favoritecount: favoriteCount, id
+ *
+ * 바깥에는 "정렬키값,id" 를 Base64(URL-safe)로 감싼 문자열로 내보낸다.
+ */
+public record ProductSearchCursor(
+        LocalDateTime createdAt,
+        Long price,
+        Long favoriteCount,
+        Long id
+) {
+
+    /**
+     * 상품의 정렬 키로 커서 생성
+     *
+     * @param product 페이지의 마지막 상품
+     * @param sortBy 정렬 기준 (소문자)
+     */
+    public static ProductSearchCursor of(Product product, String sortBy) {
+        return switch (normalizeSortBy(sortBy)) {
+            case "price" -> new ProductSearchCursor(null, product.getPrice(), null, product.getId());
+            case "favoritecount" -> new ProductSearchCursor(null, null, product.getFavoriteCount(), product.getId());
+            default -> new ProductSearchCursor(product.getCreatedAt(), null, null, product.getId());
+        };
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor encode() 로 만든 문자열
+     * @param sortBy 정렬 기준 (커서를 만들 때와 같아야 한다)
+     * @return 커서
+     * @throws IllegalArgumentException 형식이 맞지 않을 때
+     */
+    public static ProductSearchCursor decode(String cursor, String sortBy) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = decoded.lastIndexOf(',');
+        if (separator <= 0 || separator == decoded.length() - 1) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + cursor);
+        }
+        String value = decoded.substring(0, separator);
+        Long id = Long.parseLong(decoded.substring(separator + 1));
+
+        return switch (normalizeSortBy(sortBy)) {
+            case "price" -> new ProductSearchCursor(null, Long.parseLong(value), null, id);
+            case "favoritecount" -> new ProductSearchCursor(null, null, Long.parseLong(value), id);
+            default -> new ProductSearchCursor(LocalDateTime.parse(value), null, null, id);
+        };
+    }
+
+    /**
+     * 커서 문자열 생성
+     */
+    public String encode() {
+        String value;
+        if (price != null) {
+            value = price.toString();
+        } else if (favoriteCount != null) {
+            value = favoriteCount.toString();
+        } else {
+            value = createdAt.toString();
+        }
+        String raw = value + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String normalizeSortBy(String sortBy) {
+        return sortBy != null ? sortBy.toLowerCase() : "createdat";
+    }
+}
@@ -0,0 +1,44 @@
+package org.cmarket.cmarket.domain.product.repository;
+
+import org.cmarket.cmarket.domain.product.model.Category;
+import org.cmarket.cmarket.domain.product.model.Product;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 검색 색인용 프로젝션
+ *
+ * 역색인(ProductSearchIndex)을 만들 때 필요한 열만 담는다.
+ * 엔티티를 통째로 읽으면 서브 이미지(EAGER 컬렉션)까지 상품마다 따로 읽어
+ * 전체 색인을 만들 때 쿼리가 상품 수만큼 늘어나므로 이 타입으로 읽는다.
+ *
+ * @param id 상품 ID
+ * @param title 상품명
+ * @param description 상품 설명 (null 가능)
+ * @param category 카테고리
+ * @param updatedAt 마지막 수정 시각 (증분 색인 기준)
+ * @param deleted 소프트 삭제 여부
+ */
+public record ProductSearchDocument(
+        Long id,
+        String title,
+        String description,
+        Category category,
+        LocalDateTime updatedAt,
+        boolean deleted
+) {
+
+    /**
+     * 영속 상태 엔티티에서 색인 문서 생성
+     */
+    public static ProductSearchDocument from(Product product) {
+        return new ProductSearchDocument(
+                product.getId(),
+                product.getTitle(),
+                product.getDescription(),
+                product.getCategory(),
+                product.getUpdatedAt(),
+                product.isDeleted()
+        );
+    }
+}
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.cmarket.cmarket.domain.auth.app.dto.UserDto;
 import org.cmarket.cmarket.domain.auth.app.exception.NicknameAlreadyExistsException;
 import org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.domain.exception.BusinessException;
 import org.cmarket.cmarket.domain.exception.ErrorCode;
 import org.cmarket.cmarket.domain.auth.model.User;
@@ -42,6 +44,7 @@ public class ProfileServiceImpl implements ProfileService {
     private static final int MINIMUM_AGE = 14;
 
     private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     private final UserBlockRepository userBlockRepository;
     private final UserBlockQueryService userBlockQueryService;
     private final ReportRepository reportRepository;
@@ -93,7 +96,8 @@ public class ProfileServiceImpl implements ProfileService {
         // 통과했고 이메일 가입자도 나중에 생년월일을 바꾸면 검사를 피할 수 있었다.
         validateAge(command.getBirthDate());
 
-        // 4. 프로필 정보 업데이트
+        // 4. 프로필 정보 업데이트 (닉네임이 바뀔 수 있으므로 식별 정보 캐시도 비운다)
+        userIdentityResolver.evict(user.getEmail());
         user.updateProfile(
                 command.getNickname(),
                 command.getBirthDate(),
@@ -131,12 +135,12 @@ public class ProfileServiceImpl implements ProfileService {
         Boolean isBlocked = null;
         Boolean isReported = null;
         if (currentUserEmail != null) {
-            User currentUser = userRepository.findByEmailAndDeletedAtIsNull(currentUserEmail)
+            UserIdentity currentUser = userIdentityResolver.findByEmail(currentUserEmail)
                     .orElse(null);
             if (currentUser != null) {
-                isBlocked = userBlockQueryService.isBlocked(currentUser.getId(), userId);
+                isBlocked = userBlockQueryService.isBlocked(currentUser.userId(), userId);
                 isReported = reportRepository.existsByReporterIdAndTargetTypeAndTargetId(
-                        currentUser.getId(), ReportTargetType.USER, userId);
+                        currentUser.userId(), ReportTargetType.USER, userId);
             }
         }
         
@@ -164,12 +168,12 @@ public class ProfileServiceImpl implements ProfileService {
     @Transactional(readOnly = true)
     public BlockedUserListDto getBlockedUsers(String email, org.springframework.data.domain.Pageable pageable) {
         // 1. 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
         // 2. 차단 목록 조회 (페이지네이션, 최신순 정렬)
         org.springframework.data.domain.Page<UserBlock> userBlockPage = userBlockRepository
-                .findByBlockerIdOrderByCreatedAtDesc(user.getId(), pageable);
+                .findByBlockerIdOrderByCreatedAtDesc(user.userId(), pageable);
 
         // 3. 차단당한 사용자 정보 조회 및 DTO 변환
         List<BlockedUserDto> blockedUserDtos = userBlockPage.getContent().stream()
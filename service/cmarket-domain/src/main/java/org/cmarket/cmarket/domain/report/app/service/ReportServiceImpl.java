@@ -2,8 +2,11 @@ package org.cmarket.cmarket.domain.report.app.service;
 
 import lombok.RequiredArgsConstructor;
 import org.cmarket.cmarket.domain.auth.app.exception.UserNotFoundException;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.domain.auth.model.User;
 import org.cmarket.cmarket.domain.auth.repository.UserRepository;
+import org.cmarket.cmarket.domain.chat.app.service.ChatRoomMembershipCache;
 import org.cmarket.cmarket.domain.profile.app.dto.PageResult;
 import org.cmarket.cmarket.domain.report.app.dto.BlockedUserDto;
 import org.cmarket.cmarket.domain.report.app.dto.BlockedUserListDto;
@@ -41,32 +44,36 @@ import java.util.stream.Stream;
 public class ReportServiceImpl implements ReportService {
 
     private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     private final UserBlockRepository userBlockRepository;
     private final ReportRepository reportRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     @Override
     public UserBlockDto blockUser(String email, UserBlockCreateCommand command) {
-        User blocker = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity blocker = userIdentityResolver.findByEmail(email)
                 .orElseThrow(UserNotFoundException::new);
 
         User blockedUser = userRepository.findById(command.getBlockedUserId())
                 .filter(user -> user.getDeletedAt() == null)
                 .orElseThrow(UserNotFoundException::new);
 
-        if (blocker.getId().equals(blockedUser.getId())) {
+        if (blocker.userId().equals(blockedUser.getId())) {
             throw new BlockSelfNotAllowedException();
         }
 
-        if (userBlockRepository.existsByBlockerIdAndBlockedUserId(blocker.getId(), blockedUser.getId())) {
+        if (userBlockRepository.existsByBlockerIdAndBlockedUserId(blocker.userId(), blockedUser.getId())) {
             throw new UserAlreadyBlockedException();
         }
 
         UserBlock userBlock = UserBlock.builder()
-                .blockerId(blocker.getId())
+                .blockerId(blocker.userId())
                 .blockedUserId(blockedUser.getId())
                 .build();
 
         UserBlock saved = userBlockRepository.save(userBlock);
+        // 채팅 전송이 캐시의 차단 관계를 보므로 바로 반영되게 비운다.
+        chatRoomMembershipCache.evictByUserId(blocker.userId());
 
         return UserBlockDto.builder()
                 .blockerId(saved.getBlockerId())
@@ -81,23 +88,24 @@ public class ReportServiceImpl implements ReportService {
     @Transactional
     public void unblockUser(String email, Long blockedUserId) {
         // 1. 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
         // 2. 차단 관계 삭제 (차단 관계가 없어도 예외 발생하지 않음 - idempotent)
-        userBlockRepository.deleteByBlockerIdAndBlockedUserId(user.getId(), blockedUserId);
+        userBlockRepository.deleteByBlockerIdAndBlockedUserId(user.userId(), blockedUserId);
+        chatRoomMembershipCache.evictByUserId(user.userId());
     }
 
     @Override
     @Transactional(readOnly = true)
     public BlockedUserListDto getBlockedUsers(String email, org.springframework.data.domain.Pageable pageable) {
         // 1. 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
         // 2. 차단 목록 조회 (페이지네이션, 최신순 정렬)
         org.springframework.data.domain.Page<UserBlock> userBlockPage = userBlockRepository
-                .findByBlockerIdOrderByCreatedAtDesc(user.getId(), pageable);
+                .findByBlockerIdOrderByCreatedAtDesc(user.userId(), pageable);
 
         // 3. 차단당한 사용자 정보 조회 및 DTO 변환
         List<BlockedUserDto> blockedUserDtos = userBlockPage.getContent().stream()
@@ -139,12 +147,12 @@ public class ReportServiceImpl implements ReportService {
     @Override
     public ReportDto createReport(String email, ReportCreateCommand command) {
         // 신고자 조회
-        User reporter = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity reporter = userIdentityResolver.findByEmail(email)
                 .orElseThrow(UserNotFoundException::new);
 
         // 중복 신고 확인
         if (reportRepository.existsByReporterIdAndTargetTypeAndTargetId(
-                reporter.getId(), command.getTargetType(), command.getTargetId())) {
+                reporter.userId(), command.getTargetType(), command.getTargetId())) {
             String targetName = getTargetName(command.getTargetType());
             throw new AlreadyReportedException("이미 신고된 " + targetName + "입니다.");
         }
@@ -159,7 +167,7 @@ public class ReportServiceImpl implements ReportService {
 
         // Report 엔티티 생성
         Report report = Report.builder()
-                .reporterId(reporter.getId())
+                .reporterId(reporter.userId())
                 .targetType(command.getTargetType())
                 .targetId(command.getTargetId())
                 .reasonCodes(command.getReasonCodes())
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +45,17 @@ public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
      */
     Optional<UserBlock> findByBlockerIdAndBlockedUserId(Long blockerId, Long blockedUserId);
     
+    /**
+     * 여러 사용자 사이의 차단 관계 일괄 조회
+     * 
+     * 채팅방 참여자끼리의 차단 관계를 한 번에 읽을 때 씁니다.
+     * 
+     * @param blockerIds 차단한 사용자 ID 후보
+     * @param blockedUserIds 차단당한 사용자 ID 후보
+     * @return 차단 관계 목록
+     */
+    List<UserBlock> findByBlockerIdInAndBlockedUserIdIn(Collection<Long> blockerIds, Collection<Long> blockedUserIds);
+    
     /**
      * 차단 목록 조회 (페이지네이션, 최신순 정렬)
      * 
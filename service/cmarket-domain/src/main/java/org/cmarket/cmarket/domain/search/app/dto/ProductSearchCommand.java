@@ -34,5 +34,6 @@ public class ProductSearchCommand {
     private String sortOrder;
     private Integer page;  // 페이지 번호 (기본값: 0)
     private Integer size;  // 페이지 크기 (기본값: 20)
+    private String cursor;  // 커서 검색 전용: 이전 페이지의 nextCursor (첫 페이지는 null)
 }
 
@@ -0,0 +1,22 @@
+package org.cmarket.cmarket.domain.search.app.dto;
+
+import java.util.List;
+
+/**
+ * 상품 커서 검색 결과 DTO
+ * 
+ * 커서(keyset) 검색 결과를 담는 앱 DTO입니다.
+ * 전체 개수를 세지 않으므로 total/totalPages 가 없습니다.
+ * 
+ * @param content 이번 페이지 상품 목록
+ * @param size 요청한 페이지 크기
+ * @param hasNext 다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지 커서 (다음 페이지가 없으면 null)
+ */
+public record ProductSearchSliceDto(
+    List<ProductSearchItemDto> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {
+}
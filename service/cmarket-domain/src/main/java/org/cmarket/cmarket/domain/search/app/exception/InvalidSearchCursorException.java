@@ -0,0 +1,20 @@
+package org.cmarket.cmarket.domain.search.app.exception;
+
+import org.cmarket.cmarket.domain.exception.BusinessException;
+import org.cmarket.cmarket.domain.exception.ErrorCode;
+
+/**
+ * 잘못된 검색 커서 예외
+ * 
+ * 커서 검색에서 커서 문자열을 해석할 수 없거나 정렬 기준과 맞지 않을 때 발생합니다.
+ */
+public class InvalidSearchCursorException extends BusinessException {
+    
+    public InvalidSearchCursorException() {
+        super(ErrorCode.INVALID_SEARCH_CURSOR);
+    }
+    
+    public InvalidSearchCursorException(String message) {
+        super(ErrorCode.INVALID_SEARCH_CURSOR, message);
+    }
+}
@@ -0,0 +1,71 @@
+package org.cmarket.cmarket.domain.search.app.service;
+
+import org.cmarket.cmarket.domain.product.repository.ProductSearchDocument;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 검색 색인 인터페이스
+ *
+ * 상품 제목 · 설명 · 카테고리에 대한 역색인을 관리합니다.
+ * 키워드 검색 때 LIKE '%kw%' 로 products 를 통째로 훑는 대신
+ * 색인에서 후보 상품 ID를 먼저 구하고, DB에서는 그 페이지만 읽습니다.
+ *
+ * 구현체는 web 모듈에서 제공됩니다.
+ */
+public interface ProductSearchIndex {
+
+    /** 제목에 첫 키워드가 들어 있을 때의 관련도 점수 */
+    int TITLE_MATCH_SCORE = 4;
+
+    /** 설명에 첫 키워드가 들어 있을 때의 관련도 점수 */
+    int DESCRIPTION_MATCH_SCORE = 2;
+
+    /** 카테고리명에 첫 키워드가 들어 있을 때의 관련도 점수 */
+    int CATEGORY_MATCH_SCORE = 1;
+
+    /**
+     * 색인 사용 가능 여부
+     *
+     * 설정으로 꺼져 있거나 아직 첫 색인을 만드는 중이면 false 다.
+     * false 면 호출하는 쪽이 기존 SQL 검색으로 돌아간다.
+     *
+     * @return 색인으로 검색해도 되면 true
+     */
+    boolean isAvailable();
+
+    /**
+     * 상품 색인 추가/갱신
+     *
+     * 트랜잭션 안에서 부르면 커밋된 뒤에 반영됩니다.
+     *
+     * @param document 색인 문서
+     */
+    void index(ProductSearchDocument document);
+
+    /**
+     * 상품 색인 제거 (소프트 삭제 시)
+     *
+     * 트랜잭션 안에서 부르면 커밋된 뒤에 반영됩니다.
+     *
+     * @param productId 상품 ID
+     */
+    void remove(Long productId);
+
+    /**
+     * 키워드로 상품 검색
+     *
+     * 모든 키워드가 (제목 · 설명 · 카테고리명 중 어디든) 들어 있는 상품만 돌려줍니다 (AND 조건).
+     * 값은 첫 키워드 기준 관련도 점수로, 제목 > 설명 > 카테고리 순서가 그대로 유지되도록
+     * {@link #TITLE_MATCH_SCORE} · {@link #DESCRIPTION_MATCH_SCORE} · {@link #CATEGORY_MATCH_SCORE} 를 더한 값입니다.
+     *
+     * 맞는 상품이 너무 많으면(search.product.index.max-candidates) null 을 돌려줍니다.
+     * 호출하는 쪽은 후보마다 DB에서 정렬 키를 읽으므로, 그때는 기존 SQL 검색으로 돌아갑니다.
+     * 후보를 잘라서 쓰면 필터 · 정렬 전에 상품이 빠지므로 자르지 않습니다.
+     *
+     * @param keywords 전처리된 키워드 리스트
+     * @return 상품 ID → 관련도 점수 (일치하는 상품이 없으면 빈 Map, 너무 많으면 null)
+     */
+    Map<Long, Integer> search(List<String> keywords);
+}
@@ -2,6 +2,7 @@ package org.cmarket.cmarket.domain.search.app.service;
 
 import org.cmarket.cmarket.domain.search.app.dto.ProductSearchCommand;
 import org.cmarket.cmarket.domain.search.app.dto.ProductSearchResultDto;
+import org.cmarket.cmarket.domain.search.app.dto.ProductSearchSliceDto;
 
 /**
  * 검색 서비스 인터페이스
@@ -18,5 +19,16 @@ public interface SearchService {
      * @return 검색 결과
      */
     ProductSearchResultDto searchProducts(ProductSearchCommand command, String email);
+    
+    /**
+     * 상품 커서 검색 (무한 스크롤용)
+     * 
+     * searchProducts 와 같은 필터를 쓰지만 OFFSET 대신 커서로 다음 페이지를 읽고,
+     * 전체 개수를 세지 않습니다. 정렬은 (정렬 기준, id) 순서만 따릅니다.
+     * 
+     * @param command 검색 조건 (cursor 포함)
+     * @param email 현재 로그인한 사용자 이메일 (비로그인 시 null)
+     * @return 검색 결과 (다음 페이지 커서 포함)
+     */
+    ProductSearchSliceDto searchProductsByCursor(ProductSearchCommand command, String email);
 }
-
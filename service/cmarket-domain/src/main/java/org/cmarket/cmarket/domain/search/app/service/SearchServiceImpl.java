@@ -1,24 +1,28 @@
 package org.cmarket.cmarket.domain.search.app.service;
 
-import org.cmarket.cmarket.domain.auth.model.User;
-import org.cmarket.cmarket.domain.auth.repository.UserRepository;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.domain.product.model.Product;
 import org.cmarket.cmarket.domain.product.repository.FavoriteRepository;
 import org.cmarket.cmarket.domain.product.repository.ProductRepository;
+import org.cmarket.cmarket.domain.product.repository.ProductSearchCursor;
 import org.cmarket.cmarket.domain.report.repository.UserBlockRepository;
 import org.cmarket.cmarket.domain.profile.app.dto.PageResult;
 import org.cmarket.cmarket.domain.search.app.dto.ProductSearchCommand;
 import org.cmarket.cmarket.domain.search.app.dto.ProductSearchItemDto;
 import org.cmarket.cmarket.domain.search.app.dto.ProductSearchResultDto;
+import org.cmarket.cmarket.domain.search.app.dto.ProductSearchSliceDto;
+import org.cmarket.cmarket.domain.search.app.exception.InvalidSearchCursorException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -32,8 +36,9 @@ public class SearchServiceImpl implements SearchService {
     
     private final ProductRepository productRepository;
     private final FavoriteRepository favoriteRepository;
-    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     private final UserBlockRepository userBlockRepository;
+    private final ProductSearchIndex productSearchIndex;
     
     // 특수문자 및 이모지 제거를 위한 정규식
     private static final Pattern SPECIAL_CHARS_PATTERN = Pattern.compile("[^\\p{L}\\p{N}\\s]");
@@ -41,38 +46,22 @@ public class SearchServiceImpl implements SearchService {
     public SearchServiceImpl(
             ProductRepository productRepository,
             FavoriteRepository favoriteRepository,
-            UserRepository userRepository,
-            UserBlockRepository userBlockRepository
+            UserIdentityResolver userIdentityResolver,
+            UserBlockRepository userBlockRepository,
+            ProductSearchIndex productSearchIndex
     ) {
         this.productRepository = productRepository;
         this.favoriteRepository = favoriteRepository;
-        this.userRepository = userRepository;
+        this.userIdentityResolver = userIdentityResolver;
         this.userBlockRepository = userBlockRepository;
+        this.productSearchIndex = productSearchIndex;
     }
     
     @Override
     @Transactional(readOnly = true)
     public ProductSearchResultDto searchProducts(ProductSearchCommand command, String email) {
         // 키워드 전처리 및 다중 키워드 분리
-        // keyword가 있으면 공백으로 분리하여 keywords 리스트로 변환 (다중 단어 검색 지원)
-        List<String> keywords = null;
-        if (command.getKeyword() != null && !command.getKeyword().trim().isEmpty()) {
-            // keyword를 공백으로 분리하여 다중 키워드로 처리
-            String[] keywordArray = command.getKeyword().trim().split("\\s+");
-            keywords = new ArrayList<>();
-            for (String kw : keywordArray) {
-                String processedKw = preprocessKeyword(kw);
-                if (processedKw != null && !processedKw.isEmpty()) {
-                    keywords.add(processedKw);
-                }
-            }
-            if (keywords.isEmpty()) {
-                keywords = null;
-            }
-        } else if (command.getKeywords() != null && !command.getKeywords().isEmpty()) {
-            // keywords가 직접 전달된 경우
-            keywords = preprocessKeywords(command.getKeywords());
-        }
+        List<String> keywords = resolveKeywords(command);
         
         // 단일 keyword는 null로 설정 (다중 키워드로 처리하므로)
         String keyword = null;
@@ -91,11 +80,7 @@ public class SearchServiceImpl implements SearchService {
         //
         // 검색보다 **먼저** 구한다. 예전에는 검색 뒤에 구했는데, 차단 목록을 쿼리에
         // 넘기려면 그 전에 있어야 한다.
-        final Long userId = email != null
-                ? userRepository.findByEmailAndDeletedAtIsNull(email)
-                        .map(User::getId)
-                        .orElse(null)
-                : null;
+        final Long userId = userIdentityResolver.findUserIdOrNull(email);
         
         // 내가 차단한 사람의 상품은 목록에서 뺀다 (#809).
         // 비로그인이면 차단이 있을 수 없으므로 빈 목록이다.
@@ -104,9 +89,109 @@ public class SearchServiceImpl implements SearchService {
                 : List.of();
         
         // Repository를 통한 검색
-        Page<Product> productPage = productRepository.searchProducts(
-                keyword,
+        //
+        // 키워드가 있고 색인을 쓸 수 있으면 색인에서 후보를 먼저 구한다.
+        // LIKE '%kw%' 는 인덱스를 못 타서 검색마다 products 를 통째로 훑었다.
+        // 색인이 꺼져 있거나(search.product.engine=sql) 아직 만드는 중이거나
+        // 맞는 상품이 너무 많으면(흔한 키워드) 예전 SQL 검색 그대로다.
+        Map<Long, Integer> relevance = searchIndex(keywords);
+        Page<Product> productPage;
+        if (relevance != null) {
+            productPage = productRepository.searchProductsByRelevance(
+                    relevance,
+                    command.getProductType(),
+                    command.getPetType(),
+                    command.getPetDetailType(),
+                    command.getCategories(),
+                    command.getProductStatuses(),
+                    command.getTradeStatuses(),
+                    command.getMinPrice(),
+                    command.getMaxPrice(),
+                    command.getAddressSido(),
+                    command.getAddressGugun(),
+                    sortBy,
+                    sortOrder,
+                    blockedUserIds,
+                    pageable
+            );
+        } else {
+            productPage = productRepository.searchProducts(
+                    keyword,
+                    keywords,
+                    command.getProductType(),
+                    command.getPetType(),
+                    command.getPetDetailType(),
+                    command.getCategories(),
+                    command.getProductStatuses(),
+                    command.getTradeStatuses(),
+                    command.getMinPrice(),
+                    command.getMaxPrice(),
+                    command.getAddressSido(),
+                    command.getAddressGugun(),
+                    sortBy,
+                    sortOrder,
+                    blockedUserIds,
+                    pageable
+            );
+        }
+        
+        // N+1 문제 방지: 한 번의 쿼리로 찜한 상품 ID 목록 조회
+        final Set<Long> favoriteProductIds = userId != null && !productPage.getContent().isEmpty()
+                ? new HashSet<>(favoriteRepository.findProductIdsByUserIdAndProductIdIn(
+                        userId,
+                        productPage.getContent().stream()
+                                .map(Product::getId)
+                                .toList()
+                ))
+                : new HashSet<>();
+        
+        // 각 상품의 찜 여부 확인 및 DTO 변환 후 PageResult로 변환
+        PageResult<ProductSearchItemDto> pageResult = PageResult.fromPage(
+                productPage.map(product -> {
+                    Boolean isFavorite = userId != null && favoriteProductIds.contains(product.getId());
+                    return ProductSearchItemDto.fromEntity(product, isFavorite);
+                })
+        );
+        
+        return new ProductSearchResultDto(pageResult);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ProductSearchSliceDto searchProductsByCursor(ProductSearchCommand command, String email) {
+        // 키워드 전처리 및 다중 키워드 분리 (페이지 검색과 같다)
+        List<String> keywords = resolveKeywords(command);
+        
+        int size = command.getSize() != null && command.getSize() > 0 ? command.getSize() : 20;
+        String sortBy = validateAndGetSortBy(command.getSortBy()).toLowerCase();
+        String sortOrder = validateAndGetSortOrder(command.getSortOrder());
+        
+        // 커서 해석 (첫 페이지는 null)
+        ProductSearchCursor cursor = null;
+        if (command.getCursor() != null && !command.getCursor().isBlank()) {
+            try {
+                cursor = ProductSearchCursor.decode(command.getCursor(), sortBy);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new InvalidSearchCursorException();
+            }
+        }
+        
+        final Long userId = userIdentityResolver.findUserIdOrNull(email);
+        
+        // 내가 차단한 사람의 상품은 목록에서 뺀다 (#809).
+        final List<Long> blockedUserIds = userId != null
+                ? userBlockRepository.findBlockedUserIdsByBlockerId(userId)
+                : List.of();
+        
+        // 키워드가 있고 색인을 쓸 수 있으면 후보 ID로 거른다 (LIKE 를 쓰지 않는다)
+        // 맞는 상품이 너무 많으면 LIKE 로 거른다 (후보를 자르면 뒤 페이지에 닿지 못한다)
+        Map<Long, Integer> relevance = searchIndex(keywords);
+        Set<Long> candidateIds = relevance != null ? relevance.keySet() : null;
+        
+        // size + 1 개를 읽어 다음 페이지가 있는지 판단한다 (카운트 쿼리 없음)
+        List<Product> products = productRepository.searchProductsByCursor(
                 keywords,
+                candidateIds,
                 command.getProductType(),
                 command.getPetType(),
                 command.getPetDetailType(),
@@ -120,28 +205,77 @@ public class SearchServiceImpl implements SearchService {
                 sortBy,
                 sortOrder,
                 blockedUserIds,
-                pageable
+                cursor,
+                size + 1
         );
         
+        boolean hasNext = products.size() > size;
+        List<Product> pageContent = hasNext ? products.subList(0, size) : products;
+        String nextCursor = hasNext
+                ? ProductSearchCursor.of(pageContent.get(pageContent.size() - 1), sortBy).encode()
+                : null;
+        
         // N+1 문제 방지: 한 번의 쿼리로 찜한 상품 ID 목록 조회
-        final Set<Long> favoriteProductIds = userId != null && !productPage.getContent().isEmpty()
+        final Set<Long> favoriteProductIds = userId != null && !pageContent.isEmpty()
                 ? new HashSet<>(favoriteRepository.findProductIdsByUserIdAndProductIdIn(
                         userId,
-                        productPage.getContent().stream()
+                        pageContent.stream()
                                 .map(Product::getId)
                                 .toList()
                 ))
                 : new HashSet<>();
         
-        // 각 상품의 찜 여부 확인 및 DTO 변환 후 PageResult로 변환
-        PageResult<ProductSearchItemDto> pageResult = PageResult.fromPage(
-                productPage.map(product -> {
-                    Boolean isFavorite = userId != null && favoriteProductIds.contains(product.getId());
-                    return ProductSearchItemDto.fromEntity(product, isFavorite);
-                })
-        );
+        List<ProductSearchItemDto> content = pageContent.stream()
+                .map(product -> ProductSearchItemDto.fromEntity(
+                        product,
+                        userId != null && favoriteProductIds.contains(product.getId())
+                ))
+                .toList();
         
-        return new ProductSearchResultDto(pageResult);
+        return new ProductSearchSliceDto(content, size, hasNext, nextCursor);
+    }
+    
+    /**
+     * 색인에서 키워드 후보 구하기
+     * 
+     * @return 상품 ID → 관련도 점수 (키워드가 없거나, 색인을 못 쓰거나, 맞는 상품이 너무 많으면 null - SQL 검색을 쓴다)
+     */
+    private Map<Long, Integer> searchIndex(List<String> keywords) {
+        if (keywords == null || !productSearchIndex.isAvailable()) {
+            return null;
+        }
+        return productSearchIndex.search(keywords);
+    }
+    
+    /**
+     * 검색 조건에서 다중 키워드 추출
+     * 
+     * 페이지 검색과 커서 검색이 같은 규칙을 쓰도록 한곳에 모았다.
+     * 
+     * @return 전처리된 키워드 리스트 (키워드가 없으면 null)
+     */
+    private List<String> resolveKeywords(ProductSearchCommand command) {
+        // keyword가 있으면 공백으로 분리하여 keywords 리스트로 변환 (다중 단어 검색 지원)
+        List<String> keywords = null;
+        if (command.getKeyword() != null && !command.getKeyword().trim().isEmpty()) {
+            // keyword를 공백으로 분리하여 다중 키워드로 처리
+            String[] keywordArray = command.getKeyword().trim().split("\\s+");
+            keywords = new ArrayList<>();
+            for (String kw : keywordArray) {
+                String processedKw = preprocessKeyword(kw);
+                if (processedKw != null && !processedKw.isEmpty()) {
+                    keywords.add(processedKw);
+                }
+            }
+            if (keywords.isEmpty()) {
+                keywords = null;
+            }
+        } else if (command.getKeywords() != null && !command.getKeywords().isEmpty()) {
+            // keywords가 직접 전달된 경우
+            keywords = preprocessKeywords(command.getKeywords());
+        }
+        
+        return keywords;
     }
     
     /**
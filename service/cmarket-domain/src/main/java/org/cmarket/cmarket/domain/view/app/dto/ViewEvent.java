@@ -0,0 +1,23 @@
+package org.cmarket.cmarket.domain.view.app.dto;
+
+import org.cmarket.cmarket.domain.view.model.ViewTargetType;
+
+import java.time.LocalDate;
+
+/**
+ * 아직 DB에 반영하지 않은 조회 한 건
+ *
+ * 상세 조회 때 메모리에 쌓아 두었다가 ViewLogService.applyViews 로 한꺼번에 반영한다.
+ *
+ * @param viewerId 본 사람의 사용자 ID
+ * @param targetType 대상 종류 (상품인지 글인지)
+ * @param targetId 대상 ID
+ * @param viewDate 본 날짜 (한국 시간 기준, ViewCounter.today())
+ */
+public record ViewEvent(
+        Long viewerId,
+        ViewTargetType targetType,
+        Long targetId,
+        LocalDate viewDate
+) {
+}
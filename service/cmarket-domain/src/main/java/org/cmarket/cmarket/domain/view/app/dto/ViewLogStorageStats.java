@@ -0,0 +1,13 @@
+package org.cmarket.cmarket.domain.view.app.dto;
+
+/**
+ * 조회 기록 표 크기 (information_schema 추정치)
+ *
+ * @param rows 행 수 (view_logs + view_log_keys)
+ * @param bytes 데이터 + 인덱스 크기 (바이트)
+ */
+public record ViewLogStorageStats(
+        long rows,
+        long bytes
+) {
+}
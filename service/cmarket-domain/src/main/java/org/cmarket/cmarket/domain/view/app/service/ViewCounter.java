@@ -0,0 +1,55 @@
+package org.cmarket.cmarket.domain.view.app.service;
+
+import org.cmarket.cmarket.domain.view.model.ViewTargetType;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 조회수 집계 인터페이스
+ *
+ * 상세 조회가 쓰기 트랜잭션이 되지 않도록, 조회는 메모리에만 쌓고
+ * 모아 둔 것을 주기적으로 ViewLogService.applyViews 로 한꺼번에 반영합니다.
+ *
+ * - 같은 사람 · 같은 대상 · 같은 날(한국 시간)은 한 번만 셉니다.
+ *   빠른 판단은 Redis(없으면 서버 메모리)로 하고, 최종 판단은 view_logs 의 unique 제약조건이 합니다.
+ * - 반영은 비동기라 DB의 조회수는 반영 주기만큼 늦게 오릅니다.
+ *
+ * 구현체는 web 모듈에서 제공됩니다.
+ */
+public interface ViewCounter {
+
+    /**
+     * 하루의 경계를 한국 시간으로 못 박는다.
+     *
+     * ⚠️ 이 저장소의 다른 곳은 LocalDate.now()를 시간대 없이 쓴다. 여기만 다른 이유가 있다.
+     *    서버 JVM이 UTC로 돈다(운영 로그·저장된 createdAt이 모두 UTC다).
+     *    시간대를 안 박으면 하루가 바뀌는 순간이 <b>한국 시간 아침 9시</b>가 된다.
+     *
+     *      아침 8시(한국)에 봄  → 서버 날짜 어제  → 조회 +1
+     *      아침 10시(한국)에 봄 → 서버 날짜 오늘  → 조회 +1   ← 같은 날인데 두 번 세진다
+     *
+     *    출퇴근 시간대라 가장 많이 걸릴 자리여서 명시한다.
+     */
+    ZoneId VIEW_DATE_ZONE = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 조회 날짜 (한국 시간 기준 오늘)
+     */
+    static LocalDate today() {
+        return LocalDate.now(VIEW_DATE_ZONE);
+    }
+
+    /**
+     * 조회 한 건 기록
+     *
+     * 오늘 처음 본 것이면 반영 대기열에 넣고 true를 돌려준다.
+     * DB에는 쓰지 않으므로 읽기 전용 트랜잭션 안에서 불러도 된다.
+     *
+     * @param viewerId 본 사람의 사용자 ID (비로그인이면 null)
+     * @param targetType 대상 종류 (상품인지 글인지)
+     * @param targetId 대상 ID
+     * @return 오늘 처음이라 세었으면 true, 이미 봤으면 false
+     */
+    boolean recordView(Long viewerId, ViewTargetType targetType, Long targetId);
+}
@@ -1,29 +1,54 @@
 package org.cmarket.cmarket.domain.view.app.service;
 
-import org.cmarket.cmarket.domain.view.model.ViewTargetType;
+import org.cmarket.cmarket.domain.view.app.dto.ViewEvent;
+import org.cmarket.cmarket.domain.view.app.dto.ViewLogStorageStats;
+import org.cmarket.cmarket.domain.view.model.ViewLogStorageMode;
+
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * 조회 기록 서비스.
  *
- * 교차 도메인(상품·커뮤니티)에서 「오늘 처음 보는 것인가」를 판단할 때 사용합니다.
+ * ViewCounter 가 모아 둔 조회를 조회 기록과 조회수(products · posts)에 반영하고,
+ * 지난 날짜의 조회 기록을 정리합니다.
  */
 public interface ViewLogService {
 
     /**
-     * 오늘 처음 본 것이면 기록을 남기고 true를 돌려준다.
+     * 모아 둔 조회를 한꺼번에 반영한다.
      *
-     * 부르는 쪽은 true일 때만 조회수를 올리면 됩니다.
-     * 이미 오늘 본 기록이 있으면 아무것도 하지 않고 false를 돌려줍니다.
+     * 조회마다 기록을 남기되, 이미 같은 날 기록이 있으면(unique 제약조건 · 기본 키) 건너뛴다.
+     * 기록은 한 건씩이 아니라 JDBC 배치로 한꺼번에 남긴다.
+     * 실제로 기록이 남은 조회만 대상별로 합쳐, 조회수는 대상 묶음마다 UPDATE 한 번으로 올린다.
      *
-     * ⚠️ 기록을 남기는 일과 조회수를 올리는 일은 <b>같은 트랜잭션</b>에서 일어나야 합니다.
+     * ⚠️ 기록을 남기는 일과 조회수를 올리는 일은 <b>같은 트랜잭션</b>에서 일어난다.
      *    따로 떼면 「기록은 남았는데 조회수는 안 올랐다」가 되어,
-     *    그 사람은 그날 다시는 세지지 않습니다. 그래서 여기서 트랜잭션을 새로 열지 않고
-     *    부르는 쪽의 트랜잭션에 얹힙니다(기본 전파 REQUIRED).
+     *    그 사람은 그날 다시는 세지지 않는다.
+     *
+     * @param events 반영할 조회 목록
+     * @param storageMode 기록 저장 방식 (view_logs 또는 view_log_keys)
+     * @return 실제로 조회수에 반영된 건수
+     */
+    int applyViews(List<ViewEvent> events, ViewLogStorageMode storageMode);
+
+    /**
+     * 지난 날짜 조회 기록 삭제 (한 묶음)
+     *
+     * 두 저장 방식의 표를 모두 지운다 (저장 방식을 바꾼 뒤에도 옛 표가 남지 않도록).
+     * 한 번 부를 때 표마다 최대 limit 건만 지우고 트랜잭션을 끝낸다.
+     * 다 지울 때까지 부르는 쪽이 반복한다.
+     *
+     * @param date 이 날짜 이전 기록을 지운다
+     * @param limit 표마다 한 번에 지울 최대 건수
+     * @return 삭제된 건수
+     */
+    int purgeBefore(LocalDate date, int limit);
+
+    /**
+     * 조회 기록 표 크기
      *
-     * @param viewerId 본 사람의 사용자 ID (비로그인이면 null)
-     * @param targetType 대상 종류 (상품인지 글인지)
-     * @param targetId 대상 ID
-     * @return 오늘 처음이면 true, 이미 봤으면 false
+     * @return 행 수와 바이트 (information_schema 추정치)
      */
-    boolean markViewedToday(Long viewerId, ViewTargetType targetType, Long targetId);
+    ViewLogStorageStats getStorageStats();
 }
@@ -1,59 +1,98 @@
 package org.cmarket.cmarket.domain.view.app.service;
 
 import lombok.RequiredArgsConstructor;
+import org.cmarket.cmarket.domain.community.repository.PostRepository;
+import org.cmarket.cmarket.domain.product.repository.ProductRepository;
+import org.cmarket.cmarket.domain.view.app.dto.ViewEvent;
+import org.cmarket.cmarket.domain.view.app.dto.ViewLogStorageStats;
 import org.cmarket.cmarket.domain.view.model.ViewLog;
+import org.cmarket.cmarket.domain.view.model.ViewLogKey;
+import org.cmarket.cmarket.domain.view.model.ViewLogKeyId;
+import org.cmarket.cmarket.domain.view.model.ViewLogStorageMode;
 import org.cmarket.cmarket.domain.view.model.ViewTargetType;
+import org.cmarket.cmarket.domain.view.repository.ViewLogKeyRepository;
 import org.cmarket.cmarket.domain.view.repository.ViewLogRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ViewLogServiceImpl implements ViewLogService {
 
-    /**
-     * 하루의 경계를 한국 시간으로 못 박는다.
-     *
-     * ⚠️ 이 저장소의 다른 곳은 LocalDate.now()를 시간대 없이 쓴다. 여기만 다른 이유가 있다.
-     *    서버 JVM이 UTC로 돈다(운영 로그·저장된 createdAt이 모두 UTC다).
-     *    시간대를 안 박으면 하루가 바뀌는 순간이 <b>한국 시간 아침 9시</b>가 된다.
-     *
-     *      아침 8시(한국)에 봄  → 서버 날짜 어제  → 조회 +1
-     *      아침 10시(한국)에 봄 → 서버 날짜 오늘  → 조회 +1   ← 같은 날인데 두 번 세진다
-     *
-     *    출퇴근 시간대라 가장 많이 걸릴 자리여서 명시한다.
-     */
-    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
-
     private final ViewLogRepository viewLogRepository;
+    private final ViewLogKeyRepository viewLogKeyRepository;
+    private final ProductRepository productRepository;
+    private final PostRepository postRepository;
 
     @Override
-    public boolean markViewedToday(Long viewerId, ViewTargetType targetType, Long targetId) {
-        if (viewerId == null || targetType == null || targetId == null) {
-            return false;
+    public int applyViews(List<ViewEvent> events, ViewLogStorageMode storageMode) {
+        if (events == null || events.isEmpty()) {
+            return 0;
         }
 
-        LocalDate today = LocalDate.now(KOREA_ZONE);
+        // 서버가 여러 대이거나 Redis 가 비워졌으면 같은 조회가 또 올 수 있다.
+        // 기록이 이미 있어 새로 남지 않은 것은 세지 않는다 (기록은 JDBC 배치로 한꺼번에 남긴다).
+        boolean[] inserted = storageMode == ViewLogStorageMode.COMPACT
+                ? viewLogKeyRepository.insertIgnoreAll(events.stream()
+                        .map(event -> new ViewLogKeyId(
+                                event.viewDate(),
+                                ViewLogKey.hash(event.viewerId(), event.targetType(), event.targetId())))
+                        .toList())
+                : viewLogRepository.insertIgnoreAll(events.stream()
+                        .map(event -> ViewLog.builder()
+                                .viewerId(event.viewerId())
+                                .targetType(event.targetType())
+                                .targetId(event.targetId())
+                                .viewDate(event.viewDate())
+                                .build())
+                        .toList());
+
+        // 대상 ID → 올릴 조회수
+        Map<Long, Long> productDeltas = new HashMap<>();
+        Map<Long, Long> postDeltas = new HashMap<>();
 
-        // 오늘 이미 본 기록이 있으면 조회수를 올리지 않는다
-        if (viewLogRepository.existsByViewerIdAndTargetTypeAndTargetIdAndViewDate(
-                viewerId, targetType, targetId, today)) {
-            return false;
+        int applied = 0;
+        for (int i = 0; i < events.size(); i++) {
+            if (!inserted[i]) {
+                continue;
+            }
+            ViewEvent event = events.get(i);
+            Map<Long, Long> deltas = event.targetType() == ViewTargetType.PRODUCT ? productDeltas : postDeltas;
+            deltas.merge(event.targetId(), 1L, Long::sum);
+            applied++;
         }
 
-        viewLogRepository.save(
-                ViewLog.builder()
-                        .viewerId(viewerId)
-                        .targetType(targetType)
-                        .targetId(targetId)
-                        .viewDate(today)
-                        .build()
-        );
+        // 같은 만큼 오르는 대상끼리 묶어 UPDATE 한 번으로 처리한다 (대부분 +1 이라 묶음이 몇 개 안 된다).
+        groupByDelta(productDeltas).forEach(productRepository::increaseViewCount);
+        groupByDelta(postDeltas).forEach(postRepository::increaseViewCount);
+
+        return applied;
+    }
+
+    @Override
+    public int purgeBefore(LocalDate date, int limit) {
+        return viewLogRepository.deleteBefore(date, limit)
+                + viewLogKeyRepository.deleteBefore(date, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ViewLogStorageStats getStorageStats() {
+        Long rows = viewLogRepository.estimateRowCount();
+        Long bytes = viewLogRepository.estimateTableBytes();
+        return new ViewLogStorageStats(rows != null ? rows : 0L, bytes != null ? bytes : 0L);
+    }
 
-        return true;
+    private static Map<Long, List<Long>> groupByDelta(Map<Long, Long> deltas) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        deltas.forEach((targetId, delta) -> grouped.computeIfAbsent(delta, key -> new ArrayList<>()).add(targetId));
+        return grouped;
     }
 }
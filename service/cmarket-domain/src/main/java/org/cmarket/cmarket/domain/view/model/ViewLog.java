@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -22,6 +23,7 @@ import java.time.LocalDateTime;
  *
  * 「누가 · 무엇을 · 어느 날 봤는지」를 남깁니다.
  * 같은 사람이 같은 것을 같은 날 다시 봐도 조회수를 다시 올리지 않기 위한 표입니다.
+ * 오늘(한국 시간) 이전 기록은 쓸 일이 없어 매일 지웁니다 (ViewLogRetentionScheduler).
  *
  * - viewerId와 targetType, targetId, viewDate의 복합 unique 제약조건으로 하루 한 번만 기록
  * - 상품과 커뮤니티 글을 표 하나에 담습니다 (신고 엔티티와 같은 방식)
@@ -29,7 +31,7 @@ import java.time.LocalDateTime;
  * ⚠️ viewDate는 한국 시간(Asia/Seoul) 기준 날짜입니다.
  *    서버 JVM이 UTC로 돌기 때문에, 시간대를 못 박지 않으면 하루가 바뀌는 순간이
  *    한국 시간 아침 9시가 되어 출근 시간대에 같은 사람이 두 번 세집니다.
- *    날짜를 만드는 곳은 ViewLogServiceImpl 한 곳뿐이니 그쪽을 함께 보세요.
+ *    날짜를 만드는 곳은 ViewCounter.today() 한 곳뿐이니 그쪽을 함께 보세요.
  */
 @Entity
 @Table(
@@ -39,6 +41,9 @@ import java.time.LocalDateTime;
             name = "uk_viewer_target_date",
             columnNames = {"viewer_id", "target_type", "target_id", "view_date"}
         )
+    },
+    indexes = {
+        @Index(name = "idx_view_logs_view_date", columnList = "view_date")
     }
 )
 @Getter
@@ -65,10 +70,11 @@ public class ViewLog {
     @Column(nullable = false, updatable = false, name = "created_at")
     private LocalDateTime createdAt;
 
-    // 인덱스를 따로 달지 않습니다.
-    // 조회는 existsBy...(viewerId, targetType, targetId, viewDate) 하나뿐이고,
-    // 위의 unique 제약조건이 그 네 컬럼을 그대로 덮는 인덱스라 이미 충분합니다.
-    // 인덱스를 더 달면 상세 조회마다 일어나는 INSERT만 느려집니다.
+    // 인덱스는 view_date 하나만 더 답니다.
+    // 중복 확인은 위의 unique 제약조건이 네 컬럼을 그대로 덮어 충분하지만,
+    // 지난 날짜 삭제(ViewLogRepository.deleteBefore)는 view_date 로 범위를 찾아야 해서
+    // 이게 없으면 삭제할 때마다 표 전체를 훑습니다.
+    // 하루 지난 기록은 매일 지우므로 표가 작게 유지되어 INSERT 부담은 크지 않습니다.
 
     @Builder
     public ViewLog(
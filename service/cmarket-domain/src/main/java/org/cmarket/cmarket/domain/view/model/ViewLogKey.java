@@ -0,0 +1,60 @@
+package org.cmarket.cmarket.domain.view.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+
+/**
+ * 조회 기록 엔티티 (압축 저장, ViewLogStorageMode.COMPACT)
+ *
+ * ViewLog 와 같은 목적(같은 사람 · 같은 대상 · 같은 날은 한 번만 센다)이지만
+ * 네 컬럼 대신 날짜와 64비트 해시 하나만 남깁니다.
+ *
+ * - 기본 키가 (view_date, key_hash) 라 같은 날 같은 조회는 두 번 들어가지 않습니다.
+ * - view_date 가 기본 키의 첫 컬럼이라, 지난 날짜 삭제가 기본 키 범위를 그대로 탑니다.
+ * - 해시가 겹칠 확률은 하루 100만 건에서도 10억 분의 1 수준입니다.
+ *   겹치면 조회 한 번이 덜 세질 뿐입니다.
+ *
+ * 저장은 INSERT IGNORE(ViewLogKeyRepository.insertIgnore) 로만 합니다.
+ */
+@Entity
+@Table(name = "view_log_keys")
+@IdClass(ViewLogKeyId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ViewLogKey {
+
+    @Id
+    @Column(nullable = false, name = "view_date")
+    private LocalDate viewDate;  // 본 날짜 (한국 시간 기준)
+
+    @Id
+    @Column(nullable = false, name = "key_hash")
+    private Long keyHash;  // (viewerId, targetType, targetId) 해시
+
+    /**
+     * (본 사람, 대상 종류, 대상 ID) 의 64비트 해시
+     *
+     * 서버마다 같은 값이 나와야 하므로 String.hashCode 같은 것 대신 SHA-256 앞 8바이트를 쓴다.
+     */
+    public static long hash(Long viewerId, ViewTargetType targetType, Long targetId) {
+        String raw = viewerId + ":" + targetType.name() + ":" + targetId;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
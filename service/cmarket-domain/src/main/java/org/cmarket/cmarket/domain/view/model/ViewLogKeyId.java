@@ -0,0 +1,23 @@
+package org.cmarket.cmarket.domain.view.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * ViewLogKey 복합 키 (view_date, key_hash)
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ViewLogKeyId implements Serializable {
+
+    private LocalDate viewDate;
+    private Long keyHash;
+}
@@ -0,0 +1,14 @@
+package org.cmarket.cmarket.domain.view.model;
+
+/**
+ * 조회 기록 저장 방식.
+ *
+ * - FULL: view_logs 에 누가 · 무엇을 · 어느 날 봤는지 그대로 남긴다 (기본).
+ * - COMPACT: view_log_keys 에 날짜와 (사용자, 대상 종류, 대상 ID)의 64비트 해시만 남긴다.
+ *   하루 한 번만 세기 위한 용도로는 충분하고, 행과 인덱스가 훨씬 작다.
+ *   대신 「누가 봤는지」는 다시 알 수 없다.
+ */
+public enum ViewLogStorageMode {
+    FULL,
+    COMPACT
+}
@@ -0,0 +1,31 @@
+package org.cmarket.cmarket.domain.view.repository;
+
+import org.cmarket.cmarket.domain.view.model.ViewLogKey;
+import org.cmarket.cmarket.domain.view.model.ViewLogKeyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+/**
+ * ViewLogKey 엔티티 레포지토리 인터페이스
+ *
+ * 주요 기능:
+ * - 조회 기록 남기기 (같은 날 기록이 이미 있으면 건너뜀, ViewLogKeyRepositoryCustom.insertIgnoreAll)
+ * - 지난 날짜 기록 나눠 지우기
+ */
+public interface ViewLogKeyRepository extends JpaRepository<ViewLogKey, ViewLogKeyId>, ViewLogKeyRepositoryCustom {
+
+    /**
+     * 지난 날짜 기록 삭제 (최대 limit 건)
+     *
+     * @param date 이 날짜 이전 기록을 지운다
+     * @param limit 한 번에 지울 최대 건수
+     * @return 삭제된 건수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM view_log_keys WHERE view_date < :date LIMIT :limit", nativeQuery = true)
+    int deleteBefore(@Param("date") LocalDate date, @Param("limit") int limit);
+}
@@ -0,0 +1,23 @@
+package org.cmarket.cmarket.domain.view.repository;
+
+import org.cmarket.cmarket.domain.view.model.ViewLogKeyId;
+
+import java.util.List;
+
+/**
+ * ViewLogKey 엔티티 커스텀 레포지토리 인터페이스
+ *
+ * 조회 반영 한 묶음의 기록을 JDBC 배치로 남깁니다.
+ */
+public interface ViewLogKeyRepositoryCustom {
+
+    /**
+     * 조회 기록 여러 개 남기기 (이미 있으면 건너뜀, JDBC 배치)
+     *
+     * 판단 방식은 ViewLogRepositoryCustom.insertIgnoreAll 과 같다.
+     *
+     * @param keys 남길 기록 (본 날짜, ViewLogKey.hash 값)
+     * @return 새로 남겼는지 (keys 와 같은 순서, 묶음 안에서 겹치는 기록은 처음 것만 true)
+     */
+    boolean[] insertIgnoreAll(List<ViewLogKeyId> keys);
+}
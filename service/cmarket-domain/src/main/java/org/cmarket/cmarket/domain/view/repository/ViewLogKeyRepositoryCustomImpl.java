@@ -0,0 +1,103 @@
+package org.cmarket.cmarket.domain.view.repository;
+
+import org.cmarket.cmarket.domain.view.model.ViewLogKeyId;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ViewLogKey 엔티티 커스텀 레포지토리 구현체
+ *
+ * JdbcTemplate 은 진행 중인 JPA 트랜잭션의 연결을 그대로 쓴다 (같은 트랜잭션으로 커밋 · 롤백).
+ */
+public class ViewLogKeyRepositoryCustomImpl implements ViewLogKeyRepositoryCustom {
+
+    // 한 번에 확인하고 넣는 행 수
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO view_log_keys (view_date, key_hash) VALUES (?, ?)";
+
+    // 기본 키 (view_date, key_hash) 를 탄다
+    private static final String EXISTING_SQL = "SELECT view_date, key_hash FROM view_log_keys "
+            + "WHERE view_date IN (:viewDates) AND key_hash IN (:keyHashes)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ViewLogKeyRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public boolean[] insertIgnoreAll(List<ViewLogKeyId> keys) {
+        boolean[] inserted = new boolean[keys.size()];
+        for (int from = 0; from < keys.size(); from += BATCH_SIZE) {
+            int to = Math.min(keys.size(), from + BATCH_SIZE);
+            insertBatch(keys.subList(from, to), inserted, from);
+        }
+        return inserted;
+    }
+
+    private void insertBatch(List<ViewLogKeyId> batch, boolean[] inserted, int offset) {
+        // 1. 이미 있는 기록 (묶음 안에서 겹치는 기록도 여기에 더해 가며 거른다)
+        Set<ViewLogKeyId> present = findExisting(batch);
+        List<ViewLogKeyId> missing = new ArrayList<>();
+        List<Integer> missingIndexes = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (present.add(batch.get(i))) {
+                missing.add(batch.get(i));
+                missingIndexes.add(i);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        // 2. 없는 것만 넣는다
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                ViewLogKeyId key = missing.get(i);
+                statement.setObject(1, key.getViewDate());
+                statement.setLong(2, key.getKeyHash());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return missing.size();
+            }
+        });
+
+        // 0 이면 그 사이 다른 서버가 넣은 것, SUCCESS_NO_INFO 면 미리 읽은 결과대로 새 기록으로 본다
+        for (int i = 0; i < counts.length; i++) {
+            inserted[offset + missingIndexes.get(i)] = counts[i] != 0;
+        }
+    }
+
+    private Set<ViewLogKeyId> findExisting(List<ViewLogKeyId> batch) {
+        Set<LocalDate> viewDates = new HashSet<>();
+        Set<Long> keyHashes = new HashSet<>();
+        for (ViewLogKeyId key : batch) {
+            viewDates.add(key.getViewDate());
+            keyHashes.add(key.getKeyHash());
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("viewDates", viewDates)
+                .addValue("keyHashes", keyHashes);
+        return new HashSet<>(namedParameterJdbcTemplate.query(EXISTING_SQL, params, (rs, rowNum) -> new ViewLogKeyId(
+                rs.getObject("view_date", LocalDate.class),
+                rs.getLong("key_hash")
+        )));
+    }
+}
@@ -1,8 +1,10 @@
 package org.cmarket.cmarket.domain.view.repository;
 
 import org.cmarket.cmarket.domain.view.model.ViewLog;
-import org.cmarket.cmarket.domain.view.model.ViewTargetType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 
@@ -13,26 +15,41 @@ import java.time.LocalDate;
  * 메서드 이름 규칙을 따르면 쿼리가 자동 생성됩니다.
  *
  * 주요 기능:
- * - 오늘 이미 본 기록이 있는지 확인
+ * - 조회 기록 남기기 (같은 날 기록이 이미 있으면 건너뜀, ViewLogRepositoryCustom.insertIgnoreAll)
+ * - 지난 날짜 기록 나눠 지우기
+ * - 조회 기록 표 크기 (information_schema 추정치)
  */
-public interface ViewLogRepository extends JpaRepository<ViewLog, Long> {
+public interface ViewLogRepository extends JpaRepository<ViewLog, Long>, ViewLogRepositoryCustom {
 
     /**
-     * 오늘 이미 본 기록이 있는지 확인
+     * 지난 날짜 기록 삭제 (최대 limit 건)
      *
-     * 네 컬럼이 ViewLog의 unique 제약조건(uk_viewer_target_date)과 같은 순서라
-     * 그 인덱스를 그대로 탑니다.
+     * 한 번에 다 지우면 긴 트랜잭션이 표에 락을 오래 잡아, 그 사이 조회 반영(INSERT)이 밀린다.
+     * 그래서 LIMIT 로 잘라 여러 트랜잭션으로 나눠 지운다. idx_view_logs_view_date 를 탄다.
      *
-     * @param viewerId 본 사람의 사용자 ID
-     * @param targetType 대상 종류 (상품인지 글인지)
-     * @param targetId 대상 ID
-     * @param viewDate 본 날짜 (한국 시간 기준)
-     * @return 기록이 있으면 true, 없으면 false
+     * @param date 이 날짜 이전 기록을 지운다
+     * @param limit 한 번에 지울 최대 건수
+     * @return 삭제된 건수
      */
-    boolean existsByViewerIdAndTargetTypeAndTargetIdAndViewDate(
-            Long viewerId,
-            ViewTargetType targetType,
-            Long targetId,
-            LocalDate viewDate
-    );
+    @Modifying
+    @Query(value = "DELETE FROM view_logs WHERE view_date < :date LIMIT :limit", nativeQuery = true)
+    int deleteBefore(@Param("date") LocalDate date, @Param("limit") int limit);
+
+    /**
+     * 조회 기록 표(view_logs, view_log_keys)의 행 수 추정치
+     *
+     * COUNT(*) 는 표 전체를 훑으므로 information_schema 의 통계값을 쓴다.
+     */
+    @Query(value = "SELECT COALESCE(SUM(table_rows), 0) FROM information_schema.tables " +
+                   "WHERE table_schema = DATABASE() AND table_name IN ('view_logs', 'view_log_keys')",
+           nativeQuery = true)
+    Long estimateRowCount();
+
+    /**
+     * 조회 기록 표(view_logs, view_log_keys)의 데이터 + 인덱스 크기 (바이트)
+     */
+    @Query(value = "SELECT COALESCE(SUM(data_length + index_length), 0) FROM information_schema.tables " +
+                   "WHERE table_schema = DATABASE() AND table_name IN ('view_logs', 'view_log_keys')",
+           nativeQuery = true)
+    Long estimateTableBytes();
 }
@@ -0,0 +1,26 @@
+package org.cmarket.cmarket.domain.view.repository;
+
+import org.cmarket.cmarket.domain.view.model.ViewLog;
+
+import java.util.List;
+
+/**
+ * ViewLog 엔티티 커스텀 레포지토리 인터페이스
+ *
+ * 조회 반영 한 묶음의 기록을 JDBC 배치로 남깁니다.
+ */
+public interface ViewLogRepositoryCustom {
+
+    /**
+     * 조회 기록 여러 개 남기기 (이미 있으면 건너뜀, JDBC 배치)
+     *
+     * 같은 날 기록이 이미 있는지는 묶음마다 한 번에 읽어 확인하고, 없는 것만 INSERT IGNORE 배치로 넣는다.
+     * rewriteBatchedStatements 가 켜진 MySQL 은 배치의 행마다 결과를 돌려주지 않으므로(SUCCESS_NO_INFO)
+     * 미리 읽은 결과로 판단한다. 그 사이 다른 서버가 같은 기록을 넣었다면 한 번 더 셀 수 있으나,
+     * Redis 가 먼저 걸러 같은 조회가 두 서버에 동시에 오는 일은 드물다.
+     *
+     * @param logs 남길 기록
+     * @return 새로 남겼는지 (logs 와 같은 순서, 묶음 안에서 겹치는 기록은 처음 것만 true)
+     */
+    boolean[] insertIgnoreAll(List<ViewLog> logs);
+}
@@ -0,0 +1,117 @@
+package org.cmarket.cmarket.domain.view.repository;
+
+import org.cmarket.cmarket.domain.view.model.ViewLog;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ViewLog 엔티티 커스텀 레포지토리 구현체
+ *
+ * JdbcTemplate 은 진행 중인 JPA 트랜잭션의 연결을 그대로 쓴다 (같은 트랜잭션으로 커밋 · 롤백).
+ */
+public class ViewLogRepositoryCustomImpl implements ViewLogRepositoryCustom {
+
+    // 한 번에 확인하고 넣는 행 수
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO view_logs "
+            + "(viewer_id, target_type, target_id, view_date, created_at) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    // uk_viewer_target_date (viewer_id, ...) 앞부분을 탄다
+    private static final String EXISTING_SQL = "SELECT viewer_id, target_type, target_id, view_date FROM view_logs "
+            + "WHERE viewer_id IN (:viewerIds) AND view_date IN (:viewDates)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ViewLogRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public boolean[] insertIgnoreAll(List<ViewLog> logs) {
+        boolean[] inserted = new boolean[logs.size()];
+        for (int from = 0; from < logs.size(); from += BATCH_SIZE) {
+            int to = Math.min(logs.size(), from + BATCH_SIZE);
+            insertBatch(logs.subList(from, to), inserted, from);
+        }
+        return inserted;
+    }
+
+    private void insertBatch(List<ViewLog> batch, boolean[] inserted, int offset) {
+        // 1. 이미 있는 기록 (묶음 안에서 겹치는 기록도 여기에 더해 가며 거른다)
+        Set<LogKey> present = findExisting(batch);
+        List<ViewLog> missing = new ArrayList<>();
+        List<Integer> missingIndexes = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (present.add(LogKey.of(batch.get(i)))) {
+                missing.add(batch.get(i));
+                missingIndexes.add(i);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        // 2. 없는 것만 넣는다
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                ViewLog log = missing.get(i);
+                statement.setLong(1, log.getViewerId());
+                statement.setString(2, log.getTargetType().name());
+                statement.setLong(3, log.getTargetId());
+                statement.setObject(4, log.getViewDate());
+                statement.setObject(5, log.getCreatedAt());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return missing.size();
+            }
+        });
+
+        // 0 이면 그 사이 다른 서버가 넣은 것, SUCCESS_NO_INFO 면 미리 읽은 결과대로 새 기록으로 본다
+        for (int i = 0; i < counts.length; i++) {
+            inserted[offset + missingIndexes.get(i)] = counts[i] != 0;
+        }
+    }
+
+    private Set<LogKey> findExisting(List<ViewLog> batch) {
+        Set<Long> viewerIds = new HashSet<>();
+        Set<LocalDate> viewDates = new HashSet<>();
+        for (ViewLog log : batch) {
+            viewerIds.add(log.getViewerId());
+            viewDates.add(log.getViewDate());
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("viewerIds", viewerIds)
+                .addValue("viewDates", viewDates);
+        return new HashSet<>(namedParameterJdbcTemplate.query(EXISTING_SQL, params, (rs, rowNum) -> new LogKey(
+                rs.getLong("viewer_id"),
+                rs.getString("target_type"),
+                rs.getLong("target_id"),
+                rs.getObject("view_date", LocalDate.class)
+        )));
+    }
+
+    private record LogKey(Long viewerId, String targetType, Long targetId, LocalDate viewDate) {
+
+        static LogKey of(ViewLog log) {
+            return new LogKey(log.getViewerId(), log.getTargetType().name(), log.getTargetId(), log.getViewDate());
+        }
+    }
+}
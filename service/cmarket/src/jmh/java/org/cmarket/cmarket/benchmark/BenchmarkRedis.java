@@ -0,0 +1,68 @@
+package org.cmarket.cmarket.benchmark;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * 벤치마크가 쓸 Redis
+ *
+ * REDIS_HOST(, REDIS_PORT) 가 있으면 그 서버에, 없으면 redis-server 를 하나 띄워 붙는다.
+ * 왕복 비용을 보려는 것이므로 흉내 낸 객체가 아니라 실제 서버를 쓴다.
+ * DB 번호는 BENCHMARK_REDIS_DATABASE (기본 15) 이고, 벤치마크는 자기 키만 만들고 지운다.
+ */
+final class BenchmarkRedis implements AutoCloseable {
+
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate template;
+
+    private BenchmarkRedis(RedisServer server, String host, int port) {
+        this.server = server;
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        configuration.setDatabase(Integer.parseInt(env("BENCHMARK_REDIS_DATABASE", "15")));
+        this.connectionFactory = new LettuceConnectionFactory(configuration);
+        this.connectionFactory.afterPropertiesSet();
+        this.template = new StringRedisTemplate(connectionFactory);
+    }
+
+    static BenchmarkRedis start() throws IOException {
+        String host = System.getenv("REDIS_HOST");
+        if (host != null) {
+            return new BenchmarkRedis(null, host, Integer.parseInt(env("REDIS_PORT", "6379")));
+        }
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        RedisServer server = RedisServer.newRedisServer()
+                .port(port)
+                .setting("bind 127.0.0.1")
+                .setting("save \"\"")
+                .build();
+        server.start();
+        return new BenchmarkRedis(server, "127.0.0.1", port);
+    }
+
+    StringRedisTemplate template() {
+        return template;
+    }
+
+    @Override
+    public void close() throws IOException {
+        connectionFactory.destroy();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
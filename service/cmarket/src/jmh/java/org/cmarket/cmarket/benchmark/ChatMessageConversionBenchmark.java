@@ -0,0 +1,162 @@
+package org.cmarket.cmarket.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cmarket.cmarket.domain.chat.model.MessageType;
+import org.cmarket.cmarket.web.chat.config.ChatMessageRequestArgumentResolver;
+import org.cmarket.cmarket.web.chat.dto.ChatMessageRequest;
+import org.cmarket.cmarket.web.chat.dto.ChatMessageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.PayloadMethodArgumentResolver;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 하나를 주고받을 때 드는 변환 비용
+ *
+ * 들어오는 쪽 (STOMP SEND → @Payload ChatMessageRequest):
+ * - legacyInbound: 변경 전 흐름. 인터셉터가 byte[] 를 String 으로 바꿔 읽고,
+ *   컨트롤러 인자는 기본 PayloadMethodArgumentResolver 가 본문을 한 번 더 역직렬화한다.
+ * - parsedOnceInbound: 지금 흐름. 인터셉터가 byte[] 를 바로 한 번 읽어 헤더에 싣고,
+ *   ChatMessageRequestArgumentResolver 는 헤더의 객체를 그대로 넘긴다.
+ *
+ * 나가는 쪽 (ChatMessageResponse → 구독자마다 STOMP MESSAGE 프레임):
+ * - outbound: convertAndSend 처럼 본문 JSON 은 한 번만 만들고, 구독자마다 프레임(헤더 + 같은 본문)만 인코딩한다.
+ *   subscribers 는 같은 방을 구독한 세션 수다.
+ *
+ * 실행: ./gradlew :service:cmarket:jmh -Pjmh.include=ChatMessageConversion
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatMessageConversionBenchmark {
+
+    private ObjectMapper objectMapper;
+    private MethodParameter payloadParameter;
+    private PayloadMethodArgumentResolver payloadResolver;
+    private ChatMessageRequestArgumentResolver parsedRequestResolver;
+    private MappingJackson2MessageConverter messageConverter;
+    private StompEncoder stompEncoder;
+    private byte[] requestBody;
+    private ChatMessageResponse response;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        // 앱과 같은 설정 (JavaTimeModule 등)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        messageConverter = new MappingJackson2MessageConverter();
+        messageConverter.setObjectMapper(objectMapper);
+        payloadResolver = new PayloadMethodArgumentResolver(messageConverter, null);
+        parsedRequestResolver = new ChatMessageRequestArgumentResolver(objectMapper);
+        payloadParameter = new MethodParameter(
+                ChatMessageConversionBenchmark.class.getDeclaredMethod("handle", ChatMessageRequest.class), 0);
+        stompEncoder = new StompEncoder();
+
+        String content = "안녕하세요! 올려주신 강아지 사료 아직 판매 중인가요? 내일 오후에 직거래 가능할까요?";
+        requestBody = ("{\"chatRoomId\":1234,\"content\":\"" + content + "\",\"messageType\":\"TEXT\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        response = ChatMessageResponse.builder()
+                .messageId(987654L)
+                .chatRoomId(1234L)
+                .senderId(42L)
+                .senderNickname("멍멍이아빠")
+                .messageType(MessageType.TEXT)
+                .content(content)
+                .isBlocked(false)
+                .createdAt(LocalDateTime.of(2025, 5, 2, 9, 15, 30))
+                .build();
+    }
+
+    @Benchmark
+    public Object legacyInbound() throws Exception {
+        Message<byte[]> message = inboundMessage();
+
+        // 인터셉터: 권한 확인용으로 chatRoomId 를 읽는다
+        ChatMessageRequest checked = objectMapper.readValue(
+                new String(message.getPayload(), StandardCharsets.UTF_8), ChatMessageRequest.class);
+        if (checked.getChatRoomId() == null) {
+            return null;
+        }
+        // 컨트롤러 인자: 본문을 다시 역직렬화
+        return payloadResolver.resolveArgument(payloadParameter, message);
+    }
+
+    @Benchmark
+    public Object parsedOnceInbound() throws IOException {
+        Message<byte[]> message = inboundMessage();
+        StompHeaderAccessor accessor = StompHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        // 인터셉터: 한 번 읽고 헤더에 싣는다 (ChatMessageRequestArgumentResolver.read 와 같은 호출)
+        ChatMessageRequest checked = objectMapper.readValue(message.getPayload(), ChatMessageRequest.class);
+        if (checked.getChatRoomId() == null) {
+            return null;
+        }
+        accessor.setHeader(ChatMessageRequestArgumentResolver.PARSED_REQUEST_HEADER, checked);
+        // 컨트롤러 인자: 헤더의 객체를 그대로
+        return parsedRequestResolver.resolveArgument(payloadParameter, message);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Room {
+        @Param({"2", "10"})
+        public int subscribers;
+    }
+
+    @Benchmark
+    public void outbound(Room room, Blackhole blackhole) {
+        MessageHeaders headers = new MessageHeaders(null);
+        Message<?> converted = messageConverter.toMessage(response, headers);
+        byte[] body = (byte[]) converted.getPayload();
+
+        for (int i = 0; i < room.subscribers; i++) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+            accessor.setDestination("/sub/chat/room/1234");
+            accessor.setSubscriptionId("sub-" + i);
+            accessor.setMessageId("message-" + i);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            blackhole.consume(stompEncoder.encode(accessor.getMessageHeaders(), body));
+        }
+    }
+
+    /**
+     * 클라이언트가 보낸 SEND 프레임 (인바운드 채널에서처럼 헤더는 아직 수정 가능)
+     */
+    private Message<byte[]> inboundMessage() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/app/chat/message");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(requestBody, accessor.getMessageHeaders());
+    }
+
+    @SuppressWarnings("unused")
+    private void handle(@Payload ChatMessageRequest request) {
+    }
+}
@@ -0,0 +1,138 @@
+package org.cmarket.cmarket.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.cmarket.cmarket.web.common.security.JwtTokenProvider;
+import org.cmarket.cmarket.web.common.security.TokenBlacklistCacheService;
+import org.cmarket.cmarket.web.common.security.TokenHashUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 가 요청 하나에 쓰는 비용 (토큰 검증 + 블랙리스트 확인 + Authentication 생성)
+ *
+ * - legacyFilter: 변경 전 흐름. validateToken 과 getAuthentication 이 각각 파서를 만들어 서명을 검증하고,
+ *   블랙리스트는 요청마다 Redis 에 묻는다.
+ * - cachedFilter: 지금 흐름. JwtTokenProvider.authenticate (검증된 Claims 캐시) 후
+ *   TokenBlacklistCacheService.isBlacklisted (로컬 캐시 → Redis).
+ *
+ * tokenCount 는 번갈아 쓰는 서로 다른 토큰 수다. 많을수록 캐시가 덜 맞는다 (로컬 블랙리스트 캐시 TTL 5초).
+ *
+ * 실행: ./gradlew :service:cmarket:jmh -Pjmh.include=JwtAuthentication
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final String BLACKLIST_KEY_PREFIX = "auth:blacklist:";
+
+    @Param({"1", "1000"})
+    public int tokenCount;
+
+    private BenchmarkRedis redis;
+    private StringRedisTemplate stringRedisTemplate;
+    private SecretKey secretKey;
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenBlacklistCacheService tokenBlacklistCacheService;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redis = BenchmarkRedis.start();
+        stringRedisTemplate = redis.template();
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600, 604800, 50000);
+        // DB 폴백과 Pub/Sub 구독은 쓰지 않는다
+        tokenBlacklistCacheService = new TokenBlacklistCacheService(stringRedisTemplate, null, null, 5, 50000);
+
+        tokens = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = jwtTokenProvider.createAccessToken("user" + i + "@cmarket.org", "USER");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        redis.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        String nextToken(JwtAuthenticationBenchmark benchmark) {
+            String token = benchmark.tokens[next];
+            next = (next + 1) % benchmark.tokens.length;
+            return token;
+        }
+    }
+
+    @Benchmark
+    public Authentication legacyFilter(Cursor cursor) {
+        String token = cursor.nextToken(this);
+        if (!legacyValidateToken(token)) {
+            return null;
+        }
+        Boolean blacklisted = stringRedisTemplate.hasKey(BLACKLIST_KEY_PREFIX + TokenHashUtils.sha256Hex(token));
+        if (Boolean.TRUE.equals(blacklisted)) {
+            return null;
+        }
+        return legacyGetAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication cachedFilter(Cursor cursor) {
+        String token = cursor.nextToken(this);
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+        if (authentication == null || tokenBlacklistCacheService.isBlacklisted(token)) {
+            return null;
+        }
+        return authentication;
+    }
+
+    private boolean legacyValidateToken(String token) {
+        try {
+            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+            return true;
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private Authentication legacyGetAuthentication(String token) {
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        return new UsernamePasswordAuthenticationToken(
+                claims.getSubject(),
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + claims.get("role", String.class)))
+        );
+    }
+}
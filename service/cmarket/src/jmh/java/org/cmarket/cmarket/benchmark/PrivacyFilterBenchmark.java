@@ -0,0 +1,133 @@
+package org.cmarket.cmarket.benchmark;
+
+import org.cmarket.cmarket.domain.chat.app.dto.PrivacyScanResult;
+import org.cmarket.cmarket.domain.chat.app.service.PrivacyFilterServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅 메시지 하나의 개인정보 검사 비용 (ChatServiceImpl.sendMessage 7단계)
+ *
+ * - legacyRegex: 변경 전 흐름. containsPrivateInfo 로 정규식 네 개를 돌리고,
+ *   걸리면 getBlockReason 으로 네 개를 다시 돌린다.
+ * - singlePass: 지금 흐름. PrivacyFilterServiceImpl.scan 한 번.
+ *
+ * message:
+ * - plain: 개인정보 없는 보통 대화
+ * - phone: 전화번호가 든 메시지 (차단 사유까지 만든다)
+ * - digits: 숫자 · 구분자가 길게 이어진 메시지 (개인정보는 아니지만 숫자마다 정규식이 시도 · 되추적한다)
+ *
+ * 실행: ./gradlew :service:cmarket:jmh -Pjmh.include=PrivacyFilter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrivacyFilterBenchmark {
+
+    private static final Pattern PHONE_PATTERN = Pattern.compile("01[0-9][- ]?[0-9]{3,4}[- ]?[0-9]{4}");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}");
+    private static final Pattern ACCOUNT_PATTERN = Pattern.compile("\\d{2,6}[- ]?\\d{2,6}[- ]?\\d{2,6}[- ]?\\d{0,6}");
+    private static final Pattern SSN_PATTERN = Pattern.compile("\\d{6}[- ]?[1-4]\\d{6}");
+
+    @Param({"plain", "phone", "digits"})
+    public String message;
+
+    private String content;
+    private PrivacyFilterServiceImpl privacyFilterService;
+
+    @Setup
+    public void setUp() {
+        privacyFilterService = new PrivacyFilterServiceImpl();
+        content = switch (message) {
+            case "plain" -> "안녕하세요! 올려주신 강아지 사료 아직 판매 중인가요? 내일 오후 3시에 역 앞에서 직거래 가능할까요?";
+            case "phone" -> "네 그럼 문자 주세요 010-1234-5678 으로 연락 주시면 바로 답장 드릴게요";
+            case "digits" -> digits(400);
+            default -> throw new IllegalArgumentException(message);
+        };
+    }
+
+    @Benchmark
+    public String legacyRegex() {
+        if (content != null && legacyContainsPrivateInfo(content)) {
+            return legacyGetBlockReason(content);
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String singlePass() {
+        PrivacyScanResult result = privacyFilterService.scan(content);
+        return result.blockReason();
+    }
+
+    private static boolean legacyContainsPrivateInfo(String content) {
+        if (content.isBlank()) {
+            return false;
+        }
+        return PHONE_PATTERN.matcher(content).find()
+                || EMAIL_PATTERN.matcher(content).find()
+                || SSN_PATTERN.matcher(content).find()
+                || legacyIsLikelyAccountNumber(content);
+    }
+
+    private static String legacyGetBlockReason(String content) {
+        List<String> reasons = new ArrayList<>();
+        if (PHONE_PATTERN.matcher(content).find()) {
+            reasons.add("전화번호");
+        }
+        if (EMAIL_PATTERN.matcher(content).find()) {
+            reasons.add("이메일 주소");
+        }
+        if (SSN_PATTERN.matcher(content).find()) {
+            reasons.add("주민등록번호");
+        }
+        if (legacyIsLikelyAccountNumber(content)) {
+            reasons.add("계좌번호");
+        }
+        return reasons.isEmpty() ? null : String.join(", ", reasons) + " 포함";
+    }
+
+    private static boolean legacyIsLikelyAccountNumber(String content) {
+        Matcher matcher = ACCOUNT_PATTERN.matcher(content);
+        while (matcher.find()) {
+            String matched = matcher.group();
+            String digitsOnly = matched.replaceAll("[- ]", "");
+            if (digitsOnly.length() >= 10 && digitsOnly.length() <= 16
+                    && (matched.contains("-") || matched.contains(" "))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 세 자리마다 " - " 를 끼운 숫자 나열 (012 - 345 - 678 - 901 ...)
+     *
+     * 구분자가 세 글자라 어느 패턴도 묶음을 이어 붙이지 못해 개인정보로 걸리지 않는다.
+     */
+    private static String digits(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; builder.length() < length; i++) {
+            builder.append(i % 10).append(i % 3 == 2 ? " - " : "");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,104 @@
+package org.cmarket.cmarket.loadtest;
+
+import org.cmarket.cmarket.domain.auth.model.AuthProvider;
+import org.cmarket.cmarket.domain.auth.model.User;
+import org.cmarket.cmarket.domain.auth.model.UserRole;
+import org.cmarket.cmarket.domain.auth.repository.UserRepository;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomCreateCommand;
+import org.cmarket.cmarket.domain.chat.app.service.ChatService;
+import org.cmarket.cmarket.domain.product.model.Category;
+import org.cmarket.cmarket.domain.product.model.PetDetailType;
+import org.cmarket.cmarket.domain.product.model.PetType;
+import org.cmarket.cmarket.domain.product.model.Product;
+import org.cmarket.cmarket.domain.product.model.ProductStatus;
+import org.cmarket.cmarket.domain.product.model.ProductType;
+import org.cmarket.cmarket.domain.product.model.TradeStatus;
+import org.cmarket.cmarket.domain.product.repository.ProductRepository;
+import org.cmarket.cmarket.web.common.security.JwtTokenProvider;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 측정용 사용자 · 상품 · 채팅방 준비
+ *
+ * 방마다 판매자(받는 사람)의 상품에 구매자(보내는 사람)가 채팅방을 연다.
+ * 채팅방은 ChatService.createChatRoom 으로 만들어 실제와 같은 참여 정보가 생기게 한다.
+ * 토큰은 로그인 대신 JwtTokenProvider 로 바로 만든다.
+ */
+final class ChatLoadFixture {
+
+    private ChatLoadFixture() {
+    }
+
+    /**
+     * 채팅방 하나와 두 참여자
+     *
+     * @param sender 방에 들어와 메시지를 보내는 쪽 (/topic/chat/{id} 구독)
+     * @param recipient 방 밖에 있는 쪽. 안 읽은 수가 sender 가 보낸 만큼 올라가야 한다.
+     */
+    record RoomPair(Long chatRoomId, Participant sender, Participant recipient) {
+    }
+
+    record Participant(Long userId, String email, String accessToken) {
+    }
+
+    static List<RoomPair> create(ApplicationContext context, int rooms) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        ChatService chatService = context.getBean(ChatService.class);
+        JwtTokenProvider jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+
+        List<RoomPair> pairs = new ArrayList<>(rooms);
+        for (int i = 0; i < rooms; i++) {
+            User buyer = userRepository.save(newUser("ls", i));
+            User seller = userRepository.save(newUser("lr", i));
+            Product product = productRepository.save(newProduct(seller.getId(), i));
+
+            Long chatRoomId = chatService.createChatRoom(
+                    buyer.getEmail(),
+                    ChatRoomCreateCommand.builder().productId(product.getId()).build()
+            ).getChatRoomId();
+
+            pairs.add(new RoomPair(
+                    chatRoomId,
+                    participant(buyer, jwtTokenProvider),
+                    participant(seller, jwtTokenProvider)
+            ));
+        }
+        return pairs;
+    }
+
+    private static Participant participant(User user, JwtTokenProvider jwtTokenProvider) {
+        String token = jwtTokenProvider.createAccessToken(user.getEmail(), UserRole.USER.name());
+        return new Participant(user.getId(), user.getEmail(), token);
+    }
+
+    // 닉네임은 10자 제한 + 유일해야 한다 (ls00001, lr00001 ...)
+    private static User newUser(String prefix, int index) {
+        String nickname = prefix + String.format("%05d", index);
+        return User.builder()
+                .email(nickname + "@loadtest.cmarket")
+                .name(nickname)
+                .nickname(nickname)
+                .role(UserRole.USER)
+                .provider(AuthProvider.LOCAL)
+                .build();
+    }
+
+    private static Product newProduct(Long sellerId, int index) {
+        return Product.builder()
+                .sellerId(sellerId)
+                .productType(ProductType.SELL)
+                .petType(PetType.MAMMAL)
+                .petDetailType(PetDetailType.DOG)
+                .category(Category.TOY)
+                .title("부하 측정 상품 " + index)
+                .description("부하 측정용")
+                .price(10000L)
+                .productStatus(ProductStatus.NEW)
+                .tradeStatus(TradeStatus.SELLING)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package org.cmarket.cmarket.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 채팅 부하 측정 조건
+ *
+ * 시스템 속성 loadtest.* 로 받는다 (Gradle 에서는 -Ploadtest.rooms=100 처럼 넘긴다).
+ *
+ * @param rooms 채팅방 수. 방마다 보내는 사람 · 받는 사람 두 세션을 연다.
+ * @param messagesPerSecond 전체 초당 전송 수 (방들에 돌아가며 나눈다)
+ * @param warmupSeconds 처음 이 시간 동안 보낸 메시지는 지연 통계에서 뺀다
+ * @param durationSeconds 전송 시간 (워밍업 포함)
+ * @param drainSeconds 전송을 멈춘 뒤 남은 배달을 기다리는 최대 시간
+ * @param contentLength 메시지 길이 (글자 수)
+ * @param reportDir 보고서를 쓸 디렉터리
+ * @param commit 보고서에 남길 커밋 (비교용)
+ * @param baseline 비교할 이전 보고서 (없으면 null)
+ * @param flushRedis REDIS_HOST 로 준 서버의 DB 를 시작할 때 비울지 (기본 false, 띄운 서버는 원래 비어 있다)
+ */
+record ChatLoadOptions(
+        int rooms,
+        int messagesPerSecond,
+        int warmupSeconds,
+        int durationSeconds,
+        int drainSeconds,
+        int contentLength,
+        Path reportDir,
+        String commit,
+        Path baseline,
+        boolean flushRedis
+) {
+
+    static ChatLoadOptions fromSystemProperties() {
+        String baseline = System.getProperty("loadtest.baseline");
+        ChatLoadOptions options = new ChatLoadOptions(
+                intProperty("loadtest.rooms", 20),
+                intProperty("loadtest.messages-per-second", 100),
+                intProperty("loadtest.warmup-seconds", 5),
+                intProperty("loadtest.duration-seconds", 30),
+                intProperty("loadtest.drain-seconds", 10),
+                intProperty("loadtest.content-length", 40),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/chat-load")),
+                System.getProperty("loadtest.commit", "unknown"),
+                baseline == null || baseline.isBlank() ? null : Path.of(baseline),
+                Boolean.parseBoolean(System.getProperty("loadtest.flush-redis", "false").trim())
+        );
+        options.validate();
+        return options;
+    }
+
+    /**
+     * 보고서에 남길 조건 (같은 조건끼리만 비교한다)
+     */
+    Map<String, Object> toReportMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("rooms", rooms);
+        map.put("sessions", rooms * 2);
+        map.put("messagesPerSecond", messagesPerSecond);
+        map.put("warmupSeconds", warmupSeconds);
+        map.put("durationSeconds", durationSeconds);
+        map.put("drainSeconds", drainSeconds);
+        map.put("contentLength", contentLength);
+        return map;
+    }
+
+    private void validate() {
+        if (rooms < 1 || messagesPerSecond < 1 || durationSeconds < 1 || contentLength < 16) {
+            throw new IllegalArgumentException("잘못된 측정 조건: " + this);
+        }
+        if (warmupSeconds < 0 || warmupSeconds >= durationSeconds) {
+            throw new IllegalArgumentException("워밍업은 0 이상, 전송 시간보다 짧아야 합니다: " + this);
+        }
+        if (contentLength > 1000) {
+            throw new IllegalArgumentException("메시지는 1000자를 넘을 수 없습니다: " + this);
+        }
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
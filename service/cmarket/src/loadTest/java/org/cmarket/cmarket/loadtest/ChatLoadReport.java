@@ -0,0 +1,167 @@
+package org.cmarket.cmarket.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Tag;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 측정 보고서 (JSON)
+ *
+ * reportDir 에 chat-load-{커밋}-{시각}.json 과 latest.json 을 쓴다.
+ * 커밋끼리 비교할 때는 같은 조건(options)으로 돌린 보고서끼리 본다.
+ * loadtest.baseline 을 주면 그 보고서와 주요 수치를 비교해 baseline 항목에 함께 남긴다.
+ *
+ * 최상위 항목:
+ * - commit, startedAt, passed, options
+ * - messages: 보냄 · 배달 · 유실 · 중복 · 서버가 막음 · 에러 코드별 수
+ * - throughput: 초당 보냄 · 초당 배달 (워밍업 제외)
+ * - latencyMillis: 배달 지연 백분위 (워밍업 제외)
+ * - unread: 안 읽은 수 확인 결과
+ * - server: 서버 chat.* 지표 (끝난 시점 값)
+ */
+final class ChatLoadReport {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final int MAX_MISMATCH_EXAMPLES = 20;
+
+    // 기준 보고서와 비교할 수치 (경로, 클수록 좋은가)
+    private static final List<Map.Entry<String, Boolean>> COMPARED = List.of(
+            Map.entry("throughput/deliveredPerSecond", true),
+            Map.entry("latencyMillis/p50", false),
+            Map.entry("latencyMillis/p99", false),
+            Map.entry("latencyMillis/max", false)
+    );
+
+    private ChatLoadReport() {
+    }
+
+    static Map<String, Object> build(
+            ChatLoadOptions options,
+            LocalDateTime startedAt,
+            ChatLoadResult result,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commit", options.commit());
+        report.put("startedAt", startedAt.toString());
+        report.put("passed", result.passed());
+        report.put("options", options.toReportMap());
+        report.put("connectMillis", result.connectMillis());
+
+        Map<String, Object> messages = new LinkedHashMap<>();
+        messages.put("sent", result.sent());
+        messages.put("delivered", result.delivered());
+        messages.put("lost", result.lost());
+        messages.put("duplicates", result.duplicates());
+        messages.put("senderOnly", result.senderOnly());
+        messages.put("sendFailures", result.sendFailures());
+        messages.put("errorsByCode", result.errorsByCode());
+        messages.put("roomListUpdates", result.roomListUpdates());
+        report.put("messages", messages);
+
+        Map<String, Object> throughput = new LinkedHashMap<>();
+        throughput.put("measuredSeconds", round(result.measuredSeconds()));
+        throughput.put("sentPerSecond", round(result.measuredSent() / result.measuredSeconds()));
+        throughput.put("deliveredPerSecond", round(result.measuredDelivered() / result.measuredSeconds()));
+        report.put("throughput", throughput);
+
+        report.put("latencyMillis", result.latency().summaryMillis());
+
+        Map<String, Object> unread = new LinkedHashMap<>();
+        unread.put("checkedRooms", result.unreadChecked());
+        unread.put("mismatchedRooms", result.unreadMismatches().size());
+        unread.put("examples", result.unreadMismatches().stream().limit(MAX_MISMATCH_EXAMPLES).toList());
+        report.put("unread", unread);
+
+        report.put("server", serverMetrics(meterRegistry));
+        return report;
+    }
+
+    /**
+     * 기준 보고서와 비교 결과를 report 의 baseline 항목에 넣는다
+     */
+    static void compareWithBaseline(Map<String, Object> report, Path baselinePath, ObjectMapper objectMapper)
+            throws IOException {
+        JsonNode baseline = objectMapper.readTree(baselinePath.toFile());
+        JsonNode current = objectMapper.valueToTree(report);
+
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        comparison.put("file", baselinePath.toString());
+        comparison.put("commit", baseline.path("commit").asText());
+        comparison.put("sameOptions", baseline.path("options").equals(current.path("options")));
+
+        for (Map.Entry<String, Boolean> metric : COMPARED) {
+            JsonNode before = baseline.at("/" + metric.getKey());
+            JsonNode after = current.at("/" + metric.getKey());
+            if (!before.isNumber() || !after.isNumber()) {
+                continue;
+            }
+            Map<String, Object> change = new LinkedHashMap<>();
+            change.put("before", before.asDouble());
+            change.put("after", after.asDouble());
+            if (before.asDouble() != 0) {
+                double percent = (after.asDouble() - before.asDouble()) / before.asDouble() * 100;
+                change.put("changePercent", round(percent));
+                change.put("better", metric.getValue() ? percent >= 0 : percent <= 0);
+            }
+            comparison.put(metric.getKey().replace('/', '.'), change);
+        }
+        report.put("baseline", comparison);
+    }
+
+    /**
+     * @return 이번 보고서 경로
+     */
+    static Path write(Map<String, Object> report, ChatLoadOptions options, LocalDateTime startedAt,
+                      ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(options.reportDir());
+        Path file = options.reportDir().resolve(
+                "chat-load-" + options.commit() + "-" + startedAt.format(FILE_TIME) + ".json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        Files.copy(file, options.reportDir().resolve("latest.json"), StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    /**
+     * 서버 chat.* 지표 (예: chat.room-executor.rejected{reason=room}.count)
+     */
+    private static Map<String, Double> serverMetrics(MeterRegistry meterRegistry) {
+        Map<String, Double> metrics = new TreeMap<>();
+        for (Meter meter : meterRegistry.getMeters()) {
+            String name = meter.getId().getName();
+            if (!name.startsWith("chat.")) {
+                continue;
+            }
+            List<Tag> tags = meter.getId().getTags();
+            String key = tags.isEmpty() ? name : name + tags.stream()
+                    .map(tag -> tag.getKey() + "=" + tag.getValue())
+                    .collect(Collectors.joining(",", "{", "}"));
+            for (Measurement measurement : meter.measure()) {
+                double value = measurement.getValue();
+                if (!Double.isNaN(value)) {
+                    metrics.put(key + "." + measurement.getStatistic().getTagValueRepresentation(), round(value));
+                }
+            }
+        }
+        return metrics;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,55 @@
+package org.cmarket.cmarket.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 측정 한 번의 결과 (클라이언트에서 본 것)
+ *
+ * @param connectMillis 모든 세션이 연결 · 구독을 마칠 때까지 걸린 시간
+ * @param sent 보낸 메시지 수
+ * @param measuredSent 워밍업 이후 보낸 메시지 수
+ * @param delivered 방 구독으로 돌아온 메시지 수
+ * @param measuredDelivered 워밍업 이후 보낸 것 중 돌아온 수
+ * @param senderOnly 서버가 막아 보낸 사람에게만 돌아온 수 (/user/queue/chat)
+ * @param lost 기다린 뒤에도 돌아오지 않은 수
+ * @param duplicates 두 번 이상 돌아온 수
+ * @param sendFailures 클라이언트에서 보내다 실패한 수
+ * @param errorsByCode /user/queue/errors 로 받은 에러 (코드별)
+ * @param roomListUpdates 받는 사람이 받은 채팅방 목록 갱신 수
+ * @param sendSeconds 실제 전송한 시간
+ * @param measuredSeconds 워밍업을 뺀 전송 시간
+ * @param latency 워밍업 이후 보낸 메시지의 배달 지연 (보낸 시각 → 방 구독으로 받은 시각)
+ * @param unreadChecked 안 읽은 수를 확인한 방 수
+ * @param unreadMismatches 안 읽은 수가 돌아온 메시지 수와 다른 방
+ */
+record ChatLoadResult(
+        long connectMillis,
+        long sent,
+        long measuredSent,
+        long delivered,
+        long measuredDelivered,
+        long senderOnly,
+        long lost,
+        long duplicates,
+        long sendFailures,
+        Map<String, Long> errorsByCode,
+        long roomListUpdates,
+        double sendSeconds,
+        double measuredSeconds,
+        LatencyRecorder latency,
+        int unreadChecked,
+        List<UnreadMismatch> unreadMismatches
+) {
+
+    /**
+     * @param expected 받는 사람 쪽에 쌓였어야 할 안 읽은 수 (방 구독으로 돌아온 메시지 수)
+     * @param actual 채팅방 목록 API 가 돌려준 안 읽은 수 (방을 못 찾으면 -1)
+     */
+    record UnreadMismatch(Long chatRoomId, long expected, long actual) {
+    }
+
+    boolean passed() {
+        return lost == 0 && duplicates == 0 && sendFailures == 0 && unreadMismatches.isEmpty();
+    }
+}
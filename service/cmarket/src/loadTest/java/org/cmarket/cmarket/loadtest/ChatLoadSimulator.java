@@ -0,0 +1,398 @@
+package org.cmarket.cmarket.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.loadtest.ChatLoadFixture.Participant;
+import org.cmarket.cmarket.loadtest.ChatLoadFixture.RoomPair;
+import org.cmarket.cmarket.loadtest.ChatLoadResult.UnreadMismatch;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * STOMP 클라이언트 흉내
+ *
+ * 방마다 세션 두 개를 연다.
+ * - 보내는 사람: /topic/chat/{id} 를 구독해 방 안에 있고, 정해진 속도로 메시지를 보낸다.
+ *   자기 메시지가 방 구독으로 돌아오는 시각까지를 배달 지연으로 잰다 (같은 JVM 이라 nanoTime 을 비교할 수 있다).
+ * - 받는 사람: 방 구독 없이 /user/queue/chat-room-list 만 구독한다 (방 밖).
+ *   끝난 뒤 채팅방 목록 API 의 안 읽은 수가 돌아온 메시지 수와 같은지 본다.
+ *
+ * 메시지 내용 앞에 일련번호를 글자(a~j)로 적어 두고 돌아온 메시지와 짝짓는다.
+ * 숫자를 쓰면 개인정보 필터(전화번호 · 주민등록번호 형태)에 걸릴 수 있다.
+ */
+@Slf4j
+final class ChatLoadSimulator {
+
+    private static final String SEND_DESTINATION = "/app/chat/message";
+    private static final String TAG_PREFIX = "lt";
+    private static final String FILLER = " 부하 측정 메시지 load test message";
+    private static final long CONNECT_TIMEOUT_SECONDS = 30L;
+    private static final long SEND_TICK_MILLIS = 5L;
+    private static final long DRAIN_POLL_MILLIS = 50L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ChatLoadOptions options;
+    private final List<RoomPair> pairs;
+    private final String webSocketUrl;
+    private final String apiBaseUrl;
+    private final ObjectMapper objectMapper;
+
+    // 일련번호 → 보낸 시각 (돌아오면 지운다)
+    private final Map<Long, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errorsByCode = new ConcurrentHashMap<>();
+    private final AtomicIntegerArray deliveredPerRoom;
+    private final LatencyRecorder latency = new LatencyRecorder();
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong measuredSent = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong measuredDelivered = new AtomicLong();
+    private final AtomicLong senderOnly = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong sendFailures = new AtomicLong();
+    private final AtomicLong roomListUpdates = new AtomicLong();
+
+    private record InFlight(long sentAtNanos, boolean measured) {
+    }
+
+    ChatLoadSimulator(
+            ChatLoadOptions options,
+            List<RoomPair> pairs,
+            String webSocketUrl,
+            String apiBaseUrl,
+            ObjectMapper objectMapper
+    ) {
+        this.options = options;
+        this.pairs = pairs;
+        this.webSocketUrl = webSocketUrl;
+        this.apiBaseUrl = apiBaseUrl;
+        this.objectMapper = objectMapper;
+        this.deliveredPerRoom = new AtomicIntegerArray(pairs.size());
+    }
+
+    ChatLoadResult run() throws Exception {
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("load-heartbeat-");
+        heartbeatScheduler.initialize();
+
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(converter);
+        stompClient.setTaskScheduler(heartbeatScheduler);
+
+        List<StompSession> sessions = new ArrayList<>();
+        try {
+            long connectStart = System.nanoTime();
+            StompSession[] senders = connectAll(stompClient, sessions);
+            long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStart);
+            log.info("세션 연결 완료: sessions={}, {}ms", sessions.size(), connectMillis);
+
+            double sendSeconds = sendAll(senders);
+            drain();
+            List<UnreadMismatch> mismatches = checkUnreadCounts();
+
+            Map<String, Long> errors = new TreeMap<>();
+            errorsByCode.forEach((code, count) -> errors.put(code, count.get()));
+
+            return new ChatLoadResult(
+                    connectMillis,
+                    sent.get(),
+                    measuredSent.get(),
+                    delivered.get(),
+                    measuredDelivered.get(),
+                    senderOnly.get(),
+                    inFlight.size(),
+                    duplicates.get(),
+                    sendFailures.get(),
+                    errors,
+                    roomListUpdates.get(),
+                    sendSeconds,
+                    sendSeconds - options.warmupSeconds(),
+                    latency,
+                    pairs.size(),
+                    mismatches
+            );
+        } finally {
+            for (StompSession session : sessions) {
+                if (session.isConnected()) {
+                    session.disconnect();
+                }
+            }
+            stompClient.stop();
+            heartbeatScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 모든 세션을 동시에 열고 구독한다
+     *
+     * @return 방 순서대로 보내는 사람 세션
+     */
+    private StompSession[] connectAll(WebSocketStompClient stompClient, List<StompSession> sessions) throws Exception {
+        List<CompletableFuture<StompSession>> senderFutures = new ArrayList<>(pairs.size());
+        List<CompletableFuture<StompSession>> recipientFutures = new ArrayList<>(pairs.size());
+        for (RoomPair pair : pairs) {
+            senderFutures.add(connect(stompClient, pair.sender()));
+            recipientFutures.add(connect(stompClient, pair.recipient()));
+        }
+
+        StompSession[] senders = new StompSession[pairs.size()];
+        for (int i = 0; i < pairs.size(); i++) {
+            int roomIndex = i;
+            Long chatRoomId = pairs.get(i).chatRoomId();
+
+            StompSession sender = senderFutures.get(i).get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            sessions.add(sender);
+            sender.subscribe("/topic/chat/" + chatRoomId, jsonHandler(payload -> onDelivered(roomIndex, payload)));
+            sender.subscribe("/user/queue/chat", jsonHandler(this::onSenderOnly));
+            sender.subscribe("/user/queue/errors", jsonHandler(this::onError));
+            senders[i] = sender;
+
+            StompSession recipient = recipientFutures.get(i).get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            sessions.add(recipient);
+            recipient.subscribe("/user/queue/chat-room-list", jsonHandler(payload -> roomListUpdates.incrementAndGet()));
+            recipient.subscribe("/user/queue/errors", jsonHandler(this::onError));
+        }
+        return senders;
+    }
+
+    private CompletableFuture<StompSession> connect(WebSocketStompClient stompClient, Participant participant) {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + participant.accessToken());
+        return stompClient.connectAsync(webSocketUrl, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+            @Override
+            public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                        byte[] payload, Throwable exception) {
+                log.warn("STOMP 처리 실패: userId={}, error={}", participant.userId(), exception.getMessage());
+            }
+
+            @Override
+            public void handleTransportError(StompSession session, Throwable exception) {
+                log.warn("WebSocket 전송 오류: userId={}, error={}", participant.userId(), exception.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 정해진 속도로 방들에 돌아가며 보낸다
+     *
+     * SEND_TICK_MILLIS 마다 「지금까지 보냈어야 할 수 - 보낸 수」 만큼 보낸다.
+     * 틱이 밀려도 다음 틱에서 따라잡으므로 평균 속도는 맞는다.
+     *
+     * @return 실제 전송 시간 (초)
+     */
+    private double sendAll(StompSession[] senders) throws InterruptedException {
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "load-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmupSeconds() * NANOS_PER_SECOND;
+        long end = start + options.durationSeconds() * NANOS_PER_SECOND;
+        CountDownLatch finished = new CountDownLatch(1);
+
+        ticker.scheduleAtFixedRate(() -> {
+            long now = System.nanoTime();
+            if (now >= end) {
+                finished.countDown();
+                return;
+            }
+            long due = (now - start) * options.messagesPerSecond() / NANOS_PER_SECOND - sent.get();
+            for (long i = 0; i < due; i++) {
+                long sequence = sent.getAndIncrement();
+                int roomIndex = (int) (sequence % senders.length);
+                sendOne(senders[roomIndex], pairs.get(roomIndex).chatRoomId(), sequence, now >= measureFrom);
+            }
+        }, 0L, SEND_TICK_MILLIS, TimeUnit.MILLISECONDS);
+
+        finished.await();
+        ticker.shutdownNow();
+        return (System.nanoTime() - start) / (double) NANOS_PER_SECOND;
+    }
+
+    private void sendOne(StompSession session, Long chatRoomId, long sequence, boolean measured) {
+        inFlight.put(sequence, new InFlight(System.nanoTime(), measured));
+        if (measured) {
+            measuredSent.incrementAndGet();
+        }
+        try {
+            session.send(SEND_DESTINATION, Map.of(
+                    "chatRoomId", chatRoomId,
+                    "content", contentFor(sequence),
+                    "messageType", "TEXT"
+            ));
+        } catch (RuntimeException e) {
+            inFlight.remove(sequence);
+            sendFailures.incrementAndGet();
+            log.warn("전송 실패: chatRoomId={}, error={}", chatRoomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 전송을 멈춘 뒤 남은 배달을 drainSeconds 까지 기다린다
+     */
+    private void drain() throws InterruptedException {
+        long deadline = System.nanoTime() + options.drainSeconds() * NANOS_PER_SECOND;
+        while (!inFlight.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(DRAIN_POLL_MILLIS);
+        }
+        if (!inFlight.isEmpty()) {
+            log.warn("배달되지 않은 메시지: {}", inFlight.size());
+        }
+    }
+
+    private void onDelivered(int roomIndex, JsonNode payload) {
+        long receivedAt = System.nanoTime();
+        long sequence = parseSequence(payload.path("content").asText(""));
+        if (sequence < 0) {
+            return;  // 시스템 메시지 등
+        }
+        InFlight flight = inFlight.remove(sequence);
+        if (flight == null) {
+            duplicates.incrementAndGet();
+            return;
+        }
+        delivered.incrementAndGet();
+        deliveredPerRoom.incrementAndGet(roomIndex);
+        if (flight.measured()) {
+            measuredDelivered.incrementAndGet();
+            latency.record(receivedAt - flight.sentAtNanos());
+        }
+    }
+
+    private void onSenderOnly(JsonNode payload) {
+        long sequence = parseSequence(payload.path("content").asText(""));
+        if (sequence >= 0 && inFlight.remove(sequence) != null) {
+            senderOnly.incrementAndGet();
+        }
+    }
+
+    private void onError(JsonNode payload) {
+        String code = payload.path("code").asText("UNKNOWN");
+        errorsByCode.computeIfAbsent(code, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * 받는 사람마다 채팅방 목록 API 로 안 읽은 수를 확인한다
+     *
+     * 받는 사람은 방 밖에 있었으므로, 방 구독으로 돌아온(저장된) 메시지 수만큼 쌓여 있어야 한다.
+     */
+    private List<UnreadMismatch> checkUnreadCounts() throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<UnreadMismatch> mismatches = new ArrayList<>();
+        for (int i = 0; i < pairs.size(); i++) {
+            RoomPair pair = pairs.get(i);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(apiBaseUrl + "/api/chat/rooms?page=0&size=20"))
+                    .header("Authorization", "Bearer " + pair.recipient().accessToken())
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            long actual = -1;
+            if (response.statusCode() == 200) {
+                for (JsonNode room : objectMapper.readTree(response.body()).path("data").path("chatRooms")) {
+                    if (room.path("chatRoomId").asLong() == pair.chatRoomId()) {
+                        actual = room.path("unreadCount").asLong();
+                    }
+                }
+            } else {
+                log.warn("채팅방 목록 조회 실패: userId={}, status={}", pair.recipient().userId(), response.statusCode());
+            }
+
+            long expected = deliveredPerRoom.get(i);
+            if (actual != expected) {
+                mismatches.add(new UnreadMismatch(pair.chatRoomId(), expected, actual));
+            }
+        }
+        return mismatches;
+    }
+
+    private StompFrameHandler jsonHandler(Consumer<JsonNode> consumer) {
+        return new StompFrameHandler() {
+            @Override
+            @NonNull
+            public Type getPayloadType(@NonNull StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(@NonNull StompHeaders headers, Object payload) {
+                if (payload instanceof JsonNode node) {
+                    consumer.accept(node);
+                }
+            }
+        };
+    }
+
+    /**
+     * 일련번호를 a~j 로 적은 메시지 내용 (예: 123 → "ltbcd 부하 측정 ...")
+     */
+    private String contentFor(long sequence) {
+        StringBuilder content = new StringBuilder(options.contentLength()).append(TAG_PREFIX);
+        for (char digit : Long.toString(sequence).toCharArray()) {
+            content.append((char) ('a' + (digit - '0')));
+        }
+        while (content.length() < options.contentLength()) {
+            content.append(FILLER);
+        }
+        content.setLength(options.contentLength());
+        return content.toString();
+    }
+
+    /**
+     * @return 일련번호 (이 측정이 보낸 메시지가 아니면 -1)
+     */
+    private static long parseSequence(String content) {
+        if (!content.startsWith(TAG_PREFIX)) {
+            return -1L;
+        }
+        long sequence = 0;
+        int i = TAG_PREFIX.length();
+        for (; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c < 'a' || c > 'j') {
+                break;
+            }
+            sequence = sequence * 10 + (c - 'a');
+        }
+        return i == TAG_PREFIX.length() ? -1L : sequence;
+    }
+}
@@ -0,0 +1,118 @@
+package org.cmarket.cmarket.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.loadtest.ChatLoadFixture.RoomPair;
+import org.cmarket.cmarket.web.CmarketApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 부하 측정
+ *
+ * 앱 한 대가 채팅 사용자 몇 명을 버티는지, 커밋마다 나빠지지 않았는지 보기 위한 도구입니다.
+ *
+ * 실행: ./gradlew :service:cmarket:chatLoadTest -Ploadtest.rooms=100 -Ploadtest.messages-per-second=500
+ * - 앱을 prod + loadtest 프로필로 같은 JVM 에 띄운다 (DB 는 H2 메모리, 나머지 설정은 prod 그대로)
+ * - Redis 는 REDIS_HOST(, REDIS_PORT) 가 있으면 그 서버의 DB LOADTEST_REDIS_DATABASE(기본 15)를 쓰고,
+ *   없으면 redis-server 를 띄워 쓴다 (LoadTestRedis). 준 서버의 DB 는 -Ploadtest.flush-redis=true 일 때만 비운다.
+ * - 결과는 build/reports/chat-load/ 에 JSON 으로 남는다 (ChatLoadReport)
+ * - 유실 · 중복 · 안 읽은 수 불일치가 있으면 종료 코드 1
+ *
+ * 조건은 ChatLoadOptions 참고.
+ */
+@Slf4j
+public final class ChatLoadTest {
+
+    private ChatLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ChatLoadOptions options = ChatLoadOptions.fromSystemProperties();
+        log.info("채팅 부하 측정 시작: {}", options);
+
+        LoadTestRedis redis = LoadTestRedis.start();
+        ConfigurableApplicationContext context;
+        try {
+            context = new SpringApplicationBuilder(CmarketApiApplication.class)
+                    .profiles("prod", "loadtest")
+                    .run(args);
+        } catch (RuntimeException e) {
+            redis.close();
+            throw e;
+        }
+
+        int exitCode;
+        try {
+            if (options.flushRedis() && !redis.embedded()) {
+                clearRedis(context);
+            } else if (!redis.embedded()) {
+                log.info("Redis DB 를 비우지 않고 측정합니다. 앞선 실행의 키가 남아 있으면 -Ploadtest.flush-redis=true 로 비우세요.");
+            }
+
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<RoomPair> pairs = ChatLoadFixture.create(context, options.rooms());
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            ChatLoadSimulator simulator = new ChatLoadSimulator(
+                    options,
+                    pairs,
+                    "ws://localhost:" + port + "/ws-stomp",
+                    "http://localhost:" + port,
+                    objectMapper
+            );
+            ChatLoadResult result = simulator.run();
+
+            Map<String, Object> report = ChatLoadReport.build(
+                    options, startedAt, result, context.getBean(MeterRegistry.class));
+            if (options.baseline() != null) {
+                ChatLoadReport.compareWithBaseline(report, options.baseline(), objectMapper);
+            }
+            Path file = ChatLoadReport.write(report, options, startedAt, objectMapper);
+
+            log.info("채팅 부하 측정 끝: passed={}, sent={}, delivered={}, lost={}, unreadMismatches={}, latency={}, report={}",
+                    result.passed(), result.sent(), result.delivered(), result.lost(),
+                    result.unreadMismatches().size(), result.latency().summaryMillis(), file);
+            exitCode = result.passed() ? 0 : 1;
+        } catch (Exception e) {
+            log.error("채팅 부하 측정 실패: {}", e.getMessage(), e);
+            exitCode = 2;
+        } finally {
+            context.close();
+            redis.close();
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * 측정용 Redis DB 비우기 (-Ploadtest.flush-redis=true 일 때만)
+     *
+     * 앞선 실행의 안 읽은 수 · 세션 키가 남아 있으면 결과가 틀어진다.
+     * 그래도 실수로 운영 데이터를 지우지 않도록 0번 DB 는 거부한다.
+     */
+    private static void clearRedis(ConfigurableApplicationContext context) {
+        int database = context.getEnvironment().getProperty("spring.data.redis.database", Integer.class, 0);
+        if (database == 0) {
+            throw new IllegalStateException("부하 측정은 0번이 아닌 Redis DB 를 써야 합니다 (LOADTEST_REDIS_DATABASE)");
+        }
+        context.getBean(StringRedisTemplate.class).execute((RedisCallback<Object>) connection -> {
+            flush(connection);
+            return null;
+        });
+    }
+
+    private static void flush(RedisConnection connection) {
+        connection.serverCommands().flushDb();
+    }
+}
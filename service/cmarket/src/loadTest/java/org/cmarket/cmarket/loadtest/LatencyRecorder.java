@@ -0,0 +1,64 @@
+package org.cmarket.cmarket.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 배달 지연 기록
+ *
+ * 측정 한 번에 많아야 수십만 건이라 값을 모두 모아 두었다가 끝에 정렬해 백분위를 낸다.
+ * 받는 스레드 여럿이 함께 쓰므로 기록은 잠근다 (배열에 넣기만 하므로 짧다).
+ */
+final class LatencyRecorder {
+
+    private long[] micros = new long[1024];
+    private int count;
+
+    synchronized void record(long latencyNanos) {
+        if (count == micros.length) {
+            micros = Arrays.copyOf(micros, count * 2);
+        }
+        micros[count++] = Math.max(0L, latencyNanos / 1_000L);
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    /**
+     * 지연 요약 (밀리초, 소수 셋째 자리까지)
+     */
+    synchronized Map<String, Object> summaryMillis() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        if (count == 0) {
+            return summary;
+        }
+
+        long[] sorted = Arrays.copyOf(micros, count);
+        Arrays.sort(sorted);
+        long sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+
+        summary.put("mean", toMillis((double) sum / count));
+        summary.put("p50", toMillis(percentile(sorted, 0.50)));
+        summary.put("p90", toMillis(percentile(sorted, 0.90)));
+        summary.put("p99", toMillis(percentile(sorted, 0.99)));
+        summary.put("p999", toMillis(percentile(sorted, 0.999)));
+        summary.put("max", toMillis(sorted[count - 1]));
+        return summary;
+    }
+
+    // nearest-rank
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    private static double toMillis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
@@ -0,0 +1,65 @@
+package org.cmarket.cmarket.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * 부하 측정이 쓸 Redis
+ *
+ * REDIS_HOST(, REDIS_PORT) 가 있으면 그 서버를 쓰고, 없으면 redis-server 를 하나 띄워
+ * spring.data.redis.host / port 시스템 속성으로 앱에 넘긴다 (BenchmarkRedis 와 같은 방식).
+ * 앱이 Lua 스크립트 · Pub/Sub 을 쓰므로 흉내 낸 객체가 아니라 실제 서버를 쓴다.
+ */
+@Slf4j
+final class LoadTestRedis implements AutoCloseable {
+
+    private final RedisServer server;
+
+    private LoadTestRedis(RedisServer server) {
+        this.server = server;
+    }
+
+    static LoadTestRedis start() throws IOException {
+        if (System.getenv("REDIS_HOST") != null) {
+            log.info("부하 측정 Redis: {}:{}", System.getenv("REDIS_HOST"), env("REDIS_PORT", "6379"));
+            return new LoadTestRedis(null);
+        }
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        RedisServer server = RedisServer.newRedisServer()
+                .port(port)
+                .setting("bind 127.0.0.1")
+                .setting("save \"\"")
+                .build();
+        server.start();
+        System.setProperty("spring.data.redis.host", "127.0.0.1");
+        System.setProperty("spring.data.redis.port", String.valueOf(port));
+        log.info("부하 측정 Redis: REDIS_HOST 가 없어 redis-server 를 띄움 (127.0.0.1:{})", port);
+        return new LoadTestRedis(server);
+    }
+
+    /**
+     * 이번 실행을 위해 띄운 서버인지 (비어 있는 새 서버라 비울 필요가 없다)
+     */
+    boolean embedded() {
+        return server != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
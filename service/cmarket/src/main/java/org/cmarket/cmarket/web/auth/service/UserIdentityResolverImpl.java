@@ -0,0 +1,158 @@
+package org.cmarket.cmarket.web.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
+import org.cmarket.cmarket.domain.auth.repository.UserRepository;
+import org.cmarket.cmarket.web.common.cluster.ClusterMessageBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 식별 정보 조회 구현체 (Caffeine)
+ *
+ * 이메일 → (사용자 ID, 역할, 닉네임) 스냅샷을 서버 메모리에 둡니다.
+ * 캐시에 없을 때만 users 를 조회하고, 없는 사용자는 캐시하지 않는다 (가입 직후 바로 보이도록).
+ *
+ * 닉네임 · 역할 변경과 탈퇴는 각 서비스가 evict 를 부른다.
+ * 커밋 뒤 ClusterMessageBus(auth:identity-evict)로 다른 서버에도 알려, 그 서버의 캐시에서도 바로 지운다.
+ * 버스가 꺼져 있거나 메시지를 놓친 경우에는 TTL(auth.identity.cache.ttl-minutes)이 지나면 다시 읽는다.
+ *
+ * 지표 (actuator /metrics):
+ * - user.identity.lookup{result=hit}: 캐시 적중
+ * - user.identity.lookup{result=miss}: DB 조회
+ * - user.identity.cache.size: 캐시 항목 수
+ */
+@Service
+public class UserIdentityResolverImpl implements UserIdentityResolver {
+
+    private static final String CLUSTER_TOPIC = "auth:identity-evict";
+
+    private final UserRepository userRepository;
+    private final ClusterMessageBus clusterMessageBus;
+    private final Cache<String, UserIdentity> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserIdentityResolverImpl(
+            UserRepository userRepository,
+            ClusterMessageBus clusterMessageBus,
+            MeterRegistry meterRegistry,
+            @Value("${auth.identity.cache.max-size:10000}") long maxSize,
+            @Value("${auth.identity.cache.ttl-minutes:10}") long ttlMinutes
+    ) {
+        this.userRepository = userRepository;
+        this.clusterMessageBus = clusterMessageBus;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.hitCounter = Counter.builder("user.identity.lookup")
+                .description("이메일 → 사용자 식별 정보 조회")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("user.identity.lookup")
+                .description("이메일 → 사용자 식별 정보 조회")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("user.identity.cache.size", cache, Cache::estimatedSize)
+                .description("사용자 식별 정보 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        // 다른 서버에서 바뀐 사용자를 이 서버 캐시에서도 지운다
+        clusterMessageBus.subscribe(CLUSTER_TOPIC, IdentityEviction.class, eviction -> {
+            if (eviction.email() != null) {
+                cache.invalidate(eviction.email());
+            }
+            if (eviction.userId() != null) {
+                invalidateByUserId(eviction.userId());
+            }
+        });
+    }
+
+    @Override
+    public Optional<UserIdentity> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        UserIdentity cached = cache.getIfPresent(email);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        missCounter.increment();
+        Optional<UserIdentity> loaded = userRepository.findByEmailAndDeletedAtIsNull(email)
+                .map(UserIdentity::from);
+        loaded.ifPresent(identity -> cache.put(email, identity));
+        return loaded;
+    }
+
+    @Override
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        cache.invalidate(email);
+        runAfterCommit(() -> {
+            cache.invalidate(email);
+            clusterMessageBus.publish(CLUSTER_TOPIC, new IdentityEviction(email, null));
+        });
+    }
+
+    @Override
+    public void evictByUserId(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        invalidateByUserId(userId);
+        runAfterCommit(() -> {
+            invalidateByUserId(userId);
+            clusterMessageBus.publish(CLUSTER_TOPIC, new IdentityEviction(null, userId));
+        });
+    }
+
+    private void invalidateByUserId(Long userId) {
+        // 관리자 기능에서만 쓰므로 전체를 훑어도 충분하다.
+        cache.asMap().values().removeIf(identity -> userId.equals(identity.userId()));
+    }
+
+    /**
+     * 커밋 뒤에 실행 (트랜잭션 밖이면 바로 실행)
+     *
+     * 커밋 전에 지우면 그 사이 다른 요청이 옛 값을 다시 채울 수 있어 커밋 뒤에 한 번 더 지운다.
+     * 다른 서버에 알리는 것도 커밋 뒤여야 그 서버가 바뀐 값을 읽는다.
+     */
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 서버 간에 넘기는 캐시 삭제 (email 또는 userId 중 하나)
+     */
+    record IdentityEviction(String email, Long userId) {
+    }
+}
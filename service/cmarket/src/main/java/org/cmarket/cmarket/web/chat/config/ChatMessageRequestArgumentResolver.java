@@ -0,0 +1,71 @@
+package org.cmarket.cmarket.web.chat.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cmarket.cmarket.web.chat.dto.ChatMessageRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
+
+import java.io.IOException;
+
+/**
+ * 채팅 메시지 요청 인자 리졸버
+ *
+ * STOMP SEND 본문은 StompChannelInterceptor 가 권한 확인을 하며 이미 한 번 읽는다.
+ * 그 결과를 메시지 헤더(PARSED_REQUEST_HEADER)에 실어 두면, 이 리졸버가
+ * {@code @Payload ChatMessageRequest} 자리에 같은 객체를 그대로 넘긴다.
+ * 기본 PayloadMethodArgumentResolver 처럼 본문을 한 번 더 역직렬화하지 않는다.
+ *
+ * 헤더가 없으면 (인터셉터를 거치지 않은 경로) 본문 byte[] 에서 직접 한 번 읽는다.
+ */
+public class ChatMessageRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    /** 인터셉터가 읽어 둔 ChatMessageRequest 를 담는 헤더 이름 */
+    public static final String PARSED_REQUEST_HEADER = "cmarket.chatMessageRequest";
+
+    private final ObjectMapper objectMapper;
+
+    public ChatMessageRequestArgumentResolver(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return ChatMessageRequest.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, Message<?> message) {
+        Object parsed = message.getHeaders().get(PARSED_REQUEST_HEADER);
+        if (parsed instanceof ChatMessageRequest request) {
+            return request;
+        }
+
+        ChatMessageRequest request = read(objectMapper, message.getPayload());
+        if (request == null) {
+            throw new MessageConversionException(message, "채팅 메시지 본문을 읽을 수 없습니다.");
+        }
+        return request;
+    }
+
+    /**
+     * 본문을 ChatMessageRequest 로 읽기
+     *
+     * byte[] 는 String 으로 바꾸지 않고 Jackson 이 바로 읽는다 (UTF-8 자동 판별).
+     *
+     * @return 읽은 요청 (형식이 맞지 않으면 null)
+     */
+    static ChatMessageRequest read(ObjectMapper objectMapper, Object payload) {
+        try {
+            if (payload instanceof byte[] bytes) {
+                return objectMapper.readValue(bytes, ChatMessageRequest.class);
+            } else if (payload instanceof String json) {
+                return objectMapper.readValue(json, ChatMessageRequest.class);
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return null;
+    }
+}
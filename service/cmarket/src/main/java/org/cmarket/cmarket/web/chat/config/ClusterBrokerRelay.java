@@ -0,0 +1,112 @@
+package org.cmarket.cmarket.web.chat.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.web.common.cluster.ClusterMessageBus;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+/**
+ * STOMP 브로커 서버 간 중계
+ *
+ * Simple Broker 는 자기 서버에 붙은 구독자만 안다. 서버가 여러 대면 A 서버에서 보낸
+ * 채팅 메시지가 B 서버에 붙은 상대방에게 가지 않으므로, 브로커 채널로 들어오는 메시지를
+ * ClusterMessageBus 로 다른 서버에 넘기고, 받은 서버는 자기 브로커 채널에 다시 넣는다.
+ *
+ * 중계 대상:
+ * - /topic/** : 채팅방 브로드캐스트. 받은 서버의 Simple Broker 가 자기 구독자에게 보낸다.
+ * - /user/**  : 개인 메시지. 받은 서버의 UserDestinationMessageHandler 가 자기 SimpUserRegistry 로
+ *               세션을 찾는다. 그 서버에 사용자가 없으면 아무 일도 없다.
+ *
+ * 중계하지 않는 것:
+ * - 다른 서버에서 받은 메시지 (RELAYED_HEADER) - 다시 내보내면 서버끼리 돈다.
+ * - /user/** 를 세션 경로로 풀어 낸 메시지 (simpOrigDestination 있음) - 이 서버 세션 전용이다.
+ * - /queue/errors/{sessionId} 등 세션 경로 - 세션은 한 서버에만 있다.
+ *
+ * 페이로드는 이미 직렬화된 byte[] 를 그대로 넘기므로 서버마다 다시 직렬화하지 않는다.
+ */
+@Slf4j
+@Component
+public class ClusterBrokerRelay implements ChannelInterceptor {
+
+    static final String TOPIC = "stomp";
+    static final String RELAYED_HEADER = "cmarket.relayed";
+
+    private final ClusterMessageBus clusterMessageBus;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public ClusterBrokerRelay(
+            ClusterMessageBus clusterMessageBus,
+            @Lazy SimpMessagingTemplate messagingTemplate
+    ) {
+        this.clusterMessageBus = clusterMessageBus;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterMessageBus.subscribe(TOPIC, RelayedFrame.class, this::deliverLocally);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (clusterMessageBus.isEnabled() && shouldRelay(message)) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+            MimeType contentType = accessor.getContentType();
+            clusterMessageBus.publish(TOPIC, new RelayedFrame(
+                    accessor.getDestination(),
+                    contentType != null ? contentType.toString() : null,
+                    (byte[]) message.getPayload()
+            ));
+        }
+        return message;
+    }
+
+    private boolean shouldRelay(Message<?> message) {
+        if (!(message.getPayload() instanceof byte[])) {
+            return false;
+        }
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return false;
+        }
+        if (message.getHeaders().containsKey(RELAYED_HEADER)
+                || message.getHeaders().containsKey(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION)) {
+            return false;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        return destination != null && (destination.startsWith("/topic/") || destination.startsWith("/user/"));
+    }
+
+    /**
+     * 다른 서버에서 온 메시지를 이 서버 브로커 채널로 전달
+     */
+    private void deliverLocally(RelayedFrame frame) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(frame.destination());
+        if (frame.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(frame.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(frame.destination(),
+                MessageBuilder.createMessage(frame.payload(), accessor.getMessageHeaders()));
+    }
+
+    /**
+     * 서버 간에 넘기는 STOMP 메시지
+     *
+     * @param destination 브로커 목적지 (/topic/... 또는 /user/{email}/...)
+     * @param contentType 페이로드 타입
+     * @param payload 직렬화된 본문 (JSON 에서는 Base64)
+     */
+    record RelayedFrame(String destination, String contentType, byte[] payload) {
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -20,8 +21,15 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * Key 구조:
  * - chat:unread:{chatRoomId}:{userId} - 안 읽은 메시지 개수
  * - chat:lastread:{chatRoomId}:{userId} - 마지막 읽은 시간
+ * - chat:read:pending - RDB 반영 대기 중인 읽음 기준점 (Hash, {chatRoomId}:{userId} → 메시지 ID)
  * - chat:session:{userId} - 사용자 세션 ID
  * - chat:current:{userId} - 현재 접속 중인 채팅방 ID
+ * 
+ * Pub/Sub 채널:
+ * - auth:blacklist:events - 로그아웃된 토큰 해시 (서버별 블랙리스트 로컬 캐시 갱신)
+ * - cluster:stomp - 다른 서버로 중계하는 STOMP 브로커 메시지 (ClusterBrokerRelay)
+ * - cluster:sse:notification - 다른 서버로 중계하는 SSE 알림
+ * - cluster:auth:identity-evict - 바뀐 사용자의 식별 정보 캐시 삭제 (UserIdentityResolverImpl)
  */
 @Configuration
 public class RedisConfig {
@@ -50,4 +58,17 @@ public class RedisConfig {
         return template;
     }
     
+    /**
+     * Redis Pub/Sub 리스너 컨테이너
+     * 
+     * 서버 여러 대가 같은 이벤트를 받아야 하는 곳에서 채널을 구독할 때 씁니다.
+     * 구독은 각 서비스가 addMessageListener 로 등록합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+    
 }
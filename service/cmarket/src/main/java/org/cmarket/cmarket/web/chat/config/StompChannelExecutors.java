@@ -0,0 +1,102 @@
+package org.cmarket.cmarket.web.chat.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * STOMP 채널 스레드 풀
+ *
+ * 설정하지 않으면 Spring 이 clientInboundChannel · clientOutboundChannel 에
+ * CPU 수 × 2 스레드, 대기열 무제한 풀을 붙인다. 느려지면 대기열만 끝없이 늘고 알 길이 없어서
+ * 크기를 설정으로 정하고 대기열 깊이를 지표로 낸다.
+ *
+ * - inbound: 클라이언트 → 서버 프레임 (CONNECT 인증, SUBSCRIBE, @MessageMapping 호출).
+ *   채팅 메시지 저장은 ChatRoomMessageExecutor 로 넘기므로 여기서는 짧은 작업만 돈다.
+ * - outbound: 서버 → 클라이언트 프레임 (브로커가 세션에 쓰는 일)
+ *
+ * 대기열이 가득 차면 프레임을 버리지 않고 보낸 스레드가 직접 처리한다 (CallerRunsPolicy).
+ * inbound 에서는 그 세션의 WebSocket 읽기가 늦어지므로, 보내는 쪽이 자연스럽게 느려진다.
+ *
+ * 지표 (channel=inbound|outbound):
+ * - chat.channel.queue.size: 대기 중인 프레임 수
+ * - chat.channel.active: 처리 중인 스레드 수
+ * - chat.channel.caller-runs: 대기열이 가득 차 보낸 스레드가 직접 처리한 수
+ */
+@Slf4j
+@Component
+public class StompChannelExecutors {
+
+    private final ThreadPoolTaskExecutor inbound;
+    private final ThreadPoolTaskExecutor outbound;
+
+    public StompChannelExecutors(
+            MeterRegistry meterRegistry,
+            @Value("${chat.executor.inbound.core-size:4}") int inboundCoreSize,
+            @Value("${chat.executor.inbound.max-size:8}") int inboundMaxSize,
+            @Value("${chat.executor.inbound.queue-capacity:1000}") int inboundQueueCapacity,
+            @Value("${chat.executor.outbound.core-size:4}") int outboundCoreSize,
+            @Value("${chat.executor.outbound.max-size:8}") int outboundMaxSize,
+            @Value("${chat.executor.outbound.queue-capacity:1000}") int outboundQueueCapacity
+    ) {
+        this.inbound = create("inbound", inboundCoreSize, inboundMaxSize, inboundQueueCapacity, meterRegistry);
+        this.outbound = create("outbound", outboundCoreSize, outboundMaxSize, outboundQueueCapacity, meterRegistry);
+    }
+
+    public ThreadPoolTaskExecutor inbound() {
+        return inbound;
+    }
+
+    public ThreadPoolTaskExecutor outbound() {
+        return outbound;
+    }
+
+    private ThreadPoolTaskExecutor create(
+            String channel,
+            int coreSize,
+            int maxSize,
+            int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        Counter callerRunsCounter = Counter.builder("chat.channel.caller-runs")
+                .description("대기열이 가득 차 보낸 스레드가 직접 처리한 STOMP 프레임 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        ThreadPoolExecutor.CallerRunsPolicy callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("stomp-" + channel + "-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            callerRunsCounter.increment();
+            log.debug("STOMP {} 채널 대기열 가득 참: queueSize={}", channel, pool.getQueue().size());
+            callerRuns.rejectedExecution(task, pool);
+        });
+        executor.initialize();
+
+        Gauge.builder("chat.channel.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("대기 중인 STOMP 프레임 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("chat.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("STOMP 프레임을 처리 중인 스레드 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        inbound.shutdown();
+        outbound.shutdown();
+    }
+}
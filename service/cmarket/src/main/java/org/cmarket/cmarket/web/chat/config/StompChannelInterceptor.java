@@ -12,11 +12,11 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.Map;
 
@@ -29,6 +29,7 @@ import java.util.Map;
  * 1. CONNECT: JWT 토큰 검증 및 인증 정보 설정
  * 2. SUBSCRIBE: 채팅방 구독 권한 확인 (참여자 여부)
  * 3. SEND: 메시지 전송 권한 확인
+ *    (본문은 여기서 한 번만 읽고 헤더에 실어 둔다 → ChatMessageRequestArgumentResolver 가 그대로 넘김)
  * 
  * 에러 발생 시 /user/queue/errors로 에러 메시지를 전송합니다.
  * 
@@ -104,11 +105,8 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                     }
                     break;
                 case SEND:
-                    if (!handleSend(accessor, message)) {
-                        // 권한 없음 시 메시지 차단
-                        return null;
-                    }
-                    break;
+                    // 권한 없음 시 메시지 차단 (null), 채팅 메시지면 읽은 본문을 실은 메시지
+                    return handleSend(accessor, message);
                 default:
                     break;
             }
@@ -136,18 +134,18 @@ public class StompChannelInterceptor implements ChannelInterceptor {
             return false;
         }
         
-        if (!jwtTokenProvider.validateToken(token)) {
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+        if (authentication == null) {
             log.warn("WebSocket 연결 실패: 유효하지 않은 토큰");
             sendErrorToUserOrSession(accessor, "INVALID_TOKEN", "유효하지 않은 토큰입니다.");
             return false;
         }
         
         // 인증 정보 설정
-        Authentication authentication = jwtTokenProvider.getAuthentication(token);
         accessor.setUser(authentication);
         
         // 사용자 이메일을 세션 속성에 저장 (후속 처리에서 사용)
-        String email = jwtTokenProvider.getEmailFromToken(token);
+        String email = authentication.getName();
         Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
         if (sessionAttributes != null) {
             sessionAttributes.put("email", email);
@@ -205,16 +203,17 @@ public class StompChannelInterceptor implements ChannelInterceptor {
      * SEND 명령어 처리 - 전송 권한 확인
      * 
      * 메시지 전송 시 해당 채팅방의 참여자인지 확인합니다.
+     * 채팅 메시지는 여기서 읽은 ChatMessageRequest 를 헤더에 실어 컨트롤러가 다시 읽지 않게 합니다.
      * 
-     * @return 권한 확인 성공 시 true, 실패 시 false
+     * @return 권한 확인 성공 시 전달할 메시지, 실패 시 null
      */
-    private boolean handleSend(StompHeaderAccessor accessor, Message<?> message) {
+    private Message<?> handleSend(StompHeaderAccessor accessor, Message<?> message) {
         String destination = accessor.getDestination();
         Principal user = accessor.getUser();
         
         if (destination == null || user == null) {
             // destination이나 user가 null이면 기본적으로 허용 (다른 메시지일 수 있음)
-            return true;
+            return message;
         }
         
         // 채팅 메시지 전송인 경우
@@ -222,26 +221,13 @@ public class StompChannelInterceptor implements ChannelInterceptor {
             String email = user.getName();
             
             try {
-                // 메시지 페이로드에서 chatRoomId 추출
-                ChatMessageRequest request = parsePayload(message.getPayload());
-                
-                // 디버깅: 인터셉터에서 메시지 수신 로그
-                String requestContent = request != null ? request.getContent() : null;
-                int contentLength = requestContent != null ? requestContent.length() : 0;
-                log.info("=== StompChannelInterceptor.handleSend === email={}, chatRoomId={}, content=[{}], contentLength={}", 
-                        email, request != null ? request.getChatRoomId() : null,
-                        requestContent, contentLength);
-                
-                // 경고: 짧은 메시지(1-2자)는 프론트엔드에서 메시지가 분할되어 전송되었을 가능성이 있음
-                if (requestContent != null && contentLength <= 2) {
-                    log.warn("⚠️ [인터셉터] 짧은 메시지 감지: content=[{}], length={}. 프론트엔드에서 메시지가 분할되어 전송되었을 가능성이 있습니다.", 
-                            requestContent, contentLength);
-                }
+                // 메시지 페이로드에서 chatRoomId 추출 (본문은 여기서 한 번만 읽는다)
+                ChatMessageRequest request = ChatMessageRequestArgumentResolver.read(objectMapper, message.getPayload());
                 
                 if (request == null || request.getChatRoomId() == null) {
                     log.warn("메시지 페이로드 파싱 실패");
                     sendErrorToUser(accessor, "INVALID_MESSAGE", "잘못된 메시지 형식입니다.");
-                    return false;
+                    return null;
                 }
                 
                 Long chatRoomId = request.getChatRoomId();
@@ -250,36 +236,36 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                 if (!chatService.isParticipant(chatRoomId, email)) {
                     log.warn("메시지 전송 권한 없음: chatRoomId={}, email={}", chatRoomId, email);
                     sendErrorToUser(accessor, "ACCESS_DENIED", "해당 채팅방에 메시지를 보낼 권한이 없습니다.");
-                    return false;
+                    return null;
                 }
                 
-                log.info("=== StompChannelInterceptor 권한 확인 완료 === chatRoomId={}, email={}", chatRoomId, email);
+                log.debug("메시지 전송 권한 확인 완료: chatRoomId={}, email={}", chatRoomId, email);
+                return attachParsedRequest(message, accessor, request);
                 
             } catch (Exception e) {
                 log.error("메시지 전송 권한 확인 실패", e);
                 sendErrorToUser(accessor, "INTERNAL_ERROR", "메시지 처리 중 오류가 발생했습니다.");
-                return false;
+                return null;
             }
         }
         
-        return true;
+        return message;
     }
     
     /**
-     * 메시지 페이로드 파싱
+     * 읽은 요청을 메시지 헤더에 싣기
+     * 
+     * 인바운드 헤더는 보통 아직 수정 가능하므로 그대로 싣고,
+     * 이미 잠겨 있으면 헤더만 복사한 새 메시지를 만든다 (본문 byte[] 는 그대로 공유).
      */
-    private ChatMessageRequest parsePayload(Object payload) {
-        try {
-            if (payload instanceof byte[]) {
-                String json = new String((byte[]) payload, StandardCharsets.UTF_8);
-                return objectMapper.readValue(json, ChatMessageRequest.class);
-            } else if (payload instanceof String) {
-                return objectMapper.readValue((String) payload, ChatMessageRequest.class);
-            }
-        } catch (Exception e) {
-            log.debug("페이로드 파싱 실패: {}", e.getMessage());
+    private Message<?> attachParsedRequest(Message<?> message, StompHeaderAccessor accessor, ChatMessageRequest request) {
+        if (accessor.isMutable()) {
+            accessor.setHeader(ChatMessageRequestArgumentResolver.PARSED_REQUEST_HEADER, request);
+            return message;
         }
-        return null;
+        StompHeaderAccessor copy = StompHeaderAccessor.wrap(message);
+        copy.setHeader(ChatMessageRequestArgumentResolver.PARSED_REQUEST_HEADER, request);
+        return MessageBuilder.createMessage(message.getPayload(), copy.getMessageHeaders());
     }
     
     /**
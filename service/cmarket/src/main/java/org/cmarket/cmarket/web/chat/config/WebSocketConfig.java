@@ -1,8 +1,10 @@
 package org.cmarket.cmarket.web.chat.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
@@ -11,6 +13,8 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import java.util.List;
+
 /**
  * WebSocket + STOMP 설정
  * 
@@ -22,6 +26,11 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * - Simple Broker: /topic, /queue (서버 → 클라이언트 메시지)
  *   - /topic/chat/{chatRoomId}: 채팅방 메시지 브로드캐스트
  *   - /queue/chat/{userId}: 개인 메시지 (차단 메시지 등)
+ * - 서버가 여러 대면 ClusterBrokerRelay 가 브로커 메시지를 Redis 로 다른 서버에 중계 (cluster.bus.enabled)
+ * - 인바운드 · 아웃바운드 채널 스레드 풀은 StompChannelExecutors 가 만든다 (크기 · 대기열 설정, 지표)
+ * - 한 세션이 보낸 프레임은 보낸 순서대로 처리하고(setPreserveReceiveOrder),
+ *   한 세션으로 가는 프레임은 발행한 순서대로 보낸다(setPreservePublishOrder).
+ *   스레드가 여럿이어도 채팅 메시지 순서가 뒤바뀌지 않는다.
  */
 @Configuration
 @EnableWebSocketMessageBroker
@@ -29,6 +38,9 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
     private final StompChannelInterceptor stompChannelInterceptor;
+    private final ClusterBrokerRelay clusterBrokerRelay;
+    private final StompChannelExecutors stompChannelExecutors;
+    private final ObjectMapper objectMapper;
     
     /**
      * WebSocket Heartbeat를 위한 TaskScheduler
@@ -64,6 +76,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 개인 메시지를 위한 prefix 설정
         // /queue/chat/{userId}로 개인 메시지 전송 시 사용
         registry.setUserDestinationPrefix("/user");
+        
+        // 아웃바운드 스레드가 여럿이어도 세션마다 발행 순서대로 보낸다
+        registry.setPreservePublishOrder(true);
+        
+        // 브로커로 가는 메시지를 다른 서버에도 중계 (cluster.bus.enabled=false 면 그냥 통과)
+        registry.configureBrokerChannel().interceptors(clusterBrokerRelay);
     }
     
     @Override
@@ -105,11 +123,27 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 )
                 // SockJS 폴백 지원 (WebSocket을 지원하지 않는 브라우저용)
                 .withSockJS();
+
+        // 인바운드 스레드가 여럿이어도 세션마다 받은 순서대로 처리한다
+        registry.setPreserveReceiveOrder(true);
     }
     
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // STOMP 메시지 인터셉터 등록 (JWT 인증 처리)
-        registration.interceptors(stompChannelInterceptor);
+        registration.interceptors(stompChannelInterceptor)
+                .executor(stompChannelExecutors.inbound());
+    }
+    
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(stompChannelExecutors.outbound());
+    }
+    
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
+        // 인터셉터가 읽어 둔 ChatMessageRequest 를 @Payload 자리에 그대로 넘긴다 (본문 재역직렬화 없음)
+        // 사용자 정의 리졸버는 기본 PayloadMethodArgumentResolver 보다 먼저 확인된다.
+        argumentResolvers.add(new ChatMessageRequestArgumentResolver(objectMapper));
     }
 }
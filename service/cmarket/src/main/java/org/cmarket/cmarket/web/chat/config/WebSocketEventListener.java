@@ -2,18 +2,18 @@ package org.cmarket.cmarket.web.chat.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.cmarket.cmarket.domain.auth.model.User;
-import org.cmarket.cmarket.domain.auth.repository.UserRepository;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.domain.chat.app.service.ChatSessionService;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 import java.security.Principal;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -24,20 +24,28 @@ import java.util.concurrent.ConcurrentHashMap;
  * 이벤트:
  * - SessionConnectedEvent: 연결 완료 시 사용자 세션 정보 저장 (Redis)
  * - SessionDisconnectEvent: 연결 해제 시 사용자 세션 정보 제거 (Redis)
+ * - SessionSubscribeEvent: /topic/chat/{chatRoomId} 구독 시 현재 채팅방 설정
+ * - SessionUnsubscribeEvent: 그 구독을 끊으면 현재 채팅방 초기화 (다른 방으로 옮겼으면 그대로)
  * 
  * sessionId → userId 매핑을 메모리에 캐시하여 Disconnect 이벤트 처리 시 사용합니다.
+ * UNSUBSCRIBE 프레임에는 구독 ID만 있으므로 세션별 구독 ID → 채팅방 ID 도 기억해 둡니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WebSocketEventListener {
     
+    private static final String CHAT_ROOM_TOPIC_PREFIX = "/topic/chat/";
+    
     private final ChatSessionService chatSessionService;
-    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     
     // sessionId → userId 매핑 (Disconnect 이벤트에서 userId를 찾기 위해)
     private final Map<String, Long> sessionUserMap = new ConcurrentHashMap<>();
     
+    // sessionId → (구독 ID → 채팅방 ID) (Unsubscribe 이벤트에서 채팅방을 찾기 위해)
+    private final Map<String, Map<String, Long>> sessionChatRoomSubscriptions = new ConcurrentHashMap<>();
+    
     /**
      * WebSocket 연결 완료 이벤트 처리
      * 
@@ -59,10 +67,9 @@ public class WebSocketEventListener {
             
             try {
                 // 이메일로 userId 조회
-                Optional<User> userOptional = userRepository.findByEmailAndDeletedAtIsNull(email);
+                Long userId = userIdentityResolver.findUserIdOrNull(email);
                 
-                if (userOptional.isPresent()) {
-                    Long userId = userOptional.get().getId();
+                if (userId != null) {
                     
                     try {
                         // 세션 등록 (Redis 연결 실패 시 예외 처리)
@@ -91,7 +98,7 @@ public class WebSocketEventListener {
      * WebSocket 연결 해제 이벤트 처리
      * 
      * 연결 해제 시 사용자 세션 정보를 Redis에서 제거합니다.
-     * 사용자의 현재 채팅방 정보도 함께 제거됩니다.
+     * 사용자의 현재 채팅방 정보도 함께 제거됩니다 (같은 사용자의 다른 연결이 남아 있으면 유지).
      * 
      * Redis 연결 실패 시에도 정상적으로 처리됩니다.
      * 
@@ -105,6 +112,7 @@ public class WebSocketEventListener {
         if (sessionId != null) {
             // 캐시된 userId 조회
             Long userId = sessionUserMap.remove(sessionId);
+            sessionChatRoomSubscriptions.remove(sessionId);
             
             if (userId != null) {
                 try {
@@ -120,4 +128,70 @@ public class WebSocketEventListener {
             }
         }
     }
+    
+    /**
+     * 채팅방 구독 이벤트 처리
+     * 
+     * 구독 권한은 StompChannelInterceptor 가 이미 확인했다 (거절된 구독은 이 이벤트가 오지 않는다).
+     * 
+     * @param event 구독 이벤트
+     */
+    @EventListener
+    public void handleSubscribeListener(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        
+        if (sessionId == null || subscriptionId == null
+                || destination == null || !destination.startsWith(CHAT_ROOM_TOPIC_PREFIX)) {
+            return;
+        }
+        
+        Long userId = sessionUserMap.get(sessionId);
+        if (userId == null) {
+            return;
+        }
+        
+        try {
+            Long chatRoomId = Long.parseLong(destination.substring(CHAT_ROOM_TOPIC_PREFIX.length()));
+            sessionChatRoomSubscriptions
+                    .computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                    .put(subscriptionId, chatRoomId);
+            chatSessionService.setUserCurrentChatRoom(userId, chatRoomId);
+        } catch (NumberFormatException e) {
+            // 잘못된 경로는 인터셉터가 이미 거절한다
+        } catch (Exception e) {
+            log.warn("현재 채팅방 설정 실패: sessionId={}, userId={}, error={}", sessionId, userId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 채팅방 구독 해제 이벤트 처리
+     * 
+     * @param event 구독 해제 이벤트
+     */
+    @EventListener
+    public void handleUnsubscribeListener(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        
+        Map<String, Long> subscriptions = sessionChatRoomSubscriptions.get(sessionId);
+        Long chatRoomId = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        Long userId = sessionUserMap.get(sessionId);
+        if (chatRoomId == null || userId == null) {
+            return;
+        }
+        
+        try {
+            chatSessionService.clearUserCurrentChatRoom(userId, chatRoomId);
+        } catch (Exception e) {
+            log.warn("현재 채팅방 초기화 실패: sessionId={}, userId={}, error={}", sessionId, userId, e.getMessage());
+        }
+    }
 }
@@ -4,13 +4,19 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageListDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageSearchDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageSliceDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomDto;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomListDto;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomSliceDto;
 import org.cmarket.cmarket.domain.chat.app.service.ChatService;
 import org.cmarket.cmarket.web.chat.dto.ChatMessageListResponse;
+import org.cmarket.cmarket.web.chat.dto.ChatMessageSearchResponse;
+import org.cmarket.cmarket.web.chat.dto.ChatMessageSliceResponse;
 import org.cmarket.cmarket.web.chat.dto.ChatRoomCreateRequest;
 import org.cmarket.cmarket.web.chat.dto.ChatRoomListResponse;
 import org.cmarket.cmarket.web.chat.dto.ChatRoomResponse;
+import org.cmarket.cmarket.web.chat.dto.ChatRoomSliceResponse;
 import org.cmarket.cmarket.web.common.response.ResponseCode;
 import org.cmarket.cmarket.web.common.response.SuccessResponse;
 import org.cmarket.cmarket.web.common.security.SecurityUtils;
@@ -105,6 +111,39 @@ public class ChatController {
                 .body(new SuccessResponse<>(ResponseCode.SUCCESS, response));
     }
     
+    /**
+     * 채팅방 목록 커서 조회 (무한 스크롤용)
+     * 
+     * GET /api/chat/rooms/cursor
+     * 
+     * /rooms 와 같은 목록을 page 대신 cursor 로 이어 읽습니다.
+     * - 첫 요청은 cursor 없이, 다음 요청부터는 응답의 nextCursor 를 그대로 넘깁니다.
+     * - 전체 개수를 세지 않으므로 깊은 페이지도 첫 페이지와 같은 비용입니다.
+     * - 정렬은 최근 활동 시간(최근 메시지, 없으면 참여 시간) 내림차순
+     * 
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (기본값: 20)
+     * @return 채팅방 목록 (다음 페이지 커서 포함)
+     */
+    @GetMapping("/rooms/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<SuccessResponse<ChatRoomSliceResponse>> getChatRoomListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        // 현재 로그인한 사용자의 이메일 추출
+        String email = SecurityUtils.getCurrentUserEmail();
+        
+        // 앱 서비스 호출
+        ChatRoomSliceDto chatRoomSliceDto = chatService.getChatRoomListByCursor(email, cursor, size);
+        
+        // 앱 DTO → 웹 DTO 변환
+        ChatRoomSliceResponse response = ChatRoomSliceResponse.fromDto(chatRoomSliceDto);
+        
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(new SuccessResponse<>(ResponseCode.SUCCESS, response));
+    }
+    
     /**
      * 채팅 내역 조회 (FR-028)
      * 
@@ -140,6 +179,79 @@ public class ChatController {
                 .body(new SuccessResponse<>(ResponseCode.SUCCESS, response));
     }
     
+    /**
+     * 채팅 내역 커서 조회 (이전 메시지 더 불러오기)
+     * 
+     * GET /api/chat/rooms/{chatRoomId}/messages/cursor
+     * 
+     * /messages 와 같은 내역을 page 대신 기준 메시지 ID 로 이어 읽습니다.
+     * - 첫 요청은 beforeMessageId 없이 (최신 메시지부터, 읽음 처리 포함)
+     * - 위로 스크롤하면 응답의 nextBeforeMessageId 를 beforeMessageId 로 넘깁니다
+     * - 전체 개수를 세지 않으므로 오래된 대화도 첫 묶음과 같은 비용입니다
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param beforeMessageId 이 메시지보다 이전 것만 (첫 요청이면 생략)
+     * @param size 묶음 크기 (기본값: 50)
+     * @return 메시지 목록 (오래된순, 다음 기준 메시지 ID 포함)
+     */
+    @GetMapping("/rooms/{chatRoomId}/messages/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<SuccessResponse<ChatMessageSliceResponse>> getChatMessagesBefore(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long beforeMessageId,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        // 현재 로그인한 사용자의 이메일 추출
+        String email = SecurityUtils.getCurrentUserEmail();
+        
+        // 앱 서비스 호출
+        ChatMessageSliceDto messageSliceDto = chatService.getChatMessagesBefore(email, chatRoomId, beforeMessageId, size);
+        
+        // 앱 DTO → 웹 DTO 변환
+        ChatMessageSliceResponse response = ChatMessageSliceResponse.from(messageSliceDto);
+        
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(new SuccessResponse<>(ResponseCode.SUCCESS, response));
+    }
+    
+    /**
+     * 채팅방 안 메시지 검색
+     * 
+     * GET /api/chat/rooms/{chatRoomId}/messages/search?q=
+     * 
+     * 이 방 메시지 중 q 의 모든 단어(공백으로 구분)가 들어 있는 것을 최신순으로 찾습니다.
+     * - 대소문자는 구분하지 않습니다
+     * - 보관된 오래된 메시지도 찾고, 내역 조회와 같은 기준으로 보이는 메시지만 돌려줍니다
+     * - 더 있으면 응답의 nextBeforeMessageId 를 beforeMessageId 로 넘깁니다
+     * - 결과의 messageId 로 커서 조회를 부르면 그 메시지 주변으로 이동할 수 있습니다
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param q 검색어
+     * @param beforeMessageId 이 메시지보다 이전 것만 (첫 요청이면 생략)
+     * @param size 묶음 크기 (기본값: 20)
+     * @return 검색 결과 (최신순, 다음 기준 메시지 ID 포함)
+     */
+    @GetMapping("/rooms/{chatRoomId}/messages/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<SuccessResponse<ChatMessageSearchResponse>> searchChatMessages(
+            @PathVariable Long chatRoomId,
+            @RequestParam String q,
+            @RequestParam(required = false) Long beforeMessageId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        // 현재 로그인한 사용자의 이메일 추출
+        String email = SecurityUtils.getCurrentUserEmail();
+        
+        // 앱 서비스 호출
+        ChatMessageSearchDto searchDto = chatService.searchChatMessages(email, chatRoomId, q, beforeMessageId, size);
+        
+        // 앱 DTO → 웹 DTO 변환
+        ChatMessageSearchResponse response = ChatMessageSearchResponse.from(searchDto);
+        
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(new SuccessResponse<>(ResponseCode.SUCCESS, response));
+    }
+    
     /**
      * 채팅방 나가기 (FR-027)
      * 
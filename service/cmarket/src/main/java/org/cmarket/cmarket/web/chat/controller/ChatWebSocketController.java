@@ -4,11 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageCommand;
 import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageDto;
-import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomListItemDto;
 import org.cmarket.cmarket.domain.chat.app.service.ChatService;
 import org.cmarket.cmarket.web.chat.dto.ChatMessageRequest;
 import org.cmarket.cmarket.web.chat.dto.ChatMessageResponse;
-import org.cmarket.cmarket.web.chat.dto.ChatRoomListItemResponse;
+import org.cmarket.cmarket.web.chat.service.ChatRoomListUpdateDispatcher;
+import org.cmarket.cmarket.web.chat.service.ChatRoomMessageExecutor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
@@ -35,12 +35,18 @@ public class ChatWebSocketController {
     
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomListUpdateDispatcher chatRoomListUpdateDispatcher;
+    private final ChatRoomMessageExecutor chatRoomMessageExecutor;
     
     /**
      * 채팅 메시지 전송
      * 
      * 클라이언트에서 /app/chat/message로 전송하면 처리됩니다.
      * 
+     * 인바운드 채널 스레드에서는 채팅방 대기열(ChatRoomMessageExecutor)에 넣기만 하고 돌아갑니다.
+     * 저장 · 전송은 채팅방마다 들어온 순서대로 작업 스레드에서 처리합니다.
+     * 대기열이 가득 차면 저장하지 않고 발신자에게 CHAT_BUSY 를 보냅니다.
+     * 
      * @param request 메시지 요청
      * @param principal 인증된 사용자 정보
      * @param headerAccessor STOMP 헤더
@@ -66,6 +72,32 @@ public class ChatWebSocketController {
                     "프론트엔드 개발자에게 확인이 필요합니다.", content, content.length());
         }
         
+        if (chatRoomId == null) {
+            // 방이 없으면 순서를 지킬 대기열도 없다. 바로 처리해 기존처럼 에러 메시지를 보낸다.
+            processMessage(email, request);
+            return;
+        }
+        
+        boolean accepted = chatRoomMessageExecutor.execute(chatRoomId, () -> processMessage(email, request));
+        if (!accepted) {
+            log.warn("채팅 메시지 대기열 가득 참: chatRoomId={}, email={}", chatRoomId, email);
+            messagingTemplate.convertAndSendToUser(
+                    email,
+                    "/queue/errors",
+                    new ErrorMessage("CHAT_BUSY", "메시지가 많아 처리하지 못했습니다. 잠시 후 다시 보내주세요.")
+            );
+        }
+    }
+    
+    /**
+     * 채팅 메시지 저장 및 전송 (채팅방 대기열 작업 스레드에서 실행)
+     * 
+     * @param email 발신자 이메일
+     * @param request 메시지 요청
+     */
+    private void processMessage(String email, ChatMessageRequest request) {
+        Long chatRoomId = request.getChatRoomId();
+        
         try {
             // 1. 메시지 저장 및 처리
             ChatMessageCommand command = ChatMessageCommand.builder()
@@ -113,8 +145,10 @@ public class ChatWebSocketController {
             //
             // ⚠️ 발신자에게만 보낸 메시지는 여기서도 건너뛴다. 안 그러면 상대의 채팅 목록에
             //    「마지막 메시지」가 바뀌어 **막은 메시지의 내용이 그대로 보인다.**
+            //
+            // 바로 보내지 않고 ChatRoomListUpdateDispatcher 가 짧은 window 동안 모아 참여자마다 한 번 보낸다.
             if (!deliverToSenderOnly) {
-                sendChatRoomListUpdate(chatRoomId);
+                chatRoomListUpdateDispatcher.submit(chatRoomId);
             }
             
         } catch (Exception e) {
@@ -128,44 +162,6 @@ public class ChatWebSocketController {
         }
     }
     
-    /**
-     * 채팅방 목록 업데이트 이벤트 전송
-     * 
-     * 메시지가 전송되면 채팅방 목록 화면에 있는 모든 참여자에게 업데이트 이벤트를 전송합니다.
-     * 프론트엔드는 /user/queue/chat-room-list를 구독하여 실시간으로 목록을 업데이트할 수 있습니다.
-     * 
-     * @param chatRoomId 채팅방 ID
-     */
-    private void sendChatRoomListUpdate(Long chatRoomId) {
-        try {
-            // 1. 채팅방의 모든 활성 참여자 이메일 조회
-            java.util.List<String> participantEmails = chatService.getActiveParticipantEmails(chatRoomId);
-            
-            // 2. 각 참여자에게 채팅방 목록 아이템 전송
-            for (String participantEmail : participantEmails) {
-                ChatRoomListItemDto listItem = chatService.getChatRoomListItem(participantEmail, chatRoomId);
-                
-                if (listItem != null) {
-                    ChatRoomListItemResponse updateEvent = ChatRoomListItemResponse.fromDto(listItem);
-                    
-                    // 개인 큐로 전송 (각 사용자에게만 전달됨)
-                    messagingTemplate.convertAndSendToUser(
-                            participantEmail,
-                            "/queue/chat-room-list",
-                            updateEvent
-                    );
-                }
-            }
-            
-            log.debug("채팅방 목록 업데이트 이벤트 전송 완료: chatRoomId={}, participantCount={}", 
-                    chatRoomId, participantEmails.size());
-            
-        } catch (Exception e) {
-            // 목록 업데이트 실패는 메시지 전송에 영향을 주지 않도록 로그만 남김
-            log.warn("채팅방 목록 업데이트 이벤트 전송 실패: chatRoomId={}", chatRoomId, e);
-        }
-    }
-    
     /**
      * 시스템 메시지 전송 (채팅방 나가기 등)
      * 
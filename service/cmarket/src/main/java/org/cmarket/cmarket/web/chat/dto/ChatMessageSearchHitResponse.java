@@ -0,0 +1,31 @@
+package org.cmarket.cmarket.web.chat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageSearchHitDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 안 검색 결과 한 건 응답 DTO
+ */
+@Getter
+@Builder
+public class ChatMessageSearchHitResponse {
+    
+    private Long messageId;
+    private Long senderId;
+    private Boolean isMine;
+    private LocalDateTime createdAt;
+    private String snippet;  // 키워드 주변 내용 (잘렸으면 앞뒤에 … )
+    
+    public static ChatMessageSearchHitResponse from(ChatMessageSearchHitDto dto) {
+        return ChatMessageSearchHitResponse.builder()
+                .messageId(dto.getMessageId())
+                .senderId(dto.getSenderId())
+                .isMine(dto.getIsMine())
+                .createdAt(dto.getCreatedAt())
+                .snippet(dto.getSnippet())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package org.cmarket.cmarket.web.chat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageSearchDto;
+
+import java.util.List;
+
+/**
+ * 채팅방 안 검색 응답 DTO
+ * 
+ * 최신 메시지부터 내려줍니다. 더 있으면 nextBeforeMessageId 를 다음 요청의 beforeMessageId 로 넘깁니다.
+ */
+@Getter
+@Builder
+public class ChatMessageSearchResponse {
+    
+    private List<ChatMessageSearchHitResponse> hits;
+    private int size;
+    private boolean hasMore;
+    private Long nextBeforeMessageId;  // 다음 요청의 beforeMessageId 값 (더 없으면 null)
+    
+    public static ChatMessageSearchResponse from(ChatMessageSearchDto dto) {
+        List<ChatMessageSearchHitResponse> hits = dto.getHits().stream()
+                .map(ChatMessageSearchHitResponse::from)
+                .toList();
+        
+        return ChatMessageSearchResponse.builder()
+                .hits(hits)
+                .size(dto.getSize())
+                .hasMore(dto.isHasMore())
+                .nextBeforeMessageId(dto.getNextBeforeMessageId())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package org.cmarket.cmarket.web.chat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatMessageSliceDto;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 커서 조회 응답 DTO
+ * 
+ * 「이전 메시지 더 불러오기」용 응답입니다.
+ * 전체 개수를 세지 않으므로 페이지 정보 대신 hasMore 와 nextBeforeMessageId 만 내려줍니다.
+ * 상대 · 상품 정보는 처음 열 때만 채워지고, 이어 읽을 때는 null 입니다.
+ */
+@Getter
+@Builder
+public class ChatMessageSliceResponse {
+    
+    private List<ChatMessageListItemResponse> messages;
+    private int size;
+    private boolean hasMore;
+    private Long nextBeforeMessageId;  // 다음 요청의 beforeMessageId 값 (더 없으면 null)
+    
+    /** 내가 이 방의 상대를 차단했는가. 화면이 입력창을 잠그는 데 쓴다. (#877) */
+    private Boolean isOpponentBlocked;
+    
+    private Long opponentId;
+    private String opponentNickname;
+    private String opponentProfileImageUrl;
+    
+    private Long productId;
+    private String productTitle;
+    private Long productPrice;
+    private String productImageUrl;
+    
+    public static ChatMessageSliceResponse from(ChatMessageSliceDto dto) {
+        List<ChatMessageListItemResponse> messages = dto.getMessages().stream()
+                .map(ChatMessageListItemResponse::from)
+                .toList();
+        
+        return ChatMessageSliceResponse.builder()
+                .messages(messages)
+                .size(dto.getSize())
+                .hasMore(dto.isHasMore())
+                .nextBeforeMessageId(dto.getNextBeforeMessageId())
+                .isOpponentBlocked(dto.getIsOpponentBlocked())
+                .opponentId(dto.getOpponentId())
+                .opponentNickname(dto.getOpponentNickname())
+                .opponentProfileImageUrl(dto.getOpponentProfileImageUrl())
+                .productId(dto.getProductId())
+                .productTitle(dto.getProductTitle())
+                .productPrice(dto.getProductPrice())
+                .productImageUrl(dto.getProductImageUrl())
+                .build();
+    }
+}
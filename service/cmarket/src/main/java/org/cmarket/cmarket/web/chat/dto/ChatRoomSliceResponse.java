@@ -0,0 +1,43 @@
+package org.cmarket.cmarket.web.chat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomSliceDto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 목록 커서 조회 응답 DTO
+ * 
+ * 무한 스크롤용 채팅방 목록을 담는 웹 계층 DTO입니다.
+ * 전체 개수를 세지 않으므로 totalPages/totalElements 대신 hasNext 와 nextCursor 만 내려줍니다.
+ */
+@Getter
+@Builder
+public class ChatRoomSliceResponse {
+    
+    private List<ChatRoomListItemResponse> chatRooms;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;  // 다음 요청의 cursor 값 (마지막 페이지면 null)
+    
+    /**
+     * 앱 DTO를 웹 DTO로 변환
+     * 
+     * @param dto ChatRoomSliceDto
+     * @return ChatRoomSliceResponse
+     */
+    public static ChatRoomSliceResponse fromDto(ChatRoomSliceDto dto) {
+        List<ChatRoomListItemResponse> chatRooms = dto.getChatRooms().stream()
+                .map(ChatRoomListItemResponse::fromDto)
+                .collect(Collectors.toList());
+        
+        return ChatRoomSliceResponse.builder()
+                .chatRooms(chatRooms)
+                .size(dto.getSize())
+                .hasNext(dto.isHasNext())
+                .nextCursor(dto.getNextCursor())
+                .build();
+    }
+}
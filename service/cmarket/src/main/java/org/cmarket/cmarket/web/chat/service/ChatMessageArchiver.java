@@ -0,0 +1,132 @@
+package org.cmarket.cmarket.web.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.chat.app.service.ChatService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오래된 채팅 메시지 보관
+ *
+ * chat_messages 는 지우는 일 없이 계속 커진다. 대화가 끊긴 방(참여자 누구도 room-idle-days 동안
+ * 활동이 없는 방)의 message-age-days 보다 오래된 메시지를 chat_messages_archive 로 옮긴다.
+ * 메시지 조회는 chat_messages 끝에 닿으면 보관 테이블에서 이어 읽으므로 화면에서는 차이가 없다.
+ *
+ * - BATCH_SIZE 개씩 한 트랜잭션으로 복사 + 삭제한다. 묶음 사이에 batch-pause-ms 만큼 쉰다.
+ * - 한 번 돌 때 max-batches-per-run 묶음까지만 옮긴다. 남은 것은 다음 실행에 이어서 옮긴다.
+ * - 중간에 멈춰도(종료, 실패) 이미 끝난 묶음만 반영된다. 진행 위치를 따로 저장하지 않고,
+ *   다음 실행이 남은 메시지를 다시 골라 이어 간다.
+ * - 서버가 여러 대면 고른 행을 잠그므로 같은 메시지를 두 서버가 같이 옮기지 않는다.
+ *
+ * 지표:
+ * - chat.archive.messages: 옮긴 메시지 수 (누적)
+ * - chat.archive.batch: 묶음 하나 처리 시간
+ * - chat.archive.running: 실행 중이면 1
+ * - chat.archive.last-run.messages: 마지막 실행에서 옮긴 메시지 수
+ */
+@Slf4j
+@Component
+public class ChatMessageArchiver {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ChatService chatService;
+    private final boolean enabled;
+    private final long messageAgeDays;
+    private final long roomIdleDays;
+    private final long batchPauseMillis;
+    private final int maxBatchesPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong lastRunMessages = new AtomicLong();
+    private volatile boolean stopping = false;
+
+    private final Counter archivedCounter;
+    private final Timer batchTimer;
+
+    public ChatMessageArchiver(
+            ChatService chatService,
+            MeterRegistry meterRegistry,
+            @Value("${chat.archive.enabled:false}") boolean enabled,
+            @Value("${chat.archive.message-age-days:180}") long messageAgeDays,
+            @Value("${chat.archive.room-idle-days:90}") long roomIdleDays,
+            @Value("${chat.archive.batch-pause-ms:200}") long batchPauseMillis,
+            @Value("${chat.archive.max-batches-per-run:200}") int maxBatchesPerRun
+    ) {
+        this.chatService = chatService;
+        this.enabled = enabled;
+        this.messageAgeDays = messageAgeDays;
+        this.roomIdleDays = roomIdleDays;
+        this.batchPauseMillis = batchPauseMillis;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.archivedCounter = Counter.builder("chat.archive.messages")
+                .description("보관 테이블로 옮긴 채팅 메시지 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("chat.archive.batch")
+                .description("채팅 메시지 보관 묶음 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder("chat.archive.running", running, r -> r.get() ? 1 : 0)
+                .description("채팅 메시지 보관 실행 중 여부")
+                .register(meterRegistry);
+        Gauge.builder("chat.archive.last-run.messages", lastRunMessages, AtomicLong::get)
+                .description("마지막 보관 실행에서 옮긴 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${chat.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        if (!enabled || stopping || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime messageCutoff = now.minusDays(messageAgeDays);
+        LocalDateTime roomIdleCutoff = now.minusDays(roomIdleDays);
+        long archived = 0;
+        int batches = 0;
+        try {
+            while (batches < maxBatchesPerRun && !stopping) {
+                int moved = batchTimer.record(
+                        () -> chatService.archiveColdMessages(messageCutoff, roomIdleCutoff, BATCH_SIZE));
+                batches++;
+                archived += moved;
+                archivedCounter.increment(moved);
+                if (moved < BATCH_SIZE) {
+                    break;
+                }
+                Thread.sleep(batchPauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("채팅 메시지 보관 실패, 다음 실행에 이어서 진행: archived={}, error={}", archived, e.getMessage(), e);
+        } finally {
+            lastRunMessages.set(archived);
+            running.set(false);
+        }
+
+        if (archived > 0) {
+            log.info("채팅 메시지 보관 완료: messages={}, batches={}, messageCutoff={}, roomIdleCutoff={}",
+                    archived, batches, messageCutoff, roomIdleCutoff);
+        }
+    }
+
+    /**
+     * 종료 시 지금 묶음까지만 끝내고 멈춘다
+     */
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+    }
+}
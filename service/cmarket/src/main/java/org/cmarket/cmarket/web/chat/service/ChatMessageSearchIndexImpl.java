@@ -0,0 +1,261 @@
+package org.cmarket.cmarket.web.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.chat.app.service.ChatMessageSearchIndex;
+import org.cmarket.cmarket.domain.chat.repository.ArchivedChatMessageRepository;
+import org.cmarket.cmarket.domain.chat.repository.ChatMessageRepository;
+import org.cmarket.cmarket.domain.chat.repository.ChatMessageSearchDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅방 안 메시지 검색 색인 구현체 (방마다 메모리 역색인)
+ *
+ * 상품 검색 색인(ProductSearchIndexImpl)과 같은 방식이다. 메시지 내용을 두 글자씩 자른
+ * 조각(bigram)으로 색인하고, 후보마다 내용에 키워드가 실제로 들어 있는지 다시 확인한다.
+ * 한 글자 키워드는 bigram 이 없으므로 그 방 메시지를 전부 확인한다 (DB는 건드리지 않는다).
+ *
+ * 색인 유지:
+ * - 방 색인은 그 방을 처음 검색할 때 만든다 (chat_messages + 보관 테이블, chat_room_id 인덱스 조회).
+ * - 새 메시지는 sendMessage 가 커밋 후 바로 넣는다 (색인이 있는 방만).
+ * - 다른 서버에서 저장된 메시지는 검색할 때마다 마지막으로 본 시각 이후만 다시 읽어 따라잡는다.
+ * - 오래 검색하지 않은 방이나 방이 너무 많으면 색인을 버린다 (chat.search.index.*). 다시 검색하면 다시 만든다.
+ *
+ * 적중률 · 색인 생성 수는 cache.gets{cache=chat.search} 등 지표로 본다.
+ */
+@Slf4j
+@Service
+public class ChatMessageSearchIndexImpl implements ChatMessageSearchIndex {
+
+    // 서버 간 시계 차이나 커밋 지연으로 놓치는 메시지가 없도록 따라잡기 기준을 조금 앞당긴다.
+    private static final long CATCH_UP_OVERLAP_SECONDS = 5L;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ArchivedChatMessageRepository archivedChatMessageRepository;
+
+    // 채팅방 ID → 방 색인
+    private final Cache<Long, RoomIndex> rooms;
+
+    public ChatMessageSearchIndexImpl(
+            ChatMessageRepository chatMessageRepository,
+            ArchivedChatMessageRepository archivedChatMessageRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chat.search.index.max-rooms:1000}") long maxRooms,
+            @Value("${chat.search.index.idle-minutes:30}") long idleMinutes
+    ) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.archivedChatMessageRepository = archivedChatMessageRepository;
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rooms, "chat.search");
+    }
+
+    @Override
+    public void index(ChatMessageSearchDocument document) {
+        if (document == null || document.id() == null) {
+            return;
+        }
+        runAfterCommit(() -> {
+            RoomIndex room = rooms.getIfPresent(document.chatRoomId());
+            if (room != null) {
+                room.add(document);
+            }
+        });
+    }
+
+    @Override
+    public List<ChatMessageSearchDocument> search(Long chatRoomId, List<String> keywords) {
+        List<String> normalized = new ArrayList<>();
+        if (keywords != null) {
+            for (String keyword : keywords) {
+                String lowered = normalize(keyword);
+                if (!lowered.isEmpty()) {
+                    normalized.add(lowered);
+                }
+            }
+        }
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        RoomIndex room = rooms.get(chatRoomId, this::build);
+        catchUp(chatRoomId, room);
+        return room.search(normalized);
+    }
+
+    /**
+     * 방 색인 만들기
+     *
+     * chat_messages 를 먼저 읽고 보관 테이블을 읽는다. 그 사이에 보관된 메시지는 두 번 읽힐 뿐
+     * 빠지지 않는다 (같은 ID 는 한 번만 넣는다).
+     */
+    private RoomIndex build(Long chatRoomId) {
+        RoomIndex room = new RoomIndex();
+        List<ChatMessageSearchDocument> hot = chatMessageRepository.findSearchDocuments(chatRoomId);
+        List<ChatMessageSearchDocument> archived = archivedChatMessageRepository.findSearchDocuments(chatRoomId);
+        hot.forEach(room::add);
+        archived.forEach(room::add);
+        log.debug("채팅방 검색 색인 생성: chatRoomId={}, messages={}", chatRoomId, room.size());
+        return room;
+    }
+
+    private void catchUp(Long chatRoomId, RoomIndex room) {
+        LocalDateTime latest = room.latestCreatedAt();
+        if (latest == null) {
+            // 빈 방이었으면 처음부터 다시 본다 (메시지가 없으니 가볍다)
+            chatMessageRepository.findSearchDocuments(chatRoomId).forEach(room::add);
+            return;
+        }
+        chatMessageRepository
+                .findSearchDocumentsSince(chatRoomId, latest.minusSeconds(CATCH_UP_OVERLAP_SECONDS))
+                .forEach(room::add);
+    }
+
+    /**
+     * 트랜잭션이 있으면 커밋된 뒤에, 없으면 바로 실행
+     *
+     * 롤백된 메시지가 색인에 남으면 검색 결과에 없는 메시지가 나온다.
+     */
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 채팅방 하나의 역색인
+     *
+     * 같은 방을 동시에 검색 · 추가할 수 있으므로 메서드마다 잠근다. 방끼리는 서로 막지 않는다.
+     */
+    private static final class RoomIndex {
+
+        // 메시지 ID → 색인 문서
+        private final Map<Long, ChatMessageSearchDocument> documents = new HashMap<>();
+
+        // bigram → 메시지 ID 집합
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+
+        private LocalDateTime latestCreatedAt;
+
+        synchronized void add(ChatMessageSearchDocument document) {
+            if (documents.putIfAbsent(document.id(), document) != null) {
+                return;
+            }
+            for (String gram : bigrams(normalize(document.content()))) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(document.id());
+            }
+            if (latestCreatedAt == null || document.createdAt().isAfter(latestCreatedAt)) {
+                latestCreatedAt = document.createdAt();
+            }
+        }
+
+        synchronized LocalDateTime latestCreatedAt() {
+            return latestCreatedAt;
+        }
+
+        synchronized int size() {
+            return documents.size();
+        }
+
+        /**
+         * 모든 키워드가 들어 있는 메시지 (메시지 ID 내림차순)
+         */
+        synchronized List<ChatMessageSearchDocument> search(List<String> keywords) {
+            Set<Long> matched = null;
+            for (String keyword : keywords) {
+                matched = matchKeyword(keyword, matched);
+                if (matched.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<ChatMessageSearchDocument> results = new ArrayList<>(matched.size());
+            for (Long messageId : matched) {
+                results.add(documents.get(messageId));
+            }
+            results.sort(Comparator.comparing(ChatMessageSearchDocument::id).reversed());
+            return results;
+        }
+
+        /**
+         * 키워드 하나에 맞는 메시지 ID 집합
+         *
+         * @param keyword 소문자로 바꾼 키워드
+         * @param within 앞선 키워드까지의 결과 (처음이면 null)
+         */
+        private Set<Long> matchKeyword(String keyword, Set<Long> within) {
+            Set<String> grams = bigrams(keyword);
+
+            Set<Long> candidates;
+            if (grams.isEmpty()) {
+                candidates = within != null ? within : documents.keySet();
+            } else {
+                List<Set<Long>> lists = new ArrayList<>(grams.size());
+                for (String gram : grams) {
+                    Set<Long> posting = postings.get(gram);
+                    if (posting == null) {
+                        return Set.of();
+                    }
+                    lists.add(posting);
+                }
+                lists.sort(Comparator.comparingInt(Set::size));
+
+                candidates = new HashSet<>(lists.get(0));
+                if (within != null) {
+                    candidates.retainAll(within);
+                }
+                for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                    candidates.retainAll(lists.get(i));
+                }
+            }
+
+            Set<Long> matched = new HashSet<>();
+            for (Long messageId : candidates) {
+                ChatMessageSearchDocument document = documents.get(messageId);
+                if (document != null && normalize(document.content()).contains(keyword)) {
+                    matched.add(messageId);
+                }
+            }
+            return matched;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.cmarket.cmarket.web.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.chat.app.dto.ReadWatermark;
+import org.cmarket.cmarket.domain.chat.app.service.ChatReadStatusService;
+import org.cmarket.cmarket.domain.chat.app.service.ChatService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 읽음 기준점 RDB 반영
+ *
+ * 채팅방에 들어올 때는 Redis 에 「어디까지 읽었는지」만 올려 두고 바로 응답한다.
+ * 여기서 주기적으로 모아 chat_room_users.last_read_message_id 를 올리고,
+ * 그 아래 메시지의 is_read 를 BATCH_SIZE 개씩 나눠 바꾼다.
+ * 오래 안 읽은 방도 한 트랜잭션이 잠그는 행 수가 BATCH_SIZE 를 넘지 않는다.
+ *
+ * 반영에 실패한 기준점은 대기열에 되돌려 다음 주기에 다시 시도한다.
+ * 서버가 여러 대여도 대기열은 원자적으로 꺼내므로 같은 기준점을 두 서버가 같이 처리하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadReceiptFlusher {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ChatReadStatusService chatReadStatusService;
+    private final ChatService chatService;
+
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms:5000}")
+    public void flush() {
+        List<ReadWatermark> watermarks;
+        try {
+            watermarks = chatReadStatusService.drainPendingWatermarks();
+        } catch (Exception e) {
+            log.warn("읽음 기준점 조회 실패: error={}", e.getMessage());
+            return;
+        }
+
+        long updated = 0;
+        for (ReadWatermark watermark : watermarks) {
+            try {
+                while (true) {
+                    int count = chatService.applyReadWatermark(watermark, BATCH_SIZE);
+                    updated += count;
+                    if (count < BATCH_SIZE) {
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("읽음 기준점 반영 실패, 다음 주기에 재시도: chatRoomId={}, userId={}, error={}",
+                        watermark.chatRoomId(), watermark.userId(), e.getMessage());
+                requeue(watermark);
+            }
+        }
+
+        if (updated > 0) {
+            log.debug("읽음 기준점 반영: watermarks={}, messages={}", watermarks.size(), updated);
+        }
+    }
+
+    private void requeue(ReadWatermark watermark) {
+        try {
+            chatReadStatusService.requeueWatermark(watermark);
+        } catch (Exception e) {
+            // 다음 채팅방 진입 때 더 큰 기준점으로 다시 기록된다.
+            log.warn("읽음 기준점 재등록 실패: chatRoomId={}, userId={}, error={}",
+                    watermark.chatRoomId(), watermark.userId(), e.getMessage());
+        }
+    }
+}
@@ -2,22 +2,38 @@ package org.cmarket.cmarket.web.chat.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.chat.app.dto.ReadWatermark;
 import org.cmarket.cmarket.domain.chat.app.service.ChatReadStatusService;
 import org.cmarket.cmarket.domain.chat.app.service.ChatSessionService;
-import org.cmarket.cmarket.domain.chat.repository.ChatMessageRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 채팅 읽음 상태 관리 서비스 구현체
  * 
  * Redis를 활용한 실시간 읽음 상태 관리 기능을 구현합니다.
+ * 
+ * Redis 왕복 횟수:
+ * - 안 읽은 개수 증가: INCR + EXPIRE 를 Lua 스크립트 하나로 (1회, 원자적)
+ * - 채팅방 목록의 안 읽은 개수: MGET 한 번 (방 개수와 무관)
+ * - 리셋 / 마지막 읽은 시간: SET ... EX 한 번
+ * - 채팅방 진입 읽음 처리: 리셋 + 마지막 읽은 시간 + 읽음 기준점 대기열을 Lua 스크립트 하나로 (1회)
+ * 
+ * 읽음 기준점 대기열 (chat:read:pending):
+ * - Hash 필드 {chatRoomId}:{userId} → 마지막으로 읽은 메시지 ID. 같은 필드는 큰 값만 남는다.
+ * - ChatReadReceiptFlusher 가 주기적으로 통째로 꺼내(HGETALL + DEL, 원자적) RDB에 반영한다.
+ * - 여러 번 들어왔다 나가도 반영할 때는 필드당 한 번이다.
  */
 @Slf4j
 @Service
@@ -25,7 +41,6 @@ import java.util.concurrent.TimeUnit;
 public class ChatReadStatusServiceImpl implements ChatReadStatusService {
     
     private final RedisTemplate<String, String> stringRedisTemplate;
-    private final ChatMessageRepository chatMessageRepository;
     private final ChatSessionService chatSessionService;
     
     @Value("${chat.redis.ttl-days:30}")
@@ -33,42 +48,119 @@ public class ChatReadStatusServiceImpl implements ChatReadStatusService {
     
     private static final String UNREAD_KEY_PREFIX = "chat:unread:";
     private static final String LAST_READ_KEY_PREFIX = "chat:lastread:";
+    private static final String PENDING_WATERMARK_KEY = "chat:read:pending";
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
     
+    // INCR 와 EXPIRE 를 따로 보내면 왕복이 두 번이고, 그 사이에 서버가 죽으면 TTL 없는 키가 남는다.
+    private static final RedisScript<Long> INCREMENT_WITH_TTL_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "return count",
+            Long.class
+    );
+    
+    // 필드에 지금보다 큰 기준점일 때만 쓴다 (KEYS[1]=Hash, ARGV[1]=필드, ARGV[2]=메시지 ID)
+    private static final RedisScript<Long> ADVANCE_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) "
+                    + "if (not current) or tonumber(current) < tonumber(ARGV[2]) then "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "end "
+                    + "return 1",
+            Long.class
+    );
+    
+    // KEYS = [unread, lastread, pending], ARGV = [필드, 메시지 ID 또는 '', TTL(초), 지금 시각]
+    // 대기열 쓰기는 ADVANCE_PENDING_SCRIPT 와 같은 규칙 (큰 값만 남김)
+    private static final RedisScript<Long> MARK_ROOM_READ_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], '0', 'EX', ARGV[3]) "
+                    + "redis.call('SET', KEYS[2], ARGV[4], 'EX', ARGV[3]) "
+                    + "if ARGV[2] ~= '' then "
+                    + "local current = redis.call('HGET', KEYS[3], ARGV[1]) "
+                    + "if (not current) or tonumber(current) < tonumber(ARGV[2]) then "
+                    + "redis.call('HSET', KEYS[3], ARGV[1], ARGV[2]) "
+                    + "end "
+                    + "end "
+                    + "return 1",
+            Long.class
+    );
+    
+    // 대기열을 통째로 꺼내고 비운다. 꺼내는 사이에 들어온 기준점은 다음 번에 꺼낸다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "return entries",
+            List.class
+    );
+    
     @Override
-    public void incrementUnreadCount(Long chatRoomId, Long recipientId) {
+    public int incrementUnreadCount(Long chatRoomId, Long recipientId) {
         // 수신자가 해당 채팅방에 접속 중이면 증가하지 않음
         Long currentChatRoom = chatSessionService.getUserCurrentChatRoom(recipientId);
         if (currentChatRoom != null && currentChatRoom.equals(chatRoomId)) {
-            return;
+            return 0;
         }
         
         String key = buildUnreadKey(chatRoomId, recipientId);
-        stringRedisTemplate.opsForValue().increment(key);
-        stringRedisTemplate.expire(key, ttlDays, TimeUnit.DAYS);
+        Long count = stringRedisTemplate.execute(
+                INCREMENT_WITH_TTL_SCRIPT,
+                List.of(key),
+                String.valueOf(ttl().getSeconds())
+        );
+        return count != null ? count.intValue() : 0;
     }
     
     @Override
     public int getUnreadCount(Long chatRoomId, Long userId) {
         String key = buildUnreadKey(chatRoomId, userId);
-        String value = stringRedisTemplate.opsForValue().get(key);
+        return parseCount(stringRedisTemplate.opsForValue().get(key));
+    }
+    
+    @Override
+    public Map<Long, Integer> getUnreadCounts(Long userId, List<Long> chatRoomIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (chatRoomIds == null || chatRoomIds.isEmpty()) {
+            return counts;
+        }
         
-        if (value == null) {
-            return 0;
+        List<String> keys = new ArrayList<>(chatRoomIds.size());
+        for (Long chatRoomId : chatRoomIds) {
+            keys.add(buildUnreadKey(chatRoomId, userId));
         }
         
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException e) {
-            return 0;
+        // MGET 은 키 순서대로 값을 돌려준다 (없는 키는 null)
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        for (int i = 0; i < chatRoomIds.size(); i++) {
+            String value = values != null && i < values.size() ? values.get(i) : null;
+            counts.put(chatRoomIds.get(i), parseCount(value));
         }
+        return counts;
+    }
+    
+    @Override
+    public Map<Long, Integer> getUnreadCountsByUser(Long chatRoomId, List<Long> userIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return counts;
+        }
+        
+        List<String> keys = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            keys.add(buildUnreadKey(chatRoomId, userId));
+        }
+        
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        for (int i = 0; i < userIds.size(); i++) {
+            String value = values != null && i < values.size() ? values.get(i) : null;
+            counts.put(userIds.get(i), parseCount(value));
+        }
+        return counts;
     }
     
     @Override
     public void resetUnreadCount(Long chatRoomId, Long userId) {
         String key = buildUnreadKey(chatRoomId, userId);
-        stringRedisTemplate.opsForValue().set(key, "0");
-        stringRedisTemplate.expire(key, ttlDays, TimeUnit.DAYS);
+        stringRedisTemplate.opsForValue().set(key, "0", ttl());
     }
     
     @Override
@@ -91,44 +183,60 @@ public class ChatReadStatusServiceImpl implements ChatReadStatusService {
     public void updateLastReadTime(Long chatRoomId, Long userId) {
         String key = buildLastReadKey(chatRoomId, userId);
         String value = LocalDateTime.now().format(DATETIME_FORMATTER);
-        stringRedisTemplate.opsForValue().set(key, value);
-        stringRedisTemplate.expire(key, ttlDays, TimeUnit.DAYS);
+        stringRedisTemplate.opsForValue().set(key, value, ttl());
     }
     
     @Override
-    @Transactional
-    public void syncReadStatusToRdb(Long chatRoomId, Long userId) {
-        LocalDateTime syncTime = LocalDateTime.now();
-        
+    public void markRoomAsRead(Long chatRoomId, Long userId, Long lastMessageId) {
         try {
-            // 1. Redis의 unreadCount를 0으로 리셋
-            resetUnreadCount(chatRoomId, userId);
-            
-            // 2. 마지막 읽은 시간 업데이트
-            updateLastReadTime(chatRoomId, userId);
-            
+            stringRedisTemplate.execute(
+                    MARK_ROOM_READ_SCRIPT,
+                    List.of(buildUnreadKey(chatRoomId, userId), buildLastReadKey(chatRoomId, userId), PENDING_WATERMARK_KEY),
+                    buildPendingField(chatRoomId, userId),
+                    lastMessageId != null ? String.valueOf(lastMessageId) : "",
+                    String.valueOf(ttl().getSeconds()),
+                    LocalDateTime.now().format(DATETIME_FORMATTER)
+            );
         } catch (Exception e) {
-            // Redis 실패 시 로그 기록 (DB 동기화는 계속 진행)
-            log.warn("Redis 읽음 상태 초기화 실패: chatRoomId={}, userId={}, error={}", 
+            // 읽음 처리 실패로 채팅방 진입까지 막지 않는다. 다음 진입 때 다시 기록된다.
+            log.warn("Redis 읽음 처리 실패: chatRoomId={}, userId={}, error={}",
                     chatRoomId, userId, e.getMessage());
         }
+    }
+    
+    @Override
+    public List<ReadWatermark> drainPendingWatermarks() {
+        List<?> entries = stringRedisTemplate.execute(DRAIN_PENDING_SCRIPT, List.of(PENDING_WATERMARK_KEY));
+        if (entries == null || entries.isEmpty()) {
+            return List.of();
+        }
         
-        try {
-            // 3. RDB의 메시지 isRead 일괄 업데이트
-            // 본인이 받은 메시지(senderId != userId) 중 isRead = false인 것들을 true로 변경
-            int updatedCount = chatMessageRepository.markMessagesAsRead(chatRoomId, userId, syncTime);
-            
-            if (updatedCount > 0) {
-                log.debug("RDB 읽음 상태 동기화 완료: chatRoomId={}, userId={}, updatedCount={}", 
-                        chatRoomId, userId, updatedCount);
+        // HGETALL 은 [필드, 값, 필드, 값, ...] 순서다
+        List<ReadWatermark> watermarks = new ArrayList<>(entries.size() / 2);
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            String field = String.valueOf(entries.get(i));
+            int separator = field.indexOf(':');
+            try {
+                watermarks.add(new ReadWatermark(
+                        Long.parseLong(field.substring(0, separator)),
+                        Long.parseLong(field.substring(separator + 1)),
+                        Long.parseLong(String.valueOf(entries.get(i + 1)))
+                ));
+            } catch (RuntimeException e) {
+                log.warn("읽음 기준점 형식 오류: field={}, value={}", field, entries.get(i + 1));
             }
-            
-        } catch (Exception e) {
-            // DB 실패 시 에러 로그 기록
-            log.error("RDB 읽음 상태 동기화 실패: chatRoomId={}, userId={}, error={}", 
-                    chatRoomId, userId, e.getMessage(), e);
-            throw e; // @Transactional 롤백을 위해 예외 재발생
         }
+        return watermarks;
+    }
+    
+    @Override
+    public void requeueWatermark(ReadWatermark watermark) {
+        stringRedisTemplate.execute(
+                ADVANCE_PENDING_SCRIPT,
+                List.of(PENDING_WATERMARK_KEY),
+                buildPendingField(watermark.chatRoomId(), watermark.userId()),
+                String.valueOf(watermark.messageId())
+        );
     }
     
     @Override
@@ -136,8 +244,23 @@ public class ChatReadStatusServiceImpl implements ChatReadStatusService {
         String unreadKey = buildUnreadKey(chatRoomId, userId);
         String lastReadKey = buildLastReadKey(chatRoomId, userId);
         
-        stringRedisTemplate.delete(unreadKey);
-        stringRedisTemplate.delete(lastReadKey);
+        stringRedisTemplate.delete(List.of(unreadKey, lastReadKey));
+    }
+    
+    private Duration ttl() {
+        return Duration.ofDays(ttlDays);
+    }
+    
+    private int parseCount(String value) {
+        if (value == null) {
+            return 0;
+        }
+        
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
     
     /**
@@ -147,6 +270,13 @@ public class ChatReadStatusServiceImpl implements ChatReadStatusService {
         return UNREAD_KEY_PREFIX + chatRoomId + ":" + userId;
     }
     
+    /**
+     * 읽음 기준점 대기열 필드 생성
+     */
+    private String buildPendingField(Long chatRoomId, Long userId) {
+        return chatRoomId + ":" + userId;
+    }
+    
     /**
      * 마지막 읽은 시간 키 생성
      */
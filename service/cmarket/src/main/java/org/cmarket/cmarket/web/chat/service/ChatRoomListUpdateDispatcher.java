@@ -0,0 +1,168 @@
+package org.cmarket.cmarket.web.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomListItemUpdate;
+import org.cmarket.cmarket.domain.chat.app.service.ChatService;
+import org.cmarket.cmarket.web.chat.dto.ChatRoomListItemResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 목록 갱신 모아 보내기
+ *
+ * 메시지가 올 때마다 참여자 목록 한 줄을 다시 읽어 /user/queue/chat-room-list 로 보내면,
+ * 연달아 보내는 짧은 메시지마다 DB 조회가 몇 번씩 붙는다.
+ * 그래서 메시지가 온 채팅방만 표시해 두고, window 마다 한 번씩 모아서 보낸다.
+ *
+ * - 한 window 안에 같은 방에 메시지가 몇 개 오든 참여자마다 갱신은 한 번 (마지막 상태)
+ * - 방 하나를 보낼 때 조회는 ChatService.getChatRoomListUpdates 한 번 (조인 1 + 이메일 1 + MGET 1)
+ * - 받는 쪽 형식(ChatRoomListItemResponse 한 건)은 그대로다. 한 사용자의 여러 방은 방마다 따로 간다.
+ *
+ * 방마다 조회가 필요하므로 한 window 에 방이 많으면 한 스레드로는 다음 window 까지 다 못 보낸다.
+ * 그래서 window 하나에 모인 방들은 전용 풀(chat.room-list.flush-threads)에 나눠 동시에 보내고,
+ * 모두 끝난 뒤에 다음 window 를 시작한다. 같은 방이 두 window 에서 겹쳐 보내지지 않으므로
+ * 오래된 상태가 새 상태를 덮는 일은 없다.
+ *
+ * 설정:
+ * - chat.room-list.update-window-ms (기본 300ms). 목록 화면에 보이는 지연이 최대 이만큼 늘어난다.
+ * - chat.room-list.flush-threads (기본 4). 방 하나 보낼 때 DB 커넥션을 하나 쓰므로 커넥션 풀보다 작게 잡는다.
+ *
+ * 지표:
+ * - chat.room-list.updates.requested: 갱신 요청 수 (메시지 수)
+ * - chat.room-list.updates.sent: 실제로 보낸 목록 한 줄 수
+ * - chat.room-list.update.delay: 첫 요청부터 보낼 때까지 걸린 시간 (window 가 실제로 얼마인지)
+ * - chat.room-list.flush: 한 번 모아 보내는 데 걸린 시간
+ */
+@Slf4j
+@Component
+public class ChatRoomListUpdateDispatcher {
+
+    private static final String DESTINATION = "/queue/chat-room-list";
+
+    private final ChatService chatService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final ThreadPoolTaskExecutor senders;
+
+    // 보낼 채팅방 ID → 처음 요청된 시각 (System.nanoTime)
+    private final Map<Long, Long> pendingRooms = new ConcurrentHashMap<>();
+
+    private final Counter requestedCounter;
+    private final Counter sentCounter;
+    private final Timer delayTimer;
+    private final Timer flushTimer;
+
+    public ChatRoomListUpdateDispatcher(
+            ChatService chatService,
+            SimpMessagingTemplate messagingTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chat.room-list.update-window-ms:300}") long windowMillis,
+            @Value("${chat.room-list.flush-threads:4}") int flushThreads
+    ) {
+        this.chatService = chatService;
+        this.messagingTemplate = messagingTemplate;
+        this.requestedCounter = Counter.builder("chat.room-list.updates.requested")
+                .description("채팅방 목록 갱신 요청 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("chat.room-list.updates.sent")
+                .description("보낸 채팅방 목록 한 줄 수")
+                .register(meterRegistry);
+        this.delayTimer = Timer.builder("chat.room-list.update.delay")
+                .description("채팅방 목록 갱신 첫 요청부터 전송까지")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.room-list.flush")
+                .description("채팅방 목록 갱신 모아 보내기 시간")
+                .register(meterRegistry);
+
+        // 하트비트 · 다른 @Scheduled 작업과 같은 스레드를 쓰면 그쪽이 밀릴 때 목록 갱신도 밀린다
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(1);
+        this.scheduler.setThreadNamePrefix("chat-room-list-");
+        this.scheduler.initialize();
+
+        this.senders = new ThreadPoolTaskExecutor();
+        this.senders.setCorePoolSize(flushThreads);
+        this.senders.setMaxPoolSize(flushThreads);
+        this.senders.setThreadNamePrefix("chat-room-list-send-");
+        this.senders.initialize();
+
+        this.scheduler.scheduleWithFixedDelay(this::flush, Duration.ofMillis(windowMillis));
+    }
+
+    /**
+     * 채팅방 목록 갱신 요청
+     *
+     * 바로 보내지 않고 다음 window 에 참여자 전원에게 보낸다.
+     *
+     * @param chatRoomId 메시지가 오간 채팅방 ID
+     */
+    public void submit(Long chatRoomId) {
+        requestedCounter.increment();
+        pendingRooms.putIfAbsent(chatRoomId, System.nanoTime());
+    }
+
+    void flush() {
+        if (pendingRooms.isEmpty()) {
+            return;
+        }
+
+        flushTimer.record(() -> {
+            List<Long> chatRoomIds = new ArrayList<>(pendingRooms.keySet());
+            List<CompletableFuture<Void>> sends = new ArrayList<>(chatRoomIds.size());
+            for (Long chatRoomId : chatRoomIds) {
+                Long requestedAt = pendingRooms.remove(chatRoomId);
+                if (requestedAt == null) {
+                    continue;
+                }
+                sends.add(CompletableFuture.runAsync(() -> {
+                    send(chatRoomId);
+                    delayTimer.record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+                }, senders));
+            }
+            // 다 보낸 뒤에 다음 window 를 잡는다 (같은 방을 동시에 보내지 않도록)
+            CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).join();
+        });
+    }
+
+    private void send(Long chatRoomId) {
+        try {
+            List<ChatRoomListItemUpdate> updates = chatService.getChatRoomListUpdates(chatRoomId);
+            for (ChatRoomListItemUpdate update : updates) {
+                // 개인 큐로 전송 (각 사용자에게만 전달됨)
+                messagingTemplate.convertAndSendToUser(
+                        update.email(),
+                        DESTINATION,
+                        ChatRoomListItemResponse.fromDto(update.item())
+                );
+            }
+            sentCounter.increment(updates.size());
+
+            log.debug("채팅방 목록 업데이트 이벤트 전송 완료: chatRoomId={}, participantCount={}",
+                    chatRoomId, updates.size());
+        } catch (Exception e) {
+            // 목록 업데이트 실패는 메시지 전송에 영향을 주지 않도록 로그만 남김
+            log.warn("채팅방 목록 업데이트 이벤트 전송 실패: chatRoomId={}", chatRoomId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        senders.shutdown();
+    }
+}
@@ -0,0 +1,138 @@
+package org.cmarket.cmarket.web.chat.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.cmarket.cmarket.domain.chat.app.dto.ChatRoomMembership;
+import org.cmarket.cmarket.domain.chat.app.service.ChatRoomMembershipCache;
+import org.cmarket.cmarket.domain.chat.model.ChatRoom;
+import org.cmarket.cmarket.domain.chat.model.ChatRoomUser;
+import org.cmarket.cmarket.domain.chat.repository.ChatRoomRepository;
+import org.cmarket.cmarket.domain.chat.repository.ChatRoomUserRepository;
+import org.cmarket.cmarket.domain.report.model.UserBlock;
+import org.cmarket.cmarket.domain.report.repository.UserBlockRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 채팅방 참여 정보 캐시 구현체 (Caffeine)
+ *
+ * 채팅방 ID → (참여자와 나간 여부, 상품 제목, 참여자끼리의 차단 관계) 스냅샷을 서버 메모리에 둡니다.
+ * 캐시에 없을 때만 chat_rooms · chat_room_users · user_blocks 를 한 번씩 읽습니다.
+ *
+ * 유지 정책:
+ * - 구독 · 전송이 오가는 방은 조회될 때마다 수명이 늘어나 계속 메모리에 남는다 (idle-minutes).
+ * - 쓰는 중인 방도 refresh-seconds 마다 뒤에서 다시 읽는다. 다른 서버에서 바뀐 차단 관계가
+ *   그 시간 안에 반영되고, 다시 읽는 동안에도 전송은 기존 스냅샷으로 바로 처리된다.
+ * - 나가기 · 차단 · 차단 해제는 각 서비스가 evict 를 부른다.
+ * - 나간 상태는 메시지 전송의 UPDATE 가 is_active 로 한 번 더 확인하므로,
+ *   스냅샷이 늦더라도 나간 방에 메시지가 남지 않는다.
+ *
+ * 지표 (actuator /metrics): cache.gets{cache=chat.membership, result=hit|miss}, cache.size 등
+ */
+@Service
+public class ChatRoomMembershipCacheImpl implements ChatRoomMembershipCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomUserRepository chatRoomUserRepository;
+    private final UserBlockRepository userBlockRepository;
+    private final LoadingCache<Long, ChatRoomMembership> cache;
+
+    public ChatRoomMembershipCacheImpl(
+            ChatRoomRepository chatRoomRepository,
+            ChatRoomUserRepository chatRoomUserRepository,
+            UserBlockRepository userBlockRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chat.membership.cache.max-size:20000}") long maxSize,
+            @Value("${chat.membership.cache.idle-minutes:10}") long idleMinutes,
+            @Value("${chat.membership.cache.refresh-seconds:30}") long refreshSeconds
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatRoomUserRepository = chatRoomUserRepository;
+        this.userBlockRepository = userBlockRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chat.membership");
+    }
+
+    @Override
+    public ChatRoomMembership get(Long chatRoomId) {
+        if (chatRoomId == null) {
+            return null;
+        }
+        return cache.get(chatRoomId);
+    }
+
+    @Override
+    public void evict(Long chatRoomId) {
+        if (chatRoomId == null) {
+            return;
+        }
+        cache.invalidate(chatRoomId);
+        runAfterCommit(() -> cache.invalidate(chatRoomId));
+    }
+
+    @Override
+    public void evictByUserId(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        // 차단 · 차단 해제에서만 쓰므로 전체를 훑어도 충분하다.
+        cache.asMap().values().removeIf(membership -> membership.member(userId) != null);
+        runAfterCommit(() -> cache.asMap().values().removeIf(membership -> membership.member(userId) != null));
+    }
+
+    /**
+     * DB에서 참여 정보 읽기 (채팅방이 없으면 null → 캐시하지 않음)
+     */
+    private ChatRoomMembership load(Long chatRoomId) {
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId).orElse(null);
+        if (chatRoom == null) {
+            return null;
+        }
+
+        List<ChatRoomUser> chatRoomUsers = chatRoomUserRepository.findByChatRoomId(chatRoomId);
+        List<ChatRoomMembership.Member> members = chatRoomUsers.stream()
+                .map(user -> new ChatRoomMembership.Member(user.getUserId(), Boolean.TRUE.equals(user.getIsActive())))
+                .toList();
+
+        Set<Long> userIds = new HashSet<>();
+        for (ChatRoomMembership.Member member : members) {
+            userIds.add(member.userId());
+        }
+
+        Set<Long> blockerIds = new HashSet<>();
+        if (userIds.size() > 1) {
+            for (UserBlock block : userBlockRepository.findByBlockerIdInAndBlockedUserIdIn(userIds, userIds)) {
+                if (!block.getBlockerId().equals(block.getBlockedUserId())) {
+                    blockerIds.add(block.getBlockerId());
+                }
+            }
+        }
+
+        return new ChatRoomMembership(chatRoomId, chatRoom.getProductTitle(), members, Set.copyOf(blockerIds));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
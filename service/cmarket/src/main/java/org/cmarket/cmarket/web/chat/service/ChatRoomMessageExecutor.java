@@ -0,0 +1,235 @@
+package org.cmarket.cmarket.web.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅방별 메시지 처리 실행기
+ *
+ * STOMP 로 들어온 채팅 메시지 저장(JPA + Redis)은 막히는 작업이라 clientInboundChannel 스레드에서
+ * 하면 다른 세션의 CONNECT · SUBSCRIBE 까지 같이 밀린다. 그래서 인바운드 스레드는 여기로 넘기기만 하고,
+ * 실제 처리는 전용 작업 스레드에서 한다.
+ *
+ * 순서 보장:
+ * - 같은 채팅방 메시지는 들어온 순서대로 하나씩 처리한다 (방마다 대기열 하나)
+ * - 다른 채팅방끼리는 동시에 처리한다
+ * - 한 방이 작업 스레드를 계속 붙잡지 않도록 DRAIN_BATCH 개를 처리하면 뒤로 다시 줄을 선다
+ *
+ * 과부하 시:
+ * - 전체 대기 수가 max-pending, 한 방 대기 수가 max-pending-per-room 을 넘으면 받지 않는다 (execute 가 false)
+ * - 받지 않은 메시지는 호출한 쪽이 발신자에게 알린다. 저장되지 않았으므로 클라이언트가 다시 보내면 된다.
+ *
+ * 작업 스레드:
+ * - 기본은 고정 크기 풀 (chat.executor.room.threads). DB 커넥션 풀보다 작게 잡는다.
+ * - chat.executor.room.virtual-threads=true 면 가상 스레드. 동시에 도는 방 수만큼 스레드가 생기고,
+ *   실제 동시 처리 수는 DB 커넥션 풀이 정한다.
+ *
+ * 지표:
+ * - chat.room-executor.pending: 아직 시작하지 않은 메시지 수 (대기열 깊이)
+ * - chat.room-executor.rooms: 처리 중이거나 대기 중인 메시지가 있는 채팅방 수
+ * - chat.room-executor.lag: 받은 뒤 처리 시작까지 기다린 시간 (방 안 지연)
+ * - chat.room-executor.task: 메시지 하나 처리 시간
+ * - chat.room-executor.rejected{reason=total|room}: 받지 않은 메시지 수
+ * 방 ID 는 태그로 달지 않는다 (방 수만큼 지표가 생긴다). 대신 lag 가 lag-warn-ms 를 넘으면 방 ID 를 로그로 남긴다.
+ */
+@Slf4j
+@Component
+public class ChatRoomMessageExecutor {
+
+    private static final int DRAIN_BATCH = 32;
+
+    private final TaskExecutor workers;
+    private final int maxPending;
+    private final int maxPendingPerRoom;
+    private final long lagWarnNanos;
+
+    // 채팅방 ID → 대기열. 항목이 있으면 그 방을 처리하는 작업이 돌고 있다는 뜻이다.
+    private final Map<Long, ArrayDeque<QueuedTask>> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Timer lagTimer;
+    private final Timer taskTimer;
+    private final Counter rejectedTotalCounter;
+    private final Counter rejectedRoomCounter;
+
+    public ChatRoomMessageExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${chat.executor.room.threads:16}") int threads,
+            @Value("${chat.executor.room.virtual-threads:false}") boolean virtualThreads,
+            @Value("${chat.executor.room.max-pending:5000}") int maxPending,
+            @Value("${chat.executor.room.max-pending-per-room:200}") int maxPendingPerRoom,
+            @Value("${chat.executor.room.lag-warn-ms:1000}") long lagWarnMillis
+    ) {
+        this.maxPending = maxPending;
+        this.maxPendingPerRoom = maxPendingPerRoom;
+        this.lagWarnNanos = TimeUnit.MILLISECONDS.toNanos(lagWarnMillis);
+        this.workers = virtualThreads ? virtualThreadExecutor() : threadPoolExecutor(threads);
+
+        Gauge.builder("chat.room-executor.pending", pending, AtomicInteger::get)
+                .description("처리 시작 전인 채팅 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.room-executor.rooms", lanes, Map::size)
+                .description("처리 중인 채팅방 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("chat.room-executor.lag")
+                .description("채팅 메시지 수신부터 처리 시작까지")
+                .register(meterRegistry);
+        this.taskTimer = Timer.builder("chat.room-executor.task")
+                .description("채팅 메시지 처리 시간")
+                .register(meterRegistry);
+        this.rejectedTotalCounter = Counter.builder("chat.room-executor.rejected")
+                .description("대기열이 가득 차 받지 않은 채팅 메시지 수")
+                .tag("reason", "total")
+                .register(meterRegistry);
+        this.rejectedRoomCounter = Counter.builder("chat.room-executor.rejected")
+                .description("대기열이 가득 차 받지 않은 채팅 메시지 수")
+                .tag("reason", "room")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채팅방 대기열에 작업 추가
+     *
+     * 같은 채팅방 작업은 추가한 순서대로 하나씩 실행된다.
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param task 실행할 작업 (예외는 로그만 남긴다. 발신자 알림은 작업 안에서 처리한다)
+     * @return 받았으면 true, 대기열이 가득 차 받지 않았으면 false
+     */
+    public boolean execute(Long chatRoomId, Runnable task) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            rejectedTotalCounter.increment();
+            return false;
+        }
+
+        QueuedTask queued = new QueuedTask(task, System.nanoTime());
+        boolean[] accepted = new boolean[1];
+        boolean[] start = new boolean[1];
+        lanes.compute(chatRoomId, (id, lane) -> {
+            if (lane == null) {
+                lane = new ArrayDeque<>();
+                start[0] = true;
+            }
+            if (lane.size() < maxPendingPerRoom) {
+                lane.addLast(queued);
+                accepted[0] = true;
+            }
+            return lane;
+        });
+
+        if (!accepted[0]) {
+            pending.decrementAndGet();
+            rejectedRoomCounter.increment();
+            return false;
+        }
+        if (start[0]) {
+            workers.execute(() -> drain(chatRoomId));
+        }
+        return true;
+    }
+
+    private void drain(Long chatRoomId) {
+        int processed = 0;
+        QueuedTask next;
+        while ((next = poll(chatRoomId)) != null) {
+            pending.decrementAndGet();
+            run(chatRoomId, next);
+            if (++processed >= DRAIN_BATCH && requeue(chatRoomId)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 다른 방 뒤로 다시 줄을 섬 (대기열은 그대로라 순서는 유지된다)
+     *
+     * 종료 중이라 받지 않으면 false. 이때는 지금 스레드에서 이어서 처리한다.
+     */
+    private boolean requeue(Long chatRoomId) {
+        try {
+            workers.execute(() -> drain(chatRoomId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 다음 작업을 꺼냄. 비었으면 대기열을 지워 다음 execute 가 새 처리 작업을 띄우게 한다.
+     */
+    private QueuedTask poll(Long chatRoomId) {
+        QueuedTask[] next = new QueuedTask[1];
+        lanes.computeIfPresent(chatRoomId, (id, lane) -> {
+            next[0] = lane.pollFirst();
+            return next[0] == null ? null : lane;
+        });
+        return next[0];
+    }
+
+    private void run(Long chatRoomId, QueuedTask queued) {
+        long lagNanos = System.nanoTime() - queued.enqueuedAt();
+        lagTimer.record(lagNanos, TimeUnit.NANOSECONDS);
+        if (lagNanos > lagWarnNanos) {
+            log.warn("채팅방 메시지 처리 지연: chatRoomId={}, lagMs={}",
+                    chatRoomId, TimeUnit.NANOSECONDS.toMillis(lagNanos));
+        }
+
+        try {
+            taskTimer.record(queued.task());
+        } catch (Exception e) {
+            log.error("채팅방 메시지 처리 실패: chatRoomId={}", chatRoomId, e);
+        }
+    }
+
+    private static TaskExecutor threadPoolExecutor(int threads) {
+        // 대기 수는 execute 에서 제한하므로 풀 대기열은 따로 제한하지 않는다 (방 하나당 작업 하나만 들어간다)
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("chat-room-");
+        // 이미 받은 메시지는 저장까지 마치고 내려간다
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    private static TaskExecutor virtualThreadExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("chat-room-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(10_000);
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (workers instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+        if (pending.get() > 0) {
+            log.warn("채팅방 메시지 처리 종료 시 남은 메시지: pending={}", pending.get());
+        }
+    }
+
+    private record QueuedTask(Runnable task, long enqueuedAt) {
+    }
+}
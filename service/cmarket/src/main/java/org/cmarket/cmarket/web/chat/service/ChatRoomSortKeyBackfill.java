@@ -0,0 +1,44 @@
+package org.cmarket.cmarket.web.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.chat.app.service.ChatService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 목록 정렬 키 채우기
+ *
+ * 채팅방 목록은 chat_room_users.last_activity_at 으로 정렬 · 커서 조회한다.
+ * 이 열이 생기기 전에 만들어진 행은 비어 있어서, 비어 있는 동안에는 목록 맨 뒤로 밀리고
+ * 커서 조회에서는 아예 빠진다. 서버가 뜰 때 한 번 채워 둔다 (채울 행이 없으면 바로 끝난다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSortKeyBackfill {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ChatService chatService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingSortKeys() {
+        long filled = 0;
+        try {
+            while (true) {
+                int updated = chatService.fillMissingRoomListSortKeys(BATCH_SIZE);
+                filled += updated;
+                if (updated < BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (filled > 0) {
+                log.info("채팅방 목록 정렬 키 채움: rows={}", filled);
+            }
+        } catch (Exception e) {
+            log.error("채팅방 목록 정렬 키 채우기 실패: filled={}, error={}", filled, e.getMessage(), e);
+        }
+    }
+}
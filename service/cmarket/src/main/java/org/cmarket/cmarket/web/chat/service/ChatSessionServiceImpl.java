@@ -1,86 +1,217 @@
 package org.cmarket.cmarket.web.chat.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.cmarket.cmarket.domain.chat.app.service.ChatSessionService;
-import org.springframework.beans.factory.annotation.Value;
+import org.cmarket.cmarket.web.common.cluster.ClusterMessageBus;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 채팅 세션 관리 서비스 구현체
- * 
- * Redis를 활용한 사용자 세션 정보 관리 기능을 구현합니다.
+ *
+ * 이 서버에 WebSocket 으로 붙어 있는 사용자의 세션 · 현재 채팅방은 메모리(localPresence)에 두고,
+ * Redis 는 다른 서버에 붙은 사용자를 위한 보조 저장소로 씁니다.
+ *
+ * 조회:
+ * - 이 서버에 붙은 사용자: 메모리에서 바로 답한다 (Redis 왕복 없음)
+ * - 그 밖의 사용자: Redis GET
+ *
+ * 갱신:
+ * - 현재 채팅방을 바꾸면 Redis 에 쓰고, ClusterMessageBus 로 다른 서버에도 알린다.
+ *   (REST 요청은 WebSocket 이 붙은 서버와 다른 서버로 갈 수 있기 때문)
+ * - 세션 · 현재 채팅방 키의 TTL 은 주기적으로 파이프라인 한 번에 모아 연장한다.
+ *   서버가 죽으면 연장이 멈춰 TTL 이 지나면 저절로 사라진다.
+ *
+ * 지표:
+ * - chat.presence.lookup{source=local|redis}: 현재 채팅방 · 온라인 조회 시간
+ * - chat.presence.redis.saved: 메모리에서 답해 아낀 Redis 호출 수
+ * - chat.presence.local.users: 이 서버에 붙어 있는 사용자 수
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatSessionServiceImpl implements ChatSessionService {
-    
-    private final RedisTemplate<String, String> stringRedisTemplate;
-    
-    @Value("${chat.redis.ttl-days:30}")
-    private int ttlDays;
-    
+
     private static final String SESSION_KEY_PREFIX = "chat:session:";
     private static final String CURRENT_ROOM_KEY_PREFIX = "chat:current:";
-    
+    private static final String CLUSTER_TOPIC = "chat:presence";
+
     // 세션 TTL은 5분 (짧게 유지하여 서버 재시작 시 자동 만료)
-    // WebSocket 연결이 유지되는 동안 주기적으로 갱신됨
-    private static final int SESSION_TTL_MINUTES = 5;
-    
+    // WebSocket 연결이 유지되는 동안 refreshSessionTtl 이 주기적으로 갱신
+    private static final Duration SESSION_TTL = Duration.ofMinutes(5);
+
+    // 저장된 값이 같을 때만 지운다 (GET 후 DEL 을 한 번에)
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('DEL', KEYS[1]) "
+                    + "end "
+                    + "return 0",
+            Long.class
+    );
+
+    // 저장된 값이 같을 때만 다른 값으로 바꾼다 (TTL 도 새로)
+    private static final RedisScript<Long> REPLACE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) "
+                    + "return 1 "
+                    + "end "
+                    + "return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ClusterMessageBus clusterMessageBus;
+
+    // userId → 이 서버에 붙은 세션과 현재 채팅방
+    private final Map<Long, LocalPresence> localPresence = new ConcurrentHashMap<>();
+
+    private final Timer localLookupTimer;
+    private final Timer redisLookupTimer;
+    private final Counter redisCallsSaved;
+
+    public ChatSessionServiceImpl(
+            RedisTemplate<String, String> stringRedisTemplate,
+            ClusterMessageBus clusterMessageBus,
+            MeterRegistry meterRegistry
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.clusterMessageBus = clusterMessageBus;
+        this.localLookupTimer = Timer.builder("chat.presence.lookup")
+                .description("현재 채팅방 · 온라인 조회 시간")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.redisLookupTimer = Timer.builder("chat.presence.lookup")
+                .description("현재 채팅방 · 온라인 조회 시간")
+                .tag("source", "redis")
+                .register(meterRegistry);
+        this.redisCallsSaved = Counter.builder("chat.presence.redis.saved")
+                .description("메모리에서 답해 아낀 Redis 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.presence.local.users", localPresence, Map::size)
+                .description("이 서버에 WebSocket 으로 붙어 있는 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        // 다른 서버에서 바꾼 현재 채팅방을 이 서버에 붙은 사용자에게 반영
+        clusterMessageBus.subscribe(CLUSTER_TOPIC, CurrentRoomChange.class, change -> {
+            LocalPresence presence = localPresence.get(change.userId());
+            if (presence != null) {
+                presence.currentChatRoomId = change.chatRoomId();
+            }
+        });
+    }
+
     @Override
     public void addUserSession(Long userId, String sessionId) {
+        LocalPresence presence = localPresence.compute(userId, (id, existing) -> {
+            LocalPresence value = existing != null ? existing : new LocalPresence();
+            value.sessionIds.add(sessionId);
+            return value;
+        });
+
         try {
-            String key = buildSessionKey(userId);
-            stringRedisTemplate.opsForValue().set(key, sessionId);
-            stringRedisTemplate.expire(key, SESSION_TTL_MINUTES, TimeUnit.MINUTES);
-            
+            stringRedisTemplate.opsForValue().set(buildSessionKey(userId), sessionId, SESSION_TTL);
+
+            // 연결 전에 REST 로 채팅방을 열었을 수 있으므로 처음 붙을 때 한 번 읽어 둔다
+            if (presence.sessionIds.size() == 1 && presence.currentChatRoomId == null) {
+                presence.currentChatRoomId = readCurrentChatRoom(userId);
+            }
+
             log.debug("사용자 세션 등록: userId={}, sessionId={}", userId, sessionId);
         } catch (Exception e) {
-            // Redis 연결 실패 시 예외를 다시 던져서 호출자가 처리할 수 있도록 함
+            // Redis 연결 실패 시 예외를 다시 던져서 호출자가 처리할 수 있도록 함 (메모리 등록은 유지)
             log.error("Redis 세션 등록 실패: userId={}, sessionId={}", userId, sessionId, e);
             throw new RuntimeException("Redis 세션 등록 실패: " + e.getMessage(), e);
         }
     }
-    
+
     /**
      * 세션 TTL 갱신 (Heartbeat)
-     * 
-     * WebSocket 연결이 유지되는 동안 주기적으로 호출하여 세션 만료를 방지합니다.
+     *
+     * 이 서버에 붙은 사용자의 세션 · 현재 채팅방 키 TTL 을 파이프라인 한 번으로 연장합니다.
+     * 키가 없으면 EXPIRE 가 아무 일도 하지 않으므로 hasKey 로 먼저 확인하지 않습니다.
      * 서버 재시작/크래시 시에는 갱신이 중단되어 자동 만료됩니다.
-     * 
-     * @param userId 사용자 ID
      */
-    public void refreshSessionTtl(Long userId) {
-        String sessionKey = buildSessionKey(userId);
-        String currentRoomKey = buildCurrentRoomKey(userId);
-        
-        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(sessionKey))) {
-            stringRedisTemplate.expire(sessionKey, SESSION_TTL_MINUTES, TimeUnit.MINUTES);
+    @Scheduled(fixedDelayString = "${chat.presence.ttl-refresh-interval-ms:60000}")
+    public void refreshSessionTtl() {
+        if (localPresence.isEmpty()) {
+            return;
         }
-        
-        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(currentRoomKey))) {
-            stringRedisTemplate.expire(currentRoomKey, SESSION_TTL_MINUTES, TimeUnit.MINUTES);
+
+        List<byte[]> keys = new ArrayList<>(localPresence.size() * 2);
+        for (Map.Entry<Long, LocalPresence> entry : localPresence.entrySet()) {
+            keys.add(buildSessionKey(entry.getKey()).getBytes(StandardCharsets.UTF_8));
+            if (entry.getValue().currentChatRoomId != null) {
+                keys.add(buildCurrentRoomKey(entry.getKey()).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        try {
+            long ttlSeconds = SESSION_TTL.getSeconds();
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (byte[] key : keys) {
+                    connection.keyCommands().expire(key, ttlSeconds);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("세션 TTL 갱신 실패: keys={}, error={}", keys.size(), e.getMessage());
         }
     }
-    
+
     @Override
     public void removeUserSession(Long userId, String sessionId) {
+        AtomicReference<String> remainingSessionId = new AtomicReference<>();
+        localPresence.computeIfPresent(userId, (id, presence) -> {
+            presence.sessionIds.remove(sessionId);
+            if (presence.sessionIds.isEmpty()) {
+                return null;
+            }
+            remainingSessionId.set(presence.sessionIds.iterator().next());
+            return presence;
+        });
+
         try {
-            String sessionKey = buildSessionKey(userId);
-            String currentSessionId = stringRedisTemplate.opsForValue().get(sessionKey);
-            
+            if (remainingSessionId.get() != null) {
+                // 이 서버에 같은 사용자의 다른 소켓(다른 탭 · 기기)이 남아 있으면 아직 접속 중이다.
+                // 세션 키가 닫힌 세션을 가리키고 있었다면 남은 세션으로 바꾸고, 현재 채팅방은 그대로 둔다.
+                stringRedisTemplate.execute(
+                        REPLACE_IF_EQUALS_SCRIPT, List.of(buildSessionKey(userId)),
+                        sessionId, remainingSessionId.get(), String.valueOf(SESSION_TTL.getSeconds()));
+
+                log.debug("사용자 세션 제거 (남은 세션 있음): userId={}, sessionId={}, remaining={}",
+                        userId, sessionId, remainingSessionId.get());
+                return;
+            }
+
             // 현재 저장된 세션 ID와 일치하는 경우에만 삭제
-            // (다른 기기에서 접속한 경우 해당 세션만 삭제되도록)
-            if (sessionId.equals(currentSessionId)) {
-                stringRedisTemplate.delete(sessionKey);
-                
+            // (다른 서버에서 접속한 경우 그 세션은 남도록)
+            Long deleted = stringRedisTemplate.execute(
+                    DELETE_IF_EQUALS_SCRIPT, List.of(buildSessionKey(userId)), sessionId);
+
+            if (deleted != null && deleted > 0) {
                 // 현재 채팅방 정보도 함께 삭제
                 clearUserCurrentChatRoom(userId);
-                
+
                 log.debug("사용자 세션 제거: userId={}, sessionId={}", userId, sessionId);
             }
         } catch (Exception e) {
@@ -89,62 +220,112 @@ public class ChatSessionServiceImpl implements ChatSessionService {
             throw new RuntimeException("Redis 세션 제거 실패: " + e.getMessage(), e);
         }
     }
-    
+
     @Override
     public boolean isUserOnline(Long userId) {
-        String key = buildSessionKey(userId);
-        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+        if (localPresence.containsKey(userId)) {
+            redisCallsSaved.increment();
+            return true;
+        }
+        return redisLookupTimer.record(() -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(buildSessionKey(userId))));
     }
-    
+
     @Override
     public Long getUserCurrentChatRoom(Long userId) {
-        String key = buildCurrentRoomKey(userId);
-        String value = stringRedisTemplate.opsForValue().get(key);
-        
-        if (value == null) {
-            return null;
-        }
-        
-        try {
-            return Long.parseLong(value);
-        } catch (NumberFormatException e) {
-            return null;
+        LocalPresence presence = localPresence.get(userId);
+        if (presence != null) {
+            redisCallsSaved.increment();
+            return localLookupTimer.record(() -> presence.currentChatRoomId);
         }
+        return redisLookupTimer.record(() -> readCurrentChatRoom(userId));
     }
-    
+
     @Override
     public void setUserCurrentChatRoom(Long userId, Long chatRoomId) {
         if (chatRoomId == null) {
             clearUserCurrentChatRoom(userId);
             return;
         }
-        
-        String key = buildCurrentRoomKey(userId);
-        stringRedisTemplate.opsForValue().set(key, chatRoomId.toString());
-        stringRedisTemplate.expire(key, SESSION_TTL_MINUTES, TimeUnit.MINUTES);
-        
+
+        LocalPresence presence = localPresence.get(userId);
+        if (presence != null) {
+            presence.currentChatRoomId = chatRoomId;
+        }
+        stringRedisTemplate.opsForValue().set(buildCurrentRoomKey(userId), chatRoomId.toString(), SESSION_TTL);
+        clusterMessageBus.publish(CLUSTER_TOPIC, new CurrentRoomChange(userId, chatRoomId));
+
         log.debug("현재 채팅방 설정: userId={}, chatRoomId={}", userId, chatRoomId);
     }
-    
+
     @Override
     public void clearUserCurrentChatRoom(Long userId) {
-        String key = buildCurrentRoomKey(userId);
-        stringRedisTemplate.delete(key);
-        
+        LocalPresence presence = localPresence.get(userId);
+        if (presence != null) {
+            presence.currentChatRoomId = null;
+        }
+        stringRedisTemplate.delete(buildCurrentRoomKey(userId));
+        clusterMessageBus.publish(CLUSTER_TOPIC, new CurrentRoomChange(userId, null));
+
         log.debug("현재 채팅방 초기화: userId={}", userId);
     }
-    
+
+    @Override
+    public void clearUserCurrentChatRoom(Long userId, Long chatRoomId) {
+        LocalPresence presence = localPresence.get(userId);
+        if (presence != null) {
+            // 이 서버에 붙은 사용자는 메모리 값이 기준이다
+            if (chatRoomId.equals(presence.currentChatRoomId)) {
+                clearUserCurrentChatRoom(userId);
+            }
+            return;
+        }
+
+        Long deleted = stringRedisTemplate.execute(
+                DELETE_IF_EQUALS_SCRIPT, List.of(buildCurrentRoomKey(userId)), chatRoomId.toString());
+        if (deleted != null && deleted > 0) {
+            clusterMessageBus.publish(CLUSTER_TOPIC, new CurrentRoomChange(userId, null));
+        }
+    }
+
+    private Long readCurrentChatRoom(Long userId) {
+        String value = stringRedisTemplate.opsForValue().get(buildCurrentRoomKey(userId));
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * 세션 키 생성
      */
     private String buildSessionKey(Long userId) {
         return SESSION_KEY_PREFIX + userId;
     }
-    
+
     /**
      * 현재 채팅방 키 생성
      */
     private String buildCurrentRoomKey(Long userId) {
         return CURRENT_ROOM_KEY_PREFIX + userId;
     }
+
+    /**
+     * 이 서버에 붙은 사용자의 접속 상태
+     */
+    private static final class LocalPresence {
+        private final Set<String> sessionIds = ConcurrentHashMap.newKeySet();
+        private volatile Long currentChatRoomId;
+    }
+
+    /**
+     * 서버 간에 넘기는 현재 채팅방 변경 (chatRoomId 가 null 이면 나감)
+     */
+    record CurrentRoomChange(Long userId, Long chatRoomId) {
+    }
 }
@@ -0,0 +1,115 @@
+package org.cmarket.cmarket.web.common.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 서버 간 메시지 버스 (Redis Pub/Sub)
+ *
+ * 서버가 여러 대일 때, 한 서버에서 생긴 실시간 메시지를 구독자가 붙어 있는 서버로 넘겨주는 통로입니다.
+ * STOMP 브로커 중계(ClusterBrokerRelay)와 SSE 알림이 같이 씁니다.
+ *
+ * - 채널: cluster:{topic}
+ * - 본문: {"origin": 보낸 서버 ID, "payload": 메시지 JSON}
+ * - 자기가 보낸 메시지는 받은 쪽에서 버린다 (보낸 서버는 이미 자기 구독자에게 직접 전달했다).
+ *
+ * 누가 어느 서버에 붙어 있는지는 따로 기록하지 않는다. 모든 서버가 받고,
+ * 각 서버가 자기 구독 목록(SimpUserRegistry, SSE 연결)에 있는 대상에게만 전달한다.
+ *
+ * cluster.bus.enabled=false(기본) 이면 아무것도 보내지도 구독하지도 않는다 (단일 서버).
+ */
+@Slf4j
+@Component
+public class ClusterMessageBus {
+
+    private static final String CHANNEL_PREFIX = "cluster:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ClusterMessageBus(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${cluster.bus.enabled:false}") boolean enabled
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 버스 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 다른 서버로 메시지 발행
+     *
+     * 실패해도 예외를 던지지 않는다. 이 서버의 구독자에게는 호출한 쪽이 이미 전달했으므로
+     * 다른 서버 전달만 빠진다.
+     *
+     * @param topic 토픽 이름
+     * @param message JSON 으로 직렬화할 메시지
+     */
+    public void publish(String topic, Object message) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            String body = objectMapper.writeValueAsString(
+                    new Envelope(nodeId, objectMapper.valueToTree(message)));
+            stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + topic, body);
+        } catch (Exception e) {
+            log.warn("클러스터 메시지 발행 실패: topic={}, error={}", topic, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버가 보낸 메시지 구독
+     *
+     * 애플리케이션 시작 시 (@PostConstruct 등) 한 번 등록한다.
+     * handler 는 Redis 리스너 스레드에서 불리므로 오래 붙잡지 않아야 한다.
+     *
+     * @param topic 토픽 이름
+     * @param type 메시지 타입
+     * @param handler 메시지 처리
+     */
+    public <T> void subscribe(String topic, Class<T> type, Consumer<T> handler) {
+        if (!enabled) {
+            return;
+        }
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                Envelope envelope = objectMapper.readValue(
+                        new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+                if (nodeId.equals(envelope.origin())) {
+                    return;
+                }
+                handler.accept(objectMapper.treeToValue(envelope.payload(), type));
+            } catch (Exception e) {
+                log.warn("클러스터 메시지 처리 실패: topic={}, error={}", topic, e.getMessage());
+            }
+        }, new ChannelTopic(CHANNEL_PREFIX + topic));
+        log.info("클러스터 메시지 구독: topic={}, nodeId={}", topic, nodeId);
+    }
+
+    private record Envelope(String origin, JsonNode payload) {
+    }
+}
@@ -21,8 +21,8 @@ import java.io.IOException;
  * 
  * 동작:
  * 1. Authorization 헤더에서 JWT 토큰 추출
- * 2. 토큰 유효성 검증 (JwtTokenProvider 사용)
- * 3. 블랙리스트 토큰 검증 (TokenBlacklistCache - Redis 사용)
+ * 2. 토큰 유효성 검증 + 인증 정보 생성 (JwtTokenProvider.authenticate - 검증된 토큰은 캐시에서 꺼냄)
+ * 3. 블랙리스트 토큰 검증 (TokenBlacklistCache - 로컬 캐시 + Redis 사용)
  * 4. 토큰이 유효하면 SecurityContextHolder에 인증 정보(Authentication) 저장
  * 5. 토큰이 없거나 유효하지 않으면 필터 통과 (인증 실패는 SecurityConfig에서 처리)
  */
@@ -52,19 +52,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Authorization 헤더에서 토큰 추출
         String token = resolveToken(request);
         
-        // 2. 토큰이 있고 유효한 경우에만 인증 처리
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            // 3. 블랙리스트 토큰 검증 (Redis 캐시 사용 → 매 요청 DB 조회 제거)
-            if (!tokenBlacklistCache.isBlacklisted(token)) {
-                // 4. 토큰에서 인증 정보 추출
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                
-                // 5. SecurityContextHolder에 인증 정보 저장
+        // 2. 토큰이 있고 유효한 경우에만 인증 처리 (검증과 Claims 추출을 한 번에)
+        if (StringUtils.hasText(token)) {
+            Authentication authentication = jwtTokenProvider.authenticate(token);
+            
+            // 3. 블랙리스트 토큰 검증 (로컬 캐시 → Redis 순, 매 요청 DB 조회 없음)
+            if (authentication != null && !tokenBlacklistCache.isBlacklisted(token)) {
+                // 4. SecurityContextHolder에 인증 정보 저장
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
         
-        // 6. 다음 필터로 요청 전달
+        // 5. 다음 필터로 요청 전달
         filterChain.doFilter(request, response);
     }
     
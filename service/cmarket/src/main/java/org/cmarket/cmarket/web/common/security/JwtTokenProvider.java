@@ -1,6 +1,11 @@
 package org.cmarket.cmarket.web.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
@@ -17,6 +22,7 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 유틸리티 클래스
@@ -26,22 +32,40 @@ import java.util.List;
  * - Refresh Token 생성: 긴 만료 시간 (기본 7일)
  * - 토큰 검증: 유효성 및 만료 여부 확인
  * - 인증 정보 추출: 토큰에서 사용자 정보를 추출하여 Authentication 객체 생성
+ * 
+ * 검증된 토큰 캐시:
+ * - 서명 검증(HMAC)과 JSON 파싱은 요청마다 같은 토큰에 대해 반복된다.
+ *   한 번 검증한 토큰의 Claims 를 토큰 해시(SHA-256) 키로 만료 시각까지 보관한다.
+ * - 키가 서명까지 포함한 토큰 전체의 해시이므로, 한 글자라도 다른 토큰은 캐시를 타지 않고 다시 검증된다.
+ * - 검증에 실패한 토큰은 캐시하지 않는다.
  */
 @Component
 public class JwtTokenProvider {
     
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
     
+    // 토큰 해시 → 검증된 Claims (토큰 만료 시각에 자동 제거)
+    private final Cache<String, Claims> verifiedClaimsCache;
+    
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity-in-seconds:3600}") long accessTokenValidityInSeconds,
-            @Value("${jwt.refresh-token-validity-in-seconds:604800}") long refreshTokenValidityInSeconds
+            @Value("${jwt.refresh-token-validity-in-seconds:604800}") long refreshTokenValidityInSeconds,
+            @Value("${jwt.verified-cache.max-size:50000}") long verifiedCacheMaxSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new ClaimsExpiry())
+                .build();
     }
     
     /**
@@ -86,6 +110,35 @@ public class JwtTokenProvider {
                 .compact();
     }
     
+    /**
+     * 토큰 검증 및 Claims 추출 (한 번만 파싱)
+     * 
+     * 캐시에 있으면 서명 검증과 파싱을 건너뛴다.
+     * 
+     * @param token JWT 토큰
+     * @return 검증된 Claims (유효하지 않거나 만료되었으면 null)
+     */
+    public Claims parseVerifiedClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        
+        String key = TokenHashUtils.sha256Hex(token);
+        Claims cached = verifiedClaimsCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            verifiedClaimsCache.put(key, claims);
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            // 서명 불일치, 만료, 지원하지 않는 형식, 잘못된 형식, 빈 토큰
+            return null;
+        }
+    }
+    
     /**
      * 토큰에서 Claims 추출
      * 
@@ -93,11 +146,12 @@ public class JwtTokenProvider {
      * @return Claims 객체
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseVerifiedClaims(token);
+        if (claims == null) {
+            // 캐시에 없는 잘못된 토큰은 원래 예외를 그대로 던진다.
+            return jwtParser.parseSignedClaims(token).getPayload();
+        }
+        return claims;
     }
     
     /**
@@ -127,28 +181,24 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 그렇지 않으면 false
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SignatureException e) {
-            // 서명이 유효하지 않음
-            return false;
-        } catch (ExpiredJwtException e) {
-            // 토큰이 만료됨
-            return false;
-        } catch (UnsupportedJwtException e) {
-            // 지원하지 않는 토큰 형식
-            return false;
-        } catch (MalformedJwtException e) {
-            // 잘못된 토큰 형식
-            return false;
-        } catch (IllegalArgumentException e) {
-            // 토큰이 비어있음
-            return false;
+        return parseVerifiedClaims(token) != null;
+    }
+    
+    /**
+     * 토큰 검증과 인증 정보 생성을 한 번에 처리
+     * 
+     * validateToken() 후 getAuthentication() 을 부르면 같은 토큰을 두 번 다루므로,
+     * 필터처럼 매 요청 지나가는 곳에서는 이 메서드를 쓴다.
+     * 
+     * @param token JWT 토큰
+     * @return Authentication 객체 (유효하지 않으면 null)
+     */
+    public Authentication authenticate(String token) {
+        Claims claims = parseVerifiedClaims(token);
+        if (claims == null) {
+            return null;
         }
+        return toAuthentication(claims);
     }
     
     /**
@@ -158,7 +208,10 @@ public class JwtTokenProvider {
      * @return Authentication 객체
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
+        return toAuthentication(getClaims(token));
+    }
+    
+    private Authentication toAuthentication(Claims claims) {
         String email = claims.getSubject();
         String role = claims.get("role", String.class);
         
@@ -227,11 +280,7 @@ public class JwtTokenProvider {
      */
     public Claims getClaimsFromExpiredToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             // 만료된 토큰이어도 claims는 추출 가능
             return e.getClaims();
@@ -257,5 +306,30 @@ public class JwtTokenProvider {
     public String getRoleFromRefreshToken(String token) {
         return getClaimsFromExpiredToken(token).get("role", String.class);
     }
+    
+    /**
+     * 캐시 항목을 토큰 만료 시각까지만 유지
+     */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+        
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0L;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
-
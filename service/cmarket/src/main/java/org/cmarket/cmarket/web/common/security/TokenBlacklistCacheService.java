@@ -1,17 +1,25 @@
 package org.cmarket.cmarket.web.common.security;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.cmarket.cmarket.domain.auth.app.service.TokenBlacklistCache;
 import org.cmarket.cmarket.domain.auth.repository.TokenBlacklistRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Redis 기반 토큰 블랙리스트 캐시 서비스
@@ -19,30 +27,70 @@ import java.time.LocalDateTime;
  * JwtAuthenticationFilter에서 매 요청마다 DB 조회를 하면 커넥션 풀 고갈이 발생할 수 있어,
  * Redis를 사용하여 블랙리스트 조회 시 DB 부하를 제거합니다.
  *
- * - 로그아웃 시: Redis에 토큰 등록 (TTL = 토큰 만료 시점)
- * - 인증 시: Redis에서만 조회 (DB 조회 없음)
+ * - 로그아웃 시: Redis에 토큰 등록 (TTL = 토큰 만료 시점) + 다른 서버에 Pub/Sub 으로 알림
+ * - 인증 시: 로컬 캐시 → Redis 순으로 조회 (DB 조회 없음)
  * - Redis 장애 시: DB로 폴백
+ *
+ * 로컬 캐시:
+ * - 블랙리스트에 없다는 결과는 짧게(auth.blacklist.local-cache.ttl-seconds) 보관한다.
+ *   같은 토큰으로 연달아 오는 요청마다 Redis 를 왕복하지 않기 위해서다.
+ * - 블랙리스트에 있다는 결과는 토큰 만료 시각까지 보관한다 (한 번 막힌 토큰은 풀리지 않는다).
+ * - 다른 서버에서 로그아웃하면 auth:blacklist:events 메시지로 바로 반영하므로,
+ *   로그아웃 직후에도 다른 서버가 옛 결과로 통과시키지 않는다.
+ *   Pub/Sub 이 끊겨 있던 동안의 로그아웃은 짧은 TTL이 지나면 Redis 에서 다시 읽는다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class TokenBlacklistCacheService implements TokenBlacklistCache {
+public class TokenBlacklistCacheService implements TokenBlacklistCache, MessageListener {
 
     private static final String KEY_PREFIX = "auth:blacklist:";
+    private static final String CHANNEL = "auth:blacklist:events";
+
+    // 로컬 캐시 값: 블랙리스트에 없으면 NOT_BLACKLISTED, 있으면 토큰 만료 시각(epoch millis)
+    private static final long NOT_BLACKLISTED = 0L;
 
     private final StringRedisTemplate stringRedisTemplate;
     private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<String, Long> localCache;
+
+    public TokenBlacklistCacheService(
+            StringRedisTemplate stringRedisTemplate,
+            TokenBlacklistRepository tokenBlacklistRepository,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${auth.blacklist.local-cache.ttl-seconds:5}") long localCacheTtlSeconds,
+            @Value("${auth.blacklist.local-cache.max-size:50000}") long localCacheMaxSize
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localCacheMaxSize)
+                .expireAfter(new DecisionExpiry(TimeUnit.SECONDS.toNanos(localCacheTtlSeconds)))
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
 
     @Override
     public void addToBlacklist(String token, LocalDateTime expiresAt) {
+        String hash = TokenHashUtils.sha256Hex(token);
+        long expiresAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // 이 서버는 Redis 성공 여부와 상관없이 바로 막는다.
+        localCache.put(hash, expiresAtMillis);
+
         try {
-            String key = buildKey(token);
+            String key = KEY_PREFIX + hash;
             Duration ttl = Duration.between(LocalDateTime.now(), expiresAt);
             if (ttl.isNegative() || ttl.isZero()) {
                 log.debug("토큰이 이미 만료됨, 블랙리스트 등록 생략: expiresAt={}", expiresAt);
                 return;
             }
             stringRedisTemplate.opsForValue().set(key, "1", ttl);
+            stringRedisTemplate.convertAndSend(CHANNEL, hash + ":" + expiresAtMillis);
             log.debug("토큰 블랙리스트 Redis 등록: key={}, ttlSeconds={}", key, ttl.getSeconds());
         } catch (Exception e) {
             log.warn("Redis 블랙리스트 등록 실패 (DB에는 저장됨): {}", e.getMessage());
@@ -51,12 +99,22 @@ public class TokenBlacklistCacheService implements TokenBlacklistCache {
 
     @Override
     public boolean isBlacklisted(String token) {
+        String hash = TokenHashUtils.sha256Hex(token);
+        Long cached = localCache.getIfPresent(hash);
+        if (cached != null) {
+            return cached != NOT_BLACKLISTED;
+        }
+
         try {
-            String key = buildKey(token);
-            Boolean hasKey = stringRedisTemplate.hasKey(key);
+            Boolean hasKey = stringRedisTemplate.hasKey(KEY_PREFIX + hash);
             if (Boolean.TRUE.equals(hasKey)) {
+                // 만료 시각을 모르므로 Redis 에 남은 TTL 만큼 막는다.
+                Long ttlMillis = stringRedisTemplate.getExpire(KEY_PREFIX + hash, TimeUnit.MILLISECONDS);
+                long remaining = ttlMillis != null && ttlMillis > 0 ? ttlMillis : TimeUnit.MINUTES.toMillis(1);
+                localCache.put(hash, System.currentTimeMillis() + remaining);
                 return true;
             }
+            localCache.put(hash, NOT_BLACKLISTED);
             return false;
         } catch (Exception e) {
             log.warn("Redis 블랙리스트 조회 실패, DB 폴백: {}", e.getMessage());
@@ -65,27 +123,52 @@ public class TokenBlacklistCacheService implements TokenBlacklistCache {
     }
 
     /**
-     * 토큰을 Redis 키로 변환 (해시 사용으로 키 길이 고정)
+     * 다른 서버의 로그아웃 알림 수신 ("토큰해시:만료시각")
      */
-    private String buildKey(String token) {
-        return KEY_PREFIX + sha256Hex(token);
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            String hash = body.substring(0, separator);
+            long expiresAtMillis = Long.parseLong(body.substring(separator + 1));
+            localCache.put(hash, expiresAtMillis);
+        } catch (NumberFormatException e) {
+            log.warn("블랙리스트 알림 형식 오류: {}", body);
+        }
     }
 
-    private static String sha256Hex(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
+    /**
+     * 블랙리스트 여부에 따라 로컬 캐시 보관 시간을 다르게 둔다
+     */
+    private static class DecisionExpiry implements Expiry<String, Long> {
+
+        private final long notBlacklistedTtlNanos;
+
+        DecisionExpiry(long notBlacklistedTtlNanos) {
+            this.notBlacklistedTtlNanos = notBlacklistedTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Long value, long currentTime) {
+            if (value == NOT_BLACKLISTED) {
+                return notBlacklistedTtlNanos;
             }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 not available", e);
+            long remainingMillis = value - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
@@ -0,0 +1,42 @@
+package org.cmarket.cmarket.web.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 해시 유틸리티 클래스
+ * 
+ * JWT 원문 대신 SHA-256 해시를 캐시 · Redis 키로 씁니다.
+ * 키 길이가 일정하고, 메모리나 Redis 에 토큰 원문이 남지 않습니다.
+ */
+public final class TokenHashUtils {
+    
+    private TokenHashUtils() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+    
+    /**
+     * 토큰의 SHA-256 해시 (16진수 문자열)
+     *
+     * @param token JWT 토큰
+     * @return 64자 16진수 문자열
+     */
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexString = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                String hex = Integer.toHexString(0xff & b);
+                if (hex.length() == 1) {
+                    hexString.append('0');
+                }
+                hexString.append(hex);
+            }
+            return hexString.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
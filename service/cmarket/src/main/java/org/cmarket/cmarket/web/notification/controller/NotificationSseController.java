@@ -1,15 +1,17 @@
 package org.cmarket.cmarket.web.notification.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.cmarket.cmarket.domain.auth.model.User;
-import org.cmarket.cmarket.domain.auth.repository.UserRepository;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.cmarket.cmarket.web.common.security.SecurityUtils;
 import org.cmarket.cmarket.web.notification.service.NotificationSseService;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -24,29 +26,40 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @RequiredArgsConstructor
 public class NotificationSseController {
     
+    private static final int MAX_DEVICE_ID_LENGTH = 64;
+    
     private final NotificationSseService notificationSseService;
-    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     
     /**
      * SSE 알림 스트림 연결
      * 
      * 클라이언트가 이 엔드포인트에 연결하면 실시간으로 알림을 받을 수 있습니다.
+     * 다시 연결할 때 Last-Event-ID 를 보내면 끊긴 사이의 알림을 먼저 받습니다
+     * (EventSource 는 자동으로 보낸다. fetch 로 붙는 경우 마지막 notification 이벤트의 id 를 직접 넣는다).
+     * 여러 기기에서 동시에 연결할 수 있고, 같은 deviceId 로 다시 연결하면 그 기기의 이전 연결은 닫힙니다.
      * 
+     * @param lastEventId 마지막으로 받은 알림 ID (처음 연결이면 생략)
+     * @param deviceId 기기(브라우저 탭, 앱 설치)마다 고정된 ID (생략 가능)
      * @return SseEmitter
      */
     @PreAuthorize("isAuthenticated()")
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public ResponseEntity<SseEmitter> stream() {
+    public ResponseEntity<SseEmitter> stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(value = "deviceId", required = false) String deviceId
+    ) {
         // 현재 로그인한 사용자 정보 추출
         String email = SecurityUtils.getCurrentUserEmail();
         
         // 사용자 조회
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        UserIdentity user = userIdentityResolver.findByEmail(email)
                 .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-        Long userId = user.getId();
+        Long userId = user.userId();
         
         // SSE 연결 생성
-        SseEmitter emitter = notificationSseService.connect(userId);
+        SseEmitter emitter = notificationSseService.connect(
+                userId, parseLastEventId(lastEventId), normalizeDeviceId(deviceId));
         
         // 응답 헤더 설정
         return ResponseEntity.ok()
@@ -54,4 +67,32 @@ public class NotificationSseController {
                 .header("Connection", "keep-alive")
                 .body(emitter);
     }
+    
+    /**
+     * Last-Event-ID 헤더 → 알림 ID
+     * 
+     * 숫자가 아니면 처음 연결로 본다 (다시 보낼 기준이 없다).
+     */
+    private static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 기기 ID 정리
+     * 
+     * 비어 있거나 너무 길면 없는 것으로 본다 (기기 구분 없이 연결만 늘어난다).
+     */
+    private static String normalizeDeviceId(String deviceId) {
+        if (deviceId == null || deviceId.isBlank() || deviceId.length() > MAX_DEVICE_ID_LENGTH) {
+            return null;
+        }
+        return deviceId.trim();
+    }
 }
@@ -10,6 +10,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 /**
  * 알림 캐시 서비스 구현체
  * 
@@ -74,4 +76,10 @@ public class NotificationCacheImpl implements NotificationCache {
         notificationListCache.invalidate(userId);
         notificationUnreadCountCache.invalidate(userId);
     }
+    
+    @Override
+    public void evictAll(Collection<Long> userIds) {
+        notificationListCache.invalidateAll(userIds);
+        notificationUnreadCountCache.invalidateAll(userIds);
+    }
 }
@@ -2,43 +2,69 @@ package org.cmarket.cmarket.web.notification.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.notification.app.event.FavoriteNotificationFanOutEvent;
 import org.cmarket.cmarket.domain.notification.app.event.NotificationCreatedEvent;
-import org.cmarket.cmarket.domain.notification.app.service.NotificationService;
+import org.cmarket.cmarket.domain.notification.app.service.NotificationOutboxService;
+import org.cmarket.cmarket.domain.notification.model.NotificationOutboxType;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 알림 생성 이벤트 리스너
- * 
- * NotificationCreatedEvent 이벤트를 구독하여 알림을 생성합니다.
+ *
+ * NotificationCreatedEvent 이벤트를 구독하여 알림 요청을 아웃박스(notification_outbox)에 저장합니다.
  * 서비스 로직과 알림 로직의 결합도를 낮추기 위해 Spring Event를 사용합니다.
+ *
+ * 발행한 쪽 스레드 · 트랜잭션에서 바로 저장합니다. 발행한 쪽이 롤백되면 요청도 함께 사라지고,
+ * 커밋되면 NotificationOutboxRelay 가 알림으로 만듭니다 (커밋 직후 릴레이를 깨운다).
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationEventListener {
-    
-    private final NotificationService notificationService;
-    
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationOutboxRelay notificationOutboxRelay;
+
     /**
      * 알림 생성 이벤트 처리
-     * 
-     * NotificationCreatedEvent 이벤트를 수신하여 알림을 생성합니다.
-     * - RDB에 알림 저장
-     * - 캐시 무효화 (해당 사용자의 알림 목록, 안 읽은 개수)
-     * - SSE를 통한 실시간 전송
-     * 
+     *
+     * NotificationCreatedEvent 이벤트를 수신하여 알림 요청을 저장합니다.
+     * 실제 알림 생성(RDB 저장, 캐시 무효화, SSE 전송)은 릴레이가 합니다.
+     *
      * @param event 알림 생성 이벤트
      */
-    @Async
     @EventListener
     public void handleNotificationCreated(NotificationCreatedEvent event) {
-        try {
-            // 이벤트에서 NotificationCreateCommand 추출
-            notificationService.createNotification(event.getCommand());
-        } catch (Exception e) {
-            log.error("알림 생성 실패: userId={}, error={}", event.getUserId(), e.getMessage(), e);
+        notificationOutboxService.enqueue(event.getCommand());
+        runAfterCommit(() -> notificationOutboxRelay.wakeUp(NotificationOutboxType.NOTIFICATION));
+    }
+
+    /**
+     * 찜한 사용자 전원에게 알림 보내기 이벤트 처리
+     *
+     * 요청 한 행만 저장하고, 릴레이가 찜한 사용자를 페이지로 나눠 읽으며 알림을 만듭니다.
+     *
+     * @param event 찜한 사용자 알림 이벤트
+     */
+    @EventListener
+    public void handleFavoriteNotificationFanOut(FavoriteNotificationFanOutEvent event) {
+        notificationOutboxService.enqueueFavoriteFanOut(event.getProductId(), event.getTemplate());
+        runAfterCommit(() -> notificationOutboxRelay.wakeUp(NotificationOutboxType.FAVORITE_FAN_OUT));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
         }
     }
 }
@@ -0,0 +1,304 @@
+package org.cmarket.cmarket.web.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationOutboxRelayResult;
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationOutboxStats;
+import org.cmarket.cmarket.domain.notification.app.service.NotificationOutboxService;
+import org.cmarket.cmarket.domain.notification.model.NotificationOutboxType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 아웃박스 릴레이
+ *
+ * notification_outbox 에 쌓인 알림 요청을 읽어 알림으로 만든다 (NotificationOutboxService).
+ * 요청은 요청한 쪽 트랜잭션과 함께 커밋되므로, 롤백된 변경의 알림은 나가지 않고 재시작해도 커밋된 요청은 남는다.
+ *
+ * - poll-interval 마다, 그리고 요청이 커밋된 직후(wakeUp) 돈다.
+ * - 알림 행은 batch-size 개씩 한 트랜잭션으로 보낸다. 사용자마다 ID 순서를 지킨다.
+ *   묶음이 실패하면 한 건씩 다시 보내서 실패한 행만 재시도로 돌린다.
+ * - 찜한 사용자 알림은 따로 도는 스레드에서 fan-out.page-size 명씩 보낸다 (큰 상품이 채팅 알림을 막지 않게).
+ *   중간에 멈추면 진행 위치부터 이어 보낸다.
+ * - 실패한 행은 backoff 부터 두 배씩 늘려 (최대 max-backoff) 다시 보낸다. 같은 사용자의 뒤 행은 그동안 기다린다.
+ *   max-attempts 번 실패하면 포기하고 행에 failedAt 을 남긴다 (지우지 않으므로 원인을 보고 손으로 되살릴 수 있다).
+ * - 서버가 여러 대면 행을 SKIP LOCKED 로 잠그므로 같은 행을 두 서버가 같이 보내지 않는다.
+ *
+ * 지표:
+ * - notification.outbox.relayed{type}: 다 보내고 지운 행 수
+ * - notification.outbox.notifications{type}: 만든 알림 수
+ * - notification.outbox.lag{type}: 행이 만들어진 뒤 다 보낼 때까지 걸린 시간
+ * - notification.outbox.deferred: 같은 사용자의 앞선 행 때문에 미룬 행 수
+ * - notification.outbox.retries{type}: 실패해서 다시 보내기로 한 수
+ * - notification.outbox.dead{type}: 재시도를 포기한 행 수
+ * - notification.outbox.batch: 알림 행 묶음 하나 처리 시간
+ * - notification.outbox.pending / dead-letters / oldest-age-seconds: 남은 행 수, 포기한 행 수, 가장 오래된 남은 행 나이
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    // 한 번 돌 때 최대 묶음 수 (남은 것은 다음 차례에)
+    private static final int MAX_BATCHES_PER_POLL = 50;
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final int batchSize;
+    private final int fanOutPageSize;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    private final ThreadPoolTaskScheduler notificationScheduler;
+    private final ThreadPoolTaskScheduler fanOutScheduler;
+    private final AtomicBoolean notificationWakePending = new AtomicBoolean(false);
+    private final AtomicBoolean fanOutWakePending = new AtomicBoolean(false);
+    private volatile boolean stopping = false;
+
+    private final Map<NotificationOutboxType, Counter> relayedCounters = new EnumMap<>(NotificationOutboxType.class);
+    private final Map<NotificationOutboxType, Counter> notificationCounters = new EnumMap<>(NotificationOutboxType.class);
+    private final Map<NotificationOutboxType, Counter> retryCounters = new EnumMap<>(NotificationOutboxType.class);
+    private final Map<NotificationOutboxType, Counter> deadCounters = new EnumMap<>(NotificationOutboxType.class);
+    private final Map<NotificationOutboxType, Timer> lagTimers = new EnumMap<>(NotificationOutboxType.class);
+    private final Counter deferredCounter;
+    private final Timer batchTimer;
+
+    private final AtomicLong pendingRows = new AtomicLong();
+    private final AtomicLong deadRows = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+    public NotificationOutboxRelay(
+            NotificationOutboxService notificationOutboxService,
+            MeterRegistry meterRegistry,
+            @Value("${notification.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${notification.outbox.batch-size:200}") int batchSize,
+            @Value("${notification.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${notification.outbox.backoff-ms:1000}") long backoffMillis,
+            @Value("${notification.outbox.max-backoff-ms:600000}") long maxBackoffMillis,
+            @Value("${notification.outbox.stats-interval-ms:30000}") long statsIntervalMillis,
+            @Value("${notification.fan-out.page-size:1000}") int fanOutPageSize
+    ) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.batchSize = batchSize;
+        this.fanOutPageSize = fanOutPageSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = Duration.ofMillis(backoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+
+        for (NotificationOutboxType type : NotificationOutboxType.values()) {
+            String tag = type.name().toLowerCase().replace('_', '-');
+            relayedCounters.put(type, Counter.builder("notification.outbox.relayed")
+                    .description("다 보내고 지운 알림 아웃박스 행 수")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+            notificationCounters.put(type, Counter.builder("notification.outbox.notifications")
+                    .description("알림 아웃박스에서 만든 알림 수")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+            retryCounters.put(type, Counter.builder("notification.outbox.retries")
+                    .description("실패해서 다시 보내기로 한 알림 아웃박스 행 수")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+            deadCounters.put(type, Counter.builder("notification.outbox.dead")
+                    .description("재시도를 포기한 알림 아웃박스 행 수")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+            lagTimers.put(type, Timer.builder("notification.outbox.lag")
+                    .description("알림 아웃박스 행이 만들어진 뒤 다 보낼 때까지")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+        }
+        this.deferredCounter = Counter.builder("notification.outbox.deferred")
+                .description("같은 사용자의 앞선 행 때문에 미룬 알림 아웃박스 행 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("notification.outbox.batch")
+                .description("알림 아웃박스 묶음 하나 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.pending", pendingRows, AtomicLong::get)
+                .description("아직 안 보낸 알림 아웃박스 행 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.dead-letters", deadRows, AtomicLong::get)
+                .description("재시도를 포기하고 남아 있는 알림 아웃박스 행 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.oldest-age-seconds", oldestAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 안 보낸 알림 아웃박스 행의 나이 (초)")
+                .register(meterRegistry);
+
+        // 하트비트 · 다른 @Scheduled 작업과 스레드를 나눠 쓰지 않는다
+        Instant firstRun = Instant.now().plusMillis(pollIntervalMillis);
+        this.notificationScheduler = new ThreadPoolTaskScheduler();
+        this.notificationScheduler.setPoolSize(1);
+        this.notificationScheduler.setThreadNamePrefix("notification-outbox-");
+        this.notificationScheduler.initialize();
+        this.notificationScheduler.scheduleWithFixedDelay(this::relayNotifications, firstRun, Duration.ofMillis(pollIntervalMillis));
+        this.notificationScheduler.scheduleWithFixedDelay(this::refreshStats, firstRun, Duration.ofMillis(statsIntervalMillis));
+
+        // 찜한 사용자가 많은 상품이 채팅 · 댓글 알림을 막지 않도록 따로 돈다
+        this.fanOutScheduler = new ThreadPoolTaskScheduler();
+        this.fanOutScheduler.setPoolSize(1);
+        this.fanOutScheduler.setThreadNamePrefix("notification-outbox-fan-out-");
+        this.fanOutScheduler.initialize();
+        this.fanOutScheduler.scheduleWithFixedDelay(this::relayFavoriteFanOuts, firstRun, Duration.ofMillis(pollIntervalMillis));
+    }
+
+    /**
+     * 다음 poll 을 기다리지 않고 바로 돌기
+     *
+     * 요청이 커밋된 직후 부른다. 이미 깨워 둔 상태면 더 쌓지 않는다.
+     *
+     * @param outboxType 커밋된 요청 종류
+     */
+    public void wakeUp(NotificationOutboxType outboxType) {
+        if (stopping) {
+            return;
+        }
+        if (outboxType == NotificationOutboxType.FAVORITE_FAN_OUT) {
+            if (fanOutWakePending.compareAndSet(false, true)) {
+                fanOutScheduler.execute(() -> {
+                    fanOutWakePending.set(false);
+                    relayFavoriteFanOuts();
+                });
+            }
+        } else if (notificationWakePending.compareAndSet(false, true)) {
+            notificationScheduler.execute(() -> {
+                notificationWakePending.set(false);
+                relayNotifications();
+            });
+        }
+    }
+
+    void relayNotifications() {
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_POLL && !stopping; batch++) {
+                List<Long> ids = notificationOutboxService.findRelayableIds(NotificationOutboxType.NOTIFICATION, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                int relayed = batchTimer.record(() -> relayBatch(ids));
+                if (ids.size() < batchSize || relayed == 0) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("알림 아웃박스 릴레이 실패, 다음 차례에 다시: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 다 보낸 행 수
+     */
+    private int relayBatch(List<Long> ids) {
+        try {
+            return record(NotificationOutboxType.NOTIFICATION, notificationOutboxService.relayNotifications(ids));
+        } catch (Exception e) {
+            log.warn("알림 아웃박스 묶음 실패, 한 건씩 다시 보냄: size={}, error={}", ids.size(), e.getMessage());
+        }
+
+        int relayed = 0;
+        for (Long id : ids) {
+            if (stopping) {
+                break;
+            }
+            try {
+                relayed += record(NotificationOutboxType.NOTIFICATION,
+                        notificationOutboxService.relayNotifications(List.of(id)));
+            } catch (Exception e) {
+                recordFailure(NotificationOutboxType.NOTIFICATION, id, e);
+            }
+        }
+        return relayed;
+    }
+
+    void relayFavoriteFanOuts() {
+        try {
+            List<Long> ids = notificationOutboxService.findRelayableIds(NotificationOutboxType.FAVORITE_FAN_OUT, batchSize);
+            for (Long id : ids) {
+                if (stopping) {
+                    break;
+                }
+                relayFavoriteFanOut(id);
+            }
+        } catch (Exception e) {
+            log.error("찜한 사용자 알림 릴레이 실패, 다음 차례에 다시: error={}", e.getMessage(), e);
+        }
+    }
+
+    private void relayFavoriteFanOut(Long id) {
+        try {
+            while (!stopping) {
+                NotificationOutboxRelayResult result = notificationOutboxService.relayFavoriteFanOutPage(id, fanOutPageSize);
+                record(NotificationOutboxType.FAVORITE_FAN_OUT, result);
+                if (!result.hasMore()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            recordFailure(NotificationOutboxType.FAVORITE_FAN_OUT, id, e);
+        }
+    }
+
+    private int record(NotificationOutboxType type, NotificationOutboxRelayResult result) {
+        notificationCounters.get(type).increment(result.notifications());
+        if (type == NotificationOutboxType.NOTIFICATION) {
+            deferredCounter.increment(result.deferred());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (LocalDateTime createdAt : result.completedCreatedAts()) {
+            lagTimers.get(type).record(Duration.between(createdAt, now));
+        }
+        relayedCounters.get(type).increment(result.completedCreatedAts().size());
+        return result.completedCreatedAts().size();
+    }
+
+    private void recordFailure(NotificationOutboxType type, Long id, Exception cause) {
+        try {
+            boolean dead = notificationOutboxService.recordFailure(id, cause.getMessage(), maxAttempts, backoff, maxBackoff);
+            if (dead) {
+                deadCounters.get(type).increment();
+                log.error("알림 아웃박스 재시도 포기: type={}, id={}, error={}", type, id, cause.getMessage(), cause);
+            } else {
+                retryCounters.get(type).increment();
+                log.warn("알림 아웃박스 실패, 나중에 다시: type={}, id={}, error={}", type, id, cause.getMessage());
+            }
+        } catch (Exception e) {
+            // 실패 기록도 못 하면 행이 그대로 남아 다음 차례에 다시 보낸다
+            log.error("알림 아웃박스 실패 기록 실패: type={}, id={}, error={}", type, id, e.getMessage(), e);
+        }
+    }
+
+    void refreshStats() {
+        try {
+            NotificationOutboxStats stats = notificationOutboxService.getStats();
+            pendingRows.set(stats.pending());
+            deadRows.set(stats.failed());
+            oldestAgeSeconds.set(stats.oldestPendingCreatedAt() == null
+                    ? 0
+                    : Math.max(0, Duration.between(stats.oldestPendingCreatedAt(), LocalDateTime.now()).toSeconds()));
+        } catch (Exception e) {
+            log.warn("알림 아웃박스 현황 조회 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 지금 묶음 · 페이지까지만 끝내고 멈춘다 (남은 행은 다음 기동 때 이어서 보낸다)
+     */
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        notificationScheduler.shutdown();
+        fanOutScheduler.shutdown();
+    }
+}
@@ -17,10 +17,15 @@ public interface NotificationSseService extends NotificationSender {
     /**
      * SSE 연결 생성 및 관리
      * 
+     * 재연결이면 lastEventId 이후에 놓친 알림을 먼저 보냅니다.
+     * 한 사용자가 여러 기기에서 연결할 수 있습니다. 같은 deviceId 의 이전 연결은 닫습니다.
+     * 
      * @param userId 사용자 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 알림 ID (Last-Event-ID 헤더, 처음 연결이면 null)
+     * @param deviceId 클라이언트 기기 ID (없으면 null)
      * @return SseEmitter
      */
-    SseEmitter connect(Long userId);
+    SseEmitter connect(Long userId, Long lastEventId, String deviceId);
     
     /**
      * 특정 사용자에게 알림 전송
@@ -31,7 +36,7 @@ public interface NotificationSseService extends NotificationSender {
     void sendNotification(Long userId, NotificationDto notificationDto);
     
     /**
-     * SSE 연결 해제
+     * SSE 연결 해제 (사용자의 모든 연결)
      * 
      * @param userId 사용자 ID
      */
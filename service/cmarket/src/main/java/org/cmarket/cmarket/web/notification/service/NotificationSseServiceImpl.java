@@ -1,151 +1,580 @@
 package org.cmarket.cmarket.web.notification.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.cmarket.cmarket.domain.notification.app.dto.NotificationDto;
+import org.cmarket.cmarket.domain.notification.app.service.NotificationService;
+import org.cmarket.cmarket.web.common.cluster.ClusterMessageBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SSE 연결 관리 서비스 구현체
- * 
+ *
  * NotificationSender 인터페이스의 SSE 구현체입니다.
- * 
+ *
  * 주요 기능:
  * - SSE 연결 생성 및 관리
  * - 실시간 알림 전송
- * - Heartbeat를 통한 연결 유지 (15초마다 ping 전송)
+ * - Heartbeat를 통한 연결 유지 (15초 동안 아무것도 안 나간 연결에 ping 전송, SseHeartbeatWheel)
+ * - 재연결 시 놓친 알림 다시 보내기 (Last-Event-ID)
+ *
+ * 여러 기기 연결:
+ * - 한 사용자가 노트북 웹과 휴대폰 앱을 함께 열어 두면 연결이 여러 개다. 알림은 모든 연결에 보낸다.
+ * - 연결마다 번호를 붙여 관리한다. 끊긴 연결은 그 연결만 지운다 (같은 사용자의 다른 연결은 그대로).
+ * - 클라이언트가 deviceId 를 주면 같은 기기의 이전 연결은 닫는다 (네트워크가 바뀌어 다시 붙은 경우 등).
+ * - 사용자당 max-connections-per-user 개까지. 넘으면 가장 오래된 연결에 close 이벤트를 보내고 닫는다.
+ *   close 를 받은 클라이언트는 스스로 다시 연결하지 않는다 (서로 밀어내며 계속 재연결하지 않도록).
+ *
+ * 서버가 여러 대면 사용자의 SSE 연결이 알림을 만든 서버와 다른 서버에 있을 수 있다.
+ * cluster.bus.enabled=true 면 알림을 ClusterMessageBus 로 다른 서버에도 보내고,
+ * 연결을 가진 서버가 전달한다. 알림 JSON 은 한 번만 만들어 그대로 넘긴다.
+ * 한꺼번에 만든 알림(찜한 사용자 전원 등)은 묶음 하나로 넘긴다.
+ *
+ * 놓친 알림 다시 보내기:
+ * - notification 이벤트의 id 는 알림 ID 다. 만들어진 순서대로 커지고 어느 서버에서나 같다.
+ * - 서버마다 사용자별로 최근 알림 buffer-size 개를 들고 있는다 (다른 서버에서 넘어온 것도).
+ *   버퍼는 이 서버에 연결한 적이 있는 사용자에게만 만든다. 한 번도 연결하지 않은 사용자 수천 명에게
+ *   알림이 한꺼번에 가도 연결 중인 사용자의 버퍼가 밀려나지 않는다 (그런 사용자는 DB 에서 다시 보낸다).
+ * - 재연결 요청의 Last-Event-ID 가 버퍼에 있으면 그 뒤에 들어온 것을 보낸다.
+ *   없으면(재시작, 오래 끊김) DB 에서 그 ID 이후 알림을 읽어 보낸다.
+ *   db-limit 개보다 많이 놓쳤으면 resync 이벤트만 보낸다 (클라이언트가 목록을 다시 읽는다).
+ * - 다시 보내기와 새 알림은 사용자 버퍼 단위로 잠가 연결의 보낼 줄에 세운다. 그 사이에 온 알림이 빠지거나 순서가 바뀌지 않는다.
+ * - 실제 쓰기는 잠금을 놓은 뒤 전송 풀(SseHeartbeatWheel)에서 연결마다 줄 순서대로 한다.
+ *   알림을 만든 스레드(커밋 뒤 아웃박스 릴레이 등)는 느린 클라이언트의 쓰기를 기다리지 않는다.
+ *
+ * 지표:
+ * - notification.sse.connections: 이 서버의 SSE 연결 수
+ * - notification.sse.users: 이 서버에 연결된 사용자 수
+ * - notification.sse.user-connections: 연결할 때 그 사용자의 연결 수 (분포), .max 는 지금 가장 많은 사용자의 연결 수
+ * - notification.sse.reconnects: Last-Event-ID 를 붙여 다시 연결한 횟수
+ * - notification.sse.evicted{reason=device|limit}: 같은 기기 재연결 · 개수 제한으로 닫은 연결 수
+ * - notification.sse.replay{source=buffer|db}: 다시 보낸 알림 수
+ * - notification.sse.resync: 너무 많이 놓쳐 resync 를 보낸 횟수
  */
 @Slf4j
 @Service
 public class NotificationSseServiceImpl implements NotificationSseService {
-    
-    private final ConcurrentHashMap<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-    
-    // Heartbeat 간격: 15초
-    private static final long HEARTBEAT_INTERVAL_MS = 15000L;
-    
+
+    private static final String CLUSTER_TOPIC = "sse:notification";
+    private static final String CLUSTER_BATCH_TOPIC = "sse:notification-batch";
+
+    // 연결이 끊기면 EventSource 가 이만큼 기다렸다가 Last-Event-ID 를 붙여 다시 연결한다
+    private static final long RECONNECT_DELAY_MS = 3000L;
+
+    // 사용자 ID → 연결 목록 (연결한 순서, 바꿀 때는 compute 로 통째로 갈아 끼운다)
+    private final ConcurrentHashMap<Long, List<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong connectionSequence = new AtomicLong();
+    private final ClusterMessageBus clusterMessageBus;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final int maxConnectionsPerUser;
+    private final int bufferSize;
+    private final int replayLimit;
+
+    // 사용자 ID → 최근 알림
+    private final Cache<Long, EventBuffer> buffers;
+
+    private final SseHeartbeatWheel heartbeatWheel;
+
+    private final Counter bufferReplayCounter;
+    private final Counter dbReplayCounter;
+    private final Counter resyncCounter;
+    private final Counter reconnectCounter;
+    private final Counter deviceEvictedCounter;
+    private final Counter limitEvictedCounter;
+    private final DistributionSummary userConnectionsSummary;
+
+    public NotificationSseServiceImpl(
+            ClusterMessageBus clusterMessageBus,
+            // NotificationServiceImpl 이 NotificationSender(이 클래스)를 쓰므로 늦게 주입한다
+            @Lazy NotificationService notificationService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${notification.sse.timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${notification.sse.replay.buffer-size:50}") int bufferSize,
+            @Value("${notification.sse.replay.max-users:100000}") long maxUsers,
+            @Value("${notification.sse.replay.retention-minutes:10}") long retentionMinutes,
+            @Value("${notification.sse.replay.db-limit:100}") int replayLimit,
+            @Value("${notification.sse.heartbeat.interval-ms:15000}") long heartbeatIntervalMillis,
+            @Value("${notification.sse.heartbeat.slots:15}") int heartbeatSlots,
+            @Value("${notification.sse.heartbeat.send-timeout-ms:10000}") long heartbeatSendTimeoutMillis,
+            @Value("${notification.sse.heartbeat.threads:4}") int heartbeatThreads,
+            @Value("${notification.sse.heartbeat.queue-capacity:10000}") int heartbeatQueueCapacity
+    ) {
+        this.clusterMessageBus = clusterMessageBus;
+        this.notificationService = notificationService;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+        this.bufferSize = bufferSize;
+        this.replayLimit = replayLimit;
+        this.buffers = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(retentionMinutes))
+                .build();
+        this.heartbeatWheel = new SseHeartbeatWheel(
+                meterRegistry,
+                heartbeatIntervalMillis,
+                heartbeatSlots,
+                heartbeatSendTimeoutMillis,
+                heartbeatThreads,
+                heartbeatQueueCapacity,
+                connection -> unregister(connection.userId(), connection)
+        );
+
+        Gauge.builder("notification.sse.connections", connections,
+                        map -> map.values().stream().mapToInt(List::size).sum())
+                .description("이 서버의 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.users", connections, Map::size)
+                .description("이 서버에 SSE 로 연결된 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.user-connections.max", connections,
+                        map -> map.values().stream().mapToInt(List::size).max().orElse(0))
+                .description("연결이 가장 많은 사용자의 SSE 연결 수")
+                .register(meterRegistry);
+        this.userConnectionsSummary = DistributionSummary.builder("notification.sse.user-connections")
+                .description("연결할 때 그 사용자의 SSE 연결 수")
+                .register(meterRegistry);
+        this.reconnectCounter = Counter.builder("notification.sse.reconnects")
+                .description("Last-Event-ID 를 붙여 다시 연결한 횟수")
+                .register(meterRegistry);
+        this.deviceEvictedCounter = Counter.builder("notification.sse.evicted")
+                .description("새 연결 때문에 닫은 SSE 연결 수")
+                .tag("reason", "device")
+                .register(meterRegistry);
+        this.limitEvictedCounter = Counter.builder("notification.sse.evicted")
+                .description("새 연결 때문에 닫은 SSE 연결 수")
+                .tag("reason", "limit")
+                .register(meterRegistry);
+        this.bufferReplayCounter = Counter.builder("notification.sse.replay")
+                .description("재연결 시 다시 보낸 알림 수")
+                .tag("source", "buffer")
+                .register(meterRegistry);
+        this.dbReplayCounter = Counter.builder("notification.sse.replay")
+                .description("재연결 시 다시 보낸 알림 수")
+                .tag("source", "db")
+                .register(meterRegistry);
+        this.resyncCounter = Counter.builder("notification.sse.resync")
+                .description("놓친 알림이 너무 많아 목록을 다시 읽게 한 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterMessageBus.subscribe(CLUSTER_TOPIC, RelayedNotification.class,
+                relayed -> sendLocally(relayed.userId(), new BufferedEvent(relayed.notificationId(), relayed.data())));
+        clusterMessageBus.subscribe(CLUSTER_BATCH_TOPIC, RelayedNotificationBatch.class,
+                batch -> batch.notifications().forEach(relayed ->
+                        sendLocally(relayed.userId(), new BufferedEvent(relayed.notificationId(), relayed.data()))));
+    }
+
     @Override
-    public SseEmitter connect(Long userId) {
-        // 기존 연결이 있으면 제거
-        SseEmitter existingEmitter = emitters.remove(userId);
-        if (existingEmitter != null) {
-            try {
-                existingEmitter.complete();
-            } catch (Exception e) {
-                log.warn("기존 SSE 연결 정리 실패: userId={}", userId, e);
-            }
-        }
-        
-        // 새로운 SseEmitter 생성 (timeout: 30초)
-        // 단일 서버 환경에서 Nginx 프록시 타임아웃과 겹치지 않도록 30초로 설정
-        SseEmitter emitter = new SseEmitter(30000L);
-        emitters.put(userId, emitter);
-        
-        // 연결 해제 시 정리 작업
+    public SseEmitter connect(Long userId, Long lastEventId, String deviceId) {
+        // 새로운 SseEmitter 생성 (기본 30분)
+        // 15초마다 ping 이 나가므로 프록시의 읽기 타임아웃에 걸리지 않는다.
+        // 타임아웃이 짧으면 그만큼 자주 끊겼다 다시 붙는다.
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        SseConnection connection = new SseConnection(connectionSequence.incrementAndGet(), userId, deviceId, emitter);
+
+        // 연결 해제 시 정리 작업 (이 연결만 지운다)
         emitter.onCompletion(() -> {
-            emitters.remove(userId);
-            log.debug("SSE 연결 완료: userId={}", userId);
+            unregister(userId, connection);
+            log.debug("SSE 연결 완료: userId={}, connectionId={}", userId, connection.id());
         });
         emitter.onTimeout(() -> {
-            emitters.remove(userId);
-            log.debug("SSE 연결 타임아웃: userId={}", userId);
+            unregister(userId, connection);
+            log.debug("SSE 연결 타임아웃: userId={}, connectionId={}", userId, connection.id());
         });
         emitter.onError((ex) -> {
-            emitters.remove(userId);
-            log.error("SSE 연결 오류: userId={}", userId, ex);
+            unregister(userId, connection);
+            log.error("SSE 연결 오류: userId={}, connectionId={}", userId, connection.id(), ex);
         });
-        
+
+        if (lastEventId != null) {
+            reconnectCounter.increment();
+        }
+
         // 연결 직후 "Connect Success" 더미 데이터 전송 (503 에러 방지)
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connect")
-                    .data("Connect Success"));
-        } catch (Exception e) {
-            log.error("SSE 연결 초기 데이터 전송 실패: userId={}", userId, e);
-            emitters.remove(userId);
-            emitter.completeWithError(e);
+        // 놓친 알림을 줄에 세우고 나서 연결을 등록한다. 그 사이에 온 알림은 버퍼 잠금을 기다렸다가 뒤에 선다.
+        List<SseConnection> evicted = List.of();
+        boolean registered = false;
+        EventBuffer buffer = buffers.get(userId, id -> new EventBuffer(bufferSize));
+        synchronized (buffer) {
+            try {
+                connection.enqueue(SseEmitter.event()
+                        .name("connect")
+                        .reconnectTime(RECONNECT_DELAY_MS)
+                        .data("Connect Success"));
+                if (lastEventId != null) {
+                    replay(userId, connection, buffer, lastEventId);
+                }
+                evicted = register(userId, connection);
+                registered = true;
+            } catch (Exception e) {
+                log.error("SSE 연결 초기 데이터 전송 실패: userId={}, connectionId={}", userId, connection.id(), e);
+                emitter.completeWithError(e);
+            }
+        }
+
+        // 첫 enqueue 라 이 연결의 줄은 여기서 비운다
+        if (registered) {
+            heartbeatWheel.execute(() -> drain(userId, connection));
+        }
+        for (SseConnection old : evicted) {
+            close(userId, old, old.isSameDevice(connection));
         }
-        
         return emitter;
     }
-    
+
     @Override
     public void sendNotification(Long userId, NotificationDto notificationDto) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter == null) {
-            log.debug("SSE 연결이 없어 알림 전송 불가: userId={}", userId);
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(notificationDto);
+        } catch (JsonProcessingException e) {
+            log.error("알림 직렬화 실패: userId={}, error={}", userId, e.getMessage(), e);
             return;
         }
-        
+
+        Long notificationId = notificationDto.getNotificationId();
+        sendLocally(userId, new BufferedEvent(notificationId, data));
+        clusterMessageBus.publish(CLUSTER_TOPIC, new RelayedNotification(userId, notificationId, data));
+    }
+
+    @Override
+    public void sendNotifications(Map<Long, List<NotificationDto>> notificationsByUserId) {
+        List<RelayedNotification> relayed = new ArrayList<>();
+        notificationsByUserId.forEach((userId, notifications) -> {
+            for (NotificationDto notificationDto : notifications) {
+                String data;
+                try {
+                    data = objectMapper.writeValueAsString(notificationDto);
+                } catch (JsonProcessingException e) {
+                    log.error("알림 직렬화 실패: userId={}, error={}", userId, e.getMessage(), e);
+                    continue;
+                }
+                Long notificationId = notificationDto.getNotificationId();
+                sendLocally(userId, new BufferedEvent(notificationId, data));
+                relayed.add(new RelayedNotification(userId, notificationId, data));
+            }
+        });
+
+        // 다른 서버에는 묶음 하나로 넘긴다
+        if (!relayed.isEmpty()) {
+            clusterMessageBus.publish(CLUSTER_BATCH_TOPIC, new RelayedNotificationBatch(relayed));
+        }
+    }
+
+    /**
+     * 버퍼에 넣고, 이 서버에 연결된 사용자면 연결마다 줄에 세워 전송 풀에서 보낸다
+     *
+     * @param userId 사용자 ID
+     * @param event 알림 (id 가 없으면 버퍼에 넣지 않는다 - 이전 버전 서버가 넘긴 것)
+     */
+    private void sendLocally(Long userId, BufferedEvent event) {
+        // 연결이 없고 버퍼도 없으면(이 서버에 연결한 적이 없거나 오래전) 할 일이 없다
+        EventBuffer buffer = connections.containsKey(userId)
+                ? buffers.get(userId, id -> new EventBuffer(bufferSize))
+                : buffers.getIfPresent(userId);
+        if (buffer == null) {
+            return;
+        }
+        List<SseConnection> toDrain = new ArrayList<>();
+        synchronized (buffer) {
+            if (event.id() != null) {
+                buffer.add(event);
+            }
+
+            List<SseConnection> userConnections = connections.get(userId);
+            if (userConnections == null) {
+                log.debug("SSE 연결이 없어 알림은 버퍼에만 보관: userId={}", userId);
+                return;
+            }
+
+            // 모든 기기로 보낸다. 잠금 안에서는 줄에 세우기만 한다.
+            for (SseConnection connection : userConnections) {
+                if (connection.enqueue(notificationEvent(event))) {
+                    toDrain.add(connection);
+                }
+            }
+        }
+
+        for (SseConnection connection : toDrain) {
+            heartbeatWheel.execute(() -> drain(userId, connection));
+        }
+    }
+
+    /**
+     * 연결의 줄에 선 이벤트 보내기 (전송 풀에서 부른다). 한 연결이 실패해도 다른 연결은 계속 보낸다.
+     */
+    private void drain(Long userId, SseConnection connection) {
         try {
-            // MediaType.APPLICATION_JSON 명시하여 안전한 시리얼라이제이션 보장
-            emitter.send(SseEmitter.event()
-                    .name("notification")
-                    .data(notificationDto, MediaType.APPLICATION_JSON));
+            connection.drain();
         } catch (Exception e) {
-            log.error("알림 전송 실패: userId={}, error={}", userId, e.getMessage(), e);
-            emitters.remove(userId);
+            log.error("알림 전송 실패: userId={}, connectionId={}, error={}",
+                    userId, connection.id(), e.getMessage(), e);
+            unregister(userId, connection);
             // 클라이언트에게 명확한 에러 상태 전달
             try {
-                emitter.completeWithError(e);
+                connection.emitter().completeWithError(e);
             } catch (Exception ex) {
-                log.warn("SSE 에러 상태 전달 실패: userId={}", userId, ex);
+                log.warn("SSE 에러 상태 전달 실패: userId={}, connectionId={}", userId, connection.id(), ex);
             }
         }
     }
-    
+
+    /**
+     * Last-Event-ID 이후 놓친 알림을 연결의 줄에 세우기 (버퍼 잠금 안에서 부른다)
+     *
+     * 버퍼에 그 ID 가 있으면 버퍼에서, 없으면 DB 에서 찾는다.
+     * 버퍼에 있는데 DB 조회에 나오지 않은 알림도 빠짐없이 보낸다.
+     */
+    private void replay(Long userId, SseConnection connection, EventBuffer buffer, long lastEventId) throws IOException {
+        List<BufferedEvent> buffered = buffer.eventsAfter(lastEventId);
+        if (buffered != null) {
+            for (BufferedEvent event : buffered) {
+                connection.enqueue(notificationEvent(event));
+            }
+            bufferReplayCounter.increment(buffered.size());
+            return;
+        }
+
+        List<NotificationDto> missed = notificationService.getNotificationsAfter(userId, lastEventId, replayLimit + 1);
+        if (missed.size() > replayLimit) {
+            connection.enqueue(SseEmitter.event()
+                    .name("resync")
+                    .data("resync"));
+            resyncCounter.increment();
+            log.debug("놓친 알림이 많아 resync 전송: userId={}, lastEventId={}", userId, lastEventId);
+            return;
+        }
+
+        Set<Long> sentIds = new HashSet<>();
+        for (NotificationDto notification : missed) {
+            connection.enqueue(notificationEvent(
+                    new BufferedEvent(notification.getNotificationId(), objectMapper.writeValueAsString(notification))));
+            sentIds.add(notification.getNotificationId());
+        }
+        for (BufferedEvent event : buffer.eventsAfterIdExcept(lastEventId, sentIds)) {
+            connection.enqueue(notificationEvent(event));
+        }
+        dbReplayCounter.increment(missed.size());
+    }
+
+    /**
+     * 알림 이벤트 (SseEventBuilder 는 보낼 때 내용이 바뀌므로 연결마다 새로 만든다)
+     */
+    private static SseEmitter.SseEventBuilder notificationEvent(BufferedEvent event) {
+        // 이미 JSON 문자열이므로 그대로 쓴다 (Content-Type 만 JSON 으로 표시)
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name("notification")
+                .data(event.data(), MediaType.APPLICATION_JSON);
+        if (event.id() != null) {
+            builder.id(String.valueOf(event.id()));
+        }
+        return builder;
+    }
+
+    /**
+     * 연결 등록
+     *
+     * 같은 기기의 이전 연결과, 개수 제한을 넘긴 만큼 오래된 연결을 목록에서 뺀다.
+     *
+     * @return 목록에서 뺀 연결 (닫는 것은 부르는 쪽이 한다)
+     */
+    private List<SseConnection> register(Long userId, SseConnection connection) {
+        List<SseConnection> evicted = new ArrayList<>();
+        List<SseConnection> registered = connections.compute(userId, (id, current) -> {
+            List<SseConnection> next = new ArrayList<>();
+            if (current != null) {
+                for (SseConnection existing : current) {
+                    if (existing.isSameDevice(connection)) {
+                        evicted.add(existing);
+                    } else {
+                        next.add(existing);
+                    }
+                }
+            }
+            while (next.size() >= maxConnectionsPerUser) {
+                evicted.add(next.remove(0));
+            }
+            next.add(connection);
+            return List.copyOf(next);
+        });
+        userConnectionsSummary.record(registered.size());
+        heartbeatWheel.add(connection);
+        for (SseConnection old : evicted) {
+            heartbeatWheel.remove(old);
+        }
+        return evicted;
+    }
+
+    private void unregister(Long userId, SseConnection connection) {
+        heartbeatWheel.remove(connection);
+        connections.computeIfPresent(userId, (id, current) -> {
+            if (!current.contains(connection)) {
+                return current;
+            }
+            List<SseConnection> next = new ArrayList<>(current);
+            next.remove(connection);
+            return next.isEmpty() ? null : List.copyOf(next);
+        });
+    }
+
+    /**
+     * 새 연결에 밀린 연결 닫기
+     *
+     * 개수 제한으로 닫을 때는 close 이벤트를 먼저 보낸다. 클라이언트는 이것을 받으면 다시 연결하지 않는다.
+     * 같은 기기의 이전 연결은 이미 클라이언트가 버린 것이라 그냥 닫는다.
+     */
+    private void close(Long userId, SseConnection connection, boolean sameDevice) {
+        (sameDevice ? deviceEvictedCounter : limitEvictedCounter).increment();
+        log.debug("SSE 연결 밀어냄: userId={}, connectionId={}, reason={}",
+                userId, connection.id(), sameDevice ? "device" : "limit");
+        try {
+            if (!sameDevice) {
+                connection.send(SseEmitter.event()
+                        .name("close")
+                        .data("limit"));
+            }
+            connection.emitter().complete();
+        } catch (Exception e) {
+            log.debug("밀어낸 SSE 연결 정리 실패 (이미 끊김): userId={}, connectionId={}", userId, connection.id());
+        }
+    }
+
     @Override
     public void disconnect(Long userId) {
-        SseEmitter emitter = emitters.remove(userId);
-        if (emitter != null) {
-            emitter.complete();
+        List<SseConnection> removed = connections.remove(userId);
+        if (removed != null) {
+            for (SseConnection connection : removed) {
+                heartbeatWheel.remove(connection);
+                connection.emitter().complete();
+            }
         }
     }
-    
+
     @Override
     public boolean isConnected(Long userId) {
-        return emitters.containsKey(userId);
+        return connections.containsKey(userId);
     }
-    
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatWheel.shutdown();
+    }
+
     /**
-     * Heartbeat 전송
-     * 
-     * 네트워크 장비(공유기, 방화벽)에 의해 연결이 끊기는 것을 방지하기 위해
-     * 주기적으로 빈 데이터(ping)를 전송합니다.
-     * 
-     * 15초마다 실행됩니다.
+     * 서버 간에 넘기는 알림
+     *
+     * @param userId 받는 사용자 ID
+     * @param notificationId 알림 ID (SSE 이벤트 ID)
+     * @param data 알림 JSON
      */
-    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MS)
-    public void sendHeartbeat() {
-        if (emitters.isEmpty()) {
-            return;
+    record RelayedNotification(Long userId, Long notificationId, String data) {
+    }
+
+    /**
+     * 서버 간에 넘기는 알림 묶음 (한꺼번에 만든 알림)
+     *
+     * @param notifications 알림 (만들어진 순서)
+     */
+    record RelayedNotificationBatch(List<RelayedNotification> notifications) {
+    }
+
+    /**
+     * 버퍼에 든 알림
+     *
+     * @param id 알림 ID
+     * @param data 알림 JSON
+     */
+    private record BufferedEvent(Long id, String data) {
+    }
+
+    /**
+     * 사용자 한 명의 최근 알림 (들어온 순서, 가득 차면 오래된 것부터 버린다)
+     *
+     * 잠금은 쓰는 쪽(synchronized (buffer))이 맡는다.
+     */
+    private static final class EventBuffer {
+
+        private final ArrayDeque<BufferedEvent> events;
+        private final int capacity;
+
+        EventBuffer(int capacity) {
+            this.capacity = capacity;
+            this.events = new ArrayDeque<>(capacity);
         }
-        
-        // 모든 연결된 사용자에게 ping 전송
-        Map<Long, SseEmitter> emittersSnapshot = new ConcurrentHashMap<>(emitters);
-        
-        for (Map.Entry<Long, SseEmitter> entry : emittersSnapshot.entrySet()) {
-            Long userId = entry.getKey();
-            SseEmitter emitter = entry.getValue();
-            
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("ping")
-                        .data("ping"));
-            } catch (Exception e) {
-                log.debug("Heartbeat 전송 실패 (연결 해제됨): userId={}", userId);
-                emitters.remove(userId);
-                try {
-                    emitter.complete();
-                } catch (Exception ex) {
-                    // 이미 완료된 경우 무시
+
+        void add(BufferedEvent event) {
+            if (events.size() == capacity) {
+                events.pollFirst();
+            }
+            events.addLast(event);
+        }
+
+        /**
+         * 클라이언트가 마지막으로 받은 알림 뒤에 들어온 것
+         *
+         * ID 크기가 아니라 들어온 순서로 자른다. 두 알림의 커밋 순서가 ID 순서와 다르면
+         * 작은 ID 가 나중에 올 수 있는데, 그것도 놓치지 않기 위해서다.
+         *
+         * @return 들어온 순서대로 (그 ID 가 버퍼에 없으면 null - 버퍼로는 메울 수 없다)
+         */
+        List<BufferedEvent> eventsAfter(long lastEventId) {
+            List<BufferedEvent> after = new ArrayList<>();
+            Iterator<BufferedEvent> newestFirst = events.descendingIterator();
+            while (newestFirst.hasNext()) {
+                BufferedEvent event = newestFirst.next();
+                if (event.id() == lastEventId) {
+                    Collections.reverse(after);
+                    return after;
+                }
+                after.add(event);
+            }
+            return null;
+        }
+
+        /**
+         * lastEventId 보다 ID 가 크고 excluded 에 없는 것 (들어온 순서대로)
+         */
+        List<BufferedEvent> eventsAfterIdExcept(long lastEventId, Set<Long> excluded) {
+            List<BufferedEvent> after = new ArrayList<>();
+            for (BufferedEvent event : events) {
+                if (event.id() > lastEventId && !excluded.contains(event.id())) {
+                    after.add(event);
                 }
             }
+            return after;
         }
     }
 }
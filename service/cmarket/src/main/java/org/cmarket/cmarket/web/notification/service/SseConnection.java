@@ -0,0 +1,135 @@
+package org.cmarket.cmarket.web.notification.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 연결 하나
+ *
+ * 보내기는 모두 send 를 거친다. 마지막으로 보낸 시각과 지금 보내는 중인지를 남겨서
+ * 하트비트(SseHeartbeatWheel)가 최근에 이벤트가 나간 연결은 건너뛰고, 쓰기가 멈춘 연결은 골라낸다.
+ *
+ * 알림은 enqueue 로 줄에 세우고 drain 으로 보낸다. 줄 세우기는 잠금 안에서 해도 될 만큼 가볍고,
+ * 실제 쓰기(drain)는 잠금 밖 전송 풀에서 한다. 한 연결의 drain 은 한 번에 하나만 돌아 들어온 순서대로 나간다.
+ */
+final class SseConnection {
+
+    private final long id;
+    private final Long userId;
+    private final String deviceId;
+    private final SseEmitter emitter;
+
+    // 마지막으로 보내기를 마친 시각 (System.nanoTime)
+    private final AtomicLong lastSentNanos;
+    // 보내기 시작한 시각, 보내는 중이 아니면 0 (SseEmitter.send 는 연결마다 한 번에 하나씩 나간다)
+    private final AtomicLong sendStartedNanos = new AtomicLong();
+    // 하트비트가 대기열에 올라가 있는지 (한 연결에 ping 이 쌓이지 않게)
+    private final AtomicBoolean pingPending = new AtomicBoolean();
+    // 보낼 알림 줄과, 줄을 비우는 쪽이 있는지 (보내다 실패하면 true 로 남겨 더 보내지 않는다)
+    private final ConcurrentLinkedQueue<SseEmitter.SseEventBuilder> outbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /**
+     * @param id 이 서버 안에서 연결마다 다른 번호
+     * @param userId 사용자 ID
+     * @param deviceId 클라이언트가 준 기기 ID (없으면 null)
+     * @param emitter 연결
+     */
+    SseConnection(long id, Long userId, String deviceId, SseEmitter emitter) {
+        this.id = id;
+        this.userId = userId;
+        this.deviceId = deviceId;
+        this.emitter = emitter;
+        this.lastSentNanos = new AtomicLong(System.nanoTime());
+    }
+
+    long id() {
+        return id;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isSameDevice(SseConnection other) {
+        return deviceId != null && deviceId.equals(other.deviceId);
+    }
+
+    void send(SseEmitter.SseEventBuilder event) throws IOException {
+        boolean marked = sendStartedNanos.compareAndSet(0, System.nanoTime());
+        try {
+            emitter.send(event);
+            lastSentNanos.set(System.nanoTime());
+        } finally {
+            if (marked) {
+                sendStartedNanos.set(0);
+            }
+        }
+    }
+
+    /**
+     * 보낼 이벤트를 줄에 세운다
+     *
+     * @return 줄을 비우는 쪽이 없어 부른 쪽이 drain 을 (잠금 밖에서) 불러야 하면 true
+     */
+    boolean enqueue(SseEmitter.SseEventBuilder event) {
+        outbox.add(event);
+        return draining.compareAndSet(false, true);
+    }
+
+    /**
+     * 줄에 선 이벤트를 들어온 순서대로 보낸다 (enqueue 가 true 를 돌려준 쪽만 부른다)
+     *
+     * 보내는 사이에 들어온 것도 이어서 보낸다. 실패하면 줄을 버리고 이후 enqueue 도 받지 않는다.
+     */
+    void drain() throws IOException {
+        try {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                while ((event = outbox.poll()) != null) {
+                    send(event);
+                }
+                draining.set(false);
+                // 내려놓은 사이에 들어온 것이 있으면 다시 맡는다 (다른 쪽이 먼저 맡았으면 그쪽이 보낸다)
+                if (outbox.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            draining.set(true);
+            outbox.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * @return now 기준 withinNanos 안에 보내기를 마친 적이 있으면 true
+     */
+    boolean sentWithin(long withinNanos, long now) {
+        return now - lastSentNanos.get() < withinNanos;
+    }
+
+    /**
+     * @return 지금 보내는 중이면 보내기 시작한 뒤 지난 시간, 아니면 0
+     */
+    long sendingNanos(long now) {
+        long startedAt = sendStartedNanos.get();
+        return startedAt == 0 ? 0 : now - startedAt;
+    }
+
+    boolean markPingPending() {
+        return pingPending.compareAndSet(false, true);
+    }
+
+    void clearPingPending() {
+        pingPending.set(false);
+    }
+}
@@ -0,0 +1,232 @@
+package org.cmarket.cmarket.web.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * SSE 하트비트 (타이밍 휠)
+ *
+ * 연결을 slots 개 칸에 나눠 담고, interval / slots 마다 한 칸씩 돈다.
+ * 한 바퀴가 interval 이라 연결마다 interval 에 한 번 차례가 오고, 한 번에 보는 연결은 전체의 1/slots 다.
+ * 전체를 한꺼번에 훑지 않으므로 연결이 많아도 CPU 가 튀지 않는다.
+ *
+ * 차례가 온 연결은:
+ * - 지난 차례 뒤로 이벤트(알림, ping)가 나갔으면 건너뛴다
+ *   (아무것도 안 나가는 연결은 interval 마다 ping, 알림이 오가는 연결은 가장 길게 interval 두 배 가까이 조용할 수 있다)
+ * - 보내는 중인데 send-timeout 을 넘겼으면 멈춘 연결로 보고 휠과 사용자 연결 목록에서 뺀다
+ * - 아니면 ping 을 전송 풀에 넘긴다. 휠 스레드는 직접 쓰지 않으므로 느린 클라이언트 하나가 다른 연결을 막지 않는다
+ *
+ * 멈춘 연결을 여기서 닫지는 않는다. SseEmitter 는 보내기 · 닫기를 같은 잠금으로 해서, 닫으려는 스레드도 함께 멈춘다.
+ * 목록에서 빠지면 더 보낼 일이 없고, 멈춘 쓰기가 컨테이너의 쓰기 타임아웃으로 실패하면 그 쪽에서 닫힌다.
+ * 그때까지 멈춘 ping 은 전송 풀 스레드 하나를 잡고 있으므로, 풀 크기는 동시에 멈출 만한 연결 수를 보고 정한다.
+ *
+ * 알림 보내기(NotificationSseServiceImpl)도 같은 전송 풀을 쓴다 (execute).
+ * 알림을 만든 스레드(아웃박스 릴레이 등)가 느린 클라이언트의 쓰기를 기다리지 않게 하기 위해서다.
+ *
+ * 지표:
+ * - notification.sse.heartbeat.sent: 보낸 ping 수
+ * - notification.sse.heartbeat.skipped: 최근 이벤트가 있어 건너뛴 수
+ * - notification.sse.heartbeat.failed{reason=error|timeout}: ping 보내기 실패 수 · 멈춰서 목록에서 뺀 연결 수
+ * - notification.sse.heartbeat.rejected: 전송 풀이 가득 차 다음 바퀴로 미룬 수
+ * - notification.sse.heartbeat.queue.size: 전송 풀 대기열 (ping, 알림)
+ * - notification.sse.heartbeat.tick: 한 칸 도는 데 걸린 시간
+ */
+@Slf4j
+final class SseHeartbeatWheel {
+
+    private final Set<SseConnection>[] slots;
+    // 이 시간 안에 보낸 적이 있으면 ping 을 건너뛴다 (한 바퀴 - 한 칸: 지난 차례 이후)
+    private final long skipWithinNanos;
+    private final long sendTimeoutNanos;
+    private final Consumer<SseConnection> onDead;
+    private final ThreadPoolTaskScheduler ticker;
+    private final ThreadPoolTaskExecutor sender;
+    private int cursor;
+
+    private final Counter sentCounter;
+    private final Counter skippedCounter;
+    private final Counter errorCounter;
+    private final Counter timeoutCounter;
+    private final Counter rejectedCounter;
+    private final Timer tickTimer;
+
+    /**
+     * @param onDead 끊긴 연결을 사용자 연결 목록에서 뺄 때 부른다 (잠금 없이 빨리 끝나야 한다)
+     */
+    @SuppressWarnings("unchecked")
+    SseHeartbeatWheel(
+            MeterRegistry meterRegistry,
+            long intervalMillis,
+            int slotCount,
+            long sendTimeoutMillis,
+            int senderThreads,
+            int senderQueueCapacity,
+            Consumer<SseConnection> onDead
+    ) {
+        int count = Math.max(1, slotCount);
+        this.slots = new Set[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = ConcurrentHashMap.newKeySet();
+        }
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        long tickNanos = Math.max(1, intervalNanos / count);
+        this.skipWithinNanos = intervalNanos - tickNanos;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.onDead = onDead;
+
+        this.sentCounter = Counter.builder("notification.sse.heartbeat.sent")
+                .description("보낸 SSE ping 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("notification.sse.heartbeat.skipped")
+                .description("최근에 이벤트가 나가 ping 을 건너뛴 수")
+                .register(meterRegistry);
+        this.errorCounter = Counter.builder("notification.sse.heartbeat.failed")
+                .description("하트비트로 찾은 끊긴 SSE 연결 수")
+                .tag("reason", "error")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("notification.sse.heartbeat.failed")
+                .description("하트비트로 찾은 끊긴 SSE 연결 수")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("notification.sse.heartbeat.rejected")
+                .description("전송 풀이 가득 차 다음 바퀴로 미룬 ping 수")
+                .register(meterRegistry);
+        this.tickTimer = Timer.builder("notification.sse.heartbeat.tick")
+                .description("하트비트 휠 한 칸 처리 시간")
+                .register(meterRegistry);
+
+        this.sender = new ThreadPoolTaskExecutor();
+        this.sender.setCorePoolSize(senderThreads);
+        this.sender.setMaxPoolSize(senderThreads);
+        this.sender.setQueueCapacity(senderQueueCapacity);
+        this.sender.setThreadNamePrefix("sse-heartbeat-send-");
+        this.sender.initialize();
+        Gauge.builder("notification.sse.heartbeat.queue.size", sender, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("보내기를 기다리는 SSE ping · 알림 수")
+                .register(meterRegistry);
+
+        // 다른 @Scheduled 작업과 스레드를 나눠 쓰지 않는다
+        this.ticker = new ThreadPoolTaskScheduler();
+        this.ticker.setPoolSize(1);
+        this.ticker.setThreadNamePrefix("sse-heartbeat-");
+        this.ticker.initialize();
+        this.ticker.scheduleAtFixedRate(this::tick, Duration.ofNanos(tickNanos));
+    }
+
+    void add(SseConnection connection) {
+        slotOf(connection).add(connection);
+    }
+
+    void remove(SseConnection connection) {
+        slotOf(connection).remove(connection);
+    }
+
+    /**
+     * 전송 풀에서 실행 (알림 보내기)
+     *
+     * 풀이 가득 차면 부른 스레드에서 바로 실행한다. 알림은 ping 과 달리 다음 바퀴로 미룰 수 없다.
+     */
+    void execute(Runnable task) {
+        try {
+            sender.execute(task);
+        } catch (TaskRejectedException e) {
+            task.run();
+        }
+    }
+
+    void shutdown() {
+        ticker.shutdown();
+        sender.shutdown();
+    }
+
+    /**
+     * 한 칸 처리 (휠 스레드 하나에서만 돈다)
+     */
+    void tick() {
+        Set<SseConnection> slot = slots[cursor];
+        cursor = (cursor + 1) % slots.length;
+        if (slot.isEmpty()) {
+            return;
+        }
+
+        tickTimer.record(() -> {
+            long now = System.nanoTime();
+            for (SseConnection connection : slot) {
+                try {
+                    visit(connection, now);
+                } catch (Exception e) {
+                    log.warn("SSE 하트비트 처리 실패: userId={}, connectionId={}",
+                            connection.userId(), connection.id(), e);
+                }
+            }
+        });
+    }
+
+    private void visit(SseConnection connection, long now) {
+        long sendingNanos = connection.sendingNanos(now);
+        if (sendingNanos > sendTimeoutNanos) {
+            timeoutCounter.increment();
+            log.debug("SSE 쓰기가 멈춘 연결 빼기: userId={}, connectionId={}, sendingMs={}",
+                    connection.userId(), connection.id(), TimeUnit.NANOSECONDS.toMillis(sendingNanos));
+            dead(connection);
+            return;
+        }
+        if (sendingNanos > 0 || connection.sentWithin(skipWithinNanos, now)) {
+            skippedCounter.increment();
+            return;
+        }
+        if (!connection.markPingPending()) {
+            return;
+        }
+
+        try {
+            sender.execute(() -> ping(connection));
+        } catch (TaskRejectedException e) {
+            connection.clearPingPending();
+            rejectedCounter.increment();
+        }
+    }
+
+    private void ping(SseConnection connection) {
+        try {
+            connection.send(SseEmitter.event()
+                    .name("ping")
+                    .data("ping"));
+            sentCounter.increment();
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.debug("Heartbeat 전송 실패 (연결 해제됨): userId={}, connectionId={}",
+                    connection.userId(), connection.id());
+            dead(connection);
+            try {
+                connection.emitter().complete();
+            } catch (Exception ex) {
+                // 이미 완료된 경우 무시
+            }
+        } finally {
+            connection.clearPingPending();
+        }
+    }
+
+    private void dead(SseConnection connection) {
+        remove(connection);
+        onDead.accept(connection);
+    }
+
+    private Set<SseConnection> slotOf(SseConnection connection) {
+        return slots[(int) Math.floorMod(connection.id(), (long) slots.length)];
+    }
+}
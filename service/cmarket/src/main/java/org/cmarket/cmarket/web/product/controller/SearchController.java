@@ -3,10 +3,12 @@ package org.cmarket.cmarket.web.product.controller;
 import lombok.RequiredArgsConstructor;
 import org.cmarket.cmarket.domain.auth.repository.UserRepository;
 import org.cmarket.cmarket.domain.search.app.dto.ProductSearchCommand;
+import org.cmarket.cmarket.domain.search.app.dto.ProductSearchSliceDto;
 import org.cmarket.cmarket.domain.search.app.service.SearchService;
 import org.cmarket.cmarket.web.common.response.ResponseCode;
 import org.cmarket.cmarket.web.common.response.SuccessResponse;
 import org.cmarket.cmarket.web.common.security.SecurityUtils;
+import org.cmarket.cmarket.web.product.dto.ProductSearchCursorResponse;
 import org.cmarket.cmarket.web.product.dto.ProductSearchRequest;
 import org.cmarket.cmarket.web.product.dto.ProductSearchResponse;
 import org.springframework.http.HttpStatus;
@@ -67,6 +69,45 @@ public class SearchController {
                 .body(new SuccessResponse<>(ResponseCode.SUCCESS, response));
     }
 
+    /**
+     * 상품 커서 검색 (무한 스크롤용)
+     * 
+     * GET /api/products/search/cursor
+     * 
+     * /search 와 같은 검색 · 필터 조건을 받지만, page 대신 cursor 로 다음 페이지를 읽습니다.
+     * - 첫 요청은 cursor 없이, 다음 요청부터는 응답의 nextCursor 를 그대로 넘깁니다.
+     * - 전체 개수(total)를 세지 않으므로 깊은 페이지도 첫 페이지와 같은 비용입니다.
+     * - 정렬은 sortBy(createdAt/price/favoriteCount) + id 순서만 따릅니다 (키워드 관련도 정렬 없음).
+     * - sortBy/sortOrder 는 첫 요청과 같은 값을 계속 보내야 합니다.
+     * 
+     * 웹의 페이지 번호 화면은 기존 /search (PageResult) 를 그대로 씁니다.
+     * 
+     * @param request 검색 요청 (cursor 포함, page 는 무시)
+     * @return 검색 결과 (다음 페이지 커서 포함)
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<SuccessResponse<ProductSearchCursorResponse>> searchProductsByCursor(
+            @ModelAttribute ProductSearchRequest request
+    ) {
+        // 현재 로그인한 사용자 이메일 추출 (선택적, 비로그인 시 null)
+        String email = null;
+        if (SecurityUtils.isAuthenticated()) {
+            email = SecurityUtils.getCurrentUserEmail();
+        }
+        
+        // 웹 DTO → 앱 DTO 변환
+        ProductSearchCommand command = toCommand(request);
+        
+        // 앱 서비스 호출
+        ProductSearchSliceDto sliceDto = searchService.searchProductsByCursor(command, email);
+        
+        // 앱 DTO → 웹 DTO 변환
+        ProductSearchCursorResponse response = ProductSearchCursorResponse.fromDto(sliceDto);
+        
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(new SuccessResponse<>(ResponseCode.SUCCESS, response));
+    }
+
     @GetMapping("/search2")
     public ResponseEntity<SuccessResponse<?>> searchProducts(
 
@@ -98,6 +139,7 @@ public class SearchController {
                 .sortOrder(request.getSortOrder())
                 .page(request.getPage())
                 .size(request.getSize())
+                .cursor(request.getCursor())
                 .build();
     }
 }
@@ -0,0 +1,39 @@
+package org.cmarket.cmarket.web.product.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.cmarket.cmarket.domain.search.app.dto.ProductSearchSliceDto;
+
+import java.util.List;
+
+/**
+ * 상품 커서 검색 응답 DTO
+ * 
+ * 무한 스크롤용 검색 결과를 담는 웹 DTO입니다.
+ * 전체 개수를 세지 않으므로 total/totalPages 대신 hasNext 와 nextCursor 만 내려줍니다.
+ */
+@Getter
+@NoArgsConstructor
+public class ProductSearchCursorResponse {
+    private List<ProductSearchItemResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;  // 다음 요청의 cursor 값 (마지막 페이지면 null)
+    
+    /**
+     * 앱 DTO를 웹 DTO로 변환
+     * 
+     * @param dto ProductSearchSliceDto
+     * @return ProductSearchCursorResponse
+     */
+    public static ProductSearchCursorResponse fromDto(ProductSearchSliceDto dto) {
+        ProductSearchCursorResponse response = new ProductSearchCursorResponse();
+        response.content = dto.content().stream()
+                .map(ProductSearchItemResponse::fromDto)
+                .toList();
+        response.size = dto.size();
+        response.hasNext = dto.hasNext();
+        response.nextCursor = dto.nextCursor();
+        return response;
+    }
+}
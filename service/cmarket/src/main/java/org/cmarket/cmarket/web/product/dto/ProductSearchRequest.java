@@ -56,5 +56,7 @@ public class ProductSearchRequest {
     
     @Min(1)
     private Integer size;  // 페이지 크기 (기본값: 20)
+    
+    private String cursor;  // 커서 검색(/search/cursor) 전용 - 이전 응답의 nextCursor (첫 페이지는 비움)
 }
 
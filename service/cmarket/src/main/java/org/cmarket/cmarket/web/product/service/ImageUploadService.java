@@ -1,7 +1,8 @@
 package org.cmarket.cmarket.web.product.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.cmarket.cmarket.domain.auth.repository.UserRepository;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,11 +33,11 @@ import java.util.UUID;
 @Service
 public class ImageUploadService {
 
-    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     private S3Client s3Client;
 
-    public ImageUploadService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public ImageUploadService(UserIdentityResolver userIdentityResolver) {
+        this.userIdentityResolver = userIdentityResolver;
     }
     
     private static final List<String> ALLOWED_IMAGE_TYPES = List.of(
@@ -99,9 +100,9 @@ public class ImageUploadService {
      */
     public List<String> uploadImages(List<MultipartFile> files, String email) throws IOException {
         // 사용자 ID 조회
-        Long userId = userRepository.findByEmailAndDeletedAtIsNull(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."))
-                .getId();
+        Long userId = userIdentityResolver.findByEmail(email)
+                .map(UserIdentity::userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         // 파일 개수 검증
         if (files == null || files.isEmpty()) {
@@ -0,0 +1,369 @@
+package org.cmarket.cmarket.web.product.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.product.repository.ProductRepository;
+import org.cmarket.cmarket.domain.product.repository.ProductSearchDocument;
+import org.cmarket.cmarket.domain.search.app.service.ProductSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 검색 색인 구현체 (메모리 역색인)
+ *
+ * 제목 · 설명 · 카테고리명을 두 글자씩 자른 조각(bigram)으로 색인합니다.
+ * 한국어는 띄어쓰기가 들쭉날쭉해 형태소 없이도 잘 맞는 bigram 을 쓴다.
+ *
+ * 검색 순서:
+ * 1. 키워드의 bigram 마다 게시 목록(posting)을 꺼내 교집합을 구한다 (작은 목록부터).
+ * 2. 후보마다 저장해 둔 본문에 키워드가 실제로 들어 있는지 확인한다.
+ *    bigram 이 모두 있어도 붙어 있지 않을 수 있으므로 이 단계가 있어야
+ *    기존 LIKE '%kw%' 와 결과가 똑같다.
+ * 3. 한 글자 키워드는 bigram 이 없으므로 색인된 문서를 전부 확인한다 (DB는 건드리지 않는다).
+ * 4. 맞는 상품이 max-candidates 개를 넘으면 null 을 돌려준다 (호출하는 쪽이 SQL 검색으로 돌아간다).
+ *    DB는 후보마다 정렬 키를 읽으므로 한 글자 · 흔한 키워드는 색인으로 얻는 것이 없다.
+ *    후보를 잘라서 돌려주면 필터 · 정렬 전에 상품이 빠져 SQL 검색과 결과가 달라진다.
+ *
+ * 색인 유지:
+ * - 시작 시 ApplicationReadyEvent 에서 전체 색인을 만든다. 다 만들기 전에는 SQL 검색을 쓴다.
+ * - 상품 등록/수정/삭제는 ProductServiceImpl 이 커밋 후 바로 반영한다.
+ * - 서버가 여러 대이거나 다른 경로로 바뀐 상품은 updatedAt 기준 증분 색인으로 따라잡는다
+ *   ((updated_at, id) 인덱스를 따라 REFRESH_BATCH_SIZE 개씩 나눠 읽는다).
+ *
+ * search.product.engine=sql 이면 색인을 만들지 않고 항상 SQL 검색을 쓴다.
+ */
+@Slf4j
+@Service
+public class ProductSearchIndexImpl implements ProductSearchIndex {
+
+    private static final int BOOTSTRAP_BATCH_SIZE = 1000;
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    // 서버 간 시계 차이나 커밋 지연으로 놓치는 변경이 없도록 증분 색인 기준을 조금 앞당긴다.
+    private static final long REFRESH_OVERLAP_SECONDS = 5L;
+
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+    private final int maxCandidates;
+
+    // bigram → 상품 ID 집합
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // 상품 ID → 색인된 본문
+    private final Map<Long, IndexedProduct> documents = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastRefreshedAt;
+
+    public ProductSearchIndexImpl(
+            ProductRepository productRepository,
+            @Value("${search.product.engine:index}") String engine,
+            @Value("${search.product.index.max-candidates:5000}") int maxCandidates
+    ) {
+        this.productRepository = productRepository;
+        this.enabled = "index".equalsIgnoreCase(engine);
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    @Override
+    public void index(ProductSearchDocument document) {
+        if (!enabled || document == null || document.id() == null) {
+            return;
+        }
+        runAfterCommit(() -> apply(document));
+    }
+
+    @Override
+    public void remove(Long productId) {
+        if (!enabled || productId == null) {
+            return;
+        }
+        runAfterCommit(() -> removeDocument(productId));
+    }
+
+    @Override
+    public Map<Long, Integer> search(List<String> keywords) {
+        List<String> normalized = new ArrayList<>();
+        if (keywords != null) {
+            for (String keyword : keywords) {
+                String lowered = normalize(keyword);
+                if (!lowered.isEmpty()) {
+                    normalized.add(lowered);
+                }
+            }
+        }
+        if (normalized.isEmpty()) {
+            return Map.of();
+        }
+
+        // 모든 키워드를 만족하는 상품만 남긴다 (AND 조건)
+        Set<Long> matched = null;
+        for (String keyword : normalized) {
+            matched = matchKeyword(keyword, matched);
+            if (matched.isEmpty()) {
+                return Map.of();
+            }
+        }
+
+        // 관련도는 첫 키워드 기준 (SQL 검색과 같다)
+        String firstKeyword = normalized.get(0);
+        Map<Long, Integer> relevance = new HashMap<>(matched.size() * 2);
+        for (Long productId : matched) {
+            IndexedProduct document = documents.get(productId);
+            if (document != null) {
+                relevance.put(productId, document.score(firstKeyword));
+            }
+        }
+        if (relevance.size() > maxCandidates) {
+            // 너무 많으면 자르지 않고 SQL 검색에 맡긴다 (필터 · 정렬 전에 자르면 결과가 달라진다)
+            log.debug("상품 검색 후보가 많아 SQL 검색 사용: keywords={}, matched={}, max={}",
+                    normalized, relevance.size(), maxCandidates);
+            return null;
+        }
+        return relevance;
+    }
+
+    /**
+     * 시작 시 전체 색인 생성
+     *
+     * 서버가 요청을 받기 시작한 뒤에 돌기 때문에, 다 만들 때까지는 SQL 검색이 응답한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            long lastId = 0L;
+            int indexed = 0;
+            while (true) {
+                List<ProductSearchDocument> batch = productRepository.findSearchDocumentsAfterId(lastId, BOOTSTRAP_BATCH_SIZE);
+                for (ProductSearchDocument document : batch) {
+                    apply(document);
+                    lastId = document.id();
+                }
+                indexed += batch.size();
+                if (batch.size() < BOOTSTRAP_BATCH_SIZE) {
+                    break;
+                }
+            }
+            lastRefreshedAt = startedAt;
+            ready = true;
+            log.info("상품 검색 색인 생성 완료: products={}, grams={}", indexed, postings.size());
+        } catch (Exception e) {
+            log.error("상품 검색 색인 생성 실패 (SQL 검색 사용): error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 증분 색인
+     *
+     * 마지막으로 확인한 시각 이후 바뀐 상품을 다시 색인하고, 삭제된 상품은 뺀다.
+     * (수정 시각, ID) 순서로 REFRESH_BATCH_SIZE 개씩 이어 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${search.product.index.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!enabled || !ready) {
+            return;
+        }
+
+        try {
+            LocalDateTime since = lastRefreshedAt.minusSeconds(REFRESH_OVERLAP_SECONDS);
+            Long afterId = 0L;
+            LocalDateTime latest = lastRefreshedAt;
+            while (true) {
+                List<ProductSearchDocument> batch = productRepository.findSearchDocumentsUpdatedAfter(
+                        since, afterId, REFRESH_BATCH_SIZE);
+                for (ProductSearchDocument document : batch) {
+                    apply(document);
+                    since = document.updatedAt();
+                    afterId = document.id();
+                    if (document.updatedAt().isAfter(latest)) {
+                        latest = document.updatedAt();
+                    }
+                }
+                if (batch.size() < REFRESH_BATCH_SIZE) {
+                    break;
+                }
+            }
+            lastRefreshedAt = latest;
+        } catch (Exception e) {
+            log.warn("상품 검색 증분 색인 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키워드 하나에 맞는 상품 ID 집합
+     *
+     * @param keyword 소문자로 바꾼 키워드
+     * @param within 앞선 키워드까지의 결과 (처음이면 null)
+     */
+    private Set<Long> matchKeyword(String keyword, Set<Long> within) {
+        Set<String> grams = bigrams(keyword);
+
+        Set<Long> candidates;
+        if (grams.isEmpty()) {
+            candidates = within != null ? within : documents.keySet();
+        } else {
+            List<Set<Long>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return Set.of();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            candidates = new HashSet<>(lists.get(0));
+            if (within != null) {
+                candidates.retainAll(within);
+            }
+            for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(lists.get(i));
+            }
+        }
+
+        Set<Long> matched = new HashSet<>();
+        for (Long productId : candidates) {
+            IndexedProduct document = documents.get(productId);
+            if (document != null && document.contains(keyword)) {
+                matched.add(productId);
+            }
+        }
+        return matched;
+    }
+
+    private synchronized void apply(ProductSearchDocument document) {
+        if (document.deleted()) {
+            removeDocument(document.id());
+            return;
+        }
+
+        IndexedProduct indexed = IndexedProduct.of(document);
+        IndexedProduct previous = documents.put(document.id(), indexed);
+        if (previous != null) {
+            for (String gram : previous.grams()) {
+                if (!indexed.grams().contains(gram)) {
+                    removePosting(gram, document.id());
+                }
+            }
+        }
+        for (String gram : indexed.grams()) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.id());
+        }
+    }
+
+    private synchronized void removeDocument(Long productId) {
+        IndexedProduct previous = documents.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams()) {
+            removePosting(gram, productId);
+        }
+    }
+
+    private void removePosting(String gram, Long productId) {
+        Set<Long> posting = postings.get(gram);
+        if (posting == null) {
+            return;
+        }
+        posting.remove(productId);
+        if (posting.isEmpty()) {
+            postings.remove(gram);
+        }
+    }
+
+    /**
+     * 트랜잭션이 있으면 커밋된 뒤에, 없으면 바로 실행
+     *
+     * 롤백된 수정이 색인에 남으면 다음 수정 전까지 검색 결과가 어긋난다.
+     */
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인된 상품 본문
+     *
+     * SQL 검색과 똑같이 제목 · 설명은 소문자, 카테고리명은 대문자로 비교한다.
+     */
+    private record IndexedProduct(String title, String description, String category, Set<String> grams) {
+
+        static IndexedProduct of(ProductSearchDocument document) {
+            String title = document.title() != null ? document.title().toLowerCase(Locale.ROOT) : "";
+            String description = document.description() != null ? document.description().toLowerCase(Locale.ROOT) : "";
+            String category = document.category() != null ? document.category().name().toUpperCase(Locale.ROOT) : "";
+
+            Set<String> grams = new HashSet<>();
+            grams.addAll(bigrams(title));
+            grams.addAll(bigrams(description));
+            grams.addAll(bigrams(category.toLowerCase(Locale.ROOT)));
+            return new IndexedProduct(title, description, category, grams);
+        }
+
+        boolean contains(String keyword) {
+            return title.contains(keyword)
+                    || description.contains(keyword)
+                    || category.contains(keyword.toUpperCase(Locale.ROOT));
+        }
+
+        int score(String keyword) {
+            int score = 0;
+            if (title.contains(keyword)) {
+                score += TITLE_MATCH_SCORE;
+            }
+            if (description.contains(keyword)) {
+                score += DESCRIPTION_MATCH_SCORE;
+            }
+            if (category.contains(keyword.toUpperCase(Locale.ROOT))) {
+                score += CATEGORY_MATCH_SCORE;
+            }
+            return score;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package org.cmarket.cmarket.web.view.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.view.app.dto.ViewEvent;
+import org.cmarket.cmarket.domain.view.app.service.ViewCounter;
+import org.cmarket.cmarket.domain.view.app.service.ViewLogService;
+import org.cmarket.cmarket.domain.view.model.ViewLogStorageMode;
+import org.cmarket.cmarket.domain.view.model.ViewTargetType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 조회수 집계 구현체 (write-behind)
+ *
+ * 상세 조회 때는 「오늘 처음인가」만 판단해 대기열에 넣고 바로 돌아간다.
+ * 대기열은 view.count.flush-interval-ms 마다 ViewLogService.applyViews 로 한꺼번에 반영한다.
+ *
+ * 오늘 본 것인지 판단:
+ * - Redis Set view:seen:{yyyyMMdd}:{viewerId} 에 "{대상종류}:{대상ID}" 를 넣어 본다 (SADD 결과가 1이면 처음).
+ *   날짜는 한국 시간 기준이고, 키는 이틀 뒤 사라진다. SADD 와 EXPIRE 는 Lua 스크립트 한 번으로 보낸다
+ *   (왕복 한 번, 그리고 둘 사이에 끊겨 만료 없는 키가 남지 않도록).
+ * - Redis 장애 시에는 서버 메모리(Caffeine)로 판단한다.
+ * - 어느 쪽이든 빠른 판단용일 뿐이고, 최종 판단은 view_logs 의 unique 제약조건이 한다.
+ *   (서버가 여러 대이거나 Redis 가 비워져도 두 번 세지지 않는다)
+ *
+ * 기록 저장 방식은 view.log.storage(full · compact)로 고른다 (ViewLogStorageMode).
+ *
+ * 대기열 크기는 view.count.max-pending 으로 막는다. DB 장애가 길어져 넘치면 새 조회는 버리고 경고를 남긴다.
+ * 버린 조회는 「오늘 본 것」 표시도 되돌려, 같은 사람이 다시 보면 그때 센다.
+ */
+@Slf4j
+@Service
+public class ViewCounterImpl implements ViewCounter {
+
+    private static final String SEEN_KEY_PREFIX = "view:seen:";
+    private static final Duration SEEN_KEY_TTL = Duration.ofDays(2);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 처음 넣은 것이면 키 만료를 걸고 1, 이미 있었으면 0
+    private static final RedisScript<Long> MARK_SEEN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SADD', KEYS[1], ARGV[1]) == 1 then "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "return 1 "
+                    + "end "
+                    + "return 0",
+            Long.class
+    );
+
+    private final ViewLogService viewLogService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int flushBatchSize;
+    private final int maxPending;
+    private final ViewLogStorageMode storageMode;
+
+    private final ConcurrentLinkedQueue<ViewEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingSize = new AtomicInteger();
+
+    // Redis 장애 시 쓰는 「오늘 본 것」 기록 (키: 날짜:사용자:대상종류:대상ID)
+    private final Cache<String, Boolean> localSeen = Caffeine.newBuilder()
+            .maximumSize(200_000)
+            .expireAfterWrite(Duration.ofHours(25))
+            .build();
+
+    public ViewCounterImpl(
+            ViewLogService viewLogService,
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${view.count.flush-batch-size:1000}") int flushBatchSize,
+            @Value("${view.count.max-pending:100000}") int maxPending,
+            @Value("${view.log.storage:full}") String storageMode
+    ) {
+        this.viewLogService = viewLogService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.flushBatchSize = flushBatchSize;
+        this.maxPending = maxPending;
+        this.storageMode = ViewLogStorageMode.valueOf(storageMode.toUpperCase());
+    }
+
+    @Override
+    public boolean recordView(Long viewerId, ViewTargetType targetType, Long targetId) {
+        if (viewerId == null || targetType == null || targetId == null) {
+            return false;
+        }
+
+        LocalDate today = ViewCounter.today();
+        if (!markSeenToday(viewerId, targetType, targetId, today)) {
+            return false;
+        }
+
+        if (pendingSize.incrementAndGet() > maxPending) {
+            pendingSize.decrementAndGet();
+            unmarkSeenToday(viewerId, targetType, targetId, today);
+            log.warn("조회수 대기열 가득 참, 조회 버림: targetType={}, targetId={}", targetType, targetId);
+            return false;
+        }
+        pending.add(new ViewEvent(viewerId, targetType, targetId, today));
+        return true;
+    }
+
+    /**
+     * 모아 둔 조회 반영
+     *
+     * 한 번에 flushBatchSize 건씩 트랜잭션을 나눠 반영한다.
+     * 실패한 묶음은 대기열에 되돌려 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${view.count.flush-interval-ms:5000}")
+    public void flush() {
+        while (true) {
+            List<ViewEvent> batch = drain(flushBatchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                viewLogService.applyViews(batch, storageMode);
+            } catch (Exception e) {
+                log.error("조회수 반영 실패 (다음 주기에 재시도): events={}, error={}", batch.size(), e.getMessage(), e);
+                pending.addAll(batch);
+                pendingSize.addAndGet(batch.size());
+                return;
+            }
+
+            if (batch.size() < flushBatchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 종료 전 남은 조회 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<ViewEvent> drain(int limit) {
+        List<ViewEvent> batch = new ArrayList<>(Math.min(limit, Math.max(pendingSize.get(), 0)));
+        ViewEvent event;
+        while (batch.size() < limit && (event = pending.poll()) != null) {
+            batch.add(event);
+        }
+        pendingSize.addAndGet(-batch.size());
+        return batch;
+    }
+
+    /**
+     * 오늘 처음 본 것이면 본 것으로 표시하고 true
+     */
+    private boolean markSeenToday(Long viewerId, ViewTargetType targetType, Long targetId, LocalDate today) {
+        String day = today.format(DAY_FORMAT);
+        String member = targetType.name() + ":" + targetId;
+
+        try {
+            Long added = stringRedisTemplate.execute(
+                    MARK_SEEN_SCRIPT,
+                    List.of(SEEN_KEY_PREFIX + day + ":" + viewerId),
+                    member,
+                    String.valueOf(SEEN_KEY_TTL.toSeconds())
+            );
+            return added != null && added == 1L;
+        } catch (Exception e) {
+            log.warn("Redis 조회 중복 확인 실패, 메모리로 판단: error={}", e.getMessage());
+            String localKey = day + ":" + viewerId + ":" + member;
+            return localSeen.asMap().putIfAbsent(localKey, Boolean.TRUE) == null;
+        }
+    }
+
+    /**
+     * 대기열에 넣지 못한 조회의 「오늘 본 것」 표시 되돌리기
+     *
+     * 어느 쪽에 표시했는지 모르므로 Redis 와 메모리 둘 다 지운다.
+     */
+    private void unmarkSeenToday(Long viewerId, ViewTargetType targetType, Long targetId, LocalDate today) {
+        String day = today.format(DAY_FORMAT);
+        String member = targetType.name() + ":" + targetId;
+
+        localSeen.invalidate(day + ":" + viewerId + ":" + member);
+        try {
+            stringRedisTemplate.opsForSet().remove(SEEN_KEY_PREFIX + day + ":" + viewerId, member);
+        } catch (Exception e) {
+            log.warn("Redis 조회 표시 되돌리기 실패: error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.cmarket.cmarket.web.view.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.cmarket.cmarket.domain.view.app.dto.ViewLogStorageStats;
+import org.cmarket.cmarket.domain.view.app.service.ViewCounter;
+import org.cmarket.cmarket.domain.view.app.service.ViewLogService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 기록 정리 스케줄러
+ *
+ * 조회 기록은 「오늘 이미 봤는가」를 가리는 데만 쓰므로, 오늘(한국 시간) 이전 기록은 필요 없다.
+ * 정리하지 않으면 INSERT 가 잦은 표와 인덱스가 끝없이 커진다.
+ *
+ * 정책:
+ * - 매일 한국 시간 00:10 에 오늘 이전 기록을 지운다 (view.log.purge-cron).
+ * - 한 트랜잭션에 표마다 view.log.purge-batch-size 건씩만 지워, 락을 오래 잡지 않는다.
+ *
+ * 지표 (actuator /metrics):
+ * - view.logs.purged: 지운 행 수 (누적)
+ * - view.logs.table.rows: 표 행 수 (추정치)
+ * - view.logs.table.bytes: 표 데이터 + 인덱스 크기
+ *   (표 크기 두 지표는 MySQL information_schema 값이라 MySQL 방언일 때만 등록한다.)
+ */
+@Slf4j
+@Component
+public class ViewLogRetentionScheduler {
+
+    private final ViewLogService viewLogService;
+    private final int purgeBatchSize;
+    private final Counter purgedCounter;
+    private final AtomicLong tableRows = new AtomicLong();
+    private final AtomicLong tableBytes = new AtomicLong();
+    private final boolean storageStatsSupported;
+
+    public ViewLogRetentionScheduler(
+            ViewLogService viewLogService,
+            MeterRegistry meterRegistry,
+            @Value("${view.log.purge-batch-size:5000}") int purgeBatchSize,
+            @Value("${spring.jpa.properties.hibernate.dialect:}") String dialect
+    ) {
+        this.viewLogService = viewLogService;
+        this.purgeBatchSize = purgeBatchSize;
+        this.storageStatsSupported = dialect.contains("MySQL");
+        this.purgedCounter = Counter.builder("view.logs.purged")
+                .description("지운 조회 기록 행 수")
+                .register(meterRegistry);
+        if (!storageStatsSupported) {
+            log.debug("MySQL 이 아니라 조회 기록 표 크기 지표를 등록하지 않습니다: dialect={}", dialect);
+            return;
+        }
+        Gauge.builder("view.logs.table.rows", tableRows, AtomicLong::get)
+                .description("조회 기록 표 행 수 (추정치)")
+                .register(meterRegistry);
+        Gauge.builder("view.logs.table.bytes", tableBytes, AtomicLong::get)
+                .description("조회 기록 표 데이터 + 인덱스 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 지난 조회 기록 삭제
+     */
+    @Scheduled(cron = "${view.log.purge-cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void purgeExpiredViewLogs() {
+        LocalDate today = ViewCounter.today();
+        long purged = 0;
+        int batches = 0;
+
+        try {
+            while (true) {
+                int deleted = viewLogService.purgeBefore(today, purgeBatchSize);
+                purged += deleted;
+                purgedCounter.increment(deleted);
+                batches++;
+                if (deleted < purgeBatchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("조회 기록 정리 실패: purged={}, error={}", purged, e.getMessage(), e);
+        }
+
+        refreshStorageStats();
+
+        log.info(
+                "조회 기록 정리 완료: purged={}, batches={}, before={}, rows={}, bytes={}",
+                purged,
+                batches,
+                today,
+                tableRows.get(),
+                tableBytes.get()
+        );
+    }
+
+    /**
+     * 시작 시 표 크기 지표 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshStorageStats() {
+        if (!storageStatsSupported) {
+            return;
+        }
+        try {
+            ViewLogStorageStats stats = viewLogService.getStorageStats();
+            tableRows.set(stats.rows());
+            tableBytes.set(stats.bytes());
+        } catch (Exception e) {
+            log.warn("조회 기록 표 크기 조회 실패: error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.cmarket.cmarket.domain.chat.app.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 번 훑는 개인정보 탐지가 예전 정규표현식 구현과 같은 답을 내는지 비교
+ *
+ * LegacyPrivacyFilter 는 바꾸기 전 PrivacyFilterServiceImpl 그대로다.
+ */
+class PrivacyFilterServiceTests {
+
+    private static final long SEED = 20250502L;
+    private static final int RANDOM_CASES = 200_000;
+
+    // 패턴 경계를 자주 건드리도록 숫자 · 구분자 · '@' · '.' 를 많이 섞는다
+    private static final String ALPHABET = "0000111122334455667789-- @@..abcXYZ_%+가나!\n";
+
+    private final PrivacyFilterServiceImpl privacyFilterService = new PrivacyFilterServiceImpl();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "010-1234-5678", "01012345678", "010 1234 5678", "011-123-4567", "연락처 01012345678 이요",
+            "010-12-5678", "0101234567", "10-1234-5678", "010--1234-5678",
+            "test@example.com", "a@b.co", "메일은 me.you+tag@mail.example.org 로", "a@b.c", "@example.com", "a@.com", "a@b..cd",
+            "900101-1234567", "9001011234567", "900101 2234567", "900101-5234567", "900101-123456",
+            "123-456-789012", "110 123 456789", "1002-123-456789", "3333-01-1234567", "12345678901234",
+            "123-45", "2025-05-02 15:30", "1-2-3-4-5-6-7-8-9-0", "12-34-56-78-90-12-34-56-78-90",
+            "0101234567801012345678", "가격은 120,000원이고 010-0000-0000 말고 채팅으로요",
+            "   ", "", "안녕하세요 내일 뵐게요", "x@y.zz 010-1234-5678 900101-1234567 1002-123-456789"
+    })
+    void 정해진_사례에서_예전_구현과_같다(String content) {
+        assertSameAsLegacy(content);
+    }
+
+    @Test
+    void 무작위_문자열에서_예전_구현과_같다() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < RANDOM_CASES; i++) {
+            assertSameAsLegacy(randomContent(random));
+        }
+    }
+
+    @Test
+    void 긴_숫자열에서도_예전_구현과_같다() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder content = new StringBuilder();
+            int length = 20 + random.nextInt(200);
+            for (int j = 0; j < length; j++) {
+                content.append(random.nextInt(12) == 0 ? (random.nextBoolean() ? '-' : ' ') : (char) ('0' + random.nextInt(10)));
+            }
+            assertSameAsLegacy(content.toString());
+        }
+    }
+
+    @Test
+    void null_은_개인정보가_없다() {
+        assertThat(privacyFilterService.containsPrivateInfo(null)).isFalse();
+        assertThat(privacyFilterService.getBlockReason(null)).isNull();
+    }
+
+    private void assertSameAsLegacy(String content) {
+        assertThat(privacyFilterService.getBlockReason(content))
+                .as("content=[%s]", content)
+                .isEqualTo(LegacyPrivacyFilter.getBlockReason(content));
+        assertThat(privacyFilterService.containsPrivateInfo(content))
+                .as("content=[%s]", content)
+                .isEqualTo(LegacyPrivacyFilter.containsPrivateInfo(content));
+    }
+
+    private static String randomContent(Random random) {
+        int length = random.nextInt(40);
+        StringBuilder content = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            content.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return content.toString();
+    }
+
+    /**
+     * 바꾸기 전 구현 (정규표현식)
+     */
+    private static final class LegacyPrivacyFilter {
+
+        private static final Pattern PHONE_PATTERN = Pattern.compile(
+                "01[0-9][- ]?[0-9]{3,4}[- ]?[0-9]{4}"
+        );
+
+        private static final Pattern EMAIL_PATTERN = Pattern.compile(
+                "[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}"
+        );
+
+        private static final Pattern ACCOUNT_PATTERN = Pattern.compile(
+                "\\d{2,6}[- ]?\\d{2,6}[- ]?\\d{2,6}[- ]?\\d{0,6}"
+        );
+
+        private static final Pattern SSN_PATTERN = Pattern.compile(
+                "\\d{6}[- ]?[1-4]\\d{6}"
+        );
+
+        static boolean containsPrivateInfo(String content) {
+            if (content == null || content.isBlank()) {
+                return false;
+            }
+
+            return PHONE_PATTERN.matcher(content).find()
+                    || EMAIL_PATTERN.matcher(content).find()
+                    || SSN_PATTERN.matcher(content).find()
+                    || isLikelyAccountNumber(content);
+        }
+
+        static String getBlockReason(String content) {
+            if (content == null || content.isBlank()) {
+                return null;
+            }
+
+            List<String> reasons = new ArrayList<>();
+            if (PHONE_PATTERN.matcher(content).find()) {
+                reasons.add("전화번호");
+            }
+            if (EMAIL_PATTERN.matcher(content).find()) {
+                reasons.add("이메일 주소");
+            }
+            if (SSN_PATTERN.matcher(content).find()) {
+                reasons.add("주민등록번호");
+            }
+            if (isLikelyAccountNumber(content)) {
+                reasons.add("계좌번호");
+            }
+            if (reasons.isEmpty()) {
+                return null;
+            }
+            return String.join(", ", reasons) + " 포함";
+        }
+
+        private static boolean isLikelyAccountNumber(String content) {
+            Matcher matcher = ACCOUNT_PATTERN.matcher(content);
+            while (matcher.find()) {
+                String matched = matcher.group();
+                String digitsOnly = matched.replaceAll("[- ]", "");
+                if (digitsOnly.length() >= 10 && digitsOnly.length() <= 16) {
+                    if (matched.contains("-") || matched.contains(" ")) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
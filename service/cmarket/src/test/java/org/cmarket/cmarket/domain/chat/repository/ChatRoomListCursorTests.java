@@ -0,0 +1,67 @@
+package org.cmarket.cmarket.domain.chat.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 채팅방 목록 커서 문자열 만들기 · 해석하기
+ */
+class ChatRoomListCursorTests {
+
+    @Test
+    void 커서는_마지막_활동_시각과_채팅방_ID를_되돌린다() {
+        ChatRoomListCursor cursor = new ChatRoomListCursor(LocalDateTime.of(2025, 5, 2, 9, 15, 30, 987_000_000), 123L);
+
+        assertThat(ChatRoomListCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 초가_0이어도_되돌린다() {
+        // LocalDateTime.toString 은 초 · 나노초가 0이면 줄여 쓴다 (2025-05-02T09:15)
+        ChatRoomListCursor cursor = new ChatRoomListCursor(LocalDateTime.of(2025, 5, 2, 9, 15), 1L);
+
+        assertThat(ChatRoomListCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 목록_줄로_만든_커서는_정렬_키만_담는다() {
+        LocalDateTime lastActivityAt = LocalDateTime.of(2025, 5, 2, 9, 15, 30);
+        ChatRoomListRow row = new ChatRoomListRow(
+                1L, 77L, 5L, "상품", 1000L, null, 2L, "상대", null,
+                "안녕하세요", lastActivityAt.minusMinutes(1), lastActivityAt, false);
+
+        assertThat(ChatRoomListCursor.of(row)).isEqualTo(new ChatRoomListCursor(lastActivityAt, 77L));
+    }
+
+    @Test
+    void 커서_문자열은_URL에_그대로_쓸_수_있다() {
+        String encoded = new ChatRoomListCursor(LocalDateTime.of(2025, 1, 1, 0, 0), Long.MAX_VALUE).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 형식이_맞지_않으면_예외() {
+        assertThatThrownBy(() -> ChatRoomListCursor.decode("%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChatRoomListCursor.decode(encode("2025-01-01T00:00")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChatRoomListCursor.decode(encode(",1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChatRoomListCursor.decode(encode("2025-01-01T00:00,abc")))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> ChatRoomListCursor.decode(encode("어제,1")))
+                .isInstanceOf(DateTimeParseException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,94 @@
+package org.cmarket.cmarket.domain.product.repository;
+
+import org.cmarket.cmarket.domain.product.model.Category;
+import org.cmarket.cmarket.domain.product.model.PetDetailType;
+import org.cmarket.cmarket.domain.product.model.PetType;
+import org.cmarket.cmarket.domain.product.model.Product;
+import org.cmarket.cmarket.domain.product.model.ProductStatus;
+import org.cmarket.cmarket.domain.product.model.ProductType;
+import org.cmarket.cmarket.domain.product.model.TradeStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품 커서 문자열 만들기 · 해석하기
+ */
+class ProductSearchCursorTests {
+
+    @Test
+    void 최신순_커서는_생성시각과_ID를_되돌린다() {
+        ProductSearchCursor cursor = new ProductSearchCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), null, null, 42L);
+
+        assertThat(ProductSearchCursor.decode(cursor.encode(), "createdAt")).isEqualTo(cursor);
+        assertThat(ProductSearchCursor.decode(cursor.encode(), null)).isEqualTo(cursor);
+    }
+
+    @Test
+    void 가격순_찜순_커서는_해당_키만_되돌린다() {
+        ProductSearchCursor byPrice = new ProductSearchCursor(null, 15000L, null, 7L);
+        ProductSearchCursor byFavorite = new ProductSearchCursor(null, null, 0L, 8L);
+
+        assertThat(ProductSearchCursor.decode(byPrice.encode(), "price")).isEqualTo(byPrice);
+        assertThat(ProductSearchCursor.decode(byFavorite.encode(), "FAVORITECOUNT")).isEqualTo(byFavorite);
+    }
+
+    @Test
+    void 상품으로_만든_커서는_정렬_기준의_키만_담는다() {
+        Product product = product(3000L);
+        ReflectionTestUtils.setField(product, "id", 11L);
+
+        assertThat(ProductSearchCursor.of(product, "price")).isEqualTo(new ProductSearchCursor(null, 3000L, null, 11L));
+        assertThat(ProductSearchCursor.of(product, "favoriteCount")).isEqualTo(new ProductSearchCursor(null, null, 0L, 11L));
+        assertThat(ProductSearchCursor.of(product, null))
+                .isEqualTo(new ProductSearchCursor(product.getCreatedAt(), null, null, 11L));
+    }
+
+    @Test
+    void 커서_문자열은_URL에_그대로_쓸_수_있다() {
+        String encoded = new ProductSearchCursor(LocalDateTime.of(2025, 1, 1, 0, 0), null, null, Long.MAX_VALUE).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 형식이_맞지_않으면_예외() {
+        assertThatThrownBy(() -> ProductSearchCursor.decode("%%%", "price"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductSearchCursor.decode(encode("15000"), "price"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductSearchCursor.decode(encode("15000,"), "price"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductSearchCursor.decode(encode("abc,1"), "price"))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 정렬 기준이 커서를 만들 때와 다르면 시각으로 읽지 못한다 (SearchServiceImpl 이 함께 잡는다)
+        assertThatThrownBy(() -> ProductSearchCursor.decode(encode("15000,1"), "createdAt"))
+                .isInstanceOf(DateTimeParseException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Product product(Long price) {
+        return Product.builder()
+                .sellerId(1L)
+                .productType(ProductType.SELL)
+                .petType(PetType.MAMMAL)
+                .petDetailType(PetDetailType.DOG)
+                .category(Category.FOOD)
+                .title("사료")
+                .description("설명")
+                .price(price)
+                .productStatus(ProductStatus.NEW)
+                .tradeStatus(TradeStatus.SELLING)
+                .build();
+    }
+}
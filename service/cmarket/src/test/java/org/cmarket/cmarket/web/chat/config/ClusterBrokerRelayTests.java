@@ -0,0 +1,213 @@
+package org.cmarket.cmarket.web.chat.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
+import org.cmarket.cmarket.domain.auth.model.UserRole;
+import org.cmarket.cmarket.web.CmarketApiApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서버 두 대 사이의 STOMP 브로커 중계 (ClusterBrokerRelay + ClusterMessageBus)
+ *
+ * 같은 JVM 에 애플리케이션 컨텍스트를 두 개 띄운다 (cluster.bus.enabled=true, DB 는 각자의 H2).
+ * Redis 는 테스트용 redis-server 하나를 같이 쓰므로 실제 Pub/Sub 으로 서로 넘긴다.
+ *
+ * 구독자는 WebSocket 연결 대신 각 서버의 Simple Broker 에 SUBSCRIBE 를 직접 넣어 만들고,
+ * 그 세션으로 나가는 프레임은 clientOutboundChannel 에서 받아 본다.
+ * 메시지가 서버 사이를 돌지 않는지는 각 서버의 brokerChannel 에 들어온 횟수로 본다.
+ *
+ * 같은 버스로 넘기는 사용자 식별 정보 캐시 삭제(UserIdentityResolverImpl)도 여기서 확인한다.
+ */
+class ClusterBrokerRelayTests {
+
+    private static final String DESTINATION = "/topic/chat/424242";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static BlockingQueue<Message<?>> receivedOnA;
+    private static BlockingQueue<Message<?>> receivedOnB;
+    private static BlockingQueue<Message<?>> brokeredOnA;
+    private static BlockingQueue<Message<?>> brokeredOnB;
+
+    @BeforeAll
+    static void startNodes() throws InterruptedException {
+        nodeA = startNode("cluster-node-a");
+        nodeB = startNode("cluster-node-b");
+        receivedOnA = subscribe(nodeA, "session-a");
+        receivedOnB = subscribe(nodeB, "session-b");
+        registerSubscription(nodeA, "session-a", DESTINATION);
+        registerSubscription(nodeB, "session-b", DESTINATION);
+        brokeredOnA = brokered(nodeA, DESTINATION);
+        brokeredOnB = brokered(nodeB, DESTINATION);
+
+        // 리스너 컨테이너의 구독은 기동 뒤에 비동기로 끝날 수 있으므로, B 가 받을 때까지 A 에서 보내 본다
+        String probe = "/topic/cluster-probe";
+        BlockingQueue<Message<?>> probeOnB = subscribe(nodeB, "probe-session");
+        registerSubscription(nodeB, "probe-session", probe);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (probeOnB.poll(200, TimeUnit.MILLISECONDS) == null) {
+            assertThat(System.nanoTime()).as("B 서버가 클러스터 채널을 구독하지 못했습니다").isLessThan(deadline);
+            nodeA.getBean(SimpMessagingTemplate.class).convertAndSend(probe, Map.of("probe", true));
+        }
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @BeforeEach
+    void clear() {
+        receivedOnA.clear();
+        receivedOnB.clear();
+        brokeredOnA.clear();
+        brokeredOnB.clear();
+    }
+
+    @Test
+    void 한_서버에서_보낸_채팅방_메시지를_다른_서버의_구독자도_받는다() throws InterruptedException {
+        nodeA.getBean(SimpMessagingTemplate.class).convertAndSend(DESTINATION, Map.of("content", "안녕하세요"));
+
+        Message<?> local = receivedOnA.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Message<?> relayed = receivedOnB.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(local).isNotNull();
+        assertThat(relayed).isNotNull();
+        assertThat(SimpMessageHeaderAccessor.getDestination(relayed.getHeaders())).isEqualTo(DESTINATION);
+        assertThat(new String((byte[]) relayed.getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo(new String((byte[]) local.getPayload(), StandardCharsets.UTF_8))
+                .contains("안녕하세요");
+        assertThat(relayed.getHeaders()).containsEntry(ClusterBrokerRelay.RELAYED_HEADER, Boolean.TRUE);
+
+        assertBrokeredOnceEach();
+    }
+
+    @Test
+    void 다른_서버에서_받은_메시지는_보낸_서버로_되돌리지_않는다() throws InterruptedException {
+        nodeB.getBean(SimpMessagingTemplate.class).convertAndSend(DESTINATION, Map.of("content", "B 에서"));
+
+        assertThat(receivedOnB.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+        assertThat(receivedOnA.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+
+        assertBrokeredOnceEach();
+    }
+
+    @Test
+    void 한_서버에서_지운_사용자_식별_정보를_다른_서버_캐시에서도_지운다() throws InterruptedException {
+        Cache<String, UserIdentity> cacheOnB = identityCache(nodeB);
+        cacheOnB.put("renamed@cluster.test", new UserIdentity(9_600_001L, "renamed@cluster.test", UserRole.USER, "before"));
+        cacheOnB.put("banned@cluster.test", new UserIdentity(9_600_002L, "banned@cluster.test", UserRole.USER, "banned"));
+        cacheOnB.put("other@cluster.test", new UserIdentity(9_600_003L, "other@cluster.test", UserRole.USER, "other"));
+
+        UserIdentityResolver resolverOnA = nodeA.getBean(UserIdentityResolver.class);
+        resolverOnA.evict("renamed@cluster.test");
+        resolverOnA.evictByUserId(9_600_002L);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (cacheOnB.getIfPresent("renamed@cluster.test") != null || cacheOnB.getIfPresent("banned@cluster.test") != null) {
+            assertThat(System.nanoTime()).as("B 서버 캐시에서 지워지지 않았습니다").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+        assertThat(cacheOnB.getIfPresent("other@cluster.test")).isNotNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<String, UserIdentity> identityCache(ConfigurableApplicationContext node) {
+        return (Cache<String, UserIdentity>) ReflectionTestUtils.getField(node.getBean(UserIdentityResolver.class), "cache");
+    }
+
+    /**
+     * 받은 서버는 다시 내보내지 않고, 보낸 서버는 자기 메시지를 버린다 → 브로커에는 서버마다 한 번씩만 들어간다
+     */
+    private static void assertBrokeredOnceEach() throws InterruptedException {
+        assertThat(brokeredOnA.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+        assertThat(brokeredOnB.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+        assertThat(brokeredOnA.poll(1, TimeUnit.SECONDS)).isNull();
+        assertThat(brokeredOnB.poll(1, TimeUnit.SECONDS)).isNull();
+    }
+
+    private static ConfigurableApplicationContext startNode(String name) {
+        return new SpringApplicationBuilder(CmarketApiApplication.class)
+                .profiles("prod", "test")
+                // properties() 는 기본값이라 설정 파일에 지므로 명령행 인자로 덮어쓴다
+                .run(
+                        "--server.port=0",
+                        "--cluster.bus.enabled=true",
+                        "--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+                );
+    }
+
+    /**
+     * 클라이언트가 CONNECT 한 것처럼 브로커에 세션을 열고, 그 세션으로 나가는 프레임을 모으는 큐
+     *
+     * Simple Broker 는 CONNECT 한 세션에만 메시지를 보낸다.
+     */
+    private static BlockingQueue<Message<?>> subscribe(ConfigurableApplicationContext node, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[]{0, 0});
+        node.getBean(SimpleBrokerMessageHandler.class)
+                .handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+
+        BlockingQueue<Message<?>> received = new LinkedBlockingQueue<>();
+        node.getBean("clientOutboundChannel", AbstractSubscribableChannel.class).subscribe(message -> {
+            if (sessionId.equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))
+                    && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                received.add(message);
+            }
+        });
+        return received;
+    }
+
+    /**
+     * 브로커 채널로 들어오는 destination 메시지를 모으는 큐 (중계가 돌면 같은 메시지가 여러 번 들어온다)
+     */
+    private static BlockingQueue<Message<?>> brokered(ConfigurableApplicationContext node, String destination) {
+        BlockingQueue<Message<?>> received = new LinkedBlockingQueue<>();
+        node.getBean("brokerChannel", AbstractSubscribableChannel.class).subscribe(message -> {
+            if (destination.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                received.add(message);
+            }
+        });
+        return received;
+    }
+
+    /**
+     * 클라이언트가 SUBSCRIBE 한 것처럼 브로커에 구독을 등록한다
+     */
+    private static void registerSubscription(ConfigurableApplicationContext node, String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(destination);
+        accessor.setDestination(destination);
+        node.getBean(SimpleBrokerMessageHandler.class)
+                .handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+}
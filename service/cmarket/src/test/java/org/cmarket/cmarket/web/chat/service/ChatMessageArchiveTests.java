@@ -0,0 +1,128 @@
+package org.cmarket.cmarket.web.chat.service;
+
+import org.cmarket.cmarket.domain.chat.app.service.ChatService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대화가 끊긴 방의 오래된 메시지 보관 (방 고르기 → 고른 방의 메시지만 잠가 옮기기)
+ */
+@SpringBootTest
+class ChatMessageArchiveTests {
+
+    private static final long IDLE_ROOM = 9_300_001L;
+    private static final long ACTIVE_ROOM = 9_300_002L;
+    private static final long UNKNOWN_ACTIVITY_ROOM = 9_300_003L;
+    private static final long SECOND_IDLE_ROOM = 9_300_004L;
+    private static final List<Long> ROOMS = List.of(IDLE_ROOM, ACTIVE_ROOM, UNKNOWN_ACTIVITY_ROOM, SECOND_IDLE_ROOM);
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    private final LocalDateTime messageCutoff = now.minusDays(180);
+    private final LocalDateTime roomIdleCutoff = now.minusDays(90);
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 커넥션 풀이 auto-commit=false 라 직접 넣고 지우는 쿼리는 트랜잭션으로 감싼다
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long chatRoomId : ROOMS) {
+                jdbcTemplate.update("DELETE FROM chat_messages WHERE chat_room_id = ?", chatRoomId);
+                jdbcTemplate.update("DELETE FROM chat_messages_archive WHERE chat_room_id = ?", chatRoomId);
+                jdbcTemplate.update("DELETE FROM chat_room_users WHERE chat_room_id = ?", chatRoomId);
+            }
+        });
+    }
+
+    @Test
+    void 조용한_방의_오래된_메시지만_오래된_것부터_옮긴다() {
+        addParticipants(IDLE_ROOM, now.minusDays(200), now.minusDays(150));
+        addParticipants(ACTIVE_ROOM, now.minusDays(200), now.minusDays(1));
+        addParticipants(UNKNOWN_ACTIVITY_ROOM, now.minusDays(200), null);
+        for (int day = 300; day > 295; day--) {
+            addMessage(IDLE_ROOM, now.minusDays(day));
+            addMessage(ACTIVE_ROOM, now.minusDays(day));
+            addMessage(UNKNOWN_ACTIVITY_ROOM, now.minusDays(day));
+        }
+        // 오래되지 않은 메시지는 조용한 방이어도 남는다
+        addMessage(IDLE_ROOM, now.minusDays(160));
+
+        assertThat(chatService.archiveColdMessages(messageCutoff, roomIdleCutoff, 3)).isEqualTo(3);
+        assertThat(archivedCreatedAt(IDLE_ROOM)).containsExactly(
+                now.minusDays(300), now.minusDays(299), now.minusDays(298));
+        // 남은 메시지는 모두 보관된 것보다 새것이다
+        assertThat(hotCount(IDLE_ROOM)).isEqualTo(3);
+
+        assertThat(chatService.archiveColdMessages(messageCutoff, roomIdleCutoff, 3)).isEqualTo(2);
+        assertThat(chatService.archiveColdMessages(messageCutoff, roomIdleCutoff, 3)).isZero();
+
+        assertThat(hotCount(IDLE_ROOM)).isEqualTo(1);
+        assertThat(hotCount(ACTIVE_ROOM)).isEqualTo(5);
+        assertThat(hotCount(UNKNOWN_ACTIVITY_ROOM)).isEqualTo(5);
+    }
+
+    @Test
+    void 한_묶음에_여러_방을_이어서_옮긴다() {
+        addParticipants(IDLE_ROOM, now.minusDays(200), now.minusDays(150));
+        addParticipants(SECOND_IDLE_ROOM, now.minusDays(200), now.minusDays(150));
+        addMessage(IDLE_ROOM, now.minusDays(250));
+        addMessage(IDLE_ROOM, now.minusDays(240));
+        addMessage(SECOND_IDLE_ROOM, now.minusDays(300));
+
+        assertThat(chatService.archiveColdMessages(messageCutoff, roomIdleCutoff, 500)).isEqualTo(3);
+        assertThat(hotCount(IDLE_ROOM)).isZero();
+        assertThat(hotCount(SECOND_IDLE_ROOM)).isZero();
+    }
+
+    private void addParticipants(long chatRoomId, LocalDateTime joinedAt, LocalDateTime lastActivityAt) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (long userId = 1; userId <= 2; userId++) {
+                jdbcTemplate.update(
+                        "INSERT INTO chat_room_users (chat_room_id, user_id, user_nickname, is_active, last_activity_at, created_at, updated_at) "
+                                + "VALUES (?, ?, ?, true, ?, ?, ?)",
+                        chatRoomId, userId, "user" + userId,
+                        lastActivityAt != null ? Timestamp.valueOf(lastActivityAt) : null,
+                        Timestamp.valueOf(joinedAt), Timestamp.valueOf(joinedAt));
+            }
+        });
+    }
+
+    private void addMessage(long chatRoomId, LocalDateTime createdAt) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO chat_messages (chat_room_id, sender_id, sender_nickname, message_type, content, is_read, is_blocked, created_at) "
+                        + "VALUES (?, 1, 'user1', 'TEXT', 'hello', false, false, ?)",
+                chatRoomId, Timestamp.valueOf(createdAt)));
+    }
+
+    private int hotCount(long chatRoomId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_messages WHERE chat_room_id = ?", Integer.class, chatRoomId);
+    }
+
+    private List<LocalDateTime> archivedCreatedAt(long chatRoomId) {
+        return jdbcTemplate.queryForList(
+                        "SELECT created_at FROM chat_messages_archive WHERE chat_room_id = ? ORDER BY created_at",
+                        Timestamp.class, chatRoomId)
+                .stream()
+                .map(Timestamp::toLocalDateTime)
+                .toList();
+    }
+}
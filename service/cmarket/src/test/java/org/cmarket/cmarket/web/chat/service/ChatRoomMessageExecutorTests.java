@@ -0,0 +1,158 @@
+package org.cmarket.cmarket.web.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅방별 메시지 처리 실행기: 방 안 순서, 방끼리 동시 처리, 대기열 제한
+ */
+class ChatRoomMessageExecutorTests {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private ChatRoomMessageExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void 같은_방_작업은_넣은_순서대로_하나씩_실행된다() throws InterruptedException {
+        executor = new ChatRoomMessageExecutor(new SimpleMeterRegistry(), 8, false, 100_000, 10_000, 60_000);
+        int rooms = 6;
+        int tasksPerRoom = 500;
+        Map<Long, List<Integer>> executed = new ConcurrentHashMap<>();
+        Map<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(rooms * tasksPerRoom);
+
+        // 방마다 보내는 스레드를 따로 둬서 방끼리 execute 가 섞이게 한다
+        List<Thread> producers = new ArrayList<>();
+        for (long room = 1; room <= rooms; room++) {
+            long chatRoomId = room;
+            executed.put(chatRoomId, Collections.synchronizedList(new ArrayList<>()));
+            running.put(chatRoomId, new AtomicInteger());
+            producers.add(new Thread(() -> {
+                for (int seq = 0; seq < tasksPerRoom; seq++) {
+                    int value = seq;
+                    assertThat(executor.execute(chatRoomId, () -> {
+                        if (running.get(chatRoomId).incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        // 작업 길이를 흔들어 방끼리 실행이 엇갈리게 한다
+                        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(20_000));
+                        executed.get(chatRoomId).add(value);
+                        running.get(chatRoomId).decrementAndGet();
+                        done.countDown();
+                    })).isTrue();
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(overlaps).hasValue(0);
+        List<Integer> expected = IntStream.range(0, tasksPerRoom).boxed().toList();
+        executed.forEach((chatRoomId, values) -> assertThat(values).as("room %d", chatRoomId).isEqualTo(expected));
+    }
+
+    @Test
+    void 한_방이_막혀도_다른_방은_처리된다() throws InterruptedException {
+        executor = new ChatRoomMessageExecutor(new SimpleMeterRegistry(), 2, false, 1000, 100, 60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherRoomDone = new CountDownLatch(1);
+
+        executor.execute(1L, () -> await(release));
+        executor.execute(1L, () -> { });
+        executor.execute(2L, otherRoomDone::countDown);
+
+        assertThat(otherRoomDone.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    void 작업이_많은_방도_작업_스레드를_혼자_붙잡지_않는다() throws InterruptedException {
+        // 작업 스레드 하나: 방 1 이 DRAIN_BATCH 개를 처리하면 방 2 뒤로 다시 줄을 서야 한다
+        executor = new ChatRoomMessageExecutor(new SimpleMeterRegistry(), 1, false, 1000, 1000, 60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(200);
+
+        executor.execute(1L, () -> await(release));
+        for (int i = 0; i < 100; i++) {
+            String room1 = "1:" + i;
+            String room2 = "2:" + i;
+            executor.execute(1L, () -> {
+                order.add(room1);
+                done.countDown();
+            });
+            executor.execute(2L, () -> {
+                order.add(room2);
+                done.countDown();
+            });
+        }
+        release.countDown();
+
+        assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(order.indexOf("2:0")).isLessThan(order.indexOf("1:99"));
+        assertThat(order.stream().filter(value -> value.startsWith("1:")).toList())
+                .isEqualTo(IntStream.range(0, 100).mapToObj(i -> "1:" + i).toList());
+        assertThat(order.stream().filter(value -> value.startsWith("2:")).toList())
+                .isEqualTo(IntStream.range(0, 100).mapToObj(i -> "2:" + i).toList());
+    }
+
+    @Test
+    void 대기열이_차면_받지_않는다() throws InterruptedException {
+        // 작업 스레드 하나를 막아 두면 뒤에 넣은 작업은 모두 대기로 남는다
+        executor = new ChatRoomMessageExecutor(new SimpleMeterRegistry(), 1, false, 4, 2, 60_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertThat(executor.execute(1L, () -> {
+            started.countDown();
+            await(release);
+        })).isTrue();
+        assertThat(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // 방 1: 실행 중인 작업은 대기에서 빠졌으므로 두 개 더 받는다
+        assertThat(executor.execute(1L, () -> { })).isTrue();
+        assertThat(executor.execute(1L, () -> { })).isTrue();
+        assertThat(executor.execute(1L, () -> { })).as("한 방 대기 수 초과").isFalse();
+
+        // 전체: 방 1 대기 2 + 방 2, 3 하나씩 = 4
+        assertThat(executor.execute(2L, () -> { })).isTrue();
+        assertThat(executor.execute(3L, () -> { })).isTrue();
+        assertThat(executor.execute(4L, () -> { })).as("전체 대기 수 초과").isFalse();
+
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.cmarket.cmarket.web.chat.service;
+
+import org.cmarket.cmarket.domain.chat.app.service.ChatSessionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 사용자가 이 서버에 소켓을 여럿 열었을 때 (탭 · 기기) 세션 키와 현재 채팅방
+ */
+@SpringBootTest
+class ChatSessionServiceTests {
+
+    private static final long USER_ID = 9_100_001L;
+    private static final String SESSION_KEY = "chat:session:" + USER_ID;
+    private static final String CURRENT_ROOM_KEY = "chat:current:" + USER_ID;
+
+    @Autowired
+    private ChatSessionService chatSessionService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        chatSessionService.removeUserSession(USER_ID, "older");
+        chatSessionService.removeUserSession(USER_ID, "newer");
+        stringRedisTemplate.delete(SESSION_KEY);
+        stringRedisTemplate.delete(CURRENT_ROOM_KEY);
+    }
+
+    @Test
+    void 새_소켓을_닫아도_남은_소켓이_있으면_접속_상태와_현재_채팅방을_유지한다() {
+        chatSessionService.addUserSession(USER_ID, "older");
+        chatSessionService.addUserSession(USER_ID, "newer");
+        chatSessionService.setUserCurrentChatRoom(USER_ID, 77L);
+
+        chatSessionService.removeUserSession(USER_ID, "newer");
+
+        assertThat(stringRedisTemplate.opsForValue().get(SESSION_KEY)).isEqualTo("older");
+        assertThat(stringRedisTemplate.getExpire(SESSION_KEY)).isPositive();
+        assertThat(stringRedisTemplate.opsForValue().get(CURRENT_ROOM_KEY)).isEqualTo("77");
+        assertThat(chatSessionService.isUserOnline(USER_ID)).isTrue();
+        assertThat(chatSessionService.getUserCurrentChatRoom(USER_ID)).isEqualTo(77L);
+    }
+
+    @Test
+    void 이전_소켓을_닫으면_세션_키는_새_소켓을_그대로_가리킨다() {
+        chatSessionService.addUserSession(USER_ID, "older");
+        chatSessionService.addUserSession(USER_ID, "newer");
+        chatSessionService.setUserCurrentChatRoom(USER_ID, 77L);
+
+        chatSessionService.removeUserSession(USER_ID, "older");
+
+        assertThat(stringRedisTemplate.opsForValue().get(SESSION_KEY)).isEqualTo("newer");
+        assertThat(chatSessionService.getUserCurrentChatRoom(USER_ID)).isEqualTo(77L);
+    }
+
+    @Test
+    void 마지막_소켓을_닫으면_세션과_현재_채팅방을_지운다() {
+        chatSessionService.addUserSession(USER_ID, "older");
+        chatSessionService.addUserSession(USER_ID, "newer");
+        chatSessionService.setUserCurrentChatRoom(USER_ID, 77L);
+
+        chatSessionService.removeUserSession(USER_ID, "newer");
+        chatSessionService.removeUserSession(USER_ID, "older");
+
+        assertThat(stringRedisTemplate.hasKey(SESSION_KEY)).isFalse();
+        assertThat(stringRedisTemplate.hasKey(CURRENT_ROOM_KEY)).isFalse();
+        assertThat(chatSessionService.isUserOnline(USER_ID)).isFalse();
+        assertThat(chatSessionService.getUserCurrentChatRoom(USER_ID)).isNull();
+    }
+}
@@ -0,0 +1,197 @@
+package org.cmarket.cmarket.web.notification.service;
+
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationCreateCommand;
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationOutboxRelayResult;
+import org.cmarket.cmarket.domain.notification.app.service.NotificationOutboxService;
+import org.cmarket.cmarket.domain.notification.model.NotificationOutbox;
+import org.cmarket.cmarket.domain.notification.model.NotificationOutboxType;
+import org.cmarket.cmarket.domain.notification.model.NotificationType;
+import org.cmarket.cmarket.domain.notification.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 아웃박스: 사용자마다 순서 지키기, 실패한 행 재시도 간격, 같은 방 채팅 알림 묶기
+ *
+ * 릴레이가 스스로 돌면 행을 먼저 가져가므로 poll 을 길게 두고, 다른 테스트의 릴레이와 섞이지 않게 DB 도 따로 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notification-outbox-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "notification.outbox.poll-interval-ms=3600000"
+})
+class NotificationOutboxRelayTests {
+
+    private static final long USER_A = 9_500_001L;
+    private static final long USER_B = 9_500_002L;
+
+    @Autowired
+    private NotificationOutboxService notificationOutboxService;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private NotificationOutboxRelay notificationOutboxRelay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 커넥션 풀이 auto-commit=false 라 직접 고치고 지우는 쿼리는 트랜잭션으로 감싼다
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM notification_outbox");
+            jdbcTemplate.update("DELETE FROM notifications");
+        });
+    }
+
+    @Test
+    void 재시도를_기다리는_행_뒤의_같은_사용자_행은_보내지_않는다() {
+        Long a1 = enqueue(USER_A, "a1");
+        Long b1 = enqueue(USER_B, "b1");
+        Long a2 = enqueue(USER_A, "a2");
+        notificationOutboxService.recordFailure(a1, "boom", 10, Duration.ofHours(1), Duration.ofHours(1));
+
+        // 사용자 A 는 a1 이 재시도를 기다리므로 a2 도 고르지 않는다
+        assertThat(notificationOutboxService.findRelayableIds(NotificationOutboxType.NOTIFICATION, 10))
+                .containsExactly(b1);
+
+        // 직접 넘겨도 a2 는 미루고 B 만 보낸다
+        NotificationOutboxRelayResult result = notificationOutboxService.relayNotifications(List.of(a1, b1, a2));
+        assertThat(result.notifications()).isEqualTo(1);
+        assertThat(result.deferred()).isEqualTo(1);
+        assertThat(delivered(USER_A)).isEmpty();
+        assertThat(delivered(USER_B)).containsExactly("b1");
+
+        // a1 의 재시도 시각이 지나면 a1, a2 순서로 나간다
+        makeDue(a1);
+        notificationOutboxRelay.relayNotifications();
+
+        assertThat(delivered(USER_A)).containsExactly("a1", "a2");
+        assertThat(notificationOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    void 앞선_행이_묶음_밖에_있으면_뒤_행을_미룬다() {
+        Long a1 = enqueue(USER_A, "a1");
+        Long a2 = enqueue(USER_A, "a2");
+
+        NotificationOutboxRelayResult deferred = notificationOutboxService.relayNotifications(List.of(a2));
+        assertThat(deferred.notifications()).isZero();
+        assertThat(deferred.deferred()).isEqualTo(1);
+        assertThat(delivered(USER_A)).isEmpty();
+
+        NotificationOutboxRelayResult relayed = notificationOutboxService.relayNotifications(List.of(a1, a2));
+        assertThat(relayed.notifications()).isEqualTo(2);
+        assertThat(relayed.completedCreatedAts()).hasSize(2);
+        assertThat(delivered(USER_A)).containsExactly("a1", "a2");
+    }
+
+    @Test
+    void 실패할_때마다_두_배씩_늦추고_max_attempts_에서_포기한다() {
+        Long id = enqueue(USER_A, "a1");
+        Duration backoff = Duration.ofSeconds(10);
+        Duration maxBackoff = Duration.ofSeconds(30);
+        int maxAttempts = 4;
+
+        // 10초, 20초, 40초 → 최대 30초
+        List<Duration> expectedDelays = List.of(Duration.ofSeconds(10), Duration.ofSeconds(20), Duration.ofSeconds(30));
+        for (int i = 0; i < expectedDelays.size(); i++) {
+            LocalDateTime before = LocalDateTime.now();
+            assertThat(notificationOutboxService.recordFailure(id, "boom", maxAttempts, backoff, maxBackoff)).isFalse();
+            LocalDateTime after = LocalDateTime.now();
+
+            NotificationOutbox outbox = notificationOutboxRepository.findById(id).orElseThrow();
+            assertThat(outbox.getAttempts()).isEqualTo(i + 1);
+            assertThat(outbox.getFailedAt()).isNull();
+            assertThat(outbox.getNextAttemptAt())
+                    .isBetween(before.plus(expectedDelays.get(i)), after.plus(expectedDelays.get(i)));
+            assertThat(notificationOutboxService.findRelayableIds(NotificationOutboxType.NOTIFICATION, 10)).isEmpty();
+        }
+
+        assertThat(notificationOutboxService.recordFailure(id, "boom", maxAttempts, backoff, maxBackoff)).isTrue();
+        NotificationOutbox dead = notificationOutboxRepository.findById(id).orElseThrow();
+        assertThat(dead.getAttempts()).isEqualTo(maxAttempts);
+        assertThat(dead.getFailedAt()).isNotNull();
+
+        // 포기한 행은 다시 보내지 않지만 지우지도 않는다. 같은 사용자의 뒤 행도 더는 막지 않는다.
+        Long a2 = enqueue(USER_A, "a2");
+        makeDue(id);
+        assertThat(notificationOutboxService.findRelayableIds(NotificationOutboxType.NOTIFICATION, 10))
+                .containsExactly(a2);
+        assertThat(notificationOutboxService.getStats().failed()).isEqualTo(1);
+    }
+
+    @Test
+    void 한_묶음의_같은_방_채팅_알림은_하나만_만든다() {
+        long roomId = 77L;
+        enqueueChat(USER_A, roomId, "메시지 1개");
+        enqueueChat(USER_A, roomId, "메시지 2개");
+        enqueueChat(USER_A, 78L, "다른 방");
+        enqueueChat(USER_A, roomId, "메시지 3개");
+        enqueueChat(USER_B, roomId, "B 메시지 1개");
+
+        notificationOutboxRelay.relayNotifications();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT content FROM notifications WHERE user_id = ? AND related_entity_id = ? AND is_read = false",
+                String.class, USER_A, roomId))
+                .containsExactly("메시지 3개");
+        assertThat(delivered(USER_A)).containsExactly("다른 방", "메시지 3개");
+        assertThat(delivered(USER_B)).containsExactly("B 메시지 1개");
+        assertThat(notificationOutboxRepository.count()).isZero();
+
+        // 다음 묶음에서 온 같은 방 알림은 안 읽은 이전 알림을 갈아 끼운다
+        enqueueChat(USER_A, roomId, "메시지 4개");
+        notificationOutboxRelay.relayNotifications();
+        assertThat(delivered(USER_A)).containsExactly("다른 방", "메시지 4개");
+    }
+
+    private void enqueueChat(long userId, long chatRoomId, String content) {
+        notificationOutboxService.enqueue(NotificationCreateCommand.builder()
+                .userId(userId)
+                .notificationType(NotificationType.CHAT_NEW_MESSAGE)
+                .title("chat")
+                .content(content)
+                .relatedEntityType("CHAT_ROOM")
+                .relatedEntityId(chatRoomId)
+                .build());
+    }
+
+    private Long enqueue(long userId, String content) {
+        notificationOutboxService.enqueue(NotificationCreateCommand.builder()
+                .userId(userId)
+                .notificationType(NotificationType.POST_COMMENT)
+                .title("comment")
+                .content(content)
+                .relatedEntityType("POST")
+                .relatedEntityId(1L)
+                .build());
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM notification_outbox", Long.class);
+    }
+
+    private void makeDue(Long id) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE notification_outbox SET next_attempt_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), id));
+    }
+
+    private List<String> delivered(long userId) {
+        return jdbcTemplate.queryForList(
+                "SELECT content FROM notifications WHERE user_id = ? ORDER BY id", String.class, userId);
+    }
+}
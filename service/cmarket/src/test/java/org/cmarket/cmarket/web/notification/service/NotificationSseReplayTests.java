@@ -0,0 +1,230 @@
+package org.cmarket.cmarket.web.notification.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.cmarket.cmarket.domain.auth.app.dto.UserIdentity;
+import org.cmarket.cmarket.domain.auth.app.service.UserIdentityResolver;
+import org.cmarket.cmarket.domain.auth.model.UserRole;
+import org.cmarket.cmarket.domain.notification.app.dto.NotificationCreateCommand;
+import org.cmarket.cmarket.domain.notification.app.service.NotificationService;
+import org.cmarket.cmarket.domain.notification.model.NotificationType;
+import org.cmarket.cmarket.web.notification.controller.NotificationSseController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * SSE 재연결 시 Last-Event-ID 이후 놓친 알림 다시 보내기 (버퍼 · DB · resync)
+ *
+ * 컨트롤러부터 SseEmitter 가 응답에 쓴 이벤트 스트림까지 확인한다.
+ * 이벤트는 전송 풀에서 쓰이므로 기대한 개수가 응답에 나올 때까지 기다렸다가 본다.
+ * 보안 필터 없이 컨트롤러만 올리고, 로그인 사용자는 SecurityContext 에 직접 넣는다.
+ */
+@SpringBootTest
+class NotificationSseReplayTests {
+
+    private static final long BUFFERED_USER_ID = 9_400_001L;
+    private static final long DB_USER_ID = 9_400_002L;
+    private static final long RESYNC_USER_ID = 9_400_003L;
+    private static final List<Long> USER_IDS = List.of(BUFFERED_USER_ID, DB_USER_ID, RESYNC_USER_ID);
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private static final Pattern NOTIFICATION_EVENT_ID = Pattern.compile("event:notification\ndata:[^\n]*\nid:(\\d+)\n");
+
+    @Autowired
+    private NotificationSseService notificationSseService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        UserIdentityResolver userIdentityResolver = new UserIdentityResolver() {
+            @Override
+            public Optional<UserIdentity> findByEmail(String email) {
+                return Optional.of(new UserIdentity(Long.parseLong(email.substring(0, email.indexOf('@'))), email, UserRole.USER, "sse"));
+            }
+
+            @Override
+            public void evict(String email) {
+            }
+
+            @Override
+            public void evictByUserId(Long userId) {
+            }
+        };
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new NotificationSseController(notificationSseService, userIdentityResolver))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        USER_IDS.forEach(notificationSseService::disconnect);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long userId : USER_IDS) {
+                jdbcTemplate.update("DELETE FROM notifications WHERE user_id = ?", userId);
+            }
+        });
+    }
+
+    @Test
+    void 끊긴_사이의_알림을_버퍼에서_이어서_보낸다() throws Exception {
+        MockHttpServletResponse first = stream(BUFFERED_USER_ID, null);
+        List<Long> delivered = createNotifications(BUFFERED_USER_ID, 3);
+
+        // 처음 연결: connect 이벤트에 재연결 대기 시간, 이후 알림은 알림 ID 를 이벤트 ID 로 받는다
+        assertThat(awaitEventIds(first, delivered.size())).isEqualTo(delivered);
+        assertThat(content(first)).startsWith("event:connect\nretry:3000\ndata:Connect Success\n\n");
+
+        notificationSseService.disconnect(BUFFERED_USER_ID);
+        List<Long> missed = createNotifications(BUFFERED_USER_ID, 2);
+        double bufferReplays = replayCount("buffer");
+        double dbReplays = replayCount("db");
+
+        MockHttpServletResponse reconnected = stream(BUFFERED_USER_ID, delivered.get(0));
+
+        List<Long> expected = new ArrayList<>(delivered.subList(1, delivered.size()));
+        expected.addAll(missed);
+        assertThat(awaitEventIds(reconnected, expected.size())).isEqualTo(expected);
+        assertThat(replayCount("buffer") - bufferReplays).isEqualTo(expected.size());
+        assertThat(replayCount("db")).isEqualTo(dbReplays);
+    }
+
+    @Test
+    void 버퍼에_없으면_DB_에서_이어서_보낸다() throws Exception {
+        // 이 서버에 연결한 적이 없어 버퍼가 없다 (재시작 · 다른 서버에서 온 재연결과 같다)
+        List<Long> created = createNotifications(DB_USER_ID, 4);
+        double dbReplays = replayCount("db");
+
+        MockHttpServletResponse reconnected = stream(DB_USER_ID, created.get(0));
+
+        assertThat(awaitEventIds(reconnected, created.size() - 1)).isEqualTo(created.subList(1, created.size()));
+        assertThat(replayCount("db") - dbReplays).isEqualTo(3);
+
+        // 다시 보낸 뒤에 만든 알림은 이어서 실시간으로 받는다
+        List<Long> live = createNotifications(DB_USER_ID, 1);
+        assertThat(awaitEventIds(reconnected, created.size())).endsWith(live.get(0));
+    }
+
+    @Test
+    void 너무_많이_놓쳤으면_resync_만_보낸다() throws Exception {
+        // notification.sse.replay.db-limit(100) 보다 많이 놓친 경우
+        List<Long> created = createNotifications(RESYNC_USER_ID, 102);
+
+        MockHttpServletResponse reconnected = stream(RESYNC_USER_ID, created.get(0));
+
+        assertThat(awaitContent(reconnected, "event:resync\ndata:resync\n\n")).isTrue();
+        assertThat(eventIds(reconnected)).isEmpty();
+    }
+
+    private MockHttpServletResponse stream(long userId, Long lastEventId) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId + "@sse.test", null, List.of()));
+        MockHttpServletRequestBuilder builder = get("/api/notifications/stream");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", String.valueOf(lastEventId));
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    /**
+     * 알림 count 개를 만들고 ID 를 만든 순서대로 돌려준다
+     */
+    private List<Long> createNotifications(long userId, int count) {
+        notificationService.createNotifications(IntStream.range(0, count)
+                .mapToObj(i -> NotificationCreateCommand.builder()
+                        .userId(userId)
+                        .notificationType(NotificationType.POST_COMMENT)
+                        .title("comment")
+                        .content("comment " + i)
+                        .relatedEntityType("POST")
+                        .relatedEntityId((long) i)
+                        .build())
+                .toList());
+        List<Long> ids = new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT id FROM notifications WHERE user_id = ? ORDER BY id DESC LIMIT ?", Long.class, userId, count));
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private double replayCount(String source) {
+        return meterRegistry.get("notification.sse.replay").tag("source", source).counter().count();
+    }
+
+    /**
+     * 알림 이벤트가 count 개 쓰일 때까지 기다렸다가 ID 를 돌려준다 (시간이 지나면 그때까지 쓰인 것)
+     */
+    private static List<Long> awaitEventIds(MockHttpServletResponse response, int count) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        List<Long> ids = eventIds(response);
+        while (ids.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            ids = eventIds(response);
+        }
+        return ids;
+    }
+
+    private static boolean awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!content(response).contains(expected)) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(20);
+        }
+        return true;
+    }
+
+    private static String content(MockHttpServletResponse response) throws Exception {
+        return response.getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private static List<Long> eventIds(MockHttpServletResponse response) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = NOTIFICATION_EVENT_ID.matcher(content(response));
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+}
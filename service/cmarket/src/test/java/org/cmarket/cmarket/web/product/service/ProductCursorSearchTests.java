@@ -0,0 +1,112 @@
+package org.cmarket.cmarket.web.product.service;
+
+import org.cmarket.cmarket.domain.product.model.Category;
+import org.cmarket.cmarket.domain.product.model.PetDetailType;
+import org.cmarket.cmarket.domain.product.model.PetType;
+import org.cmarket.cmarket.domain.product.model.Product;
+import org.cmarket.cmarket.domain.product.model.ProductStatus;
+import org.cmarket.cmarket.domain.product.model.ProductType;
+import org.cmarket.cmarket.domain.product.model.TradeStatus;
+import org.cmarket.cmarket.domain.product.repository.ProductRepository;
+import org.cmarket.cmarket.domain.product.repository.ProductSearchCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인 후보로 하는 커서 검색이 IN 목록을 나눠 물어도 LIKE 커서 검색과 같은 순서로 끝까지 넘어가는지 확인한다.
+ *
+ * 후보는 묶음(1000개) 여러 개에 걸치도록 만들고, 가격은 일부러 겹치게 두어 id 동점 처리도 함께 본다.
+ */
+@SpringBootTest
+class ProductCursorSearchTests {
+
+    private static final String KEYWORD = "커서검색";
+    private static final int PRODUCT_COUNT = 2300;
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final List<Product> fixtures = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = Product.builder()
+                    .sellerId(1L)
+                    .productType(ProductType.SELL)
+                    .petType(PetType.MAMMAL)
+                    .petDetailType(PetDetailType.DOG)
+                    .category(Category.FOOD)
+                    .title(KEYWORD + " " + i)
+                    .description("설명")
+                    .price((long) (i * 37 % 400) * 100)
+                    .productStatus(ProductStatus.NEW)
+                    .tradeStatus(TradeStatus.SELLING)
+                    .build();
+            ReflectionTestUtils.setField(product, "createdAt", base.plusSeconds(i / 3));
+            products.add(product);
+        }
+        fixtures.addAll(productRepository.saveAll(products));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch(fixtures);
+        fixtures.clear();
+    }
+
+    @Test
+    void 후보를_나눠_물어도_커서_순서가_LIKE_검색과_같다() {
+        List<Long> candidateIds = new ArrayList<>(fixtures.stream().map(Product::getId).toList());
+        Collections.shuffle(candidateIds, new Random(7));
+
+        for (String[] sort : List.of(
+                new String[]{"price", "asc"},
+                new String[]{"price", "desc"},
+                new String[]{"createdAt", "desc"})) {
+            List<Long> byLike = walk(null, sort[0], sort[1]);
+            List<Long> byCandidates = walk(candidateIds, sort[0], sort[1]);
+
+            assertThat(byLike).as("sortBy=%s, sortOrder=%s", sort[0], sort[1]).hasSize(PRODUCT_COUNT);
+            assertThat(byCandidates).as("sortBy=%s, sortOrder=%s", sort[0], sort[1]).containsExactlyElementsOf(byLike);
+        }
+    }
+
+    /**
+     * 첫 페이지부터 마지막 페이지까지 커서로 넘기며 ID 를 모은다
+     */
+    private List<Long> walk(Collection<Long> candidateIds, String sortBy, String sortOrder) {
+        List<Long> ids = new ArrayList<>();
+        ProductSearchCursor cursor = null;
+        while (true) {
+            List<Product> page = productRepository.searchProductsByCursor(
+                    List.of(KEYWORD), candidateIds, null, null, null, null, null, null,
+                    null, null, null, null, sortBy, sortOrder, null, cursor, PAGE_SIZE + 1);
+            boolean hasNext = page.size() > PAGE_SIZE;
+            List<Product> content = hasNext ? page.subList(0, PAGE_SIZE) : page;
+            content.forEach(product -> ids.add(product.getId()));
+            if (!hasNext) {
+                return ids;
+            }
+            // 실제 API 처럼 문자열로 내보냈다가 다시 읽는다
+            String encoded = ProductSearchCursor.of(content.get(content.size() - 1), sortBy).encode();
+            cursor = ProductSearchCursor.decode(encoded, sortBy);
+        }
+    }
+}
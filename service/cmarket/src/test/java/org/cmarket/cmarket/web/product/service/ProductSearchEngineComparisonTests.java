@@ -0,0 +1,220 @@
+package org.cmarket.cmarket.web.product.service;
+
+import org.cmarket.cmarket.domain.product.model.Category;
+import org.cmarket.cmarket.domain.product.model.PetDetailType;
+import org.cmarket.cmarket.domain.product.model.PetType;
+import org.cmarket.cmarket.domain.product.model.Product;
+import org.cmarket.cmarket.domain.product.model.ProductStatus;
+import org.cmarket.cmarket.domain.product.model.ProductType;
+import org.cmarket.cmarket.domain.product.model.TradeStatus;
+import org.cmarket.cmarket.domain.product.repository.ProductRepository;
+import org.cmarket.cmarket.domain.search.app.dto.ProductSearchCommand;
+import org.cmarket.cmarket.domain.search.app.dto.ProductSearchItemDto;
+import org.cmarket.cmarket.domain.search.app.dto.ProductSearchSliceDto;
+import org.cmarket.cmarket.domain.search.app.service.SearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL 검색(LIKE + CASE 정렬)과 색인 검색(ProductSearchIndex + searchProductsByRelevance)이
+ * 같은 상품에 같은 결과 · 같은 순서를 내는지 비교한다.
+ *
+ * - 다중 키워드는 AND
+ * - 관련도는 첫 키워드 기준 제목 > 설명 > 카테고리
+ * - 가격순 · 찜순은 SQL 쪽에 동점 처리가 없으므로 픽스처의 값을 모두 다르게 둔다
+ * - 맞는 상품이 max-candidates 개를 넘으면 SearchService 가 SQL 검색으로 돌아간다
+ */
+@SpringBootTest
+class ProductSearchEngineComparisonTests {
+
+    private static final List<List<String>> KEYWORD_SETS = List.of(
+            List.of("사료"),
+            List.of("강아지"),
+            List.of("강아지", "사료"),
+            List.of("사료", "강아지"),
+            List.of("food"),
+            List.of("간식", "강아지"),
+            List.of("집"),
+            List.of("없는검색어")
+    );
+
+    private static final List<String[]> SORTS = List.of(
+            new String[]{"createdAt", "desc"},
+            new String[]{"createdAt", "asc"},
+            new String[]{"price", "asc"},
+            new String[]{"price", "desc"},
+            new String[]{"favoriteCount", "desc"},
+            new String[]{null, null}
+    );
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSearchIndexImpl productSearchIndex;
+
+    @Autowired
+    private SearchService searchService;
+
+    private final List<Product> fixtures = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        save("강아지 사료 대용량", "건강한 사료", Category.FOOD, 30000L, 3, base);
+        save("고양이 장난감", "사료 통에 넣는 장난감", Category.TOY, 12000L, 7, base.plusMinutes(1));
+        save("산책 줄", "강아지 사료 간식 가방 포함", Category.WALKING, 18000L, 1, base.plusMinutes(2));
+        save("사료 그릇", "스테인리스 재질", Category.FOOD, 7000L, 5, base.plusMinutes(3));
+        save("강아지 집", "푹신한 쿠션", Category.HOUSE, 55000L, 0, base.plusMinutes(4));
+        save("고양이 간식", "강아지도 먹는 간식", Category.FOOD, 8000L, 9, base.plusMinutes(5));
+        save("Food 보관함", "밀폐 용기", Category.HOUSE, 9000L, 2, base.plusMinutes(6));
+        // 같은 시각에 만든 상품: 최신순은 id 로 순서가 정해진다
+        save("강아지 사료 샘플", "작은 집 모양 포장", Category.FOOD, 1000L, 4, base.plusMinutes(6));
+
+        productSearchIndex.rebuild();
+        assertThat(productSearchIndex.isAvailable()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Product fixture : fixtures) {
+            productSearchIndex.remove(fixture.getId());
+        }
+        productRepository.deleteAll(fixtures);
+        fixtures.clear();
+    }
+
+    @Test
+    void 색인_검색과_SQL_검색의_결과와_순서가_같다() {
+        for (List<String> keywords : KEYWORD_SETS) {
+            for (String[] sort : SORTS) {
+                Page<Product> bySql = productRepository.searchProducts(
+                        null, keywords, null, null, null, null, null, null,
+                        null, null, null, null, sort[0], sort[1], null, PageRequest.of(0, 20));
+
+                Map<Long, Integer> relevance = productSearchIndex.search(keywords);
+                Page<Product> byIndex = productRepository.searchProductsByRelevance(
+                        relevance, null, null, null, null, null, null,
+                        null, null, null, null, sort[0], sort[1], null, PageRequest.of(0, 20));
+
+                assertThat(ids(byIndex))
+                        .as("keywords=%s, sortBy=%s, sortOrder=%s", keywords, sort[0], sort[1])
+                        .containsExactlyElementsOf(ids(bySql));
+                assertThat(byIndex.getTotalElements()).isEqualTo(bySql.getTotalElements());
+            }
+        }
+    }
+
+    @Test
+    void 페이지를_나눠도_두_검색의_순서가_같다() {
+        List<String> keywords = List.of("강아지");
+        for (int page = 0; page < 3; page++) {
+            Page<Product> bySql = productRepository.searchProducts(
+                    null, keywords, null, null, null, null, null, null,
+                    null, null, null, null, "price", "asc", null, PageRequest.of(page, 2));
+            Page<Product> byIndex = productRepository.searchProductsByRelevance(
+                    productSearchIndex.search(keywords), null, null, null, null, null, null,
+                    null, null, null, null, "price", "asc", null, PageRequest.of(page, 2));
+
+            assertThat(ids(byIndex)).as("page=%d", page).containsExactlyElementsOf(ids(bySql));
+        }
+    }
+
+    @Test
+    void 후보가_max_candidates_를_넘으면_필터_정렬_결과가_SQL_검색과_같다() {
+        // "사료" 는 다섯 개에 맞는다. 후보를 자르면 필터 · 가격순 전에 상품이 빠진다.
+        List<String> keywords = List.of("사료");
+        List<Category> categories = List.of(Category.FOOD);
+        int maxCandidates = (int) ReflectionTestUtils.getField(productSearchIndex, "maxCandidates");
+        ReflectionTestUtils.setField(productSearchIndex, "maxCandidates", 2);
+        try {
+            assertThat(productSearchIndex.search(keywords)).isNull();
+
+            Page<Product> bySql = productRepository.searchProducts(
+                    null, keywords, null, null, null, categories, null, null,
+                    null, null, null, null, "price", "asc", null, PageRequest.of(0, 20));
+            assertThat(bySql.getTotalElements()).isEqualTo(3);
+
+            ProductSearchCommand command = ProductSearchCommand.builder()
+                    .keyword("사료")
+                    .categories(categories)
+                    .sortBy("price")
+                    .sortOrder("asc")
+                    .size(20)
+                    .build();
+            List<ProductSearchItemDto> paged = searchService.searchProducts(command, null).products().content();
+            assertThat(paged.stream().map(ProductSearchItemDto::getId).toList()).containsExactlyElementsOf(ids(bySql));
+            assertThat(searchService.searchProducts(command, null).products().totalElements())
+                    .isEqualTo(bySql.getTotalElements());
+
+            // 커서 검색도 한 개씩 넘겨 끝까지 닿는다 (커서 검색은 관련도 없이 (가격, id) 순)
+            List<Long> bySqlCursor = productRepository.searchProductsByCursor(
+                            keywords, null, null, null, null, categories, null, null,
+                            null, null, null, null, "price", "asc", null, null, 20).stream()
+                    .map(Product::getId)
+                    .toList();
+            assertThat(bySqlCursor).containsExactlyInAnyOrderElementsOf(ids(bySql));
+            List<Long> byCursor = new ArrayList<>();
+            String cursor = null;
+            do {
+                ProductSearchSliceDto slice = searchService.searchProductsByCursor(ProductSearchCommand.builder()
+                        .keyword("사료")
+                        .categories(categories)
+                        .sortBy("price")
+                        .sortOrder("asc")
+                        .size(1)
+                        .cursor(cursor)
+                        .build(), null);
+                slice.content().forEach(item -> byCursor.add(item.getId()));
+                cursor = slice.nextCursor();
+            } while (cursor != null);
+            assertThat(byCursor).containsExactlyElementsOf(bySqlCursor);
+        } finally {
+            ReflectionTestUtils.setField(productSearchIndex, "maxCandidates", maxCandidates);
+        }
+    }
+
+    private void save(
+            String title,
+            String description,
+            Category category,
+            Long price,
+            int favoriteCount,
+            LocalDateTime createdAt
+    ) {
+        Product product = Product.builder()
+                .sellerId(1L)
+                .productType(ProductType.SELL)
+                .petType(PetType.MAMMAL)
+                .petDetailType(PetDetailType.DOG)
+                .category(category)
+                .title(title)
+                .description(description)
+                .price(price)
+                .productStatus(ProductStatus.NEW)
+                .tradeStatus(TradeStatus.SELLING)
+                .build();
+        for (int i = 0; i < favoriteCount; i++) {
+            product.increaseFavoriteCount();
+        }
+        ReflectionTestUtils.setField(product, "createdAt", createdAt);
+        fixtures.add(productRepository.save(product));
+    }
+
+    private static List<Long> ids(Page<Product> page) {
+        return page.getContent().stream().map(Product::getId).toList();
+    }
+}
@@ -0,0 +1,61 @@
+package org.cmarket.cmarket.web.support;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * 테스트 실행 동안 쓸 Redis
+ *
+ * 앱은 기동할 때 Redis 에 붙는다 (Pub/Sub 구독, Lua 스크립트). 테스트 실행(JVM) 하나에 redis-server 를 하나 띄우고
+ * spring.data.redis.port 를 그 포트로 맞춘다. REDIS_HOST 가 있으면 띄우지 않고 그 서버를 쓴다
+ * (테스트용 DB 번호는 application-test.properties).
+ *
+ * META-INF/services 로 등록되어 JUnit 이 실행을 시작할 때 부른다.
+ */
+public class TestRedisServer implements LauncherSessionListener {
+
+    private RedisServer server;
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        if (System.getenv("REDIS_HOST") != null) {
+            return;
+        }
+        try {
+            int port = freePort();
+            server = RedisServer.newRedisServer()
+                    .port(port)
+                    .setting("bind 127.0.0.1")
+                    .setting("save \"\"")
+                    .build();
+            server.start();
+            System.setProperty("spring.data.redis.host", "127.0.0.1");
+            System.setProperty("spring.data.redis.port", String.valueOf(port));
+        } catch (IOException e) {
+            throw new UncheckedIOException("테스트용 Redis 를 띄우지 못했습니다", e);
+        }
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        if (server == null) {
+            return;
+        }
+        try {
+            server.stop();
+        } catch (IOException e) {
+            // 프로세스가 이미 끝난 경우 무시
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.cmarket.cmarket.web.view.service;
+
+import org.cmarket.cmarket.domain.view.app.service.ViewCounter;
+import org.cmarket.cmarket.domain.view.app.service.ViewLogService;
+import org.cmarket.cmarket.domain.view.model.ViewTargetType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 「오늘 처음 본 것인가」 판단 (Redis Lua SADD + EXPIRE) 과 대기열이 찼을 때 표시 되돌리기
+ */
+@SpringBootTest
+class ViewCounterTests {
+
+    private static final long VIEWER_ID = 9_000_001L;
+
+    @Autowired
+    private ViewLogService viewLogService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(seenKey());
+    }
+
+    @Test
+    void 처음_본_것만_대기열에_넣고_표시에는_만료가_걸린다() {
+        ViewCounterImpl viewCounter = new ViewCounterImpl(viewLogService, stringRedisTemplate, 1000, 10, "full");
+
+        assertThat(viewCounter.recordView(VIEWER_ID, ViewTargetType.PRODUCT, 1L)).isTrue();
+        assertThat(viewCounter.recordView(VIEWER_ID, ViewTargetType.PRODUCT, 1L)).isFalse();
+        assertThat(viewCounter.recordView(VIEWER_ID, ViewTargetType.COMMUNITY_POST, 1L)).isTrue();
+
+        Long ttlSeconds = stringRedisTemplate.getExpire(seenKey());
+        assertThat(ttlSeconds).isPositive();
+    }
+
+    @Test
+    void 대기열이_차서_버린_조회는_다시_보면_센다() {
+        ViewCounterImpl viewCounter = new ViewCounterImpl(viewLogService, stringRedisTemplate, 1000, 0, "full");
+
+        assertThat(viewCounter.recordView(VIEWER_ID, ViewTargetType.PRODUCT, 2L)).isFalse();
+        assertThat(stringRedisTemplate.opsForSet().isMember(seenKey(), "PRODUCT:2")).isFalse();
+
+        ViewCounterImpl roomy = new ViewCounterImpl(viewLogService, stringRedisTemplate, 1000, 10, "full");
+        assertThat(roomy.recordView(VIEWER_ID, ViewTargetType.PRODUCT, 2L)).isTrue();
+    }
+
+    private static String seenKey() {
+        return "view:seen:" + ViewCounter.today().format(DateTimeFormatter.BASIC_ISO_DATE) + ":" + VIEWER_ID;
+    }
+}
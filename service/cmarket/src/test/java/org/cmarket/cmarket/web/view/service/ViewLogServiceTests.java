@@ -0,0 +1,98 @@
+package org.cmarket.cmarket.web.view.service;
+
+import org.cmarket.cmarket.domain.product.model.Category;
+import org.cmarket.cmarket.domain.product.model.PetDetailType;
+import org.cmarket.cmarket.domain.product.model.PetType;
+import org.cmarket.cmarket.domain.product.model.Product;
+import org.cmarket.cmarket.domain.product.model.ProductStatus;
+import org.cmarket.cmarket.domain.product.model.ProductType;
+import org.cmarket.cmarket.domain.product.model.TradeStatus;
+import org.cmarket.cmarket.domain.product.repository.ProductRepository;
+import org.cmarket.cmarket.domain.view.app.dto.ViewEvent;
+import org.cmarket.cmarket.domain.view.app.service.ViewLogService;
+import org.cmarket.cmarket.domain.view.model.ViewLogStorageMode;
+import org.cmarket.cmarket.domain.view.model.ViewTargetType;
+import org.cmarket.cmarket.domain.view.repository.ViewLogKeyRepository;
+import org.cmarket.cmarket.domain.view.repository.ViewLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 반영 (기록 JDBC 배치 + 조회수 UPDATE)
+ *
+ * 이미 있는 기록 · 묶음 안에서 겹치는 기록은 세지 않고, 배치 크기(500)를 넘는 묶음도 한 번씩만 센다.
+ */
+@SpringBootTest
+class ViewLogServiceTests {
+
+    @Autowired
+    private ViewLogService viewLogService;
+
+    @Autowired
+    private ViewLogRepository viewLogRepository;
+
+    @Autowired
+    private ViewLogKeyRepository viewLogKeyRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(Product.builder()
+                .sellerId(1L)
+                .productType(ProductType.SELL)
+                .petType(PetType.MAMMAL)
+                .petDetailType(PetDetailType.DOG)
+                .category(Category.FOOD)
+                .title("조회수 상품")
+                .description("설명")
+                .price(1000L)
+                .productStatus(ProductStatus.NEW)
+                .tradeStatus(TradeStatus.SELLING)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        viewLogRepository.deleteAllInBatch();
+        viewLogKeyRepository.deleteAllInBatch();
+        productRepository.deleteById(product.getId());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ViewLogStorageMode.class)
+    void 같은_날_같은_조회는_한_번만_센다(ViewLogStorageMode storageMode) {
+        LocalDate today = LocalDate.now();
+        List<ViewEvent> events = new ArrayList<>();
+        for (long viewerId = 1; viewerId <= 700; viewerId++) {
+            events.add(new ViewEvent(viewerId, ViewTargetType.PRODUCT, product.getId(), today));
+        }
+        // 묶음 안에서 겹치는 조회 (재시도로 되돌아온 것 등)
+        events.add(new ViewEvent(1L, ViewTargetType.PRODUCT, product.getId(), today));
+        // 다른 날은 따로 센다
+        events.add(new ViewEvent(1L, ViewTargetType.PRODUCT, product.getId(), today.minusDays(1)));
+
+        assertThat(viewLogService.applyViews(events, storageMode)).isEqualTo(701);
+        // 같은 묶음을 다시 반영해도 기록이 이미 있으므로 세지 않는다
+        assertThat(viewLogService.applyViews(events, storageMode)).isZero();
+        assertThat(viewLogService.applyViews(
+                List.of(new ViewEvent(701L, ViewTargetType.PRODUCT, product.getId(), today),
+                        new ViewEvent(2L, ViewTargetType.PRODUCT, product.getId(), today)),
+                storageMode)).isEqualTo(1);
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getViewCount()).isEqualTo(702L);
+    }
+}